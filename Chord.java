@@ -1,8 +1,6 @@
-import java.util.ArrayList;
-import java.util.Collections;
+import java.nio.DoubleBuffer;
 import java.util.List;
-import java.util.Map;
-import static java.util.Map.entry;
+import java.util.Objects;
 
 /**
  * Repräsentiert einen musikalischen Akkord.
@@ -30,33 +28,18 @@ import static java.util.Map.entry;
  * @see MusicalNote
  * @see Scale#getTriadOnDegree(int)
  */
-public class Chord {
+public final class Chord {
 
-    private MusicalNote root;
-    private ChordType type;
-    private String symbol;
-    private Interval[] intervals;
-    private List<MusicalNote> notes = new ArrayList<>();
+    private final MusicalNote root;
+    private final ChordType type;
+    private final TuningSystem tuning;
 
-    private static final String[] CHROMATIC_SHARP = {"C", "Cis", "D", "Dis", "E", "F", "Fis", "G", "Gis", "A", "B", "H"};
-    private static final String[] CHROMATIC_FLAT = {"C", "Des", "D", "Es", "E", "F", "Ges", "G", "As", "A", "B", "H"};
+    /** Aus Grundton, Typ und Stimmung, einmal im Konstruktor berechnet */
+    private final int hash;
 
-    private static final Map<String, Integer> INTERVAL_SEMITONES = Map.ofEntries(
-        entry("P", 0),
-        entry("Sg1", 2), entry("Sg2", 2),
-        entry("Tk1", 3), entry("Tk2", 3),
-        entry("Tg1", 4), entry("Tg2", 4),
-        entry("Qua", 5),
-        entry("Qui", 7),
-        entry("Qui+", 8),
-        entry("Qui1", 6), entry("Qui2", 6), entry("Qui3", 6),
-        entry("Sxk", 8),
-        entry("Sxg", 9),
-        entry("Sepk1", 10), entry("Sepk2", 10), entry("Sepk3", 10),
-        entry("Sep--", 9),
-        entry("Sepg", 11),
-        entry("Ok", 12)
-    );
+    /** Akkordsymbol und Töne, erst beim ersten Zugriff berechnet (siehe {@link #notes()}) */
+    private String symbol;
+    private NoteSet notes;
 
     /**
      * Erstellt einen neuen Akkord.
@@ -66,83 +49,51 @@ public class Chord {
      * @throws Exception wenn der Akkord nicht erstellt werden kann
      */
     public Chord(MusicalNote root, ChordType type) throws Exception {
-        this.root = root;
-        this.type = type;
-        this.intervals = type.getIntervals();
-        this.symbol = root.letter + type.getSymbol();
-        createChord();
-    }
-
-    private void createChord() throws Exception {
-        for (int i = 0; i < intervals.length; i++) {
-            double freq = root.frequency * intervals[i].proportion;
-            int octave = root.octave;
-            if (intervals[i].proportion >= 2.0) {
-                octave++;
-            }
-            notes.add(new MusicalNote(getNoteLetter(i), freq, octave));
-        }
+        this(root, type, null);
     }
 
-    private String getNoteLetter(int index) {
-        Interval interval = intervals[index];
-        int semitones = getSemitones(interval);
-        int rootChromIndex = findChromaticIndex(root.letter);
-        int targetChromIndex = (rootChromIndex + semitones) % 12;
-
-        boolean useSharp = shouldUseSharp(root.letter);
-        String[] chromatic = useSharp ? CHROMATIC_SHARP : CHROMATIC_FLAT;
-
-        return chromatic[targetChromIndex];
-    }
-
-    private int findChromaticIndex(String letter) {
-        String clean = letter.replace("'", "").toLowerCase();
-        switch (clean) {
-            case "c": return 0;
-            case "cis": case "des": return 1;
-            case "d": return 2;
-            case "dis": case "es": return 3;
-            case "e": return 4;
-            case "f": return 5;
-            case "fis": case "ges": return 6;
-            case "g": return 7;
-            case "gis": case "as": return 8;
-            case "a": return 9;
-            case "b": case "ais": return 10;
-            case "h": return 11;
-            default: return 0;
-        }
-    }
-
-    private boolean shouldUseSharp(String letter) {
-        String clean = letter.replace("'", "").toLowerCase();
-        switch (clean) {
-            case "f": case "b": case "es": case "as": case "des": case "ges":
-                return false;
-            default:
-                return true;
-        }
+    /**
+     * Erstellt einen neuen Akkord in einer bestimmten Stimmung.
+     *
+     * <p>Gespeichert werden nur Grundton, Typ und Stimmung. Symbol, Töne, Frequenzen und
+     * Namen werden beim ersten Zugriff berechnet und danach wiederverwendet.</p>
+     *
+     * @param root Der Grundton des Akkords
+     * @param type Der Typ des Akkords (z.B. MAJOR, MINOR, DOMINANT_7)
+     * @param tuning Die Stimmung, oder null für reine Intervallverhältnisse
+     * @throws Exception wenn der Akkord nicht erstellt werden kann
+     */
+    public Chord(MusicalNote root, ChordType type, TuningSystem tuning) throws Exception {
+        this.root = Objects.requireNonNull(root, "root");
+        this.type = Objects.requireNonNull(type, "type");
+        this.tuning = tuning;
+        this.hash = 31 * (31 * root.hashCode() + type.hashCode()) + Objects.hashCode(tuning);
     }
 
-    private int getSemitones(Interval interval) {
-        Integer semitones = INTERVAL_SEMITONES.get(interval.shortName);
-        if (semitones != null) {
-            return semitones;
+    /**
+     * Gibt die Töne zurück und berechnet sie beim ersten Aufruf. Ohne Synchronisation:
+     * {@link NoteSet} hat nur finale Felder, im Wettlauf entstehen höchstens zwei gleiche Instanzen.
+     */
+    private NoteSet notes() {
+        NoteSet result = notes;
+        if (result == null) {
+            result = NoteSet.of(root, type.getIntervals(), tuning, false);
+            notes = result;
         }
-        return (int) Math.round(12 * Math.log(interval.proportion) / Math.log(2));
+        return result;
     }
 
     /**
      * Gibt den Akkord formatiert auf der Konsole aus.
      */
     public void print() {
-        System.out.println("Akkord: " + symbol + " (" + type.getDisplayName() + ")");
+        System.out.println("Akkord: " + getSymbol() + " (" + type.getDisplayName() + ")");
         System.out.println("Töne:");
+        List<MusicalNote> notes = notes().notes;
         for (int i = 0; i < notes.size(); i++) {
             MusicalNote note = notes.get(i);
-            String intervalName = intervals[i].interval;
-            System.out.println("  " + note.letter + MusicalNote.octaveToSymbols(note.octave)
+            String intervalName = type.getIntervals()[i].interval;
+            System.out.println("  " + note.letter + MusicalNote.octaveToSymbols(note.getOctave())
                 + "\t(" + String.format("%.2f", note.frequency) + " Hz)\t[" + intervalName + "]");
         }
         System.out.println();
@@ -154,33 +105,58 @@ public class Chord {
      * @return Unveränderliche Liste aller Akkordtöne
      */
     public List<MusicalNote> getNotes() {
-        return Collections.unmodifiableList(notes);
+        return notes().notes;
     }
 
     /**
      * Gibt alle Frequenzen des Akkords als Array zurück.
      *
+     * <p>Jeder Aufruf liefert eine Kopie. Für wiederholten Zugriff ohne Allokation
+     * {@link #getFrequency(int)} oder {@link #getFrequencyBuffer()} verwenden.</p>
+     *
      * @return Array mit Frequenzen in Hz
      */
     public double[] getFrequencies() {
-        double[] freqs = new double[notes.size()];
-        for (int i = 0; i < notes.size(); i++) {
-            freqs[i] = notes.get(i).frequency;
-        }
-        return freqs;
+        return notes().frequencies.clone();
+    }
+
+    /**
+     * Gibt die Frequenz eines Akkordtons zurück.
+     *
+     * @param index Index von 0 bis size() - 1 (0 = Grundton)
+     * @return Frequenz in Hz
+     */
+    public double getFrequency(int index) {
+        return notes().frequencies[Objects.checkIndex(index, size())];
+    }
+
+    /**
+     * Gibt die Frequenzen des Akkords als schreibgeschützte Ansicht zurück (ohne Kopie).
+     *
+     * @return Neuer Puffer mit eigener Position über denselben Frequenzen
+     */
+    public DoubleBuffer getFrequencyBuffer() {
+        return notes().frequencyBuffer.duplicate();
     }
 
     /**
      * Gibt alle Notennamen des Akkords als Array zurück.
      *
+     * <p>Jeder Aufruf liefert eine Kopie; {@link #getNoteNameList()} kommt ohne aus.</p>
+     *
      * @return Array mit Notennamen (z.B. ["C", "E", "G"])
      */
     public String[] getNoteNames() {
-        String[] names = new String[notes.size()];
-        for (int i = 0; i < notes.size(); i++) {
-            names[i] = notes.get(i).letter;
-        }
-        return names;
+        return notes().names.clone();
+    }
+
+    /**
+     * Gibt alle Notennamen des Akkords als unveränderliche Liste zurück (ohne Kopie).
+     *
+     * @return Unveränderliche Liste der Notennamen
+     */
+    public List<String> getNoteNameList() {
+        return notes().nameList;
     }
 
     /**
@@ -189,7 +165,12 @@ public class Chord {
      * @return Das Akkordsymbol
      */
     public String getSymbol() {
-        return symbol;
+        String result = symbol;
+        if (result == null) {
+            result = root.letter + type.getSymbol();
+            symbol = result;
+        }
+        return result;
     }
 
     /**
@@ -210,13 +191,22 @@ public class Chord {
         return root;
     }
 
+    /**
+     * Gibt die Stimmung des Akkords zurück.
+     *
+     * @return Die Stimmung, oder null bei reinen Intervallverhältnissen
+     */
+    public TuningSystem getTuning() {
+        return tuning;
+    }
+
     /**
      * Gibt die Anzahl der Töne im Akkord zurück.
      *
      * @return Anzahl der Töne (3 für Dreiklänge, 4 für Septakkorde)
      */
     public int size() {
-        return notes.size();
+        return type.getIntervals().length;
     }
 
     /**
@@ -225,7 +215,7 @@ public class Chord {
      * @return true wenn der Akkord 3 Töne hat
      */
     public boolean isTriad() {
-        return notes.size() == 3;
+        return size() == 3;
     }
 
     /**
@@ -234,7 +224,33 @@ public class Chord {
      * @return true wenn der Akkord 4 Töne hat
      */
     public boolean isSeventhChord() {
-        return notes.size() == 4;
+        return size() == 4;
+    }
+
+    /**
+     * Vergleicht Grundton, Typ und Stimmung.
+     *
+     * @param o Anderes Objekt
+     * @return true bei gleichem Akkord
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Chord)) {
+            return false;
+        }
+        Chord other = (Chord) o;
+        return hash == other.hash
+            && type == other.type
+            && root.equals(other.root)
+            && Objects.equals(tuning, other.tuning);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
     }
 
     /**
@@ -244,7 +260,7 @@ public class Chord {
      */
     @Override
     public String toString() {
-        return symbol;
+        return getSymbol();
     }
 
     // ==================== FACTORY-METHODEN ====================
@@ -0,0 +1,338 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Erkennt Akkorde aus beliebigen Tonmengen (z.B. von einem MIDI-Keyboard).
+ *
+ * <p>Eine Tonmenge wird auf eine 12-Bit-Tonklassenmaske abgebildet (Bit 0 = C, Bit 1 = Cis/Des,
+ * ..., Bit 11 = H). Grundton und {@link ChordType} werden dann über eine vorberechnete Tabelle
+ * mit 4096 Einträgen in O(1) bestimmt. Die Tabelle wird beim Laden der Klasse aus
+ * {@link ChordType#getIntervals()} aufgebaut und bleibt so automatisch synchron zu den
+ * Akkorddefinitionen.</p>
+ *
+ * <p>Das Ergebnis ist ein gepackter {@code int}-Code (Grundton, Akkordtyp, Umkehrung), der über
+ * {@link #rootOf(int)}, {@link #typeOf(int)} und {@link #inversionOf(int)} ausgelesen wird.
+ * Die Erkennung selbst erzeugt keine Objekte.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * // E, G, C -> C-Dur in erster Umkehrung
+ * int mask = ChordIdentifier.maskOf(4, 7, 0);
+ * int code = ChordIdentifier.identify(mask, 4);
+ *
+ * ChordIdentifier.rootOf(code);      // 0 (C)
+ * ChordIdentifier.typeOf(code);      // ChordType.MAJOR
+ * ChordIdentifier.inversionOf(code); // 1
+ * ChordIdentifier.symbolOf(code);    // "C"
+ * }</pre>
+ *
+ * <p>Symmetrische Akkorde (übermäßig, vermindert-sept) und mehrdeutige Tonmengen (Csus2 = Gsus4)
+ * werden ohne Basston dem kleinsten passenden Grundton zugeordnet; mit Basston wird eine
+ * Deutung in Grundstellung bevorzugt.</p>
+ *
+ * @see ChordType
+ * @see Chord
+ */
+public final class ChordIdentifier {
+
+    /** Ergebnis für Tonmengen, die keinem bekannten Akkord entsprechen */
+    public static final int NO_MATCH = -1;
+
+    private static final ChordType[] TYPES = ChordType.values();
+
+    private static final double LOG_2 = Math.log(2);
+
+    /** Maske → Grundton | Typ << 4, oder NO_MATCH */
+    private static final int[] BY_MASK = new int[4096];
+
+    /** Maske relativ zum Grundton (Bit 0 gesetzt) → Typ-Ordinal + 1, 0 = kein Akkord */
+    private static final byte[] ROOT_POSITION = new byte[4096];
+
+    /** [Typ][Halbtöne über Grundton] → Index des Akkordtons, -1 = kein Akkordton */
+    private static final byte[][] TONE_INDEX = new byte[TYPES.length][12];
+
+    /** [Grundton * Typanzahl + Typ] → Akkordsymbol */
+    private static final String[] SYMBOLS = new String[12 * TYPES.length];
+
+    static {
+        Arrays.fill(BY_MASK, NO_MATCH);
+        for (ChordType type : TYPES) {
+            Interval[] intervals = type.getIntervals();
+            byte[] toneIndex = TONE_INDEX[type.ordinal()];
+            Arrays.fill(toneIndex, (byte) -1);
+            int rootMask = 0;
+            for (int i = 0; i < intervals.length; i++) {
+                int semitones = intervals[i].semitones % 12;
+                rootMask |= 1 << semitones;
+                toneIndex[semitones] = (byte) i;
+            }
+            if (ROOT_POSITION[rootMask] == 0) {
+                ROOT_POSITION[rootMask] = (byte) (type.ordinal() + 1);
+            }
+            for (int root = 0; root < 12; root++) {
+                int mask = rotateLeft(rootMask, root);
+                if (BY_MASK[mask] == NO_MATCH) {
+                    BY_MASK[mask] = root | type.ordinal() << 4;
+                }
+                SYMBOLS[root * TYPES.length + type.ordinal()] =
+                    MusicalNote.CHROMATIC_SHARP[root] + type.getSymbol();
+            }
+        }
+    }
+
+    private ChordIdentifier() {
+        // Utility-Klasse, nicht instanziierbar
+    }
+
+    // ==================== MASKEN ====================
+
+    /**
+     * Bildet Tonklassen auf eine 12-Bit-Maske ab.
+     *
+     * @param pitchClasses Tonklassen 0-11 (C = 0)
+     * @return Maske mit je einem Bit pro Tonklasse
+     */
+    public static int maskOf(int... pitchClasses) {
+        int mask = 0;
+        for (int pitchClass : pitchClasses) {
+            mask |= 1 << Math.floorMod(pitchClass, 12);
+        }
+        return mask;
+    }
+
+    /**
+     * Bildet Noten auf eine 12-Bit-Maske ab.
+     *
+     * @param notes Die Noten (Reihenfolge und Oktavlage egal)
+     * @return Maske mit je einem Bit pro Tonklasse
+     */
+    public static int maskOf(List<MusicalNote> notes) {
+        int mask = 0;
+        for (int i = 0, n = notes.size(); i < n; i++) {
+            mask |= 1 << notes.get(i).getPitchClass();
+        }
+        return mask;
+    }
+
+    /**
+     * Bildet Frequenzen auf eine 12-Bit-Maske ab (nächster gleichstufiger Halbton, A = 440 Hz).
+     *
+     * @param frequencies Frequenzen in Hz
+     * @param offset Startindex
+     * @param count Anzahl Frequenzen
+     * @return Maske mit je einem Bit pro Tonklasse
+     * @throws IndexOutOfBoundsException wenn der Bereich nicht im Array liegt
+     * @throws IllegalArgumentException wenn eine Frequenz nicht endlich und positiv ist
+     */
+    public static int maskOf(double[] frequencies, int offset, int count) {
+        Objects.checkFromIndexSize(offset, count, frequencies.length);
+        int mask = 0;
+        for (int i = offset; i < offset + count; i++) {
+            mask |= 1 << pitchClassOf(frequencies[i]);
+        }
+        return mask;
+    }
+
+    /**
+     * Bestimmt die Tonklasse einer Frequenz (nächster gleichstufiger Halbton, A = 440 Hz).
+     *
+     * @param frequency Frequenz in Hz (positiv)
+     * @return Tonklasse 0-11 (C = 0)
+     * @throws IllegalArgumentException wenn die Frequenz nicht endlich und positiv ist
+     */
+    public static int pitchClassOf(double frequency) {
+        if (!(frequency > 0) || frequency == Double.POSITIVE_INFINITY) {
+            throw new IllegalArgumentException("Frequenz muss endlich und positiv sein: " + frequency);
+        }
+        long semitonesFromA = Math.round(12 * Math.log(frequency / 440.0) / LOG_2);
+        return (int) Math.floorMod(semitonesFromA + 9, 12L);
+    }
+
+    // ==================== ERKENNUNG ====================
+
+    /**
+     * Erkennt einen Akkord anhand seiner Tonklassenmaske.
+     *
+     * @param mask 12-Bit-Tonklassenmaske
+     * @return Gepackter Ergebniscode (Umkehrung 0) oder {@link #NO_MATCH}
+     */
+    public static int identify(int mask) {
+        return BY_MASK[mask & 0xFFF];
+    }
+
+    /**
+     * Erkennt einen Akkord anhand seiner Tonklassenmaske und des Basstons.
+     *
+     * <p>Ist eine Deutung mit dem Basston als Grundton möglich, wird sie bevorzugt
+     * (Umkehrung 0). Andernfalls wird die Umkehrung aus der Lage des Basstons bestimmt.</p>
+     *
+     * @param mask 12-Bit-Tonklassenmaske
+     * @param bassPitchClass Tonklasse des tiefsten Tons (0-11)
+     * @return Gepackter Ergebniscode oder {@link #NO_MATCH}
+     */
+    public static int identify(int mask, int bassPitchClass) {
+        int bass = Math.floorMod(bassPitchClass, 12);
+        mask = (mask | 1 << bass) & 0xFFF;
+        int rootPosition = ROOT_POSITION[rotateLeft(mask, 12 - bass)];
+        if (rootPosition != 0) {
+            return bass | (rootPosition - 1) << 4;
+        }
+        int code = BY_MASK[mask];
+        if (code == NO_MATCH) {
+            return NO_MATCH;
+        }
+        int root = code & 0xF;
+        int inversion = TONE_INDEX[code >>> 4][(bass - root + 12) % 12];
+        return code | inversion << 8;
+    }
+
+    /**
+     * Erkennt einen Akkord aus Noten. Der Ton mit der tiefsten Frequenz gilt als Basston.
+     *
+     * @param notes Die Noten (mindestens eine)
+     * @return Gepackter Ergebniscode oder {@link #NO_MATCH}
+     */
+    public static int identify(List<MusicalNote> notes) {
+        if (notes.isEmpty()) {
+            return NO_MATCH;
+        }
+        int mask = 0;
+        MusicalNote bass = notes.get(0);
+        for (int i = 0, n = notes.size(); i < n; i++) {
+            MusicalNote note = notes.get(i);
+            mask |= 1 << note.getPitchClass();
+            if (note.frequency < bass.frequency) {
+                bass = note;
+            }
+        }
+        return identify(mask, bass.getPitchClass());
+    }
+
+    /**
+     * Erkennt einen Akkord aus Frequenzen. Die tiefste Frequenz gilt als Basston.
+     *
+     * @param frequencies Frequenzen in Hz
+     * @param offset Startindex
+     * @param count Anzahl Frequenzen (mindestens eine)
+     * @return Gepackter Ergebniscode oder {@link #NO_MATCH}
+     * @throws IndexOutOfBoundsException wenn der Bereich nicht im Array liegt
+     * @throws IllegalArgumentException wenn eine Frequenz nicht endlich und positiv ist
+     */
+    public static int identify(double[] frequencies, int offset, int count) {
+        Objects.checkFromIndexSize(offset, count, frequencies.length);
+        if (count == 0) {
+            return NO_MATCH;
+        }
+        double lowest = frequencies[offset];
+        for (int i = offset + 1; i < offset + count; i++) {
+            lowest = Math.min(lowest, frequencies[i]);
+        }
+        return identify(maskOf(frequencies, offset, count), pitchClassOf(lowest));
+    }
+
+    /**
+     * Erkennt Akkorde für ein ganzes Array von Tonklassenmasken.
+     *
+     * @param masks Tonklassenmasken
+     * @param srcOffset Startindex in {@code masks}
+     * @param results Zielarray für die Ergebniscodes
+     * @param destOffset Startindex in {@code results}
+     * @param count Anzahl Masken
+     * @throws IndexOutOfBoundsException wenn ein Bereich nicht in sein Array passt
+     */
+    public static void identifyAll(int[] masks, int srcOffset, int[] results, int destOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count, masks.length);
+        Objects.checkFromIndexSize(destOffset, count, results.length);
+        int[] table = BY_MASK;
+        for (int i = 0; i < count; i++) {
+            results[destOffset + i] = table[masks[srcOffset + i] & 0xFFF];
+        }
+    }
+
+    /**
+     * Erkennt Akkorde für ein ganzes Array von Tonklassenmasken mit zugehörigen Basstönen.
+     *
+     * @param masks Tonklassenmasken
+     * @param bassPitchClasses Tonklasse des Basstons je Maske
+     * @param results Zielarray für die Ergebniscodes
+     * @param count Anzahl Masken (ab Index 0)
+     * @throws IndexOutOfBoundsException wenn ein Array kürzer als {@code count} ist
+     */
+    public static void identifyAll(int[] masks, int[] bassPitchClasses, int[] results, int count) {
+        Objects.checkFromIndexSize(0, count, masks.length);
+        Objects.checkFromIndexSize(0, count, bassPitchClasses.length);
+        Objects.checkFromIndexSize(0, count, results.length);
+        for (int i = 0; i < count; i++) {
+            results[i] = identify(masks[i], bassPitchClasses[i]);
+        }
+    }
+
+    // ==================== ERGEBNIS-CODES ====================
+
+    /**
+     * Gibt die Tonklasse des Grundtons zurück.
+     *
+     * @param code Ergebniscode aus {@code identify}
+     * @return Tonklasse 0-11 (C = 0)
+     */
+    public static int rootOf(int code) {
+        checkMatch(code);
+        return code & 0xF;
+    }
+
+    /**
+     * Gibt den Akkordtyp zurück.
+     *
+     * @param code Ergebniscode aus {@code identify}
+     * @return Der erkannte ChordType
+     */
+    public static ChordType typeOf(int code) {
+        checkMatch(code);
+        return TYPES[(code >>> 4) & 0xF];
+    }
+
+    /**
+     * Gibt die Umkehrung zurück (0 = Grundstellung, 1 = Sextakkord/Quintsextakkord, ...).
+     *
+     * @param code Ergebniscode aus {@code identify}
+     * @return Index des Akkordtons im Bass
+     */
+    public static int inversionOf(int code) {
+        checkMatch(code);
+        return (code >>> 8) & 0xF;
+    }
+
+    /**
+     * Gibt das Akkordsymbol zurück (Grundton mit Kreuz-Benennung, z.B. "Cism").
+     *
+     * @param code Ergebniscode aus {@code identify}
+     * @return Vorberechnetes Akkordsymbol
+     */
+    public static String symbolOf(int code) {
+        checkMatch(code);
+        return SYMBOLS[(code & 0xF) * TYPES.length + ((code >>> 4) & 0xF)];
+    }
+
+    /**
+     * Erstellt den erkannten Akkord in Grundstellung (Standard-Stimmung, aus dem Cache).
+     *
+     * @param code Ergebniscode aus {@code identify}
+     * @return Der erkannte Akkord
+     * @throws Exception wenn der Akkord nicht erstellt werden kann
+     */
+    public static Chord toChord(int code) throws Exception {
+        return ScaleMaker.chord(MusicalNote.CHROMATIC_SHARP[rootOf(code)], typeOf(code));
+    }
+
+    private static void checkMatch(int code) {
+        if (code == NO_MATCH) {
+            throw new IllegalArgumentException("Kein Akkord erkannt (NO_MATCH)");
+        }
+    }
+
+    private static int rotateLeft(int mask, int shift) {
+        shift %= 12;
+        return ((mask << shift) | (mask >>> (12 - shift))) & 0xFFF;
+    }
+}
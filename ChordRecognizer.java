@@ -0,0 +1,334 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Erkennt Akkordfolgen in Audioaufnahmen über Chromagramm-Vorlagen und Viterbi-Glättung.
+ *
+ * <p>Für jeden Grundton und jeden {@link ChordType} wird aus {@link ChordType#getIntervals()}
+ * eine Vorlage über die 12 Tonklassen gebildet, in der jeder Akkordton mit seinen ersten
+ * Obertönen vertreten ist. Jeder Frame eines {@link Chromagram} wird mit allen Vorlagen
+ * korreliert (mittelwertfrei, damit Vierklänge nicht allein wegen ihrer Tonanzahl gewinnen);
+ * ein Hidden-Markov-Modell mit einem Zustand pro Vorlage und einem Zustand "kein Akkord"
+ * glättet die Folge. Da alle Wechsel gleich wahrscheinlich sind, kostet ein Viterbi-Schritt
+ * O(Zustände) statt O(Zustände²).</p>
+ *
+ * <p>Die Vorlagen sind unveränderlich; eine Instanz kann von beliebig vielen Threads
+ * gleichzeitig genutzt werden. {@link #recognizeAll(List)} verarbeitet mehrere Dateien
+ * parallel.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * ChordRecognizer recognizer = new ChordRecognizer(ChordType.MAJOR, ChordType.MINOR);
+ *
+ * for (ChordRecognizer.TimedChord chord : recognizer.recognize(Path.of("song.wav"))) {
+ *     System.out.println(chord); // z.B. "Am 12.35-14.21 s"
+ * }
+ * }</pre>
+ *
+ * @see Chromagram
+ * @see ChordIdentifier
+ */
+public final class ChordRecognizer {
+
+    /** Strafe für einen Akkordwechsel ohne Angabe (in Einheiten der Frame-Bewertung) */
+    public static final double DEFAULT_SWITCH_PENALTY = 1.5;
+
+    /** Gewichtung der Ähnlichkeit gegenüber der Wechselstrafe */
+    private static final double SHARPNESS = 10.0;
+
+    /** Bewertung des Zustands "kein Akkord" als Korrelation */
+    private static final double NO_CHORD_SIMILARITY = 0.5;
+
+    /** Halbtöne der ersten acht Obertöne über dem Grundton, auf Halbtöne gerundet */
+    private static final int[] HARMONIC_OFFSETS = {0, 12, 19, 24, 28, 31, 34, 36};
+
+    /** Abnahme des Gewichts von Oberton zu Oberton */
+    private static final float HARMONIC_DECAY = 0.8f;
+
+    /** Samples pro Block beim Lesen von WAV-Dateien */
+    private static final int READ_BLOCK = 8192;
+
+    /** Ein erkannter Akkord mit Beginn und Ende */
+    public static final class TimedChord {
+
+        private final Chord chord;
+        private final double start;
+        private final double end;
+
+        TimedChord(Chord chord, double start, double end) {
+            this.chord = chord;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Gibt den Akkord zurück.
+         *
+         * @return Der Akkord (gecachte Instanz)
+         */
+        public Chord getChord() {
+            return chord;
+        }
+
+        /**
+         * Gibt den Beginn zurück.
+         *
+         * @return Beginn in Sekunden
+         */
+        public double getStart() {
+            return start;
+        }
+
+        /**
+         * Gibt das Ende zurück.
+         *
+         * @return Ende in Sekunden
+         */
+        public double getEnd() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %.2f-%.2f s", chord.getSymbol(), start, end);
+        }
+    }
+
+    /** Akkord je Zustand; der letzte Zustand ist "kein Akkord" */
+    private final Chord[] chords;
+
+    /** [Zustand * 12 + Tonklasse] → mittelwertfreie, normierte Vorlage */
+    private final float[] templates;
+
+    private final int states;
+    private final double switchPenalty;
+
+    /**
+     * Erstellt eine Erkennung für alle Akkordtypen.
+     */
+    public ChordRecognizer() {
+        this(DEFAULT_SWITCH_PENALTY, ChordType.values());
+    }
+
+    /**
+     * Erstellt eine Erkennung für ausgewählte Akkordtypen.
+     *
+     * @param types Akkordtypen, z.B. nur Dur und Moll
+     */
+    public ChordRecognizer(ChordType... types) {
+        this(DEFAULT_SWITCH_PENALTY, types);
+    }
+
+    /**
+     * Erstellt eine Erkennung mit eigener Wechselstrafe.
+     *
+     * @param switchPenalty Strafe für einen Akkordwechsel; größere Werte ergeben längere Akkorde
+     * @param types Akkordtypen
+     */
+    public ChordRecognizer(double switchPenalty, ChordType... types) {
+        if (types.length == 0) {
+            throw new IllegalArgumentException("Mindestens ein Akkordtyp erforderlich");
+        }
+        if (!(switchPenalty >= 0)) {
+            throw new IllegalArgumentException("Wechselstrafe darf nicht negativ sein: " + switchPenalty);
+        }
+        this.switchPenalty = switchPenalty;
+        this.states = 12 * types.length + 1;
+        this.chords = new Chord[states];
+        this.templates = new float[states * 12];
+        int state = 0;
+        for (ChordType type : types) {
+            Objects.requireNonNull(type, "type");
+            for (int root = 0; root < 12; root++, state++) {
+                // Jeder Akkordton mit abklingenden Obertönen, dann mittelwertfrei und auf Länge 1 normiert
+                for (Interval interval : type.getIntervals()) {
+                    float weight = 1f;
+                    for (int harmonic = 0; harmonic < HARMONIC_OFFSETS.length; harmonic++) {
+                        templates[state * 12 + (root + interval.semitones + HARMONIC_OFFSETS[harmonic]) % 12] += weight;
+                        weight *= HARMONIC_DECAY;
+                    }
+                }
+                float mean = 0;
+                for (int pc = 0; pc < 12; pc++) {
+                    mean += templates[state * 12 + pc] / 12;
+                }
+                float norm = 0;
+                for (int pc = 0; pc < 12; pc++) {
+                    templates[state * 12 + pc] -= mean;
+                    norm += templates[state * 12 + pc] * templates[state * 12 + pc];
+                }
+                norm = (float) Math.sqrt(norm);
+                for (int pc = 0; pc < 12; pc++) {
+                    templates[state * 12 + pc] /= norm;
+                }
+                chords[state] = ScaleMaker.tryChord(MusicalNote.CHROMATIC_SHARP[root], type).orElseThrow();
+            }
+        }
+    }
+
+    // ==================== ERKENNUNG ====================
+
+    /**
+     * Bestimmt die wahrscheinlichste Akkordfolge eines Chromagramms.
+     *
+     * @param chroma Das Chromagramm
+     * @return Akkorde in zeitlicher Reihenfolge; Abschnitte ohne Akkord fehlen
+     */
+    public List<TimedChord> recognize(Chromagram chroma) {
+        int frameCount = chroma.getFrameCount();
+        List<TimedChord> result = new ArrayList<>();
+        if (frameCount == 0) {
+            return result;
+        }
+        float[] frames = chroma.frames();
+        int noChord = states - 1;
+        double noChordScore = SHARPNESS * NO_CHORD_SIMILARITY;
+        double penalty = SHARPNESS * switchPenalty;
+
+        // Viterbi: pro Frame bester Vorgänger insgesamt und je Zustand, ob gewechselt wurde
+        double[] score = new double[states];
+        double[] next = new double[states];
+        int[] bestBefore = new int[frameCount];
+        boolean[] switched = new boolean[frameCount * states];
+        int best = 0;
+        for (int frame = 0; frame < frameCount; frame++) {
+            int base = frame * 12;
+            float sum = 0;
+            float energy = 0;
+            for (int pc = 0; pc < 12; pc++) {
+                sum += frames[base + pc];
+                energy += frames[base + pc] * frames[base + pc];
+            }
+            energy -= sum * sum / 12;
+            double scale = energy <= 1e-9f ? 0 : SHARPNESS / Math.sqrt(energy);
+            double switchFrom = frame == 0 ? 0 : score[best] - penalty;
+            bestBefore[frame] = best;
+            int nextBest = 0;
+            for (int s = 0; s < states; s++) {
+                double emission = s == noChord ? noChordScore : scale * dot(frames, base, s);
+                double stay = score[s];
+                boolean change = frame > 0 && switchFrom > stay;
+                double value = (change ? switchFrom : stay) + emission;
+                switched[frame * states + s] = change;
+                next[s] = value;
+                if (value > next[nextBest]) {
+                    nextBest = s;
+                }
+            }
+            double[] swap = score;
+            score = next;
+            next = swap;
+            best = nextBest;
+        }
+
+        // Rückverfolgung, dabei gleiche Zustände zu Abschnitten zusammenfassen
+        int state = best;
+        int segmentEnd = frameCount;
+        for (int frame = frameCount - 1; frame >= 0; frame--) {
+            boolean change = switched[frame * states + state];
+            int previous = change ? bestBefore[frame] : state;
+            if (frame == 0 || previous != state) {
+                if (state != noChord) {
+                    result.add(new TimedChord(chords[state], boundary(chroma, frame), boundary(chroma, segmentEnd)));
+                }
+                segmentEnd = frame;
+            }
+            state = previous;
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Liest eine WAV-Datei (Kanäle gemittelt) und bestimmt deren Akkordfolge.
+     *
+     * @param file Die WAV-Datei
+     * @return Akkorde in zeitlicher Reihenfolge
+     * @throws IOException wenn die Datei nicht gelesen werden kann
+     */
+    public List<TimedChord> recognize(Path file) throws IOException {
+        try (WavReader wav = new WavReader(file)) {
+            int channels = wav.getChannels();
+            Chromagram chroma = new Chromagram(wav.getSampleRate());
+            float[] block = new float[READ_BLOCK * channels];
+            float[] mono = new float[READ_BLOCK];
+            long frame = 0;
+            int read;
+            while ((read = wav.read(frame, block, 0, READ_BLOCK)) > 0) {
+                if (channels == 1) {
+                    chroma.write(block, 0, read);
+                } else {
+                    for (int i = 0, j = 0; i < read; i++) {
+                        float sum = 0;
+                        for (int c = 0; c < channels; c++, j++) {
+                            sum += block[j];
+                        }
+                        mono[i] = sum / channels;
+                    }
+                    chroma.write(mono, 0, read);
+                }
+                frame += read;
+            }
+            return recognize(chroma);
+        }
+    }
+
+    /**
+     * Bestimmt die Akkordfolgen mehrerer WAV-Dateien parallel.
+     *
+     * @param files Die WAV-Dateien
+     * @return Akkordfolge je Datei
+     * @throws IOException wenn eine Datei nicht gelesen werden kann
+     */
+    public Map<Path, List<TimedChord>> recognizeAll(List<Path> files) throws IOException {
+        Map<Path, List<TimedChord>> result = new ConcurrentHashMap<>();
+        try {
+            files.parallelStream().forEach(file -> {
+                try {
+                    result.put(file, recognize(file));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return result;
+    }
+
+    /**
+     * Gibt die Anzahl der Zustände des Modells zurück.
+     *
+     * @return 12 pro Akkordtyp plus "kein Akkord"
+     */
+    public int getStateCount() {
+        return states;
+    }
+
+    @Override
+    public String toString() {
+        return "ChordRecognizer[" + (states - 1) / 12 + " Akkordtypen, Wechselstrafe " + switchPenalty + "]";
+    }
+
+    /** Skalarprodukt eines Frames mit einer (mittelwertfreien, normierten) Vorlage */
+    private float dot(float[] frames, int base, int state) {
+        float sum = 0;
+        int t = state * 12;
+        for (int pc = 0; pc < 12; pc++) {
+            sum += frames[base + pc] * templates[t + pc];
+        }
+        return sum;
+    }
+
+    /** Grenze zwischen Frame-1 und Frame: Frame-Mitte minus halber Vorschub */
+    private static double boundary(Chromagram chroma, int frame) {
+        return chroma.getFrameTime(frame) - chroma.getHopSize() / 2.0 / chroma.getSampleRate();
+    }
+}
@@ -13,7 +13,8 @@ public enum ChordType {
     DOMINANT_7("Dominantseptakkord", "7"),
     DIMINISHED_7("Verminderter Septakkord", "dim7"),
     HALF_DIMINISHED_7("Halbverminderter Septakkord", "m7b5"),
-    MINOR_MAJOR_7("Moll-Dur-Septakkord", "m(maj7)");
+    MINOR_MAJOR_7("Moll-Dur-Septakkord", "m(maj7)"),
+    AUGMENTED_MAJOR_7("Übermäßiger Dur-Septakkord", "+maj7");
 
     private final String displayName;
     private final String symbol;
@@ -45,6 +46,7 @@ public enum ChordType {
             case DIMINISHED_7:    return Interval.diminishedSeventh;
             case HALF_DIMINISHED_7: return Interval.halfDiminishedSeventh;
             case MINOR_MAJOR_7:   return Interval.minorMajorSeventh;
+            case AUGMENTED_MAJOR_7: return Interval.augmentedMajorSeventh;
             default:              return Interval.majorTriad;
         }
     }
@@ -0,0 +1,308 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Streaming-Chromagramm: faltet das Spektrum eines Audiosignals auf die 12 Tonklassen.
+ *
+ * <p>Samples werden mit {@link #write(float[], int, int)} in beliebigen Blöcken übergeben. Alle
+ * {@link #getHopSize()} Samples wird das letzte Fenster mit einem Hann-Fenster gewichtet,
+ * per {@link RealFft} transformiert und jeder Frequenzbin im Bereich {@value #MIN_FREQUENCY} bis
+ * {@value #MAX_FREQUENCY} Hz seiner nächstgelegenen Tonklasse zugeschlagen (Bin → Tonklasse
+ * ist vorberechnet). Bins, die breiter als ein Halbton sind, bleiben außen vor; bei
+ * {@value #DEFAULT_FRAME_SIZE} Samples und 44,1 kHz beginnt die Auswertung daher erst bei
+ * etwa 183 Hz, tiefere Töne zählen über ihre Obertöne. Die Beträge werden logarithmisch gestaucht und jeder Frame auf sein
+ * Maximum normiert.</p>
+ *
+ * <p>Die Frames liegen spaltenweise in einem {@code float}-Array (12 Werte pro Frame).
+ * Nach dem Konstruktor wird nur noch beim Wachsen dieses Arrays alloziert.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * Chromagram chroma = new Chromagram(44100);
+ * chroma.write(samples, 0, samples.length);
+ *
+ * for (int frame = 0; frame < chroma.getFrameCount(); frame++) {
+ *     float c = chroma.get(frame, 0); // Anteil der Tonklasse C
+ * }
+ * }</pre>
+ *
+ * <p>Eine Instanz ist nicht threadsicher.</p>
+ *
+ * @see ChordRecognizer
+ */
+public final class Chromagram {
+
+    /** Fenstergröße ohne Angabe, in Samples (Zweierpotenz) */
+    public static final int DEFAULT_FRAME_SIZE = 4096;
+
+    /** Vorschub ohne Angabe, in Samples */
+    public static final int DEFAULT_HOP_SIZE = 2048;
+
+    /**
+     * Tiefste berücksichtigte Frequenz in Hz. Darunter sind Bins erst ab etwa 4,7 Hz Breite
+     * schmaler als ein Halbton (z.B. 16384 Samples bei 44,1 kHz); bei gröberen Fenstern
+     * beginnt die Auswertung beim ersten Bin, der höchstens einen Halbton breit ist.
+     */
+    public static final double MIN_FREQUENCY = 80.0;
+
+    /** Höchste berücksichtigte Frequenz in Hz */
+    public static final double MAX_FREQUENCY = 5000.0;
+
+    /**
+     * Kleinster Bin, der höchstens einen Halbton breit ist: Bin k liegt bei k * Δf und ist Δf
+     * breit, der Halbton darüber k * Δf * (2^(1/12) - 1). Unabhängig von Abtastrate und
+     * Fenstergröße gilt das ab k = 17.
+     */
+    private static final int MIN_RESOLVING_BIN = (int) Math.ceil(1 / (Math.pow(2, 1.0 / 12) - 1));
+
+    /** Stauchung der Beträge: log(1 + COMPRESSION * |X|) */
+    private static final float COMPRESSION = 10f;
+
+    /** Frames mit weniger Energie gelten als Stille und bleiben 0 */
+    private static final float SILENCE = 1e-4f;
+
+    private final int sampleRate;
+    private final int frameSize;
+    private final int hopSize;
+
+    /** Hann-Fenster */
+    private final float[] window;
+
+    /** Kleinster und größter ausgewerteter Bin */
+    private final int firstBin;
+    private final int lastBin;
+
+    /** Bin → Tonklasse (0 = C) */
+    private final byte[] binPitchClass;
+
+    private final RealFft fft;
+
+    /** Gewichtetes Fenster, nach der FFT das gepackte Spektrum */
+    private final double[] spectrum;
+
+    /** Ringpuffer der Eingabe */
+    private final float[] ring;
+    private int writePosition;
+    private int untilNextFrame;
+
+    /** Frames: [frame * 12 + Tonklasse] */
+    private float[] frames = new float[12 * 256];
+    private int frameCount;
+
+    /**
+     * Erstellt ein Chromagramm mit {@value #DEFAULT_FRAME_SIZE} Samples Fenster und
+     * {@value #DEFAULT_HOP_SIZE} Samples Vorschub, bezogen auf A' = 440 Hz.
+     *
+     * @param sampleRate Abtastrate in Hz
+     */
+    public Chromagram(int sampleRate) {
+        this(sampleRate, DEFAULT_FRAME_SIZE, DEFAULT_HOP_SIZE, MusicalNote.getConcertPitch("default"));
+    }
+
+    /**
+     * Erstellt ein Chromagramm.
+     *
+     * @param sampleRate Abtastrate in Hz
+     * @param frameSize Fenstergröße in Samples (Zweierpotenz)
+     * @param hopSize Vorschub in Samples (1 bis frameSize)
+     * @param referencePitch Frequenz von A' in Hz für die Zuordnung der Bins
+     * @throws IllegalArgumentException wenn ein Parameter ungültig ist oder das Fenster unter
+     *                                  {@value #MAX_FREQUENCY} Hz keine Halbtöne trennt
+     */
+    public Chromagram(int sampleRate, int frameSize, int hopSize, double referencePitch) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Abtastrate muss positiv sein: " + sampleRate);
+        }
+        if (frameSize < 16 || Integer.bitCount(frameSize) != 1) {
+            throw new IllegalArgumentException("Fenstergröße muss eine Zweierpotenz >= 16 sein: " + frameSize);
+        }
+        if (hopSize < 1 || hopSize > frameSize) {
+            throw new IllegalArgumentException("Ungültiger Vorschub: " + hopSize);
+        }
+        if (!(referencePitch > 0)) {
+            throw new IllegalArgumentException("Kammerton muss positiv sein: " + referencePitch);
+        }
+        this.sampleRate = sampleRate;
+        this.frameSize = frameSize;
+        this.hopSize = hopSize;
+        this.untilNextFrame = frameSize;
+
+        window = new float[frameSize];
+        for (int i = 0; i < frameSize; i++) {
+            window[i] = (float) (0.5 - 0.5 * Math.cos(2 * Math.PI * i / frameSize));
+        }
+
+        double binWidth = (double) sampleRate / frameSize;
+        firstBin = Math.max(MIN_RESOLVING_BIN, (int) Math.ceil(MIN_FREQUENCY / binWidth));
+        lastBin = Math.min(frameSize / 2 - 1, (int) (MAX_FREQUENCY / binWidth));
+        if (firstBin > lastBin) {
+            throw new IllegalArgumentException("Fenstergröße " + frameSize + " trennt bei " + sampleRate
+                + " Hz unter " + MAX_FREQUENCY + " Hz keine Halbtöne");
+        }
+        binPitchClass = new byte[frameSize / 2];
+        for (int bin = firstBin; bin <= lastBin; bin++) {
+            long semitones = Math.round(12 * Math.log(bin * binWidth / referencePitch) / Math.log(2));
+            binPitchClass[bin] = (byte) Math.floorMod(9 + semitones, 12);
+        }
+
+        fft = RealFft.forSize(frameSize);
+        spectrum = new double[frameSize];
+        ring = new float[frameSize];
+    }
+
+    // ==================== EINGABE ====================
+
+    /**
+     * Schreibt Mono-Samples und berechnet dabei alle fälligen Frames.
+     *
+     * @param samples Samples
+     * @param offset Startindex
+     * @param length Anzahl Samples
+     */
+    public void write(float[] samples, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, samples.length);
+        int end = offset + length;
+        while (offset < end) {
+            int count = Math.min(end - offset, untilNextFrame);
+            int first = Math.min(count, frameSize - writePosition);
+            System.arraycopy(samples, offset, ring, writePosition, first);
+            System.arraycopy(samples, offset + first, ring, 0, count - first);
+            writePosition = (writePosition + count) % frameSize;
+            offset += count;
+            untilNextFrame -= count;
+            if (untilNextFrame == 0) {
+                computeFrame();
+                untilNextFrame = hopSize;
+            }
+        }
+    }
+
+    /**
+     * Verwirft alle Frames und den Eingabepuffer.
+     */
+    public void reset() {
+        Arrays.fill(ring, 0f);
+        writePosition = 0;
+        untilNextFrame = frameSize;
+        frameCount = 0;
+    }
+
+    // ==================== FRAMES ====================
+
+    /**
+     * Gibt die Anzahl der berechneten Frames zurück.
+     *
+     * @return Anzahl Frames
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Gibt den Anteil einer Tonklasse in einem Frame zurück.
+     *
+     * @param frame Frame-Index
+     * @param pitchClass Tonklasse 0-11 (C = 0)
+     * @return Wert zwischen 0 und 1 (1 = stärkste Tonklasse des Frames)
+     */
+    public float get(int frame, int pitchClass) {
+        Objects.checkIndex(frame, frameCount);
+        Objects.checkIndex(pitchClass, 12);
+        return frames[frame * 12 + pitchClass];
+    }
+
+    /**
+     * Kopiert die 12 Werte eines Frames.
+     *
+     * @param frame Frame-Index
+     * @param dest Zielarray
+     * @param offset Startindex im Zielarray
+     */
+    public void getFrame(int frame, float[] dest, int offset) {
+        Objects.checkIndex(frame, frameCount);
+        System.arraycopy(frames, frame * 12, dest, offset, 12);
+    }
+
+    /**
+     * Gibt die Mitte eines Frames auf der Zeitachse zurück.
+     *
+     * @param frame Frame-Index (auch frameCount für das Ende des letzten Frames)
+     * @return Zeit in Sekunden ab dem ersten Sample
+     */
+    public double getFrameTime(int frame) {
+        return ((double) frame * hopSize + frameSize / 2.0) / sampleRate;
+    }
+
+    /** Zugriff ohne Kopie für {@link ChordRecognizer} */
+    float[] frames() {
+        return frames;
+    }
+
+    /**
+     * Gibt die Abtastrate zurück.
+     *
+     * @return Abtastrate in Hz
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Gibt die Fenstergröße zurück.
+     *
+     * @return Fenster in Samples
+     */
+    public int getFrameSize() {
+        return frameSize;
+    }
+
+    /**
+     * Gibt den Vorschub zwischen zwei Frames zurück.
+     *
+     * @return Vorschub in Samples
+     */
+    public int getHopSize() {
+        return hopSize;
+    }
+
+    @Override
+    public String toString() {
+        return "Chromagram[" + frameCount + " Frames, " + frameSize + "/" + hopSize + " Samples, " + sampleRate + " Hz]";
+    }
+
+    // ==================== BERECHNUNG ====================
+
+    private void computeFrame() {
+        // Fenster in zeitlicher Reihenfolge, gewichtet
+        for (int i = 0; i < frameSize; i++) {
+            spectrum[i] = ring[(writePosition + i) % frameSize] * window[i];
+        }
+        fft.forward(spectrum);
+
+        if (frameCount * 12 == frames.length) {
+            frames = Arrays.copyOf(frames, frames.length * 2);
+        }
+        int base = frameCount * 12;
+        Arrays.fill(frames, base, base + 12, 0f);
+        float total = 0;
+        for (int bin = firstBin; bin <= lastBin; bin++) {
+            float magnitude = (float) Math.sqrt(fft.power(spectrum, bin));
+            frames[base + binPitchClass[bin]] += magnitude;
+            total += magnitude;
+        }
+        float max = 0;
+        for (int pc = 0; pc < 12; pc++) {
+            float value = (float) Math.log1p(COMPRESSION * frames[base + pc]);
+            frames[base + pc] = value;
+            max = Math.max(max, value);
+        }
+        if (total < SILENCE * frameSize) {
+            Arrays.fill(frames, base, base + 12, 0f);
+        } else {
+            for (int pc = 0; pc < 12; pc++) {
+                frames[base + pc] /= max;
+            }
+        }
+        frameCount++;
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Leitereigene Dreiklänge und Septakkorde je {@link ScaleType}, einmalig vorberechnet.
+ *
+ * <p>Für heptatonische Skalen werden über jeder Stufe Terzen aus der Tonleiter geschichtet
+ * (jeder zweite Ton: Stufe, Terz, Quinte, Septime) und die Halbtonabstände mit den
+ * Intervallen der {@link ChordType}s verglichen. So ergeben sich etwa für Dorisch
+ * i, ii, III, IV, v, vi°, VII und für Harmonisch Moll der übermäßige Dreiklang auf der III.</p>
+ *
+ * <p>Pentatoniken und die Blues-Skala haben dafür zu wenige Töne. Dort wird je Stufe der
+ * Akkordtyp gewählt, von dessen Tönen die meisten in der Tonleiter liegen; bei Gleichstand
+ * gilt die Reihenfolge von {@link #TRIAD_CANDIDATES} bzw. {@link #SEVENTH_CANDIDATES}.</p>
+ *
+ * @see Scale#getTriadOnDegree(int)
+ * @see Scale#getSeventhOnDegree(int)
+ * @see ScaleMaker#getDiatonicChords(Scale)
+ */
+final class DiatonicHarmony {
+
+    /** Dreiklänge in absteigendem Vorrang */
+    private static final ChordType[] TRIAD_CANDIDATES = {
+        ChordType.MAJOR, ChordType.MINOR, ChordType.DIMINISHED, ChordType.AUGMENTED,
+        ChordType.SUS4, ChordType.SUS2
+    };
+
+    /** Septakkorde in absteigendem Vorrang */
+    private static final ChordType[] SEVENTH_CANDIDATES = {
+        ChordType.MAJOR_7, ChordType.DOMINANT_7, ChordType.MINOR_7, ChordType.HALF_DIMINISHED_7,
+        ChordType.DIMINISHED_7, ChordType.MINOR_MAJOR_7, ChordType.AUGMENTED_MAJOR_7
+    };
+
+    /** [Skalentyp][Stufe - 1] → Dreiklang */
+    private static final ChordType[][] TRIADS = new ChordType[ScaleType.values().length][];
+
+    /** [Skalentyp][Stufe - 1] → Septakkord */
+    private static final ChordType[][] SEVENTHS = new ChordType[ScaleType.values().length][];
+
+    static {
+        for (ScaleType type : ScaleType.values()) {
+            int[] steps = semitones(type);
+            TRIADS[type.ordinal()] = build(steps, 3, TRIAD_CANDIDATES);
+            SEVENTHS[type.ordinal()] = build(steps, 4, SEVENTH_CANDIDATES);
+        }
+    }
+
+    private DiatonicHarmony() {
+        // Utility-Klasse, nicht instanziierbar
+    }
+
+    /**
+     * Gibt die Dreiklänge aller Stufen zurück.
+     *
+     * @param type Der Skalentyp
+     * @return Geteilte Tabelle (nicht verändern), Index = Stufe - 1
+     */
+    static ChordType[] triads(ScaleType type) {
+        return TRIADS[type.ordinal()];
+    }
+
+    /**
+     * Gibt die Septakkorde aller Stufen zurück.
+     *
+     * @param type Der Skalentyp
+     * @return Geteilte Tabelle (nicht verändern), Index = Stufe - 1
+     */
+    static ChordType[] sevenths(ScaleType type) {
+        return SEVENTHS[type.ordinal()];
+    }
+
+    // ==================== BERECHNUNG ====================
+
+    /** Halbtöne über dem Grundton je Stufe, ohne abschließende Oktave */
+    private static int[] semitones(ScaleType type) {
+        Interval[] intervals = type.getIntervals();
+        int[] steps = new int[intervals.length - 1];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = intervals[i].semitones;
+        }
+        return steps;
+    }
+
+    private static ChordType[] build(int[] steps, int tones, ChordType[] candidates) {
+        int scaleMask = 0;
+        for (int step : steps) {
+            scaleMask |= 1 << (step % 12);
+        }
+        ChordType[] table = new ChordType[steps.length];
+        for (int degree = 0; degree < steps.length; degree++) {
+            ChordType stacked = steps.length == 7 ? stackThirds(steps, degree, tones, candidates) : null;
+            table[degree] = stacked != null ? stacked : bestFit(scaleMask, steps[degree], candidates);
+        }
+        return table;
+    }
+
+    /** Schichtet Terzen ab einer Stufe und sucht den Akkordtyp mit genau diesen Abständen */
+    private static ChordType stackThirds(int[] steps, int degree, int tones, ChordType[] candidates) {
+        int[] chord = new int[tones];
+        for (int i = 0; i < tones; i++) {
+            int index = degree + 2 * i;
+            chord[i] = steps[index % steps.length] + 12 * (index / steps.length) - steps[degree];
+        }
+        for (ChordType candidate : candidates) {
+            Interval[] intervals = candidate.getIntervals();
+            boolean match = true;
+            for (int i = 0; i < tones && match; i++) {
+                match = intervals[i].semitones == chord[i];
+            }
+            if (match) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /** Wählt den Akkordtyp mit den meisten Tönen in der Tonleiter */
+    private static ChordType bestFit(int scaleMask, int rootStep, ChordType[] candidates) {
+        ChordType best = candidates[0];
+        int bestCount = -1;
+        for (ChordType candidate : candidates) {
+            int count = 0;
+            for (Interval interval : candidate.getIntervals()) {
+                if ((scaleMask & 1 << ((rootStep + interval.semitones) % 12)) != 0) {
+                    count++;
+                }
+            }
+            if (count > bestCount) {
+                best = candidate;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,606 @@
+import java.nio.DoubleBuffer;
+
+/**
+ * Dekorator um eine {@link ScaleMakerApi}, der jeden Aufruf in {@link ScaleMakerMetrics} erfasst.
+ *
+ * <p>Jede Methode zählt den Aufruf, misst bei einer Stichprobe die Dauer und zählt
+ * Exceptions sowie Fehlerergebnisse der {@code try}-Methoden als Fehler. Ergebnisse und
+ * Exceptions werden unverändert weitergereicht.</p>
+ *
+ * <p>Wird von {@link ScaleMakerPluginImpl} nur bei eingeschalteten Metriken verwendet.
+ * Threadsicher, sofern die umhüllte API es ist.</p>
+ *
+ * @see ScaleMakerMetrics
+ */
+final class InstrumentedScaleMakerApi implements ScaleMakerApi {
+
+    /** Methodennamen für {@link ScaleMakerMetrics}; Index = Methodennummer in den Aufrufen unten */
+    static final String[] METHODS = {
+        "note(String)",
+        "note(String, double)",
+        "note(String, double, int)",
+        "note(String, TuningSystem)",
+        "scale(String, ScaleType)",
+        "scale(MusicalNote, ScaleType)",
+        "scale(String, ScaleType, TuningSystem)",
+        "majorScale(String)",
+        "minorScale(String)",
+        "chord(String, ChordType)",
+        "chord(MusicalNote, ChordType)",
+        "chord(String, ChordType, TuningSystem)",
+        "majorChord(String)",
+        "minorChord(String)",
+        "getDiatonicChords(Scale)",
+        "getDiatonicSevenths(Scale)",
+        "getDiatonicChordSymbols(Scale)",
+        "calculateFrequency(int)",
+        "calculateFrequency(double, int)",
+        "calculateFrequency(TuningSystem, int)",
+        "calculateFrequencies(int, double[], int, int)",
+        "calculateFrequencies(double, int, double[], int, int)",
+        "calculateFrequencies(double, int, DoubleBuffer, int)",
+        "applyInterval(double, IntervalType)",
+        "applyInterval(double[], int, double[], int, int, IntervalType)",
+        "nearestNote(double)",
+        "nearestNote(double, TuningSystem)",
+        "tryNote(String)",
+        "tryNote(String, double)",
+        "tryScale(String, ScaleType)",
+        "tryScale(String, ScaleType, TuningSystem)",
+        "tryChord(String, ChordType)",
+        "tryChord(String, ChordType, TuningSystem)",
+        "getCache()",
+        "getAvailableScaleTypes()",
+        "getAvailableChordTypes()",
+        "getAvailableIntervalTypes()",
+    };
+
+    private final ScaleMakerApi delegate;
+    private final ScaleMakerMetrics metrics;
+
+    /**
+     * Erstellt den Dekorator.
+     *
+     * @param delegate Die umhüllte API
+     * @param sampleInterval Jeder wievielte Aufruf gemessen wird (Zweierpotenz)
+     * @throws IllegalArgumentException wenn das Intervall ungültig ist
+     */
+    InstrumentedScaleMakerApi(ScaleMakerApi delegate, int sampleInterval) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("API darf nicht null sein.");
+        }
+        this.delegate = delegate;
+        this.metrics = new ScaleMakerMetrics(METHODS, sampleInterval);
+    }
+
+    /**
+     * Gibt die erfassten Metriken zurück.
+     *
+     * @return Die Metriken dieses Dekorators
+     */
+    ScaleMakerMetrics getMetrics() {
+        return metrics;
+    }
+
+    // ==================== NOTEN ====================
+
+    @Override
+    public MusicalNote note(String letter) throws Exception {
+        long start = metrics.start(0);
+        try {
+            return delegate.note(letter);
+        } catch (Throwable t) {
+            metrics.error(0);
+            throw t;
+        } finally {
+            metrics.stop(0, start);
+        }
+    }
+
+    @Override
+    public MusicalNote note(String letter, double frequency) throws Exception {
+        long start = metrics.start(1);
+        try {
+            return delegate.note(letter, frequency);
+        } catch (Throwable t) {
+            metrics.error(1);
+            throw t;
+        } finally {
+            metrics.stop(1, start);
+        }
+    }
+
+    @Override
+    public MusicalNote note(String letter, double frequency, int octave) throws Exception {
+        long start = metrics.start(2);
+        try {
+            return delegate.note(letter, frequency, octave);
+        } catch (Throwable t) {
+            metrics.error(2);
+            throw t;
+        } finally {
+            metrics.stop(2, start);
+        }
+    }
+
+    @Override
+    public MusicalNote note(String letter, TuningSystem tuning) throws Exception {
+        long start = metrics.start(3);
+        try {
+            return delegate.note(letter, tuning);
+        } catch (Throwable t) {
+            metrics.error(3);
+            throw t;
+        } finally {
+            metrics.stop(3, start);
+        }
+    }
+
+    // ==================== TONLEITERN ====================
+
+    @Override
+    public Scale scale(String rootNote, ScaleType type) throws Exception {
+        long start = metrics.start(4);
+        try {
+            return delegate.scale(rootNote, type);
+        } catch (Throwable t) {
+            metrics.error(4);
+            throw t;
+        } finally {
+            metrics.stop(4, start);
+        }
+    }
+
+    @Override
+    public Scale scale(MusicalNote rootNote, ScaleType type) throws Exception {
+        long start = metrics.start(5);
+        try {
+            return delegate.scale(rootNote, type);
+        } catch (Throwable t) {
+            metrics.error(5);
+            throw t;
+        } finally {
+            metrics.stop(5, start);
+        }
+    }
+
+    @Override
+    public Scale scale(String rootNote, ScaleType type, TuningSystem tuning) throws Exception {
+        long start = metrics.start(6);
+        try {
+            return delegate.scale(rootNote, type, tuning);
+        } catch (Throwable t) {
+            metrics.error(6);
+            throw t;
+        } finally {
+            metrics.stop(6, start);
+        }
+    }
+
+    @Override
+    public Scale majorScale(String rootNote) throws Exception {
+        long start = metrics.start(7);
+        try {
+            return delegate.majorScale(rootNote);
+        } catch (Throwable t) {
+            metrics.error(7);
+            throw t;
+        } finally {
+            metrics.stop(7, start);
+        }
+    }
+
+    @Override
+    public Scale minorScale(String rootNote) throws Exception {
+        long start = metrics.start(8);
+        try {
+            return delegate.minorScale(rootNote);
+        } catch (Throwable t) {
+            metrics.error(8);
+            throw t;
+        } finally {
+            metrics.stop(8, start);
+        }
+    }
+
+    // ==================== AKKORDE ====================
+
+    @Override
+    public Chord chord(String rootNote, ChordType type) throws Exception {
+        long start = metrics.start(9);
+        try {
+            return delegate.chord(rootNote, type);
+        } catch (Throwable t) {
+            metrics.error(9);
+            throw t;
+        } finally {
+            metrics.stop(9, start);
+        }
+    }
+
+    @Override
+    public Chord chord(MusicalNote rootNote, ChordType type) throws Exception {
+        long start = metrics.start(10);
+        try {
+            return delegate.chord(rootNote, type);
+        } catch (Throwable t) {
+            metrics.error(10);
+            throw t;
+        } finally {
+            metrics.stop(10, start);
+        }
+    }
+
+    @Override
+    public Chord chord(String rootNote, ChordType type, TuningSystem tuning) throws Exception {
+        long start = metrics.start(11);
+        try {
+            return delegate.chord(rootNote, type, tuning);
+        } catch (Throwable t) {
+            metrics.error(11);
+            throw t;
+        } finally {
+            metrics.stop(11, start);
+        }
+    }
+
+    @Override
+    public Chord majorChord(String rootNote) throws Exception {
+        long start = metrics.start(12);
+        try {
+            return delegate.majorChord(rootNote);
+        } catch (Throwable t) {
+            metrics.error(12);
+            throw t;
+        } finally {
+            metrics.stop(12, start);
+        }
+    }
+
+    @Override
+    public Chord minorChord(String rootNote) throws Exception {
+        long start = metrics.start(13);
+        try {
+            return delegate.minorChord(rootNote);
+        } catch (Throwable t) {
+            metrics.error(13);
+            throw t;
+        } finally {
+            metrics.stop(13, start);
+        }
+    }
+
+    // ==================== STUFENAKKORDE ====================
+
+    @Override
+    public Chord[] getDiatonicChords(Scale scale) throws Exception {
+        long start = metrics.start(14);
+        try {
+            return delegate.getDiatonicChords(scale);
+        } catch (Throwable t) {
+            metrics.error(14);
+            throw t;
+        } finally {
+            metrics.stop(14, start);
+        }
+    }
+
+    @Override
+    public Chord[] getDiatonicSevenths(Scale scale) throws Exception {
+        long start = metrics.start(15);
+        try {
+            return delegate.getDiatonicSevenths(scale);
+        } catch (Throwable t) {
+            metrics.error(15);
+            throw t;
+        } finally {
+            metrics.stop(15, start);
+        }
+    }
+
+    @Override
+    public String[] getDiatonicChordSymbols(Scale scale) throws Exception {
+        long start = metrics.start(16);
+        try {
+            return delegate.getDiatonicChordSymbols(scale);
+        } catch (Throwable t) {
+            metrics.error(16);
+            throw t;
+        } finally {
+            metrics.stop(16, start);
+        }
+    }
+
+    // ==================== FREQUENZ-BERECHNUNG ====================
+
+    @Override
+    public double calculateFrequency(int semitonesFromA) {
+        long start = metrics.start(17);
+        try {
+            return delegate.calculateFrequency(semitonesFromA);
+        } catch (Throwable t) {
+            metrics.error(17);
+            throw t;
+        } finally {
+            metrics.stop(17, start);
+        }
+    }
+
+    @Override
+    public double calculateFrequency(double referenceFreq, int semitones) {
+        long start = metrics.start(18);
+        try {
+            return delegate.calculateFrequency(referenceFreq, semitones);
+        } catch (Throwable t) {
+            metrics.error(18);
+            throw t;
+        } finally {
+            metrics.stop(18, start);
+        }
+    }
+
+    @Override
+    public double calculateFrequency(TuningSystem tuning, int semitonesFromA) {
+        long start = metrics.start(19);
+        try {
+            return delegate.calculateFrequency(tuning, semitonesFromA);
+        } catch (Throwable t) {
+            metrics.error(19);
+            throw t;
+        } finally {
+            metrics.stop(19, start);
+        }
+    }
+
+    @Override
+    public void calculateFrequencies(int fromSemitone, double[] dest, int destOffset, int count) {
+        long start = metrics.start(20);
+        try {
+            delegate.calculateFrequencies(fromSemitone, dest, destOffset, count);
+        } catch (Throwable t) {
+            metrics.error(20);
+            throw t;
+        } finally {
+            metrics.stop(20, start);
+        }
+    }
+
+    @Override
+    public void calculateFrequencies(double referenceFreq, int fromSemitone, double[] dest, int destOffset, int count) {
+        long start = metrics.start(21);
+        try {
+            delegate.calculateFrequencies(referenceFreq, fromSemitone, dest, destOffset, count);
+        } catch (Throwable t) {
+            metrics.error(21);
+            throw t;
+        } finally {
+            metrics.stop(21, start);
+        }
+    }
+
+    @Override
+    public void calculateFrequencies(double referenceFreq, int fromSemitone, DoubleBuffer dest, int count) {
+        long start = metrics.start(22);
+        try {
+            delegate.calculateFrequencies(referenceFreq, fromSemitone, dest, count);
+        } catch (Throwable t) {
+            metrics.error(22);
+            throw t;
+        } finally {
+            metrics.stop(22, start);
+        }
+    }
+
+    @Override
+    public double applyInterval(double baseFrequency, IntervalType interval) {
+        long start = metrics.start(23);
+        try {
+            return delegate.applyInterval(baseFrequency, interval);
+        } catch (Throwable t) {
+            metrics.error(23);
+            throw t;
+        } finally {
+            metrics.stop(23, start);
+        }
+    }
+
+    @Override
+    public void applyInterval(double[] src, int srcOffset, double[] dest, int destOffset, int count,
+                              IntervalType interval) {
+        long start = metrics.start(24);
+        try {
+            delegate.applyInterval(src, srcOffset, dest, destOffset, count, interval);
+        } catch (Throwable t) {
+            metrics.error(24);
+            throw t;
+        } finally {
+            metrics.stop(24, start);
+        }
+    }
+
+    @Override
+    public MusicalNote nearestNote(double frequency) {
+        long start = metrics.start(25);
+        try {
+            return delegate.nearestNote(frequency);
+        } catch (Throwable t) {
+            metrics.error(25);
+            throw t;
+        } finally {
+            metrics.stop(25, start);
+        }
+    }
+
+    @Override
+    public MusicalNote nearestNote(double frequency, TuningSystem tuning) {
+        long start = metrics.start(26);
+        try {
+            return delegate.nearestNote(frequency, tuning);
+        } catch (Throwable t) {
+            metrics.error(26);
+            throw t;
+        } finally {
+            metrics.stop(26, start);
+        }
+    }
+
+    // ==================== VALIDIERUNG ====================
+
+    @Override
+    public ScaleMakerResult<MusicalNote> tryNote(String letter) {
+        long start = metrics.start(27);
+        try {
+            ScaleMakerResult<MusicalNote> result = delegate.tryNote(letter);
+            if (!result.isSuccess()) {
+                metrics.error(27);
+            }
+            return result;
+        } catch (Throwable t) {
+            metrics.error(27);
+            throw t;
+        } finally {
+            metrics.stop(27, start);
+        }
+    }
+
+    @Override
+    public ScaleMakerResult<MusicalNote> tryNote(String letter, double frequency) {
+        long start = metrics.start(28);
+        try {
+            ScaleMakerResult<MusicalNote> result = delegate.tryNote(letter, frequency);
+            if (!result.isSuccess()) {
+                metrics.error(28);
+            }
+            return result;
+        } catch (Throwable t) {
+            metrics.error(28);
+            throw t;
+        } finally {
+            metrics.stop(28, start);
+        }
+    }
+
+    @Override
+    public ScaleMakerResult<Scale> tryScale(String rootNote, ScaleType type) {
+        long start = metrics.start(29);
+        try {
+            ScaleMakerResult<Scale> result = delegate.tryScale(rootNote, type);
+            if (!result.isSuccess()) {
+                metrics.error(29);
+            }
+            return result;
+        } catch (Throwable t) {
+            metrics.error(29);
+            throw t;
+        } finally {
+            metrics.stop(29, start);
+        }
+    }
+
+    @Override
+    public ScaleMakerResult<Scale> tryScale(String rootNote, ScaleType type, TuningSystem tuning) {
+        long start = metrics.start(30);
+        try {
+            ScaleMakerResult<Scale> result = delegate.tryScale(rootNote, type, tuning);
+            if (!result.isSuccess()) {
+                metrics.error(30);
+            }
+            return result;
+        } catch (Throwable t) {
+            metrics.error(30);
+            throw t;
+        } finally {
+            metrics.stop(30, start);
+        }
+    }
+
+    @Override
+    public ScaleMakerResult<Chord> tryChord(String rootNote, ChordType type) {
+        long start = metrics.start(31);
+        try {
+            ScaleMakerResult<Chord> result = delegate.tryChord(rootNote, type);
+            if (!result.isSuccess()) {
+                metrics.error(31);
+            }
+            return result;
+        } catch (Throwable t) {
+            metrics.error(31);
+            throw t;
+        } finally {
+            metrics.stop(31, start);
+        }
+    }
+
+    @Override
+    public ScaleMakerResult<Chord> tryChord(String rootNote, ChordType type, TuningSystem tuning) {
+        long start = metrics.start(32);
+        try {
+            ScaleMakerResult<Chord> result = delegate.tryChord(rootNote, type, tuning);
+            if (!result.isSuccess()) {
+                metrics.error(32);
+            }
+            return result;
+        } catch (Throwable t) {
+            metrics.error(32);
+            throw t;
+        } finally {
+            metrics.stop(32, start);
+        }
+    }
+
+    // ==================== CACHE ====================
+
+    @Override
+    public ScaleMakerCache getCache() {
+        long start = metrics.start(33);
+        try {
+            return delegate.getCache();
+        } catch (Throwable t) {
+            metrics.error(33);
+            throw t;
+        } finally {
+            metrics.stop(33, start);
+        }
+    }
+
+    // ==================== VERFÜGBARE TYPEN ====================
+
+    @Override
+    public ScaleType[] getAvailableScaleTypes() {
+        long start = metrics.start(34);
+        try {
+            return delegate.getAvailableScaleTypes();
+        } catch (Throwable t) {
+            metrics.error(34);
+            throw t;
+        } finally {
+            metrics.stop(34, start);
+        }
+    }
+
+    @Override
+    public ChordType[] getAvailableChordTypes() {
+        long start = metrics.start(35);
+        try {
+            return delegate.getAvailableChordTypes();
+        } catch (Throwable t) {
+            metrics.error(35);
+            throw t;
+        } finally {
+            metrics.stop(35, start);
+        }
+    }
+
+    @Override
+    public IntervalType[] getAvailableIntervalTypes() {
+        long start = metrics.start(36);
+        try {
+            return delegate.getAvailableIntervalTypes();
+        } catch (Throwable t) {
+            metrics.error(36);
+            throw t;
+        } finally {
+            metrics.stop(36, start);
+        }
+    }
+}
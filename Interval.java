@@ -6,6 +6,7 @@ public class Interval {
     public final double propCounter;
     public final double propDenom;
     public final double proportion;
+    public final int semitones;
     public final IntervalType type;
 
     private Interval(IntervalType type) {
@@ -16,6 +17,7 @@ public class Interval {
         this.propCounter = type.getNumerator();
         this.propDenom = type.getDenominator();
         this.proportion = type.getRatio();
+        this.semitones = type.getSemitones();
     }
 
     // Factory-Methode
@@ -242,6 +244,14 @@ public class Interval {
         of(IntervalType.MAJOR_SEVENTH)
     };
 
+    // Übermäßiger Dur-Septakkord (AugMaj7)
+    static final Interval[] augmentedMajorSeventh = {
+        of(IntervalType.UNISON),
+        of(IntervalType.MAJOR_THIRD),
+        of(IntervalType.AUGMENTED_FIFTH),
+        of(IntervalType.MAJOR_SEVENTH)
+    };
+
     // Sus4-Akkord
     static final Interval[] sus4 = {
         of(IntervalType.UNISON),
@@ -1,47 +1,47 @@
 public enum IntervalType {
     // Prim
-    UNISON("Prim", "P", "", 1, 1),
-    AUGMENTED_UNISON_SMALL("Überm. Prim", "P1", "kleiner chromatischer Halbton", 24, 25),
-    AUGMENTED_UNISON_LARGE("Überm. Prim", "P2", "großer chromatischer Halbton", 135, 128),
+    UNISON("Prim", "P", "", 1, 1, 0),
+    AUGMENTED_UNISON_SMALL("Überm. Prim", "P1", "kleiner chromatischer Halbton", 24, 25, 1),
+    AUGMENTED_UNISON_LARGE("Überm. Prim", "P2", "großer chromatischer Halbton", 135, 128, 1),
 
     // Sekunden
-    MINOR_SECOND_PYTHAGOREAN("Kl. Sekunde", "Sk1", "Leimma (pythagoreisch)", 256, 243),
-    MINOR_SECOND("Kl. Sekunde", "Sk2", "diatonischer Halbton (rein)", 16, 15),
-    MAJOR_SECOND_SMALL("Gr. Sekunde", "Sg1", "kleiner Ganzton (rein)", 10, 9),
-    MAJOR_SECOND("Gr. Sekunde", "Sg2", "großer Ganzton (pythagoreisch/rein)", 9, 8),
+    MINOR_SECOND_PYTHAGOREAN("Kl. Sekunde", "Sk1", "Leimma (pythagoreisch)", 256, 243, 1),
+    MINOR_SECOND("Kl. Sekunde", "Sk2", "diatonischer Halbton (rein)", 16, 15, 1),
+    MAJOR_SECOND_SMALL("Gr. Sekunde", "Sg1", "kleiner Ganzton (rein)", 10, 9, 2),
+    MAJOR_SECOND("Gr. Sekunde", "Sg2", "großer Ganzton (pythagoreisch/rein)", 9, 8, 2),
 
     // Terzen
-    MINOR_THIRD_PYTHAGOREAN("Kl. Terz", "Tk1", "pythagoreisch", 32, 27),
-    MINOR_THIRD("Kl. Terz", "Tk2", "rein", 6, 5),
-    MAJOR_THIRD("Gr. Terz", "Tg1", "rein", 5, 4),
-    MAJOR_THIRD_PYTHAGOREAN("Gr. Terz", "Tg2", "Ditonus (pythagoreisch)", 81, 64),
+    MINOR_THIRD_PYTHAGOREAN("Kl. Terz", "Tk1", "pythagoreisch", 32, 27, 3),
+    MINOR_THIRD("Kl. Terz", "Tk2", "rein", 6, 5, 3),
+    MAJOR_THIRD("Gr. Terz", "Tg1", "rein", 5, 4, 4),
+    MAJOR_THIRD_PYTHAGOREAN("Gr. Terz", "Tg2", "Ditonus (pythagoreisch)", 81, 64, 4),
 
     // Quarten
-    PERFECT_FOURTH("Quarte", "Qua", "rein", 4, 3),
-    AUGMENTED_FOURTH_HUYGENS("Überm. Quarte", "Qua2", "Huygens' Tritonus", 7, 5),
-    AUGMENTED_FOURTH("Überm. Quarte", "Qua1", "diatonischer Tritonus", 45, 32),
-    AUGMENTED_FOURTH_PYTHAGOREAN("Überm. Quarte", "Qua3", "pythagoreisch", 729, 512),
+    PERFECT_FOURTH("Quarte", "Qua", "rein", 4, 3, 5),
+    AUGMENTED_FOURTH_HUYGENS("Überm. Quarte", "Qua2", "Huygens' Tritonus", 7, 5, 6),
+    AUGMENTED_FOURTH("Überm. Quarte", "Qua1", "diatonischer Tritonus", 45, 32, 6),
+    AUGMENTED_FOURTH_PYTHAGOREAN("Überm. Quarte", "Qua3", "pythagoreisch", 729, 512, 6),
 
     // Quinten
-    DIMINISHED_FIFTH_PYTHAGOREAN("Verm. Quinte", "Qui1", "pythagoreisch", 1024, 729),
-    DIMINISHED_FIFTH("Verm. Quinte", "Qui2", "rein", 64, 45),
-    DIMINISHED_FIFTH_EULER("Verm. Quinte", "Qui3", "Eulers Tritonus", 10, 7),
-    PERFECT_FIFTH("Quinte", "Qui", "rein", 3, 2),
-    AUGMENTED_FIFTH("Überm. Quinte", "Qui+", "rein", 25, 16),
+    DIMINISHED_FIFTH_PYTHAGOREAN("Verm. Quinte", "Qui1", "pythagoreisch", 1024, 729, 6),
+    DIMINISHED_FIFTH("Verm. Quinte", "Qui2", "rein", 64, 45, 6),
+    DIMINISHED_FIFTH_EULER("Verm. Quinte", "Qui3", "Eulers Tritonus", 10, 7, 6),
+    PERFECT_FIFTH("Quinte", "Qui", "rein", 3, 2, 7),
+    AUGMENTED_FIFTH("Überm. Quinte", "Qui+", "rein", 25, 16, 8),
 
     // Sexten
-    MINOR_SIXTH("Kl. Sexte", "Sxk", "rein", 8, 5),
-    MAJOR_SIXTH("Gr. Sexte", "Sxg", "rein", 5, 3),
+    MINOR_SIXTH("Kl. Sexte", "Sxk", "rein", 8, 5, 8),
+    MAJOR_SIXTH("Gr. Sexte", "Sxg", "rein", 5, 3, 9),
 
     // Septimen
-    MINOR_SEVENTH_PYTHAGOREAN("Kl. Septime", "Sepk1", "pythagoreisch", 16, 9),
-    MINOR_SEVENTH("Kl. Septime", "Sepk2", "rein (Oktave - kleiner Ganzton)", 9, 5),
-    MINOR_SEVENTH_NATURAL("Kl. Septime", "Sepk3", "Naturseptime", 7, 4),
-    DIMINISHED_SEVENTH("Verm. Septime", "Sep--", "doppelt vermindert", 128, 75),
-    MAJOR_SEVENTH("Gr. Septime", "Sepg", "diatonisch rein", 15, 8),
+    MINOR_SEVENTH_PYTHAGOREAN("Kl. Septime", "Sepk1", "pythagoreisch", 16, 9, 10),
+    MINOR_SEVENTH("Kl. Septime", "Sepk2", "rein (Oktave - kleiner Ganzton)", 9, 5, 10),
+    MINOR_SEVENTH_NATURAL("Kl. Septime", "Sepk3", "Naturseptime", 7, 4, 10),
+    DIMINISHED_SEVENTH("Verm. Septime", "Sep--", "doppelt vermindert", 128, 75, 9),
+    MAJOR_SEVENTH("Gr. Septime", "Sepg", "diatonisch rein", 15, 8, 11),
 
     // Oktave
-    OCTAVE("Oktave", "Ok", "rein", 2, 1);
+    OCTAVE("Oktave", "Ok", "rein", 2, 1, 12);
 
     private final String displayName;
     private final String shortName;
@@ -49,14 +49,17 @@ public enum IntervalType {
     private final double numerator;
     private final double denominator;
     private final double ratio;
+    private final int semitones;
 
-    IntervalType(String displayName, String shortName, String details, double numerator, double denominator) {
+    IntervalType(String displayName, String shortName, String details, double numerator, double denominator,
+                 int semitones) {
         this.displayName = displayName;
         this.shortName = shortName;
         this.details = details;
         this.numerator = numerator;
         this.denominator = denominator;
         this.ratio = numerator / denominator;
+        this.semitones = semitones;
     }
 
     public String getDisplayName() {
@@ -83,6 +86,11 @@ public enum IntervalType {
         return ratio;
     }
 
+    // Größe in gleichstufigen Halbtönen (enharmonische Varianten gleich, Oktave = 12)
+    public int getSemitones() {
+        return semitones;
+    }
+
     public String getRatioString() {
         return (int) numerator + ":" + (int) denominator;
     }
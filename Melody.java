@@ -1,3 +1,433 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Repräsentiert eine Melodie als Folge von Notenereignissen.
+ *
+ * <p>Die Ereignisse werden spaltenweise in parallelen primitiven Arrays gehalten
+ * (Tonnummer, Frequenz, Einsatz, Dauer, Anschlagstärke). Ein Ereignis belegt damit
+ * {@value #BYTES_PER_EVENT} Bytes statt eines eigenen {@link MusicalNote}-Objekts;
+ * auch Melodien mit Millionen von Ereignissen bleiben kompakt im Speicher.</p>
+ *
+ * <p>Anhängen, Ausschneiden und Durchlaufen erzeugen keine Objekte pro Ereignis.
+ * {@link MusicalNote}-Objekte entstehen nur an den Rändern über {@link #add(MusicalNote, int, int, int)},
+ * {@link #getNote(int)}, {@link #toNotes()} und {@link #fromNotes(List, int, int)}.</p>
+ *
+ * <p>Tonnummern folgen der MIDI-Zählung: 60 = C' (eingestrichenes C), siehe
+ * {@link MusicalNote#getMidiNumber()}. Zeiten werden in Ticks angegeben, die Auflösung
+ * legt {@link #getTicksPerQuarter()} fest.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * Melody melody = new Melody();
+ * for (MusicalNote note : ScaleMaker.majorScale("C").getNotes()) {
+ *     melody.add(note, melody.getEndTick(), 480, 100);
+ * }
+ *
+ * // Durchlaufen ohne Objekte pro Ereignis
+ * melody.forEach((i, key, frequency, onset, duration, velocity) ->
+ *     System.out.println(key + " @ " + onset + ": " + frequency + " Hz"));
+ *
+ * // Zweite Hälfte als eigene Melodie
+ * Melody tail = melody.slice(4, melody.size());
+ * }</pre>
+ *
+ * @see MusicalNote
+ */
 public class Melody {
-    
+
+    /** Speicherbedarf eines Ereignisses in Bytes (2 + 4 + 4 + 4 + 1) */
+    public static final int BYTES_PER_EVENT = 15;
+
+    /** Standard-Auflösung in Ticks pro Viertelnote */
+    public static final int DEFAULT_TICKS_PER_QUARTER = 480;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int ticksPerQuarter;
+
+    private short[] keys;
+    private float[] frequencies;
+    private int[] onsets;
+    private int[] durations;
+    private byte[] velocities;
+    private int size;
+
+    /**
+     * Callback für das Durchlaufen einer Melodie ohne Objekte pro Ereignis.
+     *
+     * @see #forEach(EventVisitor)
+     */
+    @FunctionalInterface
+    public interface EventVisitor {
+
+        /**
+         * Wird für jedes Ereignis in zeitlicher Reihenfolge des Speichers aufgerufen.
+         *
+         * @param index Index des Ereignisses
+         * @param key Tonnummer (60 = C')
+         * @param frequency Frequenz in Hz
+         * @param onset Einsatz in Ticks
+         * @param duration Dauer in Ticks
+         * @param velocity Anschlagstärke 0-127
+         */
+        void visit(int index, int key, float frequency, int onset, int duration, int velocity);
+    }
+
+    /**
+     * Erstellt eine leere Melodie mit {@value #DEFAULT_TICKS_PER_QUARTER} Ticks pro Viertel.
+     */
+    public Melody() {
+        this(DEFAULT_TICKS_PER_QUARTER, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Erstellt eine leere Melodie mit der angegebenen Auflösung.
+     *
+     * @param ticksPerQuarter Ticks pro Viertelnote
+     */
+    public Melody(int ticksPerQuarter) {
+        this(ticksPerQuarter, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Erstellt eine leere Melodie mit Auflösung und Anfangskapazität.
+     *
+     * @param ticksPerQuarter Ticks pro Viertelnote
+     * @param initialCapacity Anzahl Ereignisse, die ohne Vergrößerung Platz haben
+     * @throws IllegalArgumentException wenn ein Wert ungültig ist
+     */
+    public Melody(int ticksPerQuarter, int initialCapacity) {
+        if (ticksPerQuarter < 1) {
+            throw new IllegalArgumentException("Ticks pro Viertel müssen positiv sein: " + ticksPerQuarter);
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Kapazität darf nicht negativ sein: " + initialCapacity);
+        }
+        this.ticksPerQuarter = ticksPerQuarter;
+        this.keys = new short[initialCapacity];
+        this.frequencies = new float[initialCapacity];
+        this.onsets = new int[initialCapacity];
+        this.durations = new int[initialCapacity];
+        this.velocities = new byte[initialCapacity];
+    }
+
+    // ==================== ANHÄNGEN ====================
+
+    /**
+     * Hängt ein Ereignis an.
+     *
+     * @param key Tonnummer (60 = C')
+     * @param frequency Frequenz in Hz
+     * @param onset Einsatz in Ticks
+     * @param duration Dauer in Ticks
+     * @param velocity Anschlagstärke 0-127
+     * @return Index des neuen Ereignisses
+     * @throws IllegalArgumentException wenn ein Wert außerhalb des gültigen Bereichs liegt
+     */
+    public int add(int key, double frequency, int onset, int duration, int velocity) {
+        if (key < 0 || key > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Ungültige Tonnummer: " + key);
+        }
+        if (onset < 0 || duration < 0) {
+            throw new IllegalArgumentException("Einsatz und Dauer dürfen nicht negativ sein: " + onset + ", " + duration);
+        }
+        if (velocity < 0 || velocity > 127) {
+            throw new IllegalArgumentException("Anschlagstärke muss zwischen 0 und 127 liegen: " + velocity);
+        }
+        ensureCapacity(size + 1);
+        int index = size++;
+        keys[index] = (short) key;
+        frequencies[index] = (float) frequency;
+        onsets[index] = onset;
+        durations[index] = duration;
+        velocities[index] = (byte) velocity;
+        return index;
+    }
+
+    /**
+     * Hängt eine Note als Ereignis an. Tonnummer und Frequenz werden aus der Note übernommen.
+     *
+     * @param note Die Note
+     * @param onset Einsatz in Ticks
+     * @param duration Dauer in Ticks
+     * @param velocity Anschlagstärke 0-127
+     * @return Index des neuen Ereignisses
+     */
+    public int add(MusicalNote note, int onset, int duration, int velocity) {
+        return add(note.getMidiNumber(), note.frequency, onset, duration, velocity);
+    }
+
+    /**
+     * Hängt alle Ereignisse einer anderen Melodie an, zeitlich um {@code tickOffset} verschoben.
+     *
+     * @param other Die anzuhängende Melodie
+     * @param tickOffset Verschiebung der Einsätze in Ticks
+     * @throws IllegalArgumentException wenn ein Einsatz dadurch negativ würde
+     */
+    public void append(Melody other, int tickOffset) {
+        int count = other.size;
+        ensureCapacity(size + count);
+        System.arraycopy(other.keys, 0, keys, size, count);
+        System.arraycopy(other.frequencies, 0, frequencies, size, count);
+        System.arraycopy(other.durations, 0, durations, size, count);
+        System.arraycopy(other.velocities, 0, velocities, size, count);
+        int[] src = other.onsets;
+        for (int i = 0; i < count; i++) {
+            int onset = src[i] + tickOffset;
+            if (onset < 0) {
+                throw new IllegalArgumentException("Einsatz wird negativ: " + onset);
+            }
+            onsets[size + i] = onset;
+        }
+        size += count;
+    }
+
+    /**
+     * Hängt alle Ereignisse einer anderen Melodie unverändert an.
+     *
+     * @param other Die anzuhängende Melodie
+     */
+    public void append(Melody other) {
+        append(other, 0);
+    }
+
+    // ==================== ZUGRIFF ====================
+
+    /**
+     * Gibt die Anzahl der Ereignisse zurück.
+     *
+     * @return Anzahl Ereignisse
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Prüft, ob die Melodie leer ist.
+     *
+     * @return true wenn keine Ereignisse enthalten sind
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gibt die Tonnummer eines Ereignisses zurück.
+     *
+     * @param index Index des Ereignisses
+     * @return Tonnummer (60 = C')
+     */
+    public int getKey(int index) {
+        Objects.checkIndex(index, size);
+        return keys[index];
+    }
+
+    /**
+     * Gibt die Frequenz eines Ereignisses zurück.
+     *
+     * @param index Index des Ereignisses
+     * @return Frequenz in Hz
+     */
+    public float getFrequency(int index) {
+        Objects.checkIndex(index, size);
+        return frequencies[index];
+    }
+
+    /**
+     * Gibt den Einsatz eines Ereignisses zurück.
+     *
+     * @param index Index des Ereignisses
+     * @return Einsatz in Ticks
+     */
+    public int getOnset(int index) {
+        Objects.checkIndex(index, size);
+        return onsets[index];
+    }
+
+    /**
+     * Gibt die Dauer eines Ereignisses zurück.
+     *
+     * @param index Index des Ereignisses
+     * @return Dauer in Ticks
+     */
+    public int getDuration(int index) {
+        Objects.checkIndex(index, size);
+        return durations[index];
+    }
+
+    /**
+     * Gibt die Anschlagstärke eines Ereignisses zurück.
+     *
+     * @param index Index des Ereignisses
+     * @return Anschlagstärke 0-127
+     */
+    public int getVelocity(int index) {
+        Objects.checkIndex(index, size);
+        return velocities[index];
+    }
+
+    /**
+     * Gibt die Auflösung der Zeitangaben zurück.
+     *
+     * @return Ticks pro Viertelnote
+     */
+    public int getTicksPerQuarter() {
+        return ticksPerQuarter;
+    }
+
+    /**
+     * Gibt das Ende des zuletzt endenden Ereignisses zurück.
+     *
+     * @return Größtes {@code onset + duration} in Ticks, 0 für eine leere Melodie
+     */
+    public int getEndTick() {
+        int end = 0;
+        for (int i = 0; i < size; i++) {
+            end = Math.max(end, onsets[i] + durations[i]);
+        }
+        return end;
+    }
+
+    // ==================== DURCHLAUFEN & AUSSCHNEIDEN ====================
+
+    /**
+     * Durchläuft alle Ereignisse, ohne Objekte pro Ereignis zu erzeugen.
+     *
+     * @param visitor Wird für jedes Ereignis aufgerufen
+     */
+    public void forEach(EventVisitor visitor) {
+        forEach(0, size, visitor);
+    }
+
+    /**
+     * Durchläuft die Ereignisse im Bereich {@code [from, to)}.
+     *
+     * @param from Erster Index (inklusive)
+     * @param to Letzter Index (exklusive)
+     * @param visitor Wird für jedes Ereignis aufgerufen
+     * @throws IndexOutOfBoundsException wenn der Bereich ungültig ist
+     */
+    public void forEach(int from, int to, EventVisitor visitor) {
+        Objects.checkFromToIndex(from, to, size);
+        short[] k = keys;
+        float[] f = frequencies;
+        int[] o = onsets;
+        int[] d = durations;
+        byte[] v = velocities;
+        for (int i = from; i < to; i++) {
+            visitor.visit(i, k[i], f[i], o[i], d[i], v[i]);
+        }
+    }
+
+    /**
+     * Kopiert die Ereignisse im Bereich {@code [from, to)} in eine neue Melodie.
+     *
+     * @param from Erster Index (inklusive)
+     * @param to Letzter Index (exklusive)
+     * @return Neue Melodie mit derselben Auflösung
+     * @throws IndexOutOfBoundsException wenn der Bereich ungültig ist
+     */
+    public Melody slice(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        int count = to - from;
+        Melody result = new Melody(ticksPerQuarter, count);
+        System.arraycopy(keys, from, result.keys, 0, count);
+        System.arraycopy(frequencies, from, result.frequencies, 0, count);
+        System.arraycopy(onsets, from, result.onsets, 0, count);
+        System.arraycopy(durations, from, result.durations, 0, count);
+        System.arraycopy(velocities, from, result.velocities, 0, count);
+        result.size = count;
+        return result;
+    }
+
+    // ==================== KAPAZITÄT ====================
+
+    /**
+     * Stellt sicher, dass mindestens {@code minCapacity} Ereignisse ohne Vergrößerung Platz haben.
+     *
+     * @param minCapacity Gewünschte Mindestkapazität
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = keys.length;
+        if (minCapacity <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1) + 1);
+        resize(newCapacity);
+    }
+
+    /**
+     * Verkleinert die internen Arrays auf die aktuelle Anzahl Ereignisse.
+     */
+    public void trimToSize() {
+        if (keys.length > size) {
+            resize(size);
+        }
+    }
+
+    private void resize(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+        frequencies = Arrays.copyOf(frequencies, capacity);
+        onsets = Arrays.copyOf(onsets, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        velocities = Arrays.copyOf(velocities, capacity);
+    }
+
+    // ==================== KONVERTIERUNG ====================
+
+    /**
+     * Erstellt die Note eines Ereignisses. Der Name wird mit Kreuzen gebildet (Cis, Dis, ...).
+     *
+     * @param index Index des Ereignisses
+     * @return Neue MusicalNote mit Name, Oktave und Frequenz des Ereignisses
+     */
+    public MusicalNote getNote(int index) {
+        Objects.checkIndex(index, size);
+        int key = keys[index];
+        return new MusicalNote(key % 12, true, frequencies[index], MusicalNote.octaveOfMidiNumber(key));
+    }
+
+    /**
+     * Wandelt alle Ereignisse in eine Liste von Noten um.
+     *
+     * @return Neue Liste mit einer MusicalNote pro Ereignis
+     */
+    public List<MusicalNote> toNotes() {
+        List<MusicalNote> notes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            notes.add(getNote(i));
+        }
+        return notes;
+    }
+
+    /**
+     * Erstellt eine Melodie, in der die Noten lückenlos nacheinander erklingen.
+     *
+     * @param notes Die Noten in Spielreihenfolge
+     * @param duration Dauer jeder Note in Ticks
+     * @param velocity Anschlagstärke 0-127
+     * @return Neue Melodie mit {@value #DEFAULT_TICKS_PER_QUARTER} Ticks pro Viertel
+     */
+    public static Melody fromNotes(List<MusicalNote> notes, int duration, int velocity) {
+        Melody melody = new Melody(DEFAULT_TICKS_PER_QUARTER, notes.size());
+        int onset = 0;
+        for (MusicalNote note : notes) {
+            melody.add(note, onset, duration, velocity);
+            onset += duration;
+        }
+        return melody;
+    }
+
+    /**
+     * Gibt eine String-Repräsentation der Melodie zurück.
+     *
+     * @return String im Format "Melody[8 Ereignisse, 480 Ticks/Viertel]"
+     */
+    @Override
+    public String toString() {
+        return "Melody[" + size + " Ereignisse, " + ticksPerQuarter + " Ticks/Viertel]";
+    }
 }
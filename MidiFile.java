@@ -0,0 +1,345 @@
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Liest und schreibt Standard-MIDI-Dateien (SMF Typ 0 und 1) als {@link Melody}.
+ *
+ * <p>Beim Lesen wird die Datei per Memory-Mapping eingeblendet; Delta-Zeiten
+ * (variable Länge) und Running Status werden direkt aus dem {@link ByteBuffer} dekodiert
+ * und Note-On/Note-Off-Paare in die Ereignisspalten der Melodie geschrieben. Pro Ereignis
+ * entsteht kein Objekt; offene Noten werden in einer Tabelle je Kanal und Taste gehalten.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * Melody melody = MidiFile.read(Path.of("bach.mid"));
+ *
+ * // In Werckmeister III einlesen
+ * Melody tuned = MidiFile.read(Path.of("bach.mid"), TuningSystem.werckmeister());
+ *
+ * // Tonleiter und Kadenz exportieren
+ * MidiFile.write(ScaleMaker.majorScale("C"), 480, Path.of("c-dur.mid"));
+ * MidiFile.write(Arrays.asList(ScaleMaker.getDiatonicChords(ScaleMaker.majorScale("C"))), 1920, Path.of("stufen.mid"));
+ * }</pre>
+ *
+ * <p>Die Ereignisse stehen in der Melodie spurweise in der Reihenfolge ihres Endes
+ * (Note-Off). Tempo-, Takt- und Controller-Ereignisse werden übersprungen; SMPTE-Zeitbasis
+ * und SMF Typ 2 werden nicht unterstützt.</p>
+ *
+ * @see Melody
+ */
+public final class MidiFile {
+
+    /** Tempo beim Schreiben ohne Angabe, in Viertelnoten pro Minute */
+    public static final double DEFAULT_BPM = 120.0;
+
+    private static final int MTHD = 0x4D546864;
+    private static final int MTRK = 0x4D54726B;
+
+    /** Größte Zeitangabe, die als Delta-Zeit (28 Bit) darstellbar ist */
+    private static final int MAX_TICK = 1 << 28;
+
+    private static final int NOTE_OFF = 0x80;
+    private static final int NOTE_ON = 0x90;
+    private static final int DEFAULT_VELOCITY = 100;
+
+    private MidiFile() {
+        // Utility-Klasse, nicht instanziierbar
+    }
+
+    // ==================== LESEN ====================
+
+    /**
+     * Liest eine MIDI-Datei mit gleichstufigen Frequenzen (A' = 440 Hz).
+     *
+     * @param file Die MIDI-Datei
+     * @return Alle Noten aller Spuren
+     * @throws IOException wenn die Datei nicht gelesen werden kann oder kein gültiges SMF ist
+     */
+    public static Melody read(Path file) throws IOException {
+        return read(file, TuningSystem.equalTemperament());
+    }
+
+    /**
+     * Liest eine MIDI-Datei; die Frequenzen kommen aus einer Stimmung.
+     *
+     * @param file Die MIDI-Datei
+     * @param tuning Stimmung für die Frequenzen der Tonnummern
+     * @return Alle Noten aller Spuren
+     * @throws IOException wenn die Datei nicht gelesen werden kann oder kein gültiges SMF ist
+     */
+    public static Melody read(Path file, TuningSystem tuning) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(data, tuning);
+        } catch (IOException e) {
+            throw new IOException(file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Dekodiert eine MIDI-Datei aus einem Puffer (ab dessen Position).
+     *
+     * @param data Inhalt der MIDI-Datei
+     * @param tuning Stimmung für die Frequenzen der Tonnummern
+     * @return Alle Noten aller Spuren
+     * @throws IOException wenn der Inhalt kein gültiges SMF ist
+     */
+    public static Melody read(ByteBuffer data, TuningSystem tuning) throws IOException {
+        ByteBuffer in = data.slice().order(ByteOrder.BIG_ENDIAN);
+        try {
+            if (in.getInt() != MTHD) {
+                throw new IOException("Kein MThd-Header");
+            }
+            int headerLength = in.getInt();
+            int format = in.getShort() & 0xFFFF;
+            int tracks = in.getShort() & 0xFFFF;
+            int division = in.getShort();
+            if (format > 1) {
+                throw new IOException("SMF Typ " + format + " wird nicht unterstützt");
+            }
+            if (division <= 0) {
+                throw new IOException("SMPTE-Zeitbasis wird nicht unterstützt");
+            }
+            in.position(8 + headerLength);
+
+            // Frequenzen einmal je Tonnummer statt pro Ereignis
+            double[] frequencies = new double[128];
+            for (int key = 0; key < 128; key++) {
+                frequencies[key] = tuning.frequency(key);
+            }
+            Melody melody = new Melody(division, Math.max(16, in.remaining() / 8));
+            // Offene Noten: [Kanal * 128 + Taste] → Einsatz bzw. -1
+            int[] openOnset = new int[16 * 128];
+            byte[] openVelocity = new byte[16 * 128];
+
+            for (int t = 0; t < tracks && in.remaining() >= 8; t++) {
+                int id = in.getInt();
+                long length = in.getInt() & 0xFFFFFFFFL;
+                int end = (int) Math.min(in.limit(), in.position() + length);
+                if (id == MTRK) {
+                    Arrays.fill(openOnset, -1);
+                    readTrack(in, end, melody, frequencies, openOnset, openVelocity);
+                } else {
+                    t--;
+                }
+                in.position(end);
+            }
+            melody.trimToSize();
+            return melody;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Ungültige MIDI-Datei: " + e, e);
+        }
+    }
+
+    private static void readTrack(ByteBuffer in, int end, Melody melody, double[] frequencies,
+                                  int[] openOnset, byte[] openVelocity) throws IOException {
+        long tick = 0;
+        int status = 0;
+        while (in.position() < end) {
+            tick += readVariableLength(in);
+            if (tick > Integer.MAX_VALUE) {
+                throw new IOException("Spur zu lang: " + tick + " Ticks");
+            }
+            int b = in.get() & 0xFF;
+            if (b >= 0x80) {
+                if (b == 0xFF) {
+                    // Meta-Ereignis: Typ, Länge, Daten
+                    in.get();
+                    int length = readVariableLength(in);
+                    in.position(in.position() + length);
+                    continue;
+                }
+                if (b == 0xF0 || b == 0xF7) {
+                    int length = readVariableLength(in);
+                    in.position(in.position() + length);
+                    continue;
+                }
+                status = b;
+                b = in.get() & 0xFF;
+            } else if (status == 0) {
+                throw new IOException("Datenbyte ohne Status bei Position " + (in.position() - 1));
+            }
+            // b ist jetzt das erste Datenbyte (Running Status)
+            int type = status & 0xF0;
+            if (type == 0xC0 || type == 0xD0) {
+                continue;
+            }
+            int second = in.get() & 0xFF;
+            if (type != NOTE_ON && type != NOTE_OFF) {
+                continue;
+            }
+            int slot = (status & 0x0F) << 7 | (b & 0x7F);
+            int onset = openOnset[slot];
+            if (onset >= 0) {
+                // Offene Note beenden (Note-Off, Note-On mit Anschlag 0 oder erneuter Anschlag)
+                int key = b & 0x7F;
+                melody.add(key, frequencies[key], onset, (int) tick - onset, openVelocity[slot]);
+                openOnset[slot] = -1;
+            }
+            if (type == NOTE_ON && second > 0) {
+                openOnset[slot] = (int) tick;
+                openVelocity[slot] = (byte) second;
+            }
+        }
+        // Bis zum Spurende nicht beendete Noten dort enden lassen
+        for (int slot = 0; slot < openOnset.length; slot++) {
+            if (openOnset[slot] >= 0) {
+                int key = slot & 0x7F;
+                melody.add(key, frequencies[key], openOnset[slot], (int) tick - openOnset[slot], openVelocity[slot]);
+            }
+        }
+    }
+
+    // Variable-Length-Quantity: 7 Bit pro Byte, höchstes Bit = Fortsetzung
+    private static int readVariableLength(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int b = in.get();
+            value = value << 7 | (b & 0x7F);
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Ungültige Längenangabe bei Position " + in.position());
+    }
+
+    // ==================== SCHREIBEN ====================
+
+    /**
+     * Schreibt eine Melodie als SMF Typ 0 mit {@value #DEFAULT_BPM} BPM.
+     *
+     * @param melody Die Melodie
+     * @param file Zieldatei
+     * @throws IOException wenn die Datei nicht geschrieben werden kann
+     */
+    public static void write(Melody melody, Path file) throws IOException {
+        write(melody, DEFAULT_BPM, file);
+    }
+
+    /**
+     * Schreibt eine Melodie als SMF Typ 0 (eine Spur, Kanal 1).
+     *
+     * @param melody Die Melodie (Tonnummern 0-127)
+     * @param bpm Tempo in Viertelnoten pro Minute
+     * @param file Zieldatei
+     * @throws IOException wenn die Datei nicht geschrieben werden kann
+     * @throws IllegalArgumentException wenn eine Tonnummer außerhalb von 0-127 liegt
+     */
+    public static void write(Melody melody, double bpm, Path file) throws IOException {
+        if (!(bpm > 0)) {
+            throw new IllegalArgumentException("Tempo muss positiv sein: " + bpm);
+        }
+        int count = melody.size();
+        // Note-On und Note-Off nach Tick sortieren: Tick (28 Bit) | On (1 Bit) | Index (31 Bit) | Off (1 Bit).
+        // Je Tick kommen Note-Offs vor Note-Ons; das Note-Off einer Note ohne Dauer zählt zu den
+        // Note-Ons und folgt direkt dem eigenen Note-On, damit keine Note hängen bleibt
+        long[] events = new long[2 * count];
+        for (int i = 0; i < count; i++) {
+            int key = melody.getKey(i);
+            if (key > 127) {
+                throw new IllegalArgumentException("Tonnummer außerhalb von MIDI: " + key);
+            }
+            long onset = melody.getOnset(i);
+            long release = onset + melody.getDuration(i);
+            if (release >= MAX_TICK) {
+                throw new IllegalArgumentException("Ereignis endet nach Tick " + MAX_TICK + ": " + release);
+            }
+            events[2 * i] = onset << 33 | 1L << 32 | (long) i << 1;
+            events[2 * i + 1] = release << 33 | (release == onset ? 1L << 32 : 0) | (long) i << 1 | 1;
+        }
+        Arrays.sort(events);
+
+        // 4 Byte Delta + 3 Byte Ereignis im ungünstigsten Fall, plus Header und Tempo
+        ByteBuffer out = ByteBuffer.allocate(14 + 8 + 7 + 4 + events.length * 7 + 4).order(ByteOrder.BIG_ENDIAN);
+        out.putInt(MTHD).putInt(6).putShort((short) 0).putShort((short) 1)
+            .putShort((short) melody.getTicksPerQuarter());
+        out.putInt(MTRK);
+        int lengthPosition = out.position();
+        out.putInt(0);
+        int trackStart = out.position();
+
+        int microsPerQuarter = (int) Math.round(60_000_000.0 / bpm);
+        out.put((byte) 0).put((byte) 0xFF).put((byte) 0x51).put((byte) 3)
+            .put((byte) (microsPerQuarter >> 16)).put((byte) (microsPerQuarter >> 8)).put((byte) microsPerQuarter);
+
+        long lastTick = 0;
+        int runningStatus = 0;
+        for (long event : events) {
+            long tick = event >>> 33;
+            boolean on = (event & 1) == 0;
+            int i = (int) (event >>> 1 & 0x7FFFFFFF);
+            writeVariableLength(out, (int) (tick - lastTick));
+            lastTick = tick;
+            // Note-Off als Note-On mit Anschlag 0, damit der Running Status greift
+            if (runningStatus != NOTE_ON) {
+                out.put((byte) NOTE_ON);
+                runningStatus = NOTE_ON;
+            }
+            out.put((byte) melody.getKey(i));
+            out.put((byte) (on ? Math.max(1, melody.getVelocity(i)) : 0));
+        }
+        // End of Track
+        out.put((byte) 0).put((byte) 0xFF).put((byte) 0x2F).put((byte) 0);
+        out.putInt(lengthPosition, out.position() - trackStart);
+
+        out.flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    /**
+     * Schreibt eine Tonleiter als Lauf.
+     *
+     * @param scale Die Tonleiter
+     * @param noteTicks Dauer je Ton in Ticks (bei {@value Melody#DEFAULT_TICKS_PER_QUARTER} pro Viertel)
+     * @param file Zieldatei
+     * @throws IOException wenn die Datei nicht geschrieben werden kann
+     */
+    public static void write(Scale scale, int noteTicks, Path file) throws IOException {
+        write(Melody.fromNotes(scale.getNotes(), noteTicks, DEFAULT_VELOCITY), file);
+    }
+
+    /**
+     * Schreibt eine Folge von Akkorden, jeden als Block.
+     *
+     * @param chords Die Akkorde in Spielreihenfolge
+     * @param chordTicks Dauer je Akkord in Ticks (bei {@value Melody#DEFAULT_TICKS_PER_QUARTER} pro Viertel)
+     * @param file Zieldatei
+     * @throws IOException wenn die Datei nicht geschrieben werden kann
+     */
+    public static void write(List<Chord> chords, int chordTicks, Path file) throws IOException {
+        Melody melody = new Melody();
+        int onset = 0;
+        for (Chord chord : chords) {
+            for (MusicalNote note : chord.getNotes()) {
+                melody.add(note, onset, chordTicks, DEFAULT_VELOCITY);
+            }
+            onset += chordTicks;
+        }
+        write(melody, file);
+    }
+
+    private static void writeVariableLength(ByteBuffer out, int value) {
+        if (value >= 1 << 21) {
+            out.put((byte) (value >>> 21 | 0x80));
+        }
+        if (value >= 1 << 14) {
+            out.put((byte) (value >>> 14 | 0x80));
+        }
+        if (value >= 1 << 7) {
+            out.put((byte) (value >>> 7 | 0x80));
+        }
+        out.put((byte) (value & 0x7F));
+    }
+}
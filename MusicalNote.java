@@ -1,3 +1,5 @@
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import static java.util.Map.entry;
 
@@ -5,7 +7,9 @@ import static java.util.Map.entry;
  * Repräsentiert einen einzelnen musikalischen Ton mit Frequenz.
  *
  * <p>Eine MusicalNote besteht aus einem Notennamen (z.B. "C", "Fis", "Es"),
- * einer Frequenz in Hz und einer Oktavlage.</p>
+ * einer Frequenz in Hz und einer Oktavlage. Der Notenname muss auch bei angegebener
+ * Frequenz einer Tonklasse entsprechen; beschreibende Bezeichnungen gehören in den
+ * optionalen Namen.</p>
  *
  * <h2>Beispiel:</h2>
  * <pre>{@code
@@ -22,25 +26,57 @@ import static java.util.Map.entry;
  * double freq = c.getFrequency(); // 264.0
  * }</pre>
  *
+ * <p>Eine Note ist unveränderlich. Zwei Noten sind gleich, wenn Notenname, Oktavlage und
+ * Frequenz übereinstimmen; sie können daher als Schlüssel in Maps und Sets dienen.</p>
+ *
  * @see Scale
  * @see Chord
  */
-public class MusicalNote {
+public final class MusicalNote {
 
-    /** Notenname (C, D, E, F, G, A, H, B, Cis, Des, etc.) */
-    String letter;
+    /** Notenname (C, D, E, F, G, A, H, B, Cis, Des, etc.); bekannte Namen als gemeinsame Instanz */
+    final String letter;
 
-    /** Oktavlage (1 = eingestrichen, 2 = zweigestrichen, etc.) */
-    int octave = 0;
+    /** Frequenz in Hz */
+    final double frequency;
 
-    /** Optionaler beschreibender Name */
-    String name = "";
+    /** Optionaler beschreibender Name, null wenn keiner angegeben ist */
+    private final String name;
 
-    /** Frequenz in Hz */
-    double frequency;
+    /**
+     * Oktavlage, Vorzeichenwahl und Tonklasse in einem int:
+     * {@code octave << 5 | (usesSharps ? 1 << 4 : 0) | pitchClass}
+     */
+    private final int packed;
 
     /** SI-Einheit für Frequenz */
-    final String siUnit = "Hz";
+    private static final String SI_UNIT = "Hz";
+
+    /** Kleinste bzw. größte Oktavlage, die in {@link #packed} passt */
+    static final int MIN_OCTAVE = Integer.MIN_VALUE >> 5;
+    static final int MAX_OCTAVE = Integer.MAX_VALUE >> 5;
+
+    /** Abstand zwischen Oktavlage und MIDI-Oktave (C' = Oktave 1 = Tonnummer 60) */
+    static final int MIDI_OCTAVE_OFFSET = 4;
+
+    /** Chromatische Notennamen mit Kreuzen, Index = Tonklasse */
+    static final String[] CHROMATIC_SHARP = {"C", "Cis", "D", "Dis", "E", "F", "Fis", "G", "Gis", "A", "B", "H"};
+
+    /** Chromatische Notennamen mit Bs, Index = Tonklasse */
+    static final String[] CHROMATIC_FLAT = {"C", "Des", "D", "Es", "E", "F", "Ges", "G", "As", "A", "B", "H"};
+
+    /** Vorzeichenwahl der Namen aus {@link #CHROMATIC_SHARP}, Index = Tonklasse */
+    private static final boolean[] SHARP_NAMES_USE_SHARPS = new boolean[12];
+
+    /** Vorzeichenwahl der Namen aus {@link #CHROMATIC_FLAT}, Index = Tonklasse */
+    private static final boolean[] FLAT_NAMES_USE_SHARPS = new boolean[12];
+
+    static {
+        for (int i = 0; i < 12; i++) {
+            SHARP_NAMES_USE_SHARPS[i] = parseUsesSharps(CHROMATIC_SHARP[i]);
+            FLAT_NAMES_USE_SHARPS[i] = parseUsesSharps(CHROMATIC_FLAT[i]);
+        }
+    }
 
     /** Kammerton-Frequenzen nach Region */
     static final Map<String, Double> CONCERT_PITCH = Map.ofEntries(
@@ -67,6 +103,23 @@ public class MusicalNote {
         entry("H", 495.0)
     );
 
+    /** Bekannte Notennamen → gemeinsame Instanz, damit gleiche Noten denselben String teilen */
+    private static final Map<String, String> LETTERS;
+
+    static {
+        Map<String, String> letters = new HashMap<>();
+        for (String letter : CHROMATIC_SHARP) {
+            letters.put(letter, letter);
+        }
+        for (String letter : CHROMATIC_FLAT) {
+            letters.put(letter, letter);
+        }
+        for (String letter : DEFAULT_SCALE.keySet()) {
+            letters.putIfAbsent(letter, letter);
+        }
+        LETTERS = Map.copyOf(letters);
+    }
+
     /**
      * Erstellt den Kammerton A (440 Hz) als Standard.
      */
@@ -74,7 +127,7 @@ public class MusicalNote {
         this.letter = "A";
         this.frequency = CONCERT_PITCH.get("default");
         this.name = "Kammerton A";
-        this.octave = 1;
+        this.packed = pack(1, parseUsesSharps("A"), 9);
     }
 
     /**
@@ -84,10 +137,14 @@ public class MusicalNote {
      * @param frequency Frequenz in Hz (-1 für automatische Berechnung)
      * @param name Beschreibender Name
      * @param octave Oktavlage
-     * @throws Exception wenn die Frequenz nicht ermittelt werden kann
+     * @throws IllegalArgumentException wenn der Notenname keiner Tonklasse entspricht (auch bei
+     *                                  angegebener Frequenz; beschreibende Bezeichnungen gehören
+     *                                  in {@code name}) oder die Frequenz nicht ermittelt werden kann
+     * @throws Exception wenn die Erstellung fehlschlägt
      */
     public MusicalNote(String letter, double frequency, String name, int octave) throws Exception {
-        this.letter = letter;
+        this.letter = canonicalLetter(letter);
+        this.packed = pack(octave, parseUsesSharps(letter), parsePitchClass(letter));
         if (frequency == -1) {
             if (DEFAULT_SCALE.containsKey(letter)) {
                 this.frequency = DEFAULT_SCALE.get(letter);
@@ -97,8 +154,7 @@ public class MusicalNote {
         } else {
             this.frequency = frequency;
         }
-        this.name = name;
-        this.octave = octave;
+        this.name = name == null || name.isEmpty() ? null : name;
     }
 
     /**
@@ -107,6 +163,7 @@ public class MusicalNote {
      * @param letter Notenname
      * @param frequency Frequenz in Hz
      * @param name Beschreibender Name
+     * @throws IllegalArgumentException wenn der Notenname keiner Tonklasse entspricht
      * @throws Exception wenn die Erstellung fehlschlägt
      */
     public MusicalNote(String letter, double frequency, String name) throws Exception {
@@ -119,6 +176,7 @@ public class MusicalNote {
      * @param letter Notenname
      * @param frequency Frequenz in Hz
      * @param octave Oktavlage
+     * @throws IllegalArgumentException wenn der Notenname keiner Tonklasse entspricht
      * @throws Exception wenn die Erstellung fehlschlägt
      */
     public MusicalNote(String letter, double frequency, int octave) throws Exception {
@@ -130,6 +188,7 @@ public class MusicalNote {
      *
      * @param letter Notenname
      * @param frequency Frequenz in Hz
+     * @throws IllegalArgumentException wenn der Notenname keiner Tonklasse entspricht
      * @throws Exception wenn die Erstellung fehlschlägt
      */
     public MusicalNote(String letter, double frequency) throws Exception {
@@ -146,23 +205,131 @@ public class MusicalNote {
         this(letter, -1, "", 1);
     }
 
+    /**
+     * Erstellt eine abgeleitete Note aus bereits bekannter Tonklasse, ohne den Namen zu parsen.
+     *
+     * @param pitchClass Tonklasse 0-11
+     * @param sharps true für Benennung aus {@link #CHROMATIC_SHARP}, sonst {@link #CHROMATIC_FLAT}
+     * @param frequency Frequenz in Hz
+     * @param octave Oktavlage
+     */
+    MusicalNote(int pitchClass, boolean sharps, double frequency, int octave) {
+        this.letter = sharps ? CHROMATIC_SHARP[pitchClass] : CHROMATIC_FLAT[pitchClass];
+        this.packed = pack(octave, sharps ? SHARP_NAMES_USE_SHARPS[pitchClass] : FLAT_NAMES_USE_SHARPS[pitchClass], pitchClass);
+        this.frequency = frequency;
+        this.name = null;
+    }
+
+    private static int pack(int octave, boolean usesSharps, int pitchClass) {
+        if (octave < MIN_OCTAVE || octave > MAX_OCTAVE) {
+            throw new IllegalArgumentException("Oktavlage außerhalb von " + MIN_OCTAVE + " bis " + MAX_OCTAVE + ": " + octave);
+        }
+        return octave << 5 | (usesSharps ? 1 << 4 : 0) | pitchClass;
+    }
+
+    /**
+     * Gibt für bekannte Notennamen die gemeinsame Instanz zurück, sonst den Namen selbst.
+     *
+     * @param letter Notenname
+     * @return Gleicher Name, bei bekannten Namen immer dieselbe String-Instanz
+     */
+    static String canonicalLetter(String letter) {
+        String canonical = LETTERS.get(letter);
+        return canonical != null ? canonical : letter;
+    }
+
+    /**
+     * Prüft, ob ein Notenname bekannt ist, ohne eine Exception zu erzeugen.
+     *
+     * @param letter Notenname (null erlaubt)
+     * @return true, wenn {@link #MusicalNote(String)} für diesen Namen eine Frequenz findet
+     */
+    public static boolean isKnownLetter(String letter) {
+        return letter != null && DEFAULT_SCALE.containsKey(letter);
+    }
+
+    /**
+     * Bestimmt die Tonklasse eines Notennamens (Groß-/Kleinschreibung und Apostrophe egal).
+     *
+     * @param letter Notenname
+     * @return Tonklasse 0-11
+     * @throws IllegalArgumentException wenn der Name keiner Tonklasse entspricht
+     * @see #findPitchClass(String)
+     */
+    static int parsePitchClass(String letter) {
+        int pitchClass = findPitchClass(letter);
+        if (pitchClass < 0) {
+            throw new IllegalArgumentException("Unbekannte Note: '" + letter + "'");
+        }
+        return pitchClass;
+    }
+
+    /**
+     * Bestimmt die Tonklasse eines Notennamens, ohne eine Exception zu erzeugen.
+     *
+     * <p>Erkennt die deutschen Namen der Stammtöne (mit B und H) sowie einfache und doppelte
+     * Vorzeichen: -is/-isis und -es/-eses, also auch Ces, Fes, Eis, His, Eses, Heses usw.</p>
+     *
+     * @param letter Notenname (null erlaubt)
+     * @return Tonklasse 0-11, -1 für null oder unbekannte Namen
+     */
+    static int findPitchClass(String letter) {
+        if (letter == null) {
+            return -1;
+        }
+        String clean = letter.replace("'", "").toLowerCase(Locale.ROOT);
+        switch (clean) {
+            case "c": case "his": case "deses": return 0;
+            case "cis": case "des": case "hisis": return 1;
+            case "d": case "cisis": case "eses": return 2;
+            case "dis": case "es": case "feses": return 3;
+            case "e": case "fes": case "disis": return 4;
+            case "f": case "eis": case "geses": return 5;
+            case "fis": case "ges": case "eisis": return 6;
+            case "g": case "fisis": case "ases": return 7;
+            case "gis": case "as": return 8;
+            case "a": case "gisis": case "heses": return 9;
+            case "b": case "ais": case "ceses": return 10;
+            case "h": case "ces": case "aisis": return 11;
+            default: return -1;
+        }
+    }
+
+    /**
+     * Bestimmt, ob Töne über diesem Grundton mit Kreuzen oder Bs benannt werden.
+     *
+     * @param letter Notenname des Grundtons
+     * @return false für F, B und alle Namen mit -es, sonst true
+     */
+    static boolean parseUsesSharps(String letter) {
+        String clean = letter.replace("'", "").toLowerCase(Locale.ROOT);
+        switch (clean) {
+            case "f": case "b": case "es": case "as": case "des": case "ges": case "ces": case "fes":
+            case "eses": case "ases": case "deses": case "geses": case "ceses": case "feses": case "heses":
+                return false;
+            default:
+                return true;
+        }
+    }
+
     /**
      * Gibt die Note formatiert auf der Konsole aus.
      */
     public void print() {
-        System.out.println(letter + octaveToSymbols(octave) + "\t( " + frequency + siUnit + " )");
+        System.out.println(letter + octaveToSymbols(getOctave()) + "\t( " + frequency + SI_UNIT + " )");
     }
 
     /**
-     * Konvertiert eine Oktavzahl in Apostrophsymbole.
+     * Konvertiert eine Oktavzahl in Apostroph- bzw. Kommasymbole.
      *
-     * @param octave Oktavzahl (1 = ', 2 = '', etc.)
-     * @return String mit Apostrophen
+     * @param octave Oktavzahl (1 = ', 2 = '', 0 = ohne Zeichen, -1 = ",", -2 = ",,", etc.)
+     * @return String mit Apostrophen, Kommas oder leer
      */
     public static String octaveToSymbols(int octave) {
+        String symbol = octave > 0 ? "'" : ",";
         StringBuilder symbols = new StringBuilder();
-        for (int i = 0; i < octave; i++) {
-            symbols.append("'");
+        for (int i = 0, n = Math.abs(octave); i < n; i++) {
+            symbols.append(symbol);
         }
         return symbols.toString();
     }
@@ -193,7 +360,56 @@ public class MusicalNote {
      * @return Oktavzahl (1 = eingestrichen, etc.)
      */
     public int getOctave() {
-        return octave;
+        return packed >> 5;
+    }
+
+    /**
+     * Gibt die Tonklasse der Note zurück.
+     *
+     * @return Tonklasse 0-11 (C = 0, Cis/Des = 1, ..., H = 11)
+     */
+    public int getPitchClass() {
+        return packed & 0xF;
+    }
+
+    /**
+     * Gibt an, ob von dieser Note abgeleitete Töne mit Kreuz-Vorzeichen benannt werden.
+     *
+     * @return false für Grundtöne wie F, B, Es, As, Des und Ges
+     */
+    boolean usesSharps() {
+        return (packed & 1 << 4) != 0;
+    }
+
+    /**
+     * Gibt die Tonnummer der Note in MIDI-Zählung zurück.
+     *
+     * <p>C' (eingestrichen, Oktave 1) entspricht 60, jede Oktave umfasst 12 Nummern.</p>
+     *
+     * @return Tonnummer (z.B. 69 für A')
+     */
+    public int getMidiNumber() {
+        return 12 * (getOctave() + MIDI_OCTAVE_OFFSET) + getPitchClass();
+    }
+
+    /**
+     * Bestimmt die Oktavlage zu einer Tonnummer in MIDI-Zählung.
+     *
+     * @param midiNumber Tonnummer (60 = C')
+     * @return Oktavlage (1 = eingestrichen)
+     */
+    static int octaveOfMidiNumber(int midiNumber) {
+        return Math.floorDiv(midiNumber, 12) - MIDI_OCTAVE_OFFSET;
+    }
+
+    /**
+     * Gibt den Kammerton einer Region zurück.
+     *
+     * @param region Regionskürzel (z.B. "de", "at", "ch")
+     * @return Frequenz von A' in Hz, Standard 440 Hz für unbekannte Regionen
+     */
+    public static double getConcertPitch(String region) {
+        return CONCERT_PITCH.getOrDefault(region, CONCERT_PITCH.get("default"));
     }
 
     /**
@@ -202,16 +418,43 @@ public class MusicalNote {
      * @return Beschreibender Name oder leerer String
      */
     public String getName() {
-        return name;
+        return name == null ? "" : name;
+    }
+
+    /**
+     * Vergleicht Notenname, Oktavlage und Frequenz; der beschreibende Name zählt nicht.
+     *
+     * @param o Anderes Objekt
+     * @return true bei gleichem Ton
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MusicalNote)) {
+            return false;
+        }
+        MusicalNote other = (MusicalNote) o;
+        return packed == other.packed
+            && Double.doubleToLongBits(frequency) == Double.doubleToLongBits(other.frequency)
+            && (letter == other.letter || letter.equals(other.letter));
+    }
+
+    @Override
+    public int hashCode() {
+        // Der Hash des Namens ist im (gemeinsamen) String gespeichert; ein eigenes Feld
+        // würde die Instanz von 32 auf 40 Bytes vergrößern
+        return 31 * (31 * letter.hashCode() + packed) + Double.hashCode(frequency);
     }
 
     /**
      * Gibt eine String-Repräsentation der Note zurück.
      *
-     * @return String im Format "C'" oder "A''"
+     * @return String im Format "C'", "A''", "E" (kleine Oktave) oder "E," (große Oktave)
      */
     @Override
     public String toString() {
-        return letter + octaveToSymbols(octave);
+        return letter + octaveToSymbols(getOctave());
     }
 }
@@ -0,0 +1,291 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Bestimmt zu beliebigen Frequenzen die nächstgelegene Note einer Stimmung.
+ *
+ * <p>Beim Erstellen werden die Frequenzen der Tonnummern {@value #FIRST_KEY} bis
+ * {@value #LAST_KEY} (etwa 8 Hz bis 20 kHz) aus der {@link TuningSystem Stimmung} gelesen und
+ * die Grenzen zwischen benachbarten Tönen als sortierte Tabelle abgelegt. Die Grenze liegt in
+ * der Mitte auf der Tonhöhenachse, also beim geometrischen Mittel der beiden Frequenzen.
+ * Eine Abfrage kommt ohne {@code Math.log} aus: Exponent und die obersten sechs
+ * Mantissenbits der Frequenz (ein 1/64-Oktav-Raster) indizieren eine Starttabelle, danach
+ * bleibt in der Regel ein einziger Vergleich mit der nächsten Grenze. Auch die Abweichung in
+ * Cent wird über einen Kehrwert und eine kurze Reihe statt über den Logarithmus berechnet.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * NoteLookup lookup = NoteLookup.of(TuningSystem.equalTemperament(443.0));
+ *
+ * int key = lookup.keyOf(450.0);       // 69 (A')
+ * lookup.letterOf(key);                // "A"
+ * lookup.octaveOf(key);                // 1
+ * lookup.centsOf(450.0, key);          // +27.1
+ *
+ * // Blockweise
+ * lookup.lookup(frequencies, 0, keys, cents, 0, frequencies.length);
+ * }</pre>
+ *
+ * <p>Notennamen werden mit Kreuzen gebildet (C, Cis, D, ..., B, H), wie in
+ * {@code MusicalNote.DEFAULT_SCALE}. Eine Instanz ist unveränderlich und threadsicher.</p>
+ *
+ * @see TuningSystem
+ * @see PitchDetector
+ */
+public final class NoteLookup {
+
+    /** Tiefste Tonnummer der Tabelle (C,,,, etwa 8,2 Hz) */
+    public static final int FIRST_KEY = 0;
+
+    /** Höchste Tonnummer der Tabelle (Dis''''', etwa 19,9 kHz) */
+    public static final int LAST_KEY = 135;
+
+    /** Ergebnis für Frequenzen, die nicht positiv oder NaN sind */
+    public static final int NO_KEY = -1;
+
+    private static final double CENTS_PER_LN = 1200 / Math.log(2);
+
+    /** Rasterfeld = Exponent + oberste 6 Mantissenbits, also 1/64 Oktave (knapp 19 Cent) */
+    private static final int GRID_SHIFT = 52 - 6;
+
+    private static final NoteLookup DEFAULT = of(TuningSystem.equalTemperament());
+
+    private final TuningSystem tuning;
+
+    /** Frequenz je Tonnummer ab FIRST_KEY */
+    private final double[] frequencies;
+
+    /** Kehrwerte von {@link #frequencies}, damit die Abweichung ohne Division auskommt */
+    private final double[] reciprocals;
+
+    /**
+     * Grenzen zwischen Tonnummer FIRST_KEY + i und FIRST_KEY + i + 1, aufsteigend sortiert,
+     * mit +∞ als letztem Eintrag
+     */
+    private final double[] boundaries;
+
+    /** Raster-Index → Anzahl Grenzen unterhalb des Rasterfelds (= Startindex der Suche) */
+    private final int[] gridStart;
+
+    /** Raster-Index der tiefsten Frequenz (Bits des double ab Mantissenbit 46) */
+    private final long gridBase;
+
+    private NoteLookup(TuningSystem tuning) {
+        this.tuning = tuning;
+        int count = LAST_KEY - FIRST_KEY + 1;
+        frequencies = new double[count];
+        for (int i = 0; i < count; i++) {
+            double frequency = tuning.frequency(FIRST_KEY + i);
+            if (!(frequency > 0) || (i > 0 && !(frequency > frequencies[i - 1]))) {
+                throw new IllegalArgumentException("Stimmung " + tuning.getName()
+                    + " ist bei Tonnummer " + (FIRST_KEY + i) + " nicht aufsteigend: " + frequency + " Hz");
+            }
+            frequencies[i] = frequency;
+        }
+        reciprocals = new double[count];
+        for (int i = 0; i < count; i++) {
+            reciprocals[i] = 1 / frequencies[i];
+        }
+        boundaries = new double[count];
+        for (int i = 0; i < count - 1; i++) {
+            boundaries[i] = Math.sqrt(frequencies[i] * frequencies[i + 1]);
+        }
+        boundaries[count - 1] = Double.POSITIVE_INFINITY;
+
+        gridBase = Double.doubleToRawLongBits(frequencies[0]) >>> GRID_SHIFT;
+        int gridSize = (int) ((Double.doubleToRawLongBits(frequencies[count - 1]) >>> GRID_SHIFT) - gridBase + 1);
+        gridStart = new int[gridSize];
+        for (int cell = 0, index = 0; cell < gridSize; cell++) {
+            double lowerEdge = Double.longBitsToDouble((gridBase + cell) << GRID_SHIFT);
+            while (boundaries[index] <= lowerEdge) {
+                index++;
+            }
+            gridStart[cell] = index;
+        }
+    }
+
+    /**
+     * Erstellt die Tabelle für eine Stimmung.
+     *
+     * @param tuning Die Stimmung (Frequenzen müssen mit der Tonnummer steigen)
+     * @return Die Tabelle
+     */
+    public static NoteLookup of(TuningSystem tuning) {
+        return new NoteLookup(Objects.requireNonNull(tuning, "tuning"));
+    }
+
+    /**
+     * Erstellt die Tabelle für die gleichstufige Stimmung mit eigenem Kammerton.
+     *
+     * @param referencePitch Frequenz von A' in Hz
+     * @return Die Tabelle
+     */
+    public static NoteLookup of(double referencePitch) {
+        return of(TuningSystem.equalTemperament(referencePitch));
+    }
+
+    /**
+     * Gibt die Tabelle der gleichstufigen Stimmung mit A' = 440 Hz zurück.
+     *
+     * @return Gemeinsame Instanz
+     */
+    public static NoteLookup equalTemperament() {
+        return DEFAULT;
+    }
+
+    // ==================== ABFRAGE ====================
+
+    /**
+     * Bestimmt die Tonnummer der nächstgelegenen Note.
+     *
+     * <p>Frequenzen unter- bzw. oberhalb der Tabelle ergeben {@value #FIRST_KEY}
+     * bzw. {@value #LAST_KEY}.</p>
+     *
+     * @param frequency Frequenz in Hz
+     * @return Tonnummer (60 = C') oder {@link #NO_KEY} für nicht positive Frequenzen und NaN
+     */
+    public int keyOf(double frequency) {
+        if (!(frequency > 0)) {
+            return NO_KEY;
+        }
+        long cell = (Double.doubleToRawLongBits(frequency) >>> GRID_SHIFT) - gridBase;
+        int index = gridStart[(int) Math.max(0, Math.min(cell, gridStart.length - 1))];
+        // Innerhalb eines Rasterfelds liegt bei Halbtonschritten höchstens eine Grenze
+        while (boundaries[index] <= frequency && index < boundaries.length - 1) {
+            index++;
+        }
+        return FIRST_KEY + index;
+    }
+
+    /**
+     * Gibt die Abweichung einer Frequenz von einer Tonnummer zurück.
+     *
+     * @param frequency Frequenz in Hz
+     * @param key Tonnummer (in der Regel {@link #keyOf(double)} derselben Frequenz)
+     * @return Abweichung in Cent (positiv = zu hoch)
+     */
+    public double centsOf(double frequency, int key) {
+        return cents(frequency * reciprocals[Objects.checkIndex(key - FIRST_KEY, reciprocals.length)]);
+    }
+
+    /**
+     * Gibt die Abweichung einer Frequenz von der nächstgelegenen Note zurück.
+     *
+     * @param frequency Frequenz in Hz
+     * @return Abweichung in Cent (positiv = zu hoch), NaN für nicht positive Frequenzen
+     */
+    public double centsOf(double frequency) {
+        int key = keyOf(frequency);
+        return key == NO_KEY ? Double.NaN : centsOf(frequency, key);
+    }
+
+    /**
+     * Bestimmt Tonnummern und Abweichungen für einen Block von Frequenzen.
+     *
+     * @param src Frequenzen in Hz
+     * @param srcOffset Startindex in src
+     * @param keys Ziel für die Tonnummern ({@link #NO_KEY} für ungültige Frequenzen)
+     * @param cents Ziel für die Abweichungen in Cent (NaN für ungültige Frequenzen), oder null
+     * @param destOffset Startindex in keys und cents
+     * @param count Anzahl Frequenzen
+     */
+    public void lookup(double[] src, int srcOffset, int[] keys, double[] cents, int destOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count, src.length);
+        Objects.checkFromIndexSize(destOffset, count, keys.length);
+        if (cents != null) {
+            Objects.checkFromIndexSize(destOffset, count, cents.length);
+        }
+        for (int i = 0; i < count; i++) {
+            double frequency = src[srcOffset + i];
+            int key = keyOf(frequency);
+            keys[destOffset + i] = key;
+            if (cents != null) {
+                cents[destOffset + i] = key == NO_KEY ? Double.NaN : centsOf(frequency, key);
+            }
+        }
+    }
+
+    // ==================== TONNUMMERN ====================
+
+    /**
+     * Gibt die Frequenz einer Tonnummer in dieser Stimmung zurück.
+     *
+     * @param key Tonnummer von {@value #FIRST_KEY} bis {@value #LAST_KEY}
+     * @return Frequenz in Hz
+     */
+    public double frequencyOf(int key) {
+        return frequencies[Objects.checkIndex(key - FIRST_KEY, frequencies.length)];
+    }
+
+    /**
+     * Gibt die Tonklasse einer Tonnummer zurück.
+     *
+     * @param key Tonnummer
+     * @return Tonklasse 0-11 (C = 0)
+     */
+    public int pitchClassOf(int key) {
+        return Math.floorMod(key, 12);
+    }
+
+    /**
+     * Gibt die Oktavlage einer Tonnummer zurück.
+     *
+     * @param key Tonnummer
+     * @return Oktavlage (1 = eingestrichen)
+     */
+    public int octaveOf(int key) {
+        return MusicalNote.octaveOfMidiNumber(key);
+    }
+
+    /**
+     * Gibt den Notennamen einer Tonnummer zurück.
+     *
+     * @param key Tonnummer
+     * @return Notenname mit Kreuzen (C, Cis, D, ...)
+     */
+    public String letterOf(int key) {
+        return MusicalNote.CHROMATIC_SHARP[pitchClassOf(key)];
+    }
+
+    /**
+     * Erstellt die nächstgelegene Note mit ihrer Frequenz in dieser Stimmung.
+     *
+     * @param frequency Frequenz in Hz
+     * @return Neue MusicalNote
+     * @throws IllegalArgumentException wenn die Frequenz nicht positiv ist
+     */
+    public MusicalNote nearestNote(double frequency) {
+        int key = keyOf(frequency);
+        if (key == NO_KEY) {
+            throw new IllegalArgumentException("Frequenz muss positiv sein: " + frequency);
+        }
+        return new MusicalNote(pitchClassOf(key), true, frequencyOf(key), octaveOf(key));
+    }
+
+    /**
+     * Gibt die Stimmung der Tabelle zurück.
+     *
+     * @return Die Stimmung
+     */
+    public TuningSystem getTuning() {
+        return tuning;
+    }
+
+    @Override
+    public String toString() {
+        return "NoteLookup[" + tuning.getName() + ", A' = " + frequencyOf(TuningSystem.REFERENCE_KEY) + " Hz]";
+    }
+
+    /**
+     * Cent eines Frequenzverhältnisses. Für die Abstände zur nächsten Note (|r - 1| < 0,03)
+     * genügt die Reihe ln(1 + x) = x - x²/2 + x³/3 - x⁴/4 + x⁵/5 (Fehler unter 10⁻⁶ Cent);
+     * weiter entfernte Verhältnisse (außerhalb der Tabelle) gehen über {@code Math.log}.
+     */
+    private static double cents(double ratio) {
+        double x = ratio - 1;
+        if (Math.abs(x) > 0.03) {
+            return CENTS_PER_LN * Math.log(ratio);
+        }
+        return CENTS_PER_LN * x * (1 + x * (-0.5 + x * (1.0 / 3 + x * (-0.25 + x * 0.2))));
+    }
+}
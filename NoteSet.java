@@ -0,0 +1,74 @@
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Die ausgerechneten Töne einer {@link Scale} oder eines {@link Chord}: Noten, Frequenzen
+ * und Notennamen.
+ *
+ * <p>Tonleiter und Akkord speichern nur Grundton, Typ und Stimmung und legen diese Menge
+ * erst beim ersten Zugriff auf die Töne an. Alle Felder sind {@code final}; eine Instanz
+ * kann daher ohne Synchronisation veröffentlicht werden. Berechnen zwei Threads sie
+ * gleichzeitig, gewinnt eine von zwei gleichwertigen Instanzen.</p>
+ */
+final class NoteSet {
+
+    final List<MusicalNote> notes;
+    final double[] frequencies;
+    final String[] names;
+    final List<String> nameList;
+
+    /** Schreibgeschützt; Aufrufer erhalten {@link DoubleBuffer#duplicate()} */
+    final DoubleBuffer frequencyBuffer;
+
+    private NoteSet(MusicalNote[] notes) {
+        this.notes = Collections.unmodifiableList(Arrays.asList(notes));
+        this.frequencies = new double[notes.length];
+        this.names = new String[notes.length];
+        for (int i = 0; i < notes.length; i++) {
+            frequencies[i] = notes[i].frequency;
+            names[i] = notes[i].letter;
+        }
+        this.nameList = List.of(names);
+        this.frequencyBuffer = DoubleBuffer.wrap(frequencies).asReadOnlyBuffer();
+    }
+
+    /**
+     * Berechnet die Töne über einem Grundton.
+     *
+     * <p>Die Frequenzen ergeben sich aus den reinen Intervallverhältnissen oder, mit Stimmung,
+     * aus deren Verhältnis zwischen Grundton und Ton. Die Oktavlage steigt nur für Intervalle
+     * ab der Oktave.</p>
+     *
+     * @param root Der Grundton
+     * @param intervals Die Intervalle über dem Grundton, beginnend mit der Prim
+     * @param tuning Die Stimmung, oder null für reine Intervallverhältnisse
+     * @param keepRoot true: der erste Ton ist der Grundton selbst (Tonleiter);
+     *                 false: auch er wird aus Tonklasse und Vorzeichen neu gebildet (Akkord)
+     * @return Die Töne
+     */
+    static NoteSet of(MusicalNote root, Interval[] intervals, TuningSystem tuning, boolean keepRoot) {
+        int rootIndex = root.getPitchClass();
+        boolean useSharp = root.usesSharps();
+        int rootKey = root.getMidiNumber();
+
+        MusicalNote[] notes = new MusicalNote[intervals.length];
+        for (int i = 0; i < intervals.length; i++) {
+            if (i == 0 && keepRoot) {
+                notes[0] = root;
+                continue;
+            }
+            double freq = tuning == null
+                ? root.frequency * intervals[i].proportion
+                : root.frequency * tuning.ratio(rootKey, rootKey + intervals[i].semitones);
+            int octave = root.getOctave();
+            if (intervals[i].proportion >= 2.0) {
+                octave++;
+            }
+            int noteIndex = (rootIndex + intervals[i].semitones) % 12;
+            notes[i] = new MusicalNote(noteIndex, useSharp, freq, octave);
+        }
+        return new NoteSet(notes);
+    }
+}
@@ -0,0 +1,418 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Erkennt die Grundfrequenz eines einstimmigen Signals (Stimmgerät) nach dem YIN-Verfahren.
+ *
+ * <p>Samples werden fortlaufend in einen Ringpuffer geschrieben; {@link #detect()} analysiert
+ * jeweils die letzten {@link #getWindowSize()} Samples. Das Ergebnis wird auf die nächstgelegene
+ * Note gegen den eingestellten Kammerton abgebildet und steht über die Getter bereit
+ * (Frequenz, Tonnummer, Notenname, Oktave, Abweichung in Cent).</p>
+ *
+ * <p>Alle Puffer werden im Konstruktor angelegt: {@link #write}, {@link #detect()} und die
+ * Getter allozieren nichts. Ein Detektor gehört zu genau einem Signal und ist nicht
+ * thread-sicher; für viele gleichzeitige Signale wird je Signal ein eigener Detektor verwendet.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * PitchDetector tuner = new PitchDetector(44100, 2048);
+ * tuner.setReferencePitch(MusicalNote.getConcertPitch("de")); // A' = 443 Hz
+ *
+ * // Für jeden Audioblock
+ * tuner.write(block, 0, block.length);
+ * if (tuner.detect()) {
+ *     System.out.println(tuner.getNoteName() + MusicalNote.octaveToSymbols(tuner.getOctave())
+ *         + " " + Math.round(tuner.getCents()) + " ct");
+ * }
+ * }</pre>
+ *
+ * @see MusicalNote#getConcertPitch(String)
+ */
+public final class PitchDetector {
+
+    /** Standard-Schwelle der normierten Differenzfunktion */
+    public static final double DEFAULT_THRESHOLD = 0.15;
+
+    /** Tiefste erkennbare Frequenz ohne Angabe, in Hz (knapp unter G, passt bei 48 kHz in 2048 Samples) */
+    public static final double DEFAULT_MIN_FREQUENCY = 48.0;
+
+    /** Höchste erkennbare Frequenz ohne Angabe, in Hz */
+    public static final double DEFAULT_MAX_FREQUENCY = 2000.0;
+
+    /** Tonnummer des Kammertons A' */
+    private static final int MIDI_A = 69;
+
+    private final int sampleRate;
+    private final int windowSize;
+    private final int minLag;
+    private final int maxLag;
+
+    /** Ringpuffer der zuletzt geschriebenen Samples */
+    private final float[] ring;
+    private int writePosition;
+    private long samplesWritten;
+
+    /** Arbeitskopie des Fensters in zeitlicher Reihenfolge */
+    private final float[] window;
+
+    /** Kumulative Energie: energy[i] = Summe der Quadrate von window[0..i) */
+    private final double[] energy;
+
+    /** Differenzfunktion, Index = Verzögerung */
+    private final double[] raw;
+
+    /** Kumulativ normierte Differenzfunktion, Index = Verzögerung */
+    private final double[] difference;
+
+    private double threshold = DEFAULT_THRESHOLD;
+    private double referencePitch = MusicalNote.getConcertPitch("default");
+
+    // Ergebnis der letzten Analyse
+    private double frequency = Double.NaN;
+    private double clarity;
+    private int midiNumber = -1;
+    private double cents;
+
+    /**
+     * Erstellt einen Detektor für den Bereich {@value #DEFAULT_MIN_FREQUENCY} bis
+     * {@value #DEFAULT_MAX_FREQUENCY} Hz.
+     *
+     * @param sampleRate Abtastrate in Hz
+     * @param windowSize Analysefenster in Samples (z.B. 2048)
+     */
+    public PitchDetector(int sampleRate, int windowSize) {
+        this(sampleRate, windowSize, DEFAULT_MIN_FREQUENCY, DEFAULT_MAX_FREQUENCY);
+    }
+
+    /**
+     * Erstellt einen Detektor für einen Frequenzbereich.
+     *
+     * <p>Die tiefste Frequenz muss mindestens zwei Perioden im Fenster haben,
+     * also {@code minFrequency >= 2 * sampleRate / windowSize}.</p>
+     *
+     * @param sampleRate Abtastrate in Hz
+     * @param windowSize Analysefenster in Samples
+     * @param minFrequency Tiefste erkennbare Frequenz in Hz
+     * @param maxFrequency Höchste erkennbare Frequenz in Hz
+     */
+    public PitchDetector(int sampleRate, int windowSize, double minFrequency, double maxFrequency) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Abtastrate muss positiv sein: " + sampleRate);
+        }
+        if (!(minFrequency > 0) || !(maxFrequency > minFrequency) || maxFrequency >= sampleRate / 2.0) {
+            throw new IllegalArgumentException("Ungültiger Frequenzbereich: " + minFrequency + "-" + maxFrequency + " Hz");
+        }
+        int lagLimit = (int) Math.ceil(sampleRate / minFrequency) + 1;
+        if (windowSize < 2 * lagLimit) {
+            throw new IllegalArgumentException("Fenster von " + windowSize + " Samples ist zu kurz für "
+                + minFrequency + " Hz (mindestens " + 2 * lagLimit + ")");
+        }
+        this.sampleRate = sampleRate;
+        this.windowSize = windowSize;
+        this.minLag = Math.max(2, (int) (sampleRate / maxFrequency));
+        this.maxLag = lagLimit;
+        this.ring = new float[windowSize];
+        this.window = new float[windowSize];
+        this.energy = new double[windowSize + 1];
+        this.raw = new double[maxLag + 2];
+        this.difference = new double[maxLag + 2];
+    }
+
+    // ==================== EINGABE ====================
+
+    /**
+     * Schreibt Samples in den Ringpuffer. Ältere Samples werden überschrieben.
+     *
+     * @param samples Mono-Samples
+     * @param offset Startindex
+     * @param length Anzahl Samples
+     */
+    public void write(float[] samples, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, samples.length);
+        if (length >= windowSize) {
+            // Nur das letzte Fenster ist relevant
+            offset += length - windowSize;
+            samplesWritten += length - windowSize;
+            length = windowSize;
+        }
+        int first = Math.min(length, windowSize - writePosition);
+        System.arraycopy(samples, offset, ring, writePosition, first);
+        System.arraycopy(samples, offset + first, ring, 0, length - first);
+        writePosition = (writePosition + length) % windowSize;
+        samplesWritten += length;
+    }
+
+    /**
+     * Leert den Ringpuffer und verwirft das letzte Ergebnis.
+     */
+    public void reset() {
+        Arrays.fill(ring, 0f);
+        writePosition = 0;
+        samplesWritten = 0;
+        clearResult();
+    }
+
+    // ==================== ANALYSE ====================
+
+    /**
+     * Analysiert die letzten {@link #getWindowSize()} Samples.
+     *
+     * <p>Ablauf nach YIN: Differenzfunktion, kumulative Normierung, erste Verzögerung unter
+     * der Schwelle bis zu deren lokalem Minimum, parabolische Interpolation. Die Suche endet
+     * am ersten Minimum unter der Schwelle, hohe Töne sind daher schneller erkannt als tiefe.</p>
+     *
+     * @return true, wenn ein Ton erkannt wurde; sonst liefert {@link #getFrequency()} NaN
+     */
+    public boolean detect() {
+        if (samplesWritten < windowSize) {
+            clearResult();
+            return false;
+        }
+        int tail = windowSize - writePosition;
+        System.arraycopy(ring, writePosition, window, 0, tail);
+        System.arraycopy(ring, 0, window, tail, writePosition);
+
+        double sum = 0;
+        energy[0] = 0;
+        for (int i = 0; i < windowSize; i++) {
+            sum += (double) window[i] * window[i];
+            energy[i + 1] = sum;
+        }
+        if (sum == 0) {
+            clearResult();
+            return false;
+        }
+
+        // Integrationsfenster: alle Paare (i, i + lag) mit i < length
+        int length = windowSize - maxLag;
+        double energyHead = energy[length];
+        double runningSum = 0;
+        int lag = 1;
+        int best = -1;
+        difference[0] = 1;
+        for (; lag <= maxLag; lag++) {
+            // d(lag) = Σx[i]² + Σx[i+lag]² - 2 Σx[i]x[i+lag]
+            double d = energyHead + (energy[lag + length] - energy[lag]) - 2 * correlation(lag, length);
+            raw[lag] = d;
+            runningSum += d;
+            difference[lag] = runningSum > 0 ? d * lag / runningSum : 1;
+            if (lag > minLag && difference[lag - 1] < threshold) {
+                if (difference[lag] >= difference[lag - 1]) {
+                    best = lag - 1;
+                    break;
+                }
+            }
+        }
+        if (best < 0) {
+            if (!(difference[maxLag] < threshold)) {
+                // Nichts unter der Schwelle: Rauschen oder Stille
+                clearResult();
+                return false;
+            }
+            // Bis zur größten Verzögerung fallend
+            best = maxLag;
+        }
+
+        // Parabel durch die ungenormten Differenzen um das Minimum
+        double period = best;
+        if (best > 1 && best < maxLag && best + 1 <= lag) {
+            double left = raw[best - 1];
+            double center = raw[best];
+            double right = raw[best + 1];
+            double denominator = left - 2 * center + right;
+            if (denominator > 0) {
+                period += 0.5 * (left - right) / denominator;
+            }
+        }
+        setResult(sampleRate / period, 1 - Math.min(1, difference[best]));
+        return true;
+    }
+
+    /**
+     * Kreuzkorrelation des Fensters mit sich selbst um lag verschoben, acht Teilsummen.
+     *
+     * <p>Die Teilsummen laufen in {@code double}: Am Minimum ist die Differenz zweier
+     * Energien und der doppelten Korrelation um Größenordnungen kleiner als die Summanden,
+     * und die Parabel um das Minimum arbeitet genau auf diesen Differenzen. Mit
+     * {@code float}-Summen bliebe dort vor allem Auslöschungsfehler übrig. Das Produkt zweier
+     * {@code float} ist in {@code double} exakt.</p>
+     */
+    private double correlation(int lag, int length) {
+        float[] x = window;
+        double s0 = 0;
+        double s1 = 0;
+        double s2 = 0;
+        double s3 = 0;
+        double s4 = 0;
+        double s5 = 0;
+        double s6 = 0;
+        double s7 = 0;
+        int i = 0;
+        for (int end = length - 7; i < end; i += 8) {
+            int j = i + lag;
+            s0 += (double) x[i] * x[j];
+            s1 += (double) x[i + 1] * x[j + 1];
+            s2 += (double) x[i + 2] * x[j + 2];
+            s3 += (double) x[i + 3] * x[j + 3];
+            s4 += (double) x[i + 4] * x[j + 4];
+            s5 += (double) x[i + 5] * x[j + 5];
+            s6 += (double) x[i + 6] * x[j + 6];
+            s7 += (double) x[i + 7] * x[j + 7];
+        }
+        for (; i < length; i++) {
+            s0 += (double) x[i] * x[i + lag];
+        }
+        return (s0 + s1) + (s2 + s3) + (s4 + s5) + (s6 + s7);
+    }
+
+    private void setResult(double detected, double detectedClarity) {
+        frequency = detected;
+        clarity = detectedClarity;
+        double semitones = 12 * Math.log(detected / referencePitch) / Math.log(2);
+        long nearest = Math.round(semitones);
+        midiNumber = (int) (MIDI_A + nearest);
+        cents = 100 * (semitones - nearest);
+    }
+
+    private void clearResult() {
+        frequency = Double.NaN;
+        clarity = 0;
+        midiNumber = -1;
+        cents = 0;
+    }
+
+    // ==================== ERGEBNIS ====================
+
+    /**
+     * Gibt die zuletzt erkannte Grundfrequenz zurück.
+     *
+     * @return Frequenz in Hz oder NaN, wenn kein Ton erkannt wurde
+     */
+    public double getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Gibt die Periodizität der letzten Analyse zurück.
+     *
+     * @return 0 (kein Ton) bis 1 (streng periodisch)
+     */
+    public double getClarity() {
+        return clarity;
+    }
+
+    /**
+     * Gibt die Tonnummer der nächstgelegenen Note zurück (MIDI-Zählung, 60 = C').
+     *
+     * @return Tonnummer oder -1, wenn kein Ton erkannt wurde
+     */
+    public int getMidiNumber() {
+        return midiNumber;
+    }
+
+    /**
+     * Gibt den Namen der nächstgelegenen Note zurück (mit Kreuzen: C, Cis, D, ...).
+     *
+     * @return Notenname oder null, wenn kein Ton erkannt wurde
+     */
+    public String getNoteName() {
+        return midiNumber < 0 ? null : MusicalNote.CHROMATIC_SHARP[midiNumber % 12];
+    }
+
+    /**
+     * Gibt die Oktavlage der nächstgelegenen Note zurück.
+     *
+     * @return Oktavlage (1 = eingestrichen)
+     */
+    public int getOctave() {
+        return MusicalNote.octaveOfMidiNumber(midiNumber);
+    }
+
+    /**
+     * Gibt die Abweichung von der nächstgelegenen Note zurück.
+     *
+     * @return Abweichung in Cent (-50 bis +50, positiv = zu hoch)
+     */
+    public double getCents() {
+        return cents;
+    }
+
+    /**
+     * Erstellt die nächstgelegene Note mit ihrer Sollfrequenz (alloziert).
+     *
+     * @return Neue MusicalNote oder null, wenn kein Ton erkannt wurde
+     */
+    public MusicalNote toNote() {
+        if (midiNumber < 0) {
+            return null;
+        }
+        double target = referencePitch * Math.pow(2, (midiNumber - MIDI_A) / 12.0);
+        return new MusicalNote(midiNumber % 12, true, target, getOctave());
+    }
+
+    // ==================== EINSTELLUNGEN ====================
+
+    /**
+     * Setzt den Kammerton, gegen den Noten und Cent bestimmt werden.
+     *
+     * @param pitch Frequenz von A' in Hz (z.B. {@code MusicalNote.getConcertPitch("ch")})
+     */
+    public void setReferencePitch(double pitch) {
+        if (!(pitch > 0)) {
+            throw new IllegalArgumentException("Kammerton muss positiv sein: " + pitch);
+        }
+        this.referencePitch = pitch;
+        if (!Double.isNaN(frequency)) {
+            setResult(frequency, clarity);
+        }
+    }
+
+    /**
+     * Gibt den Kammerton zurück.
+     *
+     * @return Frequenz von A' in Hz
+     */
+    public double getReferencePitch() {
+        return referencePitch;
+    }
+
+    /**
+     * Setzt die Schwelle der normierten Differenzfunktion. Kleinere Werte erkennen weniger
+     * Oktavfehler, verwerfen aber mehr verrauschte Signale.
+     *
+     * @param threshold Schwelle zwischen 0 und 1 (Standard {@value #DEFAULT_THRESHOLD})
+     */
+    public void setThreshold(double threshold) {
+        if (!(threshold > 0 && threshold < 1)) {
+            throw new IllegalArgumentException("Schwelle muss zwischen 0 und 1 liegen: " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Gibt die Abtastrate zurück.
+     *
+     * @return Abtastrate in Hz
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Gibt die Größe des Analysefensters zurück.
+     *
+     * @return Fenster in Samples
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    @Override
+    public String toString() {
+        if (midiNumber < 0) {
+            return "PitchDetector[kein Ton]";
+        }
+        return String.format("PitchDetector[%.2f Hz, %s%s %+.1f ct]",
+            frequency, getNoteName(), MusicalNote.octaveToSymbols(getOctave()), cents);
+    }
+}
@@ -0,0 +1,313 @@
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schnelle Fourier-Transformation reeller Signale, in-place auf {@code double[]} oder {@code float[]}.
+ *
+ * <p>Ein reelles Signal der Länge n wird als komplexes Signal der Länge n/2 (gerade Samples
+ * als Real-, ungerade als Imaginärteil) mit einer iterativen Radix-2-FFT transformiert und
+ * anschließend in das Spektrum des reellen Signals zerlegt. Bitumkehr-Tabelle und
+ * Drehfaktoren werden einmal pro Größe berechnet; {@link #forSize(int)} liefert den
+ * gecachten, unveränderlichen Plan.</p>
+ *
+ * <p>Das Spektrum steht gepackt im Eingabearray:</p>
+ * <pre>
+ * [0]        Re X[0]      (Gleichanteil, Imaginärteil ist 0)
+ * [1]        Re X[n/2]    (Nyquist-Frequenz, Imaginärteil ist 0)
+ * [2k], [2k+1]  Re X[k], Im X[k]   für 1 &lt;= k &lt; n/2
+ * </pre>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * RealFft fft = RealFft.forSize(4096);
+ * double[] signal = new double[4096];
+ * // ... Samples eintragen
+ * fft.forward(signal);
+ * double power = fft.power(signal, 100); // |X[100]|²
+ * fft.inverse(signal);                   // wieder das Signal
+ * }</pre>
+ *
+ * <p>Ein Plan ist unveränderlich und kann von beliebig vielen Threads gleichzeitig genutzt
+ * werden. Die {@code float}-Varianten rechnen in einem {@code double}-Puffer pro Thread.</p>
+ */
+public final class RealFft {
+
+    /** Kleinste unterstützte Größe */
+    public static final int MIN_SIZE = 4;
+
+    /** Größte unterstützte Größe */
+    public static final int MAX_SIZE = 1 << 28;
+
+    private static final ConcurrentHashMap<Integer, RealFft> PLANS = new ConcurrentHashMap<>();
+
+    /** Rechenpuffer der float-Varianten, je Thread */
+    private static final ThreadLocal<double[]> SCRATCH = ThreadLocal.withInitial(() -> new double[0]);
+
+    /** Länge des reellen Signals */
+    private final int size;
+
+    /** Länge der inneren komplexen FFT (size / 2) */
+    private final int half;
+
+    /** Paare (i, j) mit i < j, die für die Bitumkehr zu tauschen sind */
+    private final int[] swaps;
+
+    /**
+     * Drehfaktoren der komplexen FFT stufenweise hintereinander: für die Stufe mit
+     * Halblänge span stehen ab Index 2 * (span - 1) die Paare (cos, -sin) von 2πk / (2 * span)
+     */
+    private final double[] twiddles;
+
+    /** Drehfaktoren der Zerlegung: exp(-2πi k / size), k <= half / 2 */
+    private final double[] splitCos;
+    private final double[] splitSin;
+
+    private RealFft(int size) {
+        this.size = size;
+        this.half = size / 2;
+        int bits = Integer.numberOfTrailingZeros(half);
+        int swapCount = 0;
+        int[] pairs = new int[half];
+        for (int i = 0; i < half; i++) {
+            int j = bits == 0 ? 0 : Integer.reverse(i) >>> (32 - bits);
+            if (i < j) {
+                pairs[swapCount++] = i;
+                pairs[swapCount++] = j;
+            }
+        }
+        this.swaps = Arrays.copyOf(pairs, swapCount);
+        this.twiddles = new double[2 * Math.max(1, half - 1)];
+        for (int span = 1; span < half; span <<= 1) {
+            for (int k = 0; k < span; k++) {
+                double angle = Math.PI * k / span;
+                twiddles[2 * (span - 1 + k)] = Math.cos(angle);
+                twiddles[2 * (span - 1 + k) + 1] = -Math.sin(angle);
+            }
+        }
+        this.splitCos = new double[half / 2 + 1];
+        this.splitSin = new double[half / 2 + 1];
+        for (int k = 0; k <= half / 2; k++) {
+            splitCos[k] = Math.cos(2 * Math.PI * k / size);
+            splitSin[k] = -Math.sin(2 * Math.PI * k / size);
+        }
+    }
+
+    /**
+     * Liefert den Plan für eine Signallänge (gecacht).
+     *
+     * @param size Signallänge, Zweierpotenz von {@value #MIN_SIZE} bis {@value #MAX_SIZE}
+     * @return Der Plan
+     */
+    public static RealFft forSize(int size) {
+        if (size < MIN_SIZE || size > MAX_SIZE || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("FFT-Größe muss eine Zweierpotenz von "
+                + MIN_SIZE + " bis " + MAX_SIZE + " sein: " + size);
+        }
+        RealFft plan = PLANS.get(size);
+        return plan != null ? plan : PLANS.computeIfAbsent(size, RealFft::new);
+    }
+
+    // ==================== TRANSFORMATION ====================
+
+    /**
+     * Transformiert die ersten {@link #getSize()} Werte in ihr gepacktes Spektrum.
+     *
+     * @param data Signal; enthält danach das Spektrum
+     */
+    public void forward(double[] data) {
+        Objects.checkFromIndexSize(0, size, data.length);
+        complexTransform(data, false);
+        split(data);
+    }
+
+    /**
+     * Transformiert ein gepacktes Spektrum zurück in das Signal (inklusive Normierung 1/n).
+     *
+     * @param data Gepacktes Spektrum; enthält danach das Signal
+     */
+    public void inverse(double[] data) {
+        Objects.checkFromIndexSize(0, size, data.length);
+        merge(data);
+        complexTransform(data, true);
+        double scale = 1.0 / half;
+        for (int i = 0; i < size; i++) {
+            data[i] *= scale;
+        }
+    }
+
+    /**
+     * Transformiert die ersten {@link #getSize()} Werte in ihr gepacktes Spektrum.
+     *
+     * @param data Signal; enthält danach das Spektrum
+     */
+    public void forward(float[] data) {
+        Objects.checkFromIndexSize(0, size, data.length);
+        double[] scratch = scratch();
+        for (int i = 0; i < size; i++) {
+            scratch[i] = data[i];
+        }
+        forward(scratch);
+        for (int i = 0; i < size; i++) {
+            data[i] = (float) scratch[i];
+        }
+    }
+
+    /**
+     * Transformiert ein gepacktes Spektrum zurück in das Signal (inklusive Normierung 1/n).
+     *
+     * @param data Gepacktes Spektrum; enthält danach das Signal
+     */
+    public void inverse(float[] data) {
+        Objects.checkFromIndexSize(0, size, data.length);
+        double[] scratch = scratch();
+        for (int i = 0; i < size; i++) {
+            scratch[i] = data[i];
+        }
+        inverse(scratch);
+        for (int i = 0; i < size; i++) {
+            data[i] = (float) scratch[i];
+        }
+    }
+
+    /**
+     * Gibt die Leistung eines Bins aus einem gepackten Spektrum zurück.
+     *
+     * @param spectrum Gepacktes Spektrum (Ergebnis von {@link #forward(double[])})
+     * @param bin Bin 0 bis n/2
+     * @return |X[bin]|²
+     */
+    public double power(double[] spectrum, int bin) {
+        Objects.checkIndex(bin, half + 1);
+        if (bin == 0) {
+            return spectrum[0] * spectrum[0];
+        }
+        if (bin == half) {
+            return spectrum[1] * spectrum[1];
+        }
+        double re = spectrum[2 * bin];
+        double im = spectrum[2 * bin + 1];
+        return re * re + im * im;
+    }
+
+    /**
+     * Gibt die Signallänge zurück.
+     *
+     * @return Anzahl reeller Werte
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "RealFft[" + size + "]";
+    }
+
+    // ==================== BERECHNUNG ====================
+
+    /**
+     * Komplexe Radix-2-FFT der Länge half auf verschränkten (Re, Im)-Paaren.
+     *
+     * @param inverse true für die Rücktransformation (konjugierte Drehfaktoren, ohne Normierung)
+     */
+    private void complexTransform(double[] data, boolean inverse) {
+        for (int s = 0; s < swaps.length; s += 2) {
+            int i = swaps[s] << 1;
+            int j = swaps[s + 1] << 1;
+            double re = data[i];
+            double im = data[i + 1];
+            data[i] = data[j];
+            data[i + 1] = data[j + 1];
+            data[j] = re;
+            data[j + 1] = im;
+        }
+        int n = half << 1;
+        // Erste Stufe ohne Multiplikation (Drehfaktor 1)
+        for (int a = 0; a < n; a += 4) {
+            double tr = data[a + 2];
+            double ti = data[a + 3];
+            data[a + 2] = data[a] - tr;
+            data[a + 3] = data[a + 1] - ti;
+            data[a] += tr;
+            data[a + 1] += ti;
+        }
+        double sign = inverse ? -1 : 1;
+        for (int span = 2; span < half; span <<= 1) {
+            int base = 2 * (span - 1);
+            int stride = span << 2;
+            int offset = span << 1;
+            for (int start = 0; start < n; start += stride) {
+                for (int k = 0; k < offset; k += 2) {
+                    double wr = twiddles[base + k];
+                    double wi = sign * twiddles[base + k + 1];
+                    int a = start + k;
+                    int b = a + offset;
+                    double tr = data[b] * wr - data[b + 1] * wi;
+                    double ti = data[b] * wi + data[b + 1] * wr;
+                    data[b] = data[a] - tr;
+                    data[b + 1] = data[a + 1] - ti;
+                    data[a] += tr;
+                    data[a + 1] += ti;
+                }
+            }
+        }
+    }
+
+    /** Zerlegt das Spektrum Z des gepackten Signals in das Spektrum X des reellen Signals */
+    private void split(double[] data) {
+        double z0r = data[0];
+        double z0i = data[1];
+        data[0] = z0r + z0i;
+        data[1] = z0r - z0i;
+        for (int k = 1; k <= half / 2; k++) {
+            int a = k << 1;
+            int b = (half - k) << 1;
+            // E = (Z[k] + conj(Z[half-k])) / 2, O = -i (Z[k] - conj(Z[half-k])) / 2
+            double er = 0.5 * (data[a] + data[b]);
+            double ei = 0.5 * (data[a + 1] - data[b + 1]);
+            double or = 0.5 * (data[a + 1] + data[b + 1]);
+            double oi = -0.5 * (data[a] - data[b]);
+            // W^k * O
+            double wr = splitCos[k] * or - splitSin[k] * oi;
+            double wi = splitCos[k] * oi + splitSin[k] * or;
+            data[a] = er + wr;
+            data[a + 1] = ei + wi;
+            data[b] = er - wr;
+            data[b + 1] = -(ei - wi);
+        }
+    }
+
+    /** Umkehrung von {@link #split(double[])} */
+    private void merge(double[] data) {
+        double x0 = data[0];
+        double xn = data[1];
+        data[0] = 0.5 * (x0 + xn);
+        data[1] = 0.5 * (x0 - xn);
+        for (int k = 1; k <= half / 2; k++) {
+            int a = k << 1;
+            int b = (half - k) << 1;
+            // E = (X[k] + conj(X[half-k])) / 2, O = (X[k] - conj(X[half-k])) * conj(W^k) / 2
+            double er = 0.5 * (data[a] + data[b]);
+            double ei = 0.5 * (data[a + 1] - data[b + 1]);
+            double dr = 0.5 * (data[a] - data[b]);
+            double di = 0.5 * (data[a + 1] + data[b + 1]);
+            double or = dr * splitCos[k] + di * splitSin[k];
+            double oi = di * splitCos[k] - dr * splitSin[k];
+            // Z[k] = E + iO, Z[half-k] = conj(E - iO)
+            data[a] = er - oi;
+            data[a + 1] = ei + or;
+            data[b] = er + oi;
+            data[b + 1] = -(ei - or);
+        }
+    }
+
+    private double[] scratch() {
+        double[] scratch = SCRATCH.get();
+        if (scratch.length < size) {
+            scratch = new double[size];
+            SCRATCH.set(scratch);
+        }
+        return scratch;
+    }
+}
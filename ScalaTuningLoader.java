@@ -0,0 +1,485 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Lädt Stimmungen aus Scala-Dateien ({@code .scl}) und Tastatur-Zuordnungen ({@code .kbm}).
+ *
+ * <p>Der Parser arbeitet direkt auf den Bytes der Datei und liest Zahlen ohne
+ * Zwischen-Strings; pro Stufe entsteht kein Objekt. Ergebnis ist eine
+ * {@link TuningSystem}-Tabelle mit 128 Frequenzen, die wie die eingebauten Stimmungen
+ * von {@link Scale}, {@link Chord} und {@link ScaleMaker#calculateFrequency(TuningSystem, int)}
+ * verwendet werden kann.</p>
+ *
+ * <p>Geladene Stimmungen werden über einen SHA-256-Hash des Dateiinhalts gecacht:
+ * inhaltsgleiche Dateien teilen sich eine Tabelle, auch unter verschiedenen Namen.
+ * {@link #loadDirectory(Path)} lädt ganze Verzeichnisse parallel.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * TuningSystem werck = ScalaTuningLoader.load(Path.of("werck3.scl"));
+ * Scale cDur = ScaleMaker.scale("C", ScaleType.MAJOR, werck);
+ *
+ * Map<String, TuningSystem> library = ScalaTuningLoader.loadDirectory(Path.of("tunings"));
+ * }</pre>
+ *
+ * <p>Ohne {@code .kbm} gilt die Standard-Zuordnung von Scala: lineare Abbildung,
+ * Stufe 0 auf Tonnummer 60, Tonnummer 69 = 440 Hz. Nicht zugeordnete Tasten
+ * ({@code x} in der {@code .kbm}) haben die Frequenz {@link Double#NaN}; die Referenztaste
+ * muss zugeordnet sein. Leere Zeilen zwischen den Werten sind erlaubt.</p>
+ *
+ * @see TuningSystem
+ * @see <a href="https://www.huygens-fokker.org/scala/scl_format.html">Scala-Dateiformat</a>
+ */
+public final class ScalaTuningLoader {
+
+    /** Dateiendung von Scala-Skalen */
+    public static final String SCL_EXTENSION = ".scl";
+
+    /** Dateiendung von Scala-Tastatur-Zuordnungen */
+    public static final String KBM_EXTENSION = ".kbm";
+
+    private static final Map<ContentHash, TuningSystem> CACHE = new ConcurrentHashMap<>();
+
+    private ScalaTuningLoader() {
+        // Utility-Klasse, nicht instanziierbar
+    }
+
+    // ==================== LADEN ====================
+
+    /**
+     * Lädt eine {@code .scl}-Datei. Liegt daneben eine gleichnamige {@code .kbm}-Datei,
+     * wird sie als Tastatur-Zuordnung verwendet.
+     *
+     * @param sclFile Pfad zur {@code .scl}-Datei
+     * @return Die (ggf. gecachte) Stimmung
+     * @throws IOException wenn eine Datei nicht gelesen werden kann
+     * @throws IllegalArgumentException wenn eine Datei nicht dem Scala-Format entspricht
+     */
+    public static TuningSystem load(Path sclFile) throws IOException {
+        Path kbmFile = siblingKbm(sclFile);
+        return load(sclFile, Files.isRegularFile(kbmFile) ? kbmFile : null);
+    }
+
+    /**
+     * Lädt eine {@code .scl}-Datei mit expliziter Tastatur-Zuordnung.
+     *
+     * @param sclFile Pfad zur {@code .scl}-Datei
+     * @param kbmFile Pfad zur {@code .kbm}-Datei oder {@code null} für die Standard-Zuordnung
+     * @return Die (ggf. gecachte) Stimmung
+     * @throws IOException wenn eine Datei nicht gelesen werden kann
+     * @throws IllegalArgumentException wenn eine Datei nicht dem Scala-Format entspricht
+     */
+    public static TuningSystem load(Path sclFile, Path kbmFile) throws IOException {
+        byte[] scl = Files.readAllBytes(sclFile);
+        byte[] kbm = kbmFile != null ? Files.readAllBytes(kbmFile) : null;
+        try {
+            return parse(scl, kbm);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(sclFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Erstellt eine Stimmung aus dem Inhalt einer {@code .scl}- und optional {@code .kbm}-Datei.
+     *
+     * @param scl Inhalt der {@code .scl}-Datei
+     * @param kbm Inhalt der {@code .kbm}-Datei oder {@code null}
+     * @return Die (ggf. gecachte) Stimmung
+     * @throws IllegalArgumentException wenn der Inhalt nicht dem Scala-Format entspricht
+     */
+    public static TuningSystem parse(byte[] scl, byte[] kbm) {
+        ContentHash key = ContentHash.of(scl, kbm);
+        TuningSystem cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        TuningSystem tuning = build(scl, kbm);
+        TuningSystem existing = CACHE.putIfAbsent(key, tuning);
+        return existing != null ? existing : tuning;
+    }
+
+    /**
+     * Lädt alle {@code .scl}-Dateien eines Verzeichnisses parallel.
+     *
+     * <p>Gleichnamige {@code .kbm}-Dateien werden automatisch zugeordnet.</p>
+     *
+     * @param directory Verzeichnis mit Scala-Dateien (nicht rekursiv)
+     * @return Stimmungen nach Dateiname ohne Endung
+     * @throws IOException wenn das Verzeichnis oder eine Datei nicht gelesen werden kann
+     * @throws IllegalArgumentException wenn eine Datei nicht dem Scala-Format entspricht
+     */
+    public static Map<String, TuningSystem> loadDirectory(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SCL_EXTENSION)) {
+            stream.forEach(files::add);
+        }
+        try {
+            return files.parallelStream().collect(Collectors.toConcurrentMap(
+                ScalaTuningLoader::baseName,
+                file -> {
+                    try {
+                        return load(file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // ==================== CACHE ====================
+
+    /**
+     * Gibt die Anzahl der gecachten Stimmungen zurück.
+     *
+     * @return Anzahl verschiedener Dateiinhalte
+     */
+    public static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    /**
+     * Verwirft alle gecachten Stimmungen.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    // ==================== PARSER ====================
+
+    private static TuningSystem build(byte[] scl, byte[] kbm) {
+        Cursor in = new Cursor(scl);
+        String description = in.nextLine();
+        if (description == null) {
+            throw new IllegalArgumentException("Beschreibung fehlt");
+        }
+        int count = (int) in.nextLong("Anzahl der Stufen");
+        if (count < 1) {
+            throw new IllegalArgumentException("Mindestens eine Stufe erforderlich: " + count);
+        }
+        // degrees[0] = 1/1, degrees[count] = Periode
+        double[] degrees = new double[count + 1];
+        degrees[0] = 1.0;
+        for (int i = 1; i <= count; i++) {
+            degrees[i] = in.nextPitch();
+        }
+
+        KeyboardMapping mapping = kbm != null ? KeyboardMapping.parse(kbm) : KeyboardMapping.linear();
+        double[] table = new double[TableTuningSystem.KEYS];
+        double referenceRatio = mapping.ratio(mapping.referenceKey, degrees, count);
+        if (Double.isNaN(referenceRatio)) {
+            throw new IllegalArgumentException("Referenztaste " + mapping.referenceKey
+                + " ist in der Tastatur-Zuordnung nicht zugeordnet");
+        }
+        for (int key = 0; key < table.length; key++) {
+            table[key] = mapping.referenceFrequency * mapping.ratio(key, degrees, count) / referenceRatio;
+        }
+        // Periode für Tonnummern außerhalb 0-127: Zuordnungsgröße bzw. Stufenzahl
+        int periodSteps = mapping.size == 0 ? count : mapping.size;
+        double periodRatio = mapping.size == 0 || mapping.octaveDegree == 0
+            ? degrees[count]
+            : degreeRatio(mapping.octaveDegree, degrees, count);
+        String name = description.isEmpty() ? "Scala (" + count + " Stufen)" : description;
+        return new TableTuningSystem(name, table, Math.min(periodSteps, TableTuningSystem.KEYS - 1), periodRatio);
+    }
+
+    // Frequenzverhältnis einer beliebigen (auch negativen) Stufe relativ zu Stufe 0
+    private static double degreeRatio(int degree, double[] degrees, int count) {
+        int periods = Math.floorDiv(degree, count);
+        double ratio = degrees[Math.floorMod(degree, count)];
+        return periods == 0 ? ratio : ratio * Math.pow(degrees[count], periods);
+    }
+
+    private static Path siblingKbm(Path sclFile) {
+        return sclFile.resolveSibling(baseName(sclFile) + KBM_EXTENSION);
+    }
+
+    private static String baseName(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    /**
+     * Tastatur-Zuordnung einer {@code .kbm}-Datei.
+     */
+    private static final class KeyboardMapping {
+        int size;
+        int firstKey;
+        int lastKey;
+        int middleKey;
+        int referenceKey;
+        double referenceFrequency;
+        int octaveDegree;
+        /** Stufe je Zuordnungs-Position, -1 = nicht zugeordnet */
+        int[] entries;
+
+        static KeyboardMapping linear() {
+            KeyboardMapping m = new KeyboardMapping();
+            m.size = 0;
+            m.firstKey = 0;
+            m.lastKey = TableTuningSystem.KEYS - 1;
+            m.middleKey = 60;
+            m.referenceKey = TuningSystem.REFERENCE_KEY;
+            m.referenceFrequency = TableTuningSystem.DEFAULT_REFERENCE;
+            m.entries = new int[0];
+            return m;
+        }
+
+        static KeyboardMapping parse(byte[] kbm) {
+            Cursor in = new Cursor(kbm);
+            KeyboardMapping m = new KeyboardMapping();
+            m.size = (int) in.nextLong("Größe der Zuordnung");
+            m.firstKey = (int) in.nextLong("erste Taste");
+            m.lastKey = (int) in.nextLong("letzte Taste");
+            m.middleKey = (int) in.nextLong("mittlere Taste");
+            m.referenceKey = (int) in.nextLong("Referenztaste");
+            m.referenceFrequency = in.nextDecimal("Referenzfrequenz");
+            m.octaveDegree = (int) in.nextLong("Oktavstufe");
+            if (m.size < 0) {
+                throw new IllegalArgumentException("Ungültige Größe der Zuordnung: " + m.size);
+            }
+            m.entries = new int[m.size];
+            Arrays.fill(m.entries, -1);
+            for (int i = 0; i < m.size && in.skipToValue(); i++) {
+                m.entries[i] = in.peekUnmapped() ? -1 : (int) in.nextLong("Zuordnung");
+                if (m.entries[i] == -1) {
+                    in.skipLine();
+                }
+            }
+            return m;
+        }
+
+        double ratio(int key, double[] degrees, int count) {
+            if (key < firstKey || key > lastKey) {
+                return Double.NaN;
+            }
+            int offset = key - middleKey;
+            if (size == 0) {
+                return degreeRatio(offset, degrees, count);
+            }
+            int entry = entries[Math.floorMod(offset, size)];
+            if (entry < 0) {
+                return Double.NaN;
+            }
+            int degree = entry + Math.floorDiv(offset, size) * octaveDegree;
+            return degreeRatio(degree, degrees, count);
+        }
+    }
+
+    /**
+     * Lese-Cursor über die Bytes einer Scala-Datei. Kommentarzeilen beginnen mit '!'.
+     * Vor Werten werden außerdem leere Zeilen übersprungen; die Beschreibung einer
+     * {@code .scl}-Datei darf dagegen leer sein.
+     */
+    private static final class Cursor {
+        private final byte[] data;
+        private int pos;
+
+        Cursor(byte[] data) {
+            this.data = data;
+        }
+
+        // Nächste Nicht-Kommentar-Zeile als String (nur für die Beschreibung)
+        String nextLine() {
+            skipComments();
+            if (pos >= data.length) {
+                return null;
+            }
+            int start = pos;
+            while (pos < data.length && data[pos] != '\n' && data[pos] != '\r') {
+                pos++;
+            }
+            String line = new String(data, start, pos - start, StandardCharsets.ISO_8859_1).trim();
+            skipLine();
+            return line;
+        }
+
+        // Positioniert auf den ersten Wert der nächsten Zeile, die weder Kommentar noch leer ist
+        boolean skipToValue() {
+            while (pos < data.length) {
+                while (pos < data.length && (data[pos] == ' ' || data[pos] == '\t')) {
+                    pos++;
+                }
+                if (pos < data.length && (data[pos] == '!' || data[pos] == '\n' || data[pos] == '\r')) {
+                    skipLine();
+                } else {
+                    break;
+                }
+            }
+            return pos < data.length;
+        }
+
+        boolean peekUnmapped() {
+            return pos < data.length && (data[pos] == 'x' || data[pos] == 'X');
+        }
+
+        long nextLong(String what) {
+            if (!skipToValue()) {
+                throw new IllegalArgumentException("Unerwartetes Dateiende: " + what);
+            }
+            long value = readLong(what);
+            skipLine();
+            return value;
+        }
+
+        double nextDecimal(String what) {
+            if (!skipToValue()) {
+                throw new IllegalArgumentException("Unerwartetes Dateiende: " + what);
+            }
+            double value = readDecimal(what);
+            skipLine();
+            return value;
+        }
+
+        // Stufe: Cent-Wert (mit '.') oder Verhältnis "a/b" bzw. "a"
+        double nextPitch() {
+            if (!skipToValue()) {
+                throw new IllegalArgumentException("Unerwartetes Dateiende: Stufe");
+            }
+            int lineEnd = pos;
+            boolean cents = false;
+            while (lineEnd < data.length && data[lineEnd] != '\n' && data[lineEnd] != '\r'
+                    && data[lineEnd] != ' ' && data[lineEnd] != '\t') {
+                if (data[lineEnd] == '.') {
+                    cents = true;
+                }
+                lineEnd++;
+            }
+            double value;
+            if (cents) {
+                value = Math.pow(2, readDecimal("Cent-Wert") / 1200.0);
+            } else {
+                long numerator = readLong("Verhältnis");
+                long denominator = 1;
+                if (pos < data.length && data[pos] == '/') {
+                    pos++;
+                    denominator = readLong("Nenner");
+                }
+                if (numerator <= 0 || denominator <= 0) {
+                    throw new IllegalArgumentException("Ungültiges Verhältnis: " + numerator + "/" + denominator);
+                }
+                value = (double) numerator / denominator;
+            }
+            skipLine();
+            return value;
+        }
+
+        private long readLong(String what) {
+            boolean negative = false;
+            if (pos < data.length && (data[pos] == '-' || data[pos] == '+')) {
+                negative = data[pos] == '-';
+                pos++;
+            }
+            int start = pos;
+            long value = 0;
+            while (pos < data.length && data[pos] >= '0' && data[pos] <= '9') {
+                value = value * 10 + (data[pos] - '0');
+                pos++;
+            }
+            if (pos == start) {
+                throw new IllegalArgumentException("Zahl erwartet: " + what);
+            }
+            return negative ? -value : value;
+        }
+
+        private double readDecimal(String what) {
+            boolean negative = false;
+            if (pos < data.length && (data[pos] == '-' || data[pos] == '+')) {
+                negative = data[pos] == '-';
+                pos++;
+            }
+            int start = pos;
+            double value = 0;
+            while (pos < data.length && data[pos] >= '0' && data[pos] <= '9') {
+                value = value * 10 + (data[pos] - '0');
+                pos++;
+            }
+            if (pos < data.length && data[pos] == '.') {
+                pos++;
+                double scale = 0.1;
+                while (pos < data.length && data[pos] >= '0' && data[pos] <= '9') {
+                    value += (data[pos] - '0') * scale;
+                    scale *= 0.1;
+                    pos++;
+                }
+            }
+            if (pos == start) {
+                throw new IllegalArgumentException("Zahl erwartet: " + what);
+            }
+            return negative ? -value : value;
+        }
+
+        private void skipLine() {
+            while (pos < data.length && data[pos] != '\n') {
+                pos++;
+            }
+            if (pos < data.length) {
+                pos++;
+            }
+        }
+
+        private void skipComments() {
+            while (pos < data.length && data[pos] == '!') {
+                skipLine();
+            }
+        }
+    }
+
+    /**
+     * SHA-256 über {@code .scl}- und {@code .kbm}-Inhalt, gekürzt auf 128 Bit.
+     */
+    private static final class ContentHash {
+        private final long high;
+        private final long low;
+
+        private ContentHash(long high, long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        static ContentHash of(byte[] scl, byte[] kbm) {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 nicht verfügbar", e);
+            }
+            digest.update(scl);
+            if (kbm != null) {
+                digest.update((byte) 0);
+                digest.update(kbm);
+            }
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest());
+            return new ContentHash(hash.getLong(), hash.getLong());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ContentHash)) {
+                return false;
+            }
+            ContentHash other = (ContentHash) o;
+            return high == other.high && low == other.low;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(high ^ low);
+        }
+    }
+}
@@ -1,8 +1,7 @@
-import java.util.ArrayList;
-import java.util.Collections;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import static java.util.Map.entry;
+import java.util.Objects;
 
 /**
  * Repräsentiert eine musikalische Tonleiter (Skala).
@@ -26,41 +25,33 @@ import static java.util.Map.entry;
  *
  * // Stufenakkord auf der 5. Stufe (Dominante)
  * Chord dominant = cDur.getTriadOnDegree(5);
+ *
+ * // Über drei Oktaven, ohne die Noten anzulegen
+ * double[] range = cDur.getOctaveRange(3).frequencies().toArray();
  * }</pre>
  *
  * @see ScaleType
  * @see MusicalNote
  * @see Chord
+ * @see ScaleRange
  */
-public class Scale {
-
-    private String symbol;
-    private MusicalNote fundamentalTone;
-    private Interval[] intervals;
-    private ScaleType scaleType;
-    private List<MusicalNote> scale = new ArrayList<>();
-
-    private static final String[] CHROMATIC_SHARP = {"C", "Cis", "D", "Dis", "E", "F", "Fis", "G", "Gis", "A", "B", "H"};
-    private static final String[] CHROMATIC_FLAT = {"C", "Des", "D", "Es", "E", "F", "Ges", "G", "As", "A", "B", "H"};
-
-    private static final Map<String, Integer> INTERVAL_SEMITONES = Map.ofEntries(
-        entry("P", 0),
-        entry("Sk1", 1), entry("Sk2", 1),
-        entry("Sg1", 2), entry("Sg2", 2),
-        entry("Tk1", 3), entry("Tk2", 3),
-        entry("Tg1", 4), entry("Tg2", 4),
-        entry("Qua", 5),
-        entry("Qua1", 6), entry("Qua2", 6), entry("Qua3", 6),
-        entry("Qui1", 6), entry("Qui2", 6), entry("Qui3", 6),
-        entry("Qui", 7),
-        entry("Qui+", 8),
-        entry("Sxk", 8),
-        entry("Sxg", 9),
-        entry("Sepk1", 10), entry("Sepk2", 10), entry("Sepk3", 10),
-        entry("Sep--", 9),
-        entry("Sepg", 11),
-        entry("Ok", 12)
-    );
+public final class Scale {
+
+    private final MusicalNote fundamentalTone;
+    private final ScaleType scaleType;
+    private final TuningSystem tuning;
+
+    /** Aus Grundton, Typ und Stimmung, einmal im Konstruktor berechnet */
+    private final int hash;
+
+    /** Töne der Tonleiter, erst beim ersten Zugriff berechnet (siehe {@link #notes()}) */
+    private NoteSet notes;
+
+    /**
+     * Stufenakkorde aus dem Cache, erst die Dreiklänge, dann die Septakkorde; beim ersten
+     * Zugriff angelegt (siehe {@link #diatonicChords()})
+     */
+    private List<Chord> diatonicChords;
 
     /**
      * Erstellt eine neue Tonleiter.
@@ -70,83 +61,70 @@ public class Scale {
      * @throws Exception wenn die Tonleiter nicht erstellt werden kann
      */
     public Scale(MusicalNote fundamentalTone, ScaleType scaleType) throws Exception {
-        this.fundamentalTone = fundamentalTone;
-        this.scaleType = scaleType;
-        this.intervals = scaleType.getIntervals();
-        this.symbol = MusicalNote.octaveToSymbols(fundamentalTone.octave);
-        createScale();
+        this(fundamentalTone, scaleType, null);
     }
 
-    private void createScale() throws Exception {
-        String[] noteLetters = calculateNoteLetters();
-
-        this.scale.add(this.fundamentalTone);
-        for (int i = 1; i < this.intervals.length; i++) {
-            double freq = this.fundamentalTone.frequency * this.intervals[i].proportion;
-            int octave = this.fundamentalTone.octave;
-
-            if (this.intervals[i].proportion >= 2.0) {
-                octave++;
-            }
-
-            this.scale.add(new MusicalNote(noteLetters[i], freq, octave));
-        }
+    /**
+     * Erstellt eine neue Tonleiter in einer bestimmten Stimmung.
+     *
+     * <p>Die Frequenzen ergeben sich aus der Frequenz des Grundtons und den Verhältnissen
+     * der Stimmung zwischen Grundton und Skalenton, nicht aus den reinen Intervallen.</p>
+     *
+     * <p>Gespeichert werden nur Grundton, Typ und Stimmung. Noten, Frequenzen und Namen
+     * werden beim ersten Zugriff berechnet und danach wiederverwendet; wer nur
+     * {@link #toString()}, {@link #getScaleType()} oder {@link #size()} braucht, zahlt
+     * nichts dafür.</p>
+     *
+     * @param fundamentalTone Der Grundton der Tonleiter
+     * @param scaleType Der Typ der Tonleiter (z.B. MAJOR, MINOR, DORIAN)
+     * @param tuning Die Stimmung, oder null für reine Intervallverhältnisse
+     * @throws Exception wenn die Tonleiter nicht erstellt werden kann
+     */
+    public Scale(MusicalNote fundamentalTone, ScaleType scaleType, TuningSystem tuning) throws Exception {
+        this.fundamentalTone = Objects.requireNonNull(fundamentalTone, "fundamentalTone");
+        this.scaleType = Objects.requireNonNull(scaleType, "scaleType");
+        this.tuning = tuning;
+        this.hash = 31 * (31 * fundamentalTone.hashCode() + scaleType.hashCode()) + Objects.hashCode(tuning);
     }
 
-    private String[] calculateNoteLetters() {
-        String[] result = new String[intervals.length];
-        int rootIndex = findChromaticIndex(fundamentalTone.letter);
-
-        boolean useSharp = shouldUseSharp(fundamentalTone.letter);
-        String[] chromatic = useSharp ? CHROMATIC_SHARP : CHROMATIC_FLAT;
-
-        for (int i = 0; i < intervals.length; i++) {
-            int semitones = getSemitones(intervals[i]);
-            int noteIndex = (rootIndex + semitones) % 12;
-            result[i] = chromatic[noteIndex];
+    /**
+     * Gibt die Töne zurück und berechnet sie beim ersten Aufruf. Ohne Synchronisation:
+     * {@link NoteSet} hat nur finale Felder, im Wettlauf entstehen höchstens zwei gleiche Instanzen.
+     */
+    private NoteSet notes() {
+        NoteSet result = notes;
+        if (result == null) {
+            result = NoteSet.of(fundamentalTone, scaleType.getIntervals(), tuning, true);
+            notes = result;
         }
-
         return result;
     }
 
-    private int findChromaticIndex(String letter) {
-        String clean = letter.replace("'", "").toLowerCase();
-        switch (clean) {
-            case "c": return 0;
-            case "cis": case "des": return 1;
-            case "d": return 2;
-            case "dis": case "es": return 3;
-            case "e": return 4;
-            case "f": return 5;
-            case "fis": case "ges": return 6;
-            case "g": return 7;
-            case "gis": case "as": return 8;
-            case "a": return 9;
-            case "b": case "ais": return 10;
-            case "h": return 11;
-            default: return 0;
-        }
-    }
-
-    private boolean shouldUseSharp(String letter) {
-        String clean = letter.replace("'", "").toLowerCase();
-        switch (clean) {
-            case "g": case "d": case "a": case "e": case "h":
-            case "fis": case "cis": case "gis": case "dis": case "ais":
-                return true;
-            case "f": case "b": case "es": case "as": case "des": case "ges":
-                return false;
-            default:
-                return true;
-        }
-    }
-
-    private int getSemitones(Interval interval) {
-        Integer semitones = INTERVAL_SEMITONES.get(interval.shortName);
-        if (semitones != null) {
-            return semitones;
+    /**
+     * Gibt die Stufenakkorde zurück und holt sie beim ersten Aufruf aus dem
+     * {@link ScaleMaker#getCache() Cache}. Wie {@link #notes()} ohne Synchronisation; die
+     * unveränderliche Liste veröffentlicht ihre Elemente sicher.
+     *
+     * @return Dreiklänge der Stufen 1 bis n, danach die Septakkorde der Stufen 1 bis n
+     */
+    List<Chord> diatonicChords() throws Exception {
+        List<Chord> result = diatonicChords;
+        if (result == null) {
+            ChordType[] triads = DiatonicHarmony.triads(scaleType);
+            ChordType[] sevenths = DiatonicHarmony.sevenths(scaleType);
+            ScaleMakerCache cache = ScaleMaker.getCache();
+            Chord[] chords = new Chord[2 * triads.length];
+            for (int i = 0; i < triads.length; i++) {
+                MusicalNote root = getNote(i + 1);
+                chords[i] = tuning == null
+                    ? cache.chord(root, triads[i]) : cache.chord(root, triads[i], tuning);
+                chords[triads.length + i] = tuning == null
+                    ? cache.chord(root, sevenths[i]) : cache.chord(root, sevenths[i], tuning);
+            }
+            result = List.of(chords);
+            diatonicChords = result;
         }
-        return (int) Math.round(12 * Math.log(interval.proportion) / Math.log(2));
+        return result;
     }
 
     /**
@@ -155,15 +133,17 @@ public class Scale {
     public void print() {
         System.out.println("Grundton: " + fundamentalTone.letter);
         System.out.println("Skala: " + scaleType.getDisplayName());
+        Interval[] intervals = scaleType.getIntervals();
         System.out.println("Intervalle: " + intervals.length + " (inkl. Prim)");
         System.out.println("\n" + fundamentalTone.letter + "-" + scaleType.getDisplayName() + ":");
         System.out.println("-".repeat(40));
 
+        List<MusicalNote> scale = notes().notes;
         for (int i = 0; i < scale.size(); i++) {
             MusicalNote note = scale.get(i);
             String intervalName = intervals[i].interval;
             System.out.println(String.format("%-3d", i + 1) + ". " +
-                note.letter + MusicalNote.octaveToSymbols(note.octave) +
+                note.letter + MusicalNote.octaveToSymbols(note.getOctave()) +
                 "\t(" + String.format("%.2f", note.frequency) + " Hz)" +
                 "\t[" + intervalName + "]");
         }
@@ -176,7 +156,7 @@ public class Scale {
      * @return Unveränderliche Liste aller Noten (inkl. Oktave am Ende)
      */
     public List<MusicalNote> getNotes() {
-        return Collections.unmodifiableList(scale);
+        return notes().notes;
     }
 
     /**
@@ -186,36 +166,61 @@ public class Scale {
      * @return Die Note auf dieser Stufe, oder null wenn ungültig
      */
     public MusicalNote getNote(int degree) {
-        if (degree < 1 || degree > scale.size()) {
+        if (degree < 1 || degree > size()) {
             return null;
         }
-        return scale.get(degree - 1);
+        return degree == 1 ? fundamentalTone : notes().notes.get(degree - 1);
     }
 
     /**
      * Gibt alle Frequenzen der Tonleiter als Array zurück.
      *
+     * <p>Jeder Aufruf liefert eine Kopie. Für wiederholten Zugriff ohne Allokation
+     * {@link #getFrequency(int)} oder {@link #getFrequencyBuffer()} verwenden.</p>
+     *
      * @return Array mit Frequenzen in Hz
      */
     public double[] getFrequencies() {
-        double[] freqs = new double[scale.size()];
-        for (int i = 0; i < scale.size(); i++) {
-            freqs[i] = scale.get(i).frequency;
-        }
-        return freqs;
+        return notes().frequencies.clone();
+    }
+
+    /**
+     * Gibt die Frequenz eines Tons der Tonleiter zurück.
+     *
+     * @param index Index von 0 bis size() - 1 (0 = Grundton)
+     * @return Frequenz in Hz
+     */
+    public double getFrequency(int index) {
+        return notes().frequencies[Objects.checkIndex(index, size())];
+    }
+
+    /**
+     * Gibt die Frequenzen der Tonleiter als schreibgeschützte Ansicht zurück (ohne Kopie).
+     *
+     * @return Neuer Puffer mit eigener Position über denselben Frequenzen
+     */
+    public DoubleBuffer getFrequencyBuffer() {
+        return notes().frequencyBuffer.duplicate();
     }
 
     /**
      * Gibt alle Notennamen der Tonleiter als Array zurück.
      *
+     * <p>Jeder Aufruf liefert eine Kopie; {@link #getNoteNameList()} kommt ohne aus.</p>
+     *
      * @return Array mit Notennamen (z.B. ["C", "D", "E", "F", "G", "A", "H", "C"])
      */
     public String[] getNoteNames() {
-        String[] names = new String[scale.size()];
-        for (int i = 0; i < scale.size(); i++) {
-            names[i] = scale.get(i).letter;
-        }
-        return names;
+        return notes().names.clone();
+    }
+
+    /**
+     * Gibt alle Notennamen der Tonleiter als unveränderliche Liste zurück (ohne Kopie).
+     *
+     * @return Unveränderliche Liste der Notennamen
+     */
+    public List<String> getNoteNameList() {
+        return notes().nameList;
     }
 
     /**
@@ -236,52 +241,172 @@ public class Scale {
         return fundamentalTone;
     }
 
+    /**
+     * Gibt die Stimmung der Tonleiter zurück.
+     *
+     * @return Die Stimmung, oder null bei reinen Intervallverhältnissen
+     */
+    public TuningSystem getTuning() {
+        return tuning;
+    }
+
     /**
      * Gibt die Anzahl der Töne in der Tonleiter zurück (inkl. Oktave).
      *
      * @return Anzahl der Töne
      */
     public int size() {
-        return scale.size();
+        return scaleType.getIntervals().length;
+    }
+
+    /**
+     * Gibt die Töne der Tonleiter zwischen zwei Tonnummern als Bereich über beliebig viele Oktaven zurück.
+     *
+     * <p>Der Bereich legt keine Noten an; Frequenzen und Tonnummern werden pro Index berechnet.</p>
+     *
+     * @param lowestKey Tiefste Tonnummer (inklusive, z.B. {@link ScaleRange#PIANO_LOWEST_KEY})
+     * @param highestKey Höchste Tonnummer (inklusive, z.B. {@link ScaleRange#PIANO_HIGHEST_KEY})
+     * @return Alle Töne der Tonleiter in diesem Bereich, aufsteigend
+     */
+    public ScaleRange getRange(int lowestKey, int highestKey) {
+        if (lowestKey > highestKey) {
+            throw new IllegalArgumentException("Tiefste Tonnummer " + lowestKey + " liegt über der höchsten " + highestKey);
+        }
+        // Stufen einer Oktave; die abschließende Oktave gehört zur nächsten Wiederholung
+        Interval[] intervals = scaleType.getIntervals();
+        int degrees = intervals.length > 1 && intervals[intervals.length - 1].semitones == 12
+            ? intervals.length - 1
+            : intervals.length;
+        int[] semitones = new int[degrees];
+        for (int i = 0; i < degrees; i++) {
+            semitones[i] = intervals[i].semitones;
+        }
+        NoteSet notes = notes();
+        double[] frequencies = Arrays.copyOf(notes.frequencies, degrees);
+        String[] letters = Arrays.copyOf(notes.names, degrees);
+        double period = degrees < intervals.length ? notes.frequencies[degrees] / frequencies[0] : 2.0;
+        int rootKey = fundamentalTone.getMidiNumber();
+
+        long lowOctave = Math.floorDiv((long) lowestKey - rootKey, 12);
+        long first = (lowOctave + 1) * degrees;
+        for (int i = 0; i < degrees; i++) {
+            if (rootKey + semitones[i] + 12 * lowOctave >= lowestKey) {
+                first = lowOctave * degrees + i;
+                break;
+            }
+        }
+        long highOctave = Math.floorDiv((long) highestKey - rootKey, 12);
+        long last = highOctave * degrees - 1;
+        for (int i = degrees - 1; i >= 0; i--) {
+            if (rootKey + semitones[i] + 12 * highOctave <= highestKey) {
+                last = highOctave * degrees + i;
+                break;
+            }
+        }
+        long size = Math.max(0, last - first + 1);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bereich zu groß: " + size + " Töne");
+        }
+        return new ScaleRange(this, rootKey, semitones, frequencies, letters, period, first, (int) size);
+    }
+
+    /**
+     * Gibt die Tonleiter ab dem Grundton über mehrere Oktaven als Bereich zurück.
+     *
+     * @param octaves Anzahl Oktaven (0 = nur der Grundton)
+     * @return Alle Töne vom Grundton bis zum Grundton {@code octaves} Oktaven höher
+     */
+    public ScaleRange getOctaveRange(int octaves) {
+        if (octaves < 0) {
+            throw new IllegalArgumentException("Anzahl Oktaven darf nicht negativ sein: " + octaves);
+        }
+        int rootKey = fundamentalTone.getMidiNumber();
+        return getRange(rootKey, (int) Math.min(Integer.MAX_VALUE, rootKey + 12L * octaves));
     }
 
     /**
      * Erstellt den leitereigenen Dreiklang auf einer bestimmten Stufe.
      *
-     * <p>Der Akkordtyp wird automatisch basierend auf der Tonleiter bestimmt.
-     * Für Dur: I, IV, V = Dur; ii, iii, vi = Moll; vii° = vermindert</p>
+     * <p>Der Akkordtyp wird durch Terzschichtung über der Tonleiter bestimmt und je
+     * Skalentyp nur einmal berechnet. Für Dur: I, IV, V = Dur; ii, iii, vi = Moll;
+     * vii° = vermindert</p>
+     *
+     * <p>Die Akkorde aller Stufen werden beim ersten Aufruf aus dem Cache geholt und in der
+     * Tonleiter gemerkt; jeder weitere Aufruf ist ein Listenzugriff.</p>
      *
      * @param degree Stufe (1-7 für heptatonische Skalen)
-     * @return Der Stufenakkord
+     * @return Der Stufenakkord (geteilte Instanz)
      * @throws Exception wenn die Stufe ungültig ist
      */
     public Chord getTriadOnDegree(int degree) throws Exception {
-        if (degree < 1 || degree > scale.size() - 1) {
-            throw new IllegalArgumentException("Stufe muss zwischen 1 und " + (scale.size() - 1) + " liegen.");
-        }
+        return diatonicChords().get(checkDegree(degree) - 1);
+    }
+
+    /**
+     * Erstellt den leitereigenen Septakkord auf einer bestimmten Stufe.
+     *
+     * <p>Für Dur: Imaj7, IVmaj7 = Dur-Septakkord; ii7, iii7, vi7 = Moll-Septakkord;
+     * V7 = Dominantseptakkord; viiø7 = halbvermindert</p>
+     *
+     * @param degree Stufe (1-7 für heptatonische Skalen)
+     * @return Der Septakkord (geteilte Instanz)
+     * @throws Exception wenn die Stufe ungültig ist
+     */
+    public Chord getSeventhOnDegree(int degree) throws Exception {
+        return diatonicChords().get(size() - 2 + checkDegree(degree));
+    }
 
-        MusicalNote root = scale.get(degree - 1);
-        ChordType chordType;
+    /**
+     * Gibt den Typ des leitereigenen Dreiklangs auf einer Stufe zurück.
+     *
+     * @param degree Stufe (1-7 für heptatonische Skalen)
+     * @return Akkordtyp aus der vorberechneten Tabelle des Skalentyps
+     */
+    public ChordType getTriadTypeOnDegree(int degree) {
+        return DiatonicHarmony.triads(scaleType)[checkDegree(degree) - 1];
+    }
 
-        if (scaleType == ScaleType.MAJOR || scaleType == ScaleType.IONIAN) {
-            switch (degree) {
-                case 1: case 4: case 5: chordType = ChordType.MAJOR; break;
-                case 2: case 3: case 6: chordType = ChordType.MINOR; break;
-                case 7: chordType = ChordType.DIMINISHED; break;
-                default: chordType = ChordType.MAJOR;
-            }
-        } else if (scaleType == ScaleType.MINOR || scaleType == ScaleType.AEOLIAN) {
-            switch (degree) {
-                case 1: case 4: case 5: chordType = ChordType.MINOR; break;
-                case 3: case 6: case 7: chordType = ChordType.MAJOR; break;
-                case 2: chordType = ChordType.DIMINISHED; break;
-                default: chordType = ChordType.MINOR;
-            }
-        } else {
-            chordType = ChordType.MAJOR;
+    /**
+     * Gibt den Typ des leitereigenen Septakkords auf einer Stufe zurück.
+     *
+     * @param degree Stufe (1-7 für heptatonische Skalen)
+     * @return Akkordtyp aus der vorberechneten Tabelle des Skalentyps
+     */
+    public ChordType getSeventhTypeOnDegree(int degree) {
+        return DiatonicHarmony.sevenths(scaleType)[checkDegree(degree) - 1];
+    }
+
+    private int checkDegree(int degree) {
+        if (degree < 1 || degree > size() - 1) {
+            throw new IllegalArgumentException("Stufe muss zwischen 1 und " + (size() - 1) + " liegen.");
+        }
+        return degree;
+    }
+
+    /**
+     * Vergleicht Grundton, Typ und Stimmung.
+     *
+     * @param o Anderes Objekt
+     * @return true bei gleicher Tonleiter
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
         }
+        if (!(o instanceof Scale)) {
+            return false;
+        }
+        Scale other = (Scale) o;
+        return hash == other.hash
+            && scaleType == other.scaleType
+            && fundamentalTone.equals(other.fundamentalTone)
+            && Objects.equals(tuning, other.tuning);
+    }
 
-        return new Chord(root, chordType);
+    @Override
+    public int hashCode() {
+        return hash;
     }
 
     /**
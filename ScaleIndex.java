@@ -0,0 +1,267 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Index aller Tonleitern (12 Grundtöne × {@link ScaleType}) als 12-Bit-Tonklassenmasken.
+ *
+ * <p>Beantwortet Fragen wie „Welche Tonleitern enthalten diese Töne?“ mit Bitoperationen über
+ * ein gepacktes Masken-Array, ohne eine einzige {@link Scale} zu erstellen. Die Masken werden
+ * beim Laden der Klasse aus {@link ScaleType#getIntervals()} abgeleitet; zusätzlich hält ein
+ * invertierter Index je Tonklasse die Bitmenge aller Einträge, die diese Tonklasse enthalten.
+ * Eine Suche ist damit ein UND über wenige 64-Bit-Wörter.</p>
+ *
+ * <p>Ein Treffer ist ein Eintrags-Index ({@code int}), aus dem sich Grundton und Typ über
+ * {@link #rootOf(int)} und {@link #typeOf(int)} lesen lassen. Die Suchmethoden schreiben
+ * die Treffer sortiert in ein vom Aufrufer bereitgestelltes Array und erzeugen dabei
+ * keine Objekte.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * // Welche Tonleitern enthalten C, E, Fis?
+ * int mask = ChordIdentifier.maskOf(0, 4, 6);
+ * int[] hits = new int[ScaleIndex.size()];
+ * int count = ScaleIndex.findSupersets(mask, hits);
+ *
+ * for (int i = 0; i < count; i++) {
+ *     System.out.println(ScaleIndex.toScale(hits[i])); // G-Dur, C-Lydisch, ...
+ * }
+ * }</pre>
+ *
+ * <p>Die Aliase {@link ScaleType#MAJOR}/{@link ScaleType#IONIAN} und
+ * {@link ScaleType#MINOR}/{@link ScaleType#AEOLIAN} sind eigene Einträge und
+ * erscheinen daher jeweils beide in den Ergebnissen.</p>
+ *
+ * @see ScaleType
+ * @see ChordIdentifier#maskOf(int...)
+ */
+public final class ScaleIndex {
+
+    private static final ScaleType[] TYPES = ScaleType.values();
+
+    /** Anzahl Einträge: 12 Grundtöne × Skalentypen, Index = Typ * 12 + Grundton */
+    private static final int SIZE = 12 * TYPES.length;
+
+    /** Anzahl 64-Bit-Wörter einer Eintragsmenge */
+    private static final int WORDS = (SIZE + 63) / 64;
+
+    /** Tonklassenmaske je Eintrag */
+    private static final short[] MASKS = new short[SIZE];
+
+    /** Invertierter Index: [Tonklasse * WORDS + Wort] → Bitmenge der Einträge, die die Tonklasse enthalten */
+    private static final long[] CONTAINING = new long[12 * WORDS];
+
+    /** Bitmenge aller Einträge */
+    private static final long[] ALL = new long[WORDS];
+
+    static {
+        for (ScaleType type : TYPES) {
+            int rootMask = 0;
+            for (Interval interval : type.getIntervals()) {
+                rootMask |= 1 << (interval.semitones % 12);
+            }
+            for (int root = 0; root < 12; root++) {
+                int mask = ((rootMask << root) | (rootMask >>> (12 - root))) & 0xFFF;
+                int entry = type.ordinal() * 12 + root;
+                MASKS[entry] = (short) mask;
+                ALL[entry >>> 6] |= 1L << entry;
+                for (int pitchClass = 0; pitchClass < 12; pitchClass++) {
+                    if ((mask & 1 << pitchClass) != 0) {
+                        CONTAINING[pitchClass * WORDS + (entry >>> 6)] |= 1L << entry;
+                    }
+                }
+            }
+        }
+    }
+
+    private ScaleIndex() {
+        // Utility-Klasse, nicht instanziierbar
+    }
+
+    // ==================== SUCHE ====================
+
+    /**
+     * Findet alle Tonleitern, die sämtliche Töne der Maske enthalten.
+     *
+     * <p>Sortiert nach der Anzahl zusätzlicher Töne (passendste zuerst), bei Gleichstand
+     * in Reihenfolge der Skalentypen.</p>
+     *
+     * @param mask 12-Bit-Tonklassenmaske der gesuchten Töne
+     * @param results Zielarray (Länge {@link #size()} reicht immer)
+     * @return Anzahl der Treffer
+     * @throws ArrayIndexOutOfBoundsException wenn das Zielarray zu kurz ist
+     */
+    public static int findSupersets(int mask, int[] results) {
+        mask &= 0xFFF;
+        int count = 0;
+        for (int w = 0; w < WORDS; w++) {
+            long candidates = supersetWord(mask, w);
+            while (candidates != 0) {
+                int entry = w << 6 | Long.numberOfTrailingZeros(candidates);
+                candidates &= candidates - 1;
+                int extra = Integer.bitCount(MASKS[entry] & ~mask);
+                results[count++] = extra << 16 | entry;
+            }
+        }
+        return rank(results, count);
+    }
+
+    /**
+     * Findet alle Tonleitern, deren Töne vollständig in der Maske liegen.
+     *
+     * <p>Sortiert nach Anzahl der Skalentöne (größte Abdeckung zuerst).</p>
+     *
+     * @param mask 12-Bit-Tonklassenmaske der verfügbaren Töne
+     * @param results Zielarray (Länge {@link #size()} reicht immer)
+     * @return Anzahl der Treffer
+     * @throws ArrayIndexOutOfBoundsException wenn das Zielarray zu kurz ist
+     */
+    public static int findSubsets(int mask, int[] results) {
+        mask &= 0xFFF;
+        int count = 0;
+        for (int w = 0; w < WORDS; w++) {
+            long candidates = subsetWord(mask, w);
+            while (candidates != 0) {
+                int entry = w << 6 | Long.numberOfTrailingZeros(candidates);
+                candidates &= candidates - 1;
+                int missing = 12 - Integer.bitCount(MASKS[entry]);
+                results[count++] = missing << 16 | entry;
+            }
+        }
+        return rank(results, count);
+    }
+
+    /**
+     * Findet alle Tonleitern, die genau die Töne der Maske enthalten.
+     *
+     * @param mask 12-Bit-Tonklassenmaske
+     * @param results Zielarray (Länge {@link #size()} reicht immer)
+     * @return Anzahl der Treffer, in Reihenfolge der Einträge
+     * @throws ArrayIndexOutOfBoundsException wenn das Zielarray zu kurz ist
+     */
+    public static int findExact(int mask, int[] results) {
+        mask &= 0xFFF;
+        int count = 0;
+        for (int w = 0; w < WORDS; w++) {
+            long candidates = supersetWord(mask, w) & subsetWord(mask, w);
+            while (candidates != 0) {
+                results[count++] = w << 6 | Long.numberOfTrailingZeros(candidates);
+                candidates &= candidates - 1;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Findet alle Tonleitern, die sämtliche angegebenen Noten enthalten, und erstellt sie.
+     *
+     * <p>Komfortvariante von {@link #findSupersets(int, int[])}; die Tonleitern kommen aus
+     * dem Cache von {@link ScaleMaker}.</p>
+     *
+     * @param notes Die gesuchten Noten (Oktavlage egal)
+     * @return Passende Tonleitern, passendste zuerst
+     * @throws Exception wenn eine Tonleiter nicht erstellt werden kann
+     */
+    public static List<Scale> scalesContaining(List<MusicalNote> notes) throws Exception {
+        int[] hits = new int[SIZE];
+        int count = findSupersets(ChordIdentifier.maskOf(notes), hits);
+        List<Scale> scales = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            scales.add(toScale(hits[i]));
+        }
+        return scales;
+    }
+
+    // ==================== EINTRÄGE ====================
+
+    /**
+     * Gibt die Anzahl der Einträge im Index zurück.
+     *
+     * @return 12 × Anzahl der Skalentypen
+     */
+    public static int size() {
+        return SIZE;
+    }
+
+    /**
+     * Gibt den Eintrag für Grundton und Typ zurück.
+     *
+     * @param root Tonklasse des Grundtons (0-11)
+     * @param type Skalentyp
+     * @return Eintrags-Index
+     */
+    public static int entryOf(int root, ScaleType type) {
+        Objects.checkIndex(root, 12);
+        return type.ordinal() * 12 + root;
+    }
+
+    /**
+     * Gibt die Tonklassenmaske eines Eintrags zurück.
+     *
+     * @param entry Eintrags-Index
+     * @return 12-Bit-Tonklassenmaske
+     */
+    public static int maskOf(int entry) {
+        return MASKS[entry];
+    }
+
+    /**
+     * Gibt den Grundton eines Eintrags zurück.
+     *
+     * @param entry Eintrags-Index
+     * @return Tonklasse 0-11 (C = 0)
+     */
+    public static int rootOf(int entry) {
+        Objects.checkIndex(entry, SIZE);
+        return entry % 12;
+    }
+
+    /**
+     * Gibt den Skalentyp eines Eintrags zurück.
+     *
+     * @param entry Eintrags-Index
+     * @return Der ScaleType
+     */
+    public static ScaleType typeOf(int entry) {
+        return TYPES[entry / 12];
+    }
+
+    /**
+     * Erstellt die Tonleiter eines Eintrags (Standard-Stimmung, aus dem Cache).
+     *
+     * @param entry Eintrags-Index
+     * @return Die Tonleiter
+     * @throws Exception wenn die Tonleiter nicht erstellt werden kann
+     */
+    public static Scale toScale(int entry) throws Exception {
+        return ScaleMaker.scale(MusicalNote.CHROMATIC_SHARP[rootOf(entry)], typeOf(entry));
+    }
+
+    // Einträge (Wort w), die alle Tonklassen der Maske enthalten
+    private static long supersetWord(int mask, int w) {
+        long word = ALL[w];
+        for (int m = mask; m != 0; m &= m - 1) {
+            word &= CONTAINING[Integer.numberOfTrailingZeros(m) * WORDS + w];
+        }
+        return word;
+    }
+
+    // Einträge (Wort w), die keine Tonklasse außerhalb der Maske enthalten
+    private static long subsetWord(int mask, int w) {
+        long word = ALL[w];
+        for (int m = ~mask & 0xFFF; m != 0; m &= m - 1) {
+            word &= ~CONTAINING[Integer.numberOfTrailingZeros(m) * WORDS + w];
+        }
+        return word;
+    }
+
+    // Sortiert die Treffer nach Rang (obere 16 Bit) und entfernt den Rang wieder
+    private static int rank(int[] results, int count) {
+        Arrays.sort(results, 0, count);
+        for (int i = 0; i < count; i++) {
+            results[i] &= 0xFFFF;
+        }
+        return count;
+    }
+}
@@ -1,3 +1,7 @@
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+
 /**
  * ScaleMaker - Zentrale API-Klasse für Tonleitern, Akkorde und Intervalle.
  *
@@ -31,6 +35,21 @@
  */
 public final class ScaleMaker {
 
+    /** Kammerton A in Hz, Bezugspunkt für {@link #calculateFrequency(int)} */
+    private static final double CONCERT_PITCH_A = 440.0;
+
+    /** Gleichstufige Frequenzverhältnisse 2^(i/12) innerhalb einer Oktave, Index = Halbtöne */
+    private static final double[] SEMITONE_RATIOS = new double[12];
+
+    static {
+        for (int i = 0; i < SEMITONE_RATIOS.length; i++) {
+            SEMITONE_RATIOS[i] = Math.pow(2, i / 12.0);
+        }
+    }
+
+    /** Gemeinsamer Cache für Tonleitern und Akkorde */
+    private static final ScaleMakerCache CACHE = new ScaleMakerCache();
+
     private ScaleMaker() {
         // Utility-Klasse, nicht instanziierbar
     }
@@ -76,11 +95,34 @@ public final class ScaleMaker {
         return new MusicalNote(letter, frequency, octave);
     }
 
+    /**
+     * Erstellt eine eingestrichene Note mit der Frequenz aus einer Stimmung.
+     *
+     * <p>Beispiel:</p>
+     * <pre>{@code
+     * MusicalNote c = ScaleMaker.note("C", TuningSystem.equalTemperament()); // 261.63 Hz
+     * }</pre>
+     *
+     * @param letter Notenname (C, D, E, F, G, A, H, B, Cis, Des, etc.)
+     * @param tuning Die Stimmung
+     * @return Die erstellte Note
+     * @throws Exception wenn der Notenname ungültig ist
+     */
+    public static MusicalNote note(String letter, TuningSystem tuning) throws Exception {
+        if (!MusicalNote.DEFAULT_SCALE.containsKey(letter)) {
+            throw new IllegalArgumentException("Unbekannte Note: '" + letter + "'");
+        }
+        int key = 12 * (1 + MusicalNote.MIDI_OCTAVE_OFFSET) + MusicalNote.parsePitchClass(letter);
+        return new MusicalNote(letter, tuning.frequency(key), 1);
+    }
+
     // ==================== TONLEITERN ====================
 
     /**
      * Erstellt eine Tonleiter mit dem angegebenen Grundton und Typ.
      *
+     * <p>Gleiche Parameter liefern dieselbe, geteilte Instanz aus dem {@link #getCache() Cache}.</p>
+     *
      * <p>Beispiel:</p>
      * <pre>{@code
      * Scale cDur = ScaleMaker.scale("C", ScaleType.MAJOR);
@@ -96,19 +138,44 @@ public final class ScaleMaker {
      * @see ScaleType
      */
     public static Scale scale(String rootNote, ScaleType type) throws Exception {
-        return new Scale(note(rootNote), type);
+        return CACHE.scale(rootNote, type);
     }
 
     /**
      * Erstellt eine Tonleiter mit der angegebenen Note als Grundton.
      *
+     * <p>Die Instanz wird über Notenname, Oktave und Frequenz des Grundtons gecacht.</p>
+     *
      * @param rootNote Grundton als MusicalNote
      * @param type Typ der Tonleiter
      * @return Die erstellte Tonleiter
      * @throws Exception wenn die Erstellung fehlschlägt
      */
     public static Scale scale(MusicalNote rootNote, ScaleType type) throws Exception {
-        return new Scale(rootNote, type);
+        return CACHE.scale(rootNote, type);
+    }
+
+    /**
+     * Erstellt eine Tonleiter in einer bestimmten Stimmung.
+     *
+     * <p>Grundton und Skalentöne werden aus der Frequenztabelle der Stimmung gelesen.
+     * Die Instanz wird zusammen mit der Stimmung gecacht.</p>
+     *
+     * <p>Beispiel:</p>
+     * <pre>{@code
+     * Scale cDur = ScaleMaker.scale("C", ScaleType.MAJOR, TuningSystem.werckmeister());
+     * }</pre>
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type Typ der Tonleiter
+     * @param tuning Die Stimmung
+     * @return Die erstellte Tonleiter
+     * @throws Exception wenn der Grundton ungültig ist
+     *
+     * @see TuningSystem
+     */
+    public static Scale scale(String rootNote, ScaleType type, TuningSystem tuning) throws Exception {
+        return CACHE.scale(note(rootNote, tuning), type, tuning);
     }
 
     /**
@@ -138,6 +205,8 @@ public final class ScaleMaker {
     /**
      * Erstellt einen Akkord mit dem angegebenen Grundton und Typ.
      *
+     * <p>Gleiche Parameter liefern dieselbe, geteilte Instanz aus dem {@link #getCache() Cache}.</p>
+     *
      * <p>Beispiel:</p>
      * <pre>{@code
      * Chord cDur = ScaleMaker.chord("C", ChordType.MAJOR);
@@ -153,19 +222,36 @@ public final class ScaleMaker {
      * @see ChordType
      */
     public static Chord chord(String rootNote, ChordType type) throws Exception {
-        return new Chord(note(rootNote), type);
+        return CACHE.chord(rootNote, type);
     }
 
     /**
      * Erstellt einen Akkord mit der angegebenen Note als Grundton.
      *
+     * <p>Die Instanz wird über Notenname, Oktave und Frequenz des Grundtons gecacht.</p>
+     *
      * @param rootNote Grundton als MusicalNote
      * @param type Typ des Akkords
      * @return Der erstellte Akkord
      * @throws Exception wenn die Erstellung fehlschlägt
      */
     public static Chord chord(MusicalNote rootNote, ChordType type) throws Exception {
-        return new Chord(rootNote, type);
+        return CACHE.chord(rootNote, type);
+    }
+
+    /**
+     * Erstellt einen Akkord in einer bestimmten Stimmung.
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type Typ des Akkords
+     * @param tuning Die Stimmung
+     * @return Der erstellte Akkord
+     * @throws Exception wenn der Grundton ungültig ist
+     *
+     * @see TuningSystem
+     */
+    public static Chord chord(String rootNote, ChordType type, TuningSystem tuning) throws Exception {
+        return CACHE.chord(note(rootNote, tuning), type, tuning);
     }
 
     /**
@@ -198,6 +284,10 @@ public final class ScaleMaker {
      * <p>Für eine Dur-Tonleiter werden die Stufenakkorde I-VII zurückgegeben:
      * I (Dur), ii (Moll), iii (Moll), IV (Dur), V (Dur), vi (Moll), vii° (vermindert)</p>
      *
+     * <p>Die Akkordtypen stammen aus einer je Skalentyp vorberechneten Tabelle, die Akkorde
+     * aus dem {@link #getCache() Cache}. Die Tonleiter merkt sich ihre Stufenakkorde;
+     * wiederholte Aufrufe legen nur das Array an.</p>
+     *
      * <p>Beispiel:</p>
      * <pre>{@code
      * Scale cDur = ScaleMaker.majorScale("C");
@@ -208,14 +298,35 @@ public final class ScaleMaker {
      * @param scale Die Tonleiter
      * @return Array mit allen Stufenakkorden (7 Akkorde für heptatonische Skalen)
      * @throws Exception wenn die Erstellung fehlschlägt
+     *
+     * @see Scale#getTriadOnDegree(int)
      */
     public static Chord[] getDiatonicChords(Scale scale) throws Exception {
-        int numDegrees = scale.getNotes().size() - 1; // ohne Oktave
-        Chord[] chords = new Chord[numDegrees];
-        for (int i = 1; i <= numDegrees; i++) {
-            chords[i - 1] = scale.getTriadOnDegree(i);
-        }
-        return chords;
+        int degrees = scale.size() - 1;
+        return scale.diatonicChords().subList(0, degrees).toArray(new Chord[degrees]);
+    }
+
+    /**
+     * Gibt alle diatonischen Septakkorde einer Tonleiter zurück.
+     *
+     * <p>Für eine Dur-Tonleiter: Imaj7, ii7, iii7, IVmaj7, V7, vi7, viiø7. Kosten wie bei
+     * {@link #getDiatonicChords(Scale)}.</p>
+     *
+     * <p>Beispiel:</p>
+     * <pre>{@code
+     * Chord[] septakkorde = ScaleMaker.getDiatonicSevenths(ScaleMaker.minorScale("A"));
+     * // Am7, Hm7b5, Cmaj7, Dm7, Em7, Fmaj7, G7
+     * }</pre>
+     *
+     * @param scale Die Tonleiter
+     * @return Array mit allen Septakkorden (7 Akkorde für heptatonische Skalen)
+     * @throws Exception wenn die Erstellung fehlschlägt
+     *
+     * @see Scale#getSeventhOnDegree(int)
+     */
+    public static Chord[] getDiatonicSevenths(Scale scale) throws Exception {
+        int degrees = scale.size() - 1;
+        return scale.diatonicChords().subList(degrees, 2 * degrees).toArray(new Chord[degrees]);
     }
 
     /**
@@ -239,13 +350,15 @@ public final class ScaleMaker {
     /**
      * Berechnet die Frequenz einer Note basierend auf Halbtonabstand zum Kammerton A.
      *
-     * <p>Verwendet die Formel: f = 440 * 2^(n/12), wobei n der Halbtonabstand zu A ist.</p>
+     * <p>Verwendet die Formel: f = 440 * 2^(n/12), wobei n der Halbtonabstand zu A ist.
+     * Der Faktor 2^(n/12) wird aus einer vorberechneten Tabelle für eine Oktave und
+     * einer exakten Zweierpotenz für die Oktavlage zusammengesetzt.</p>
      *
      * @param semitonesFromA Halbtonabstand zu A (positiv = höher, negativ = tiefer)
      * @return Die berechnete Frequenz in Hz
      */
     public static double calculateFrequency(int semitonesFromA) {
-        return 440.0 * Math.pow(2, semitonesFromA / 12.0);
+        return calculateFrequency(CONCERT_PITCH_A, semitonesFromA);
     }
 
     /**
@@ -256,7 +369,98 @@ public final class ScaleMaker {
      * @return Die berechnete Frequenz in Hz
      */
     public static double calculateFrequency(double referenceFreq, int semitones) {
-        return referenceFreq * Math.pow(2, semitones / 12.0);
+        return Math.scalb(referenceFreq * SEMITONE_RATIOS[Math.floorMod(semitones, 12)],
+            Math.floorDiv(semitones, 12));
+    }
+
+    /**
+     * Berechnet die Frequenz einer Note in einer bestimmten Stimmung.
+     *
+     * @param tuning Die Stimmung
+     * @param semitonesFromA Halbtonabstand zu A' (positiv = höher, negativ = tiefer)
+     * @return Die Frequenz aus der Tabelle der Stimmung in Hz
+     */
+    public static double calculateFrequency(TuningSystem tuning, int semitonesFromA) {
+        return tuning.frequency(TuningSystem.REFERENCE_KEY + semitonesFromA);
+    }
+
+    /**
+     * Berechnet die Frequenzen eines zusammenhängenden Halbtonbereichs ab A = 440 Hz.
+     *
+     * <p>Entspricht {@code dest[destOffset + i] = calculateFrequency(fromSemitone + i)},
+     * ohne Allokation und ohne {@code Math.pow} pro Element.</p>
+     *
+     * <p>Beispiel:</p>
+     * <pre>{@code
+     * // Alle 88 Klaviertasten (A0 bis C8)
+     * double[] piano = new double[88];
+     * ScaleMaker.calculateFrequencies(-48, piano, 0, 88);
+     * }</pre>
+     *
+     * @param fromSemitone Halbtonabstand des ersten Tons zu A
+     * @param dest Zielarray
+     * @param destOffset Startindex im Zielarray
+     * @param count Anzahl der Töne
+     * @throws IndexOutOfBoundsException wenn der Bereich nicht in das Zielarray passt
+     */
+    public static void calculateFrequencies(int fromSemitone, double[] dest, int destOffset, int count) {
+        calculateFrequencies(CONCERT_PITCH_A, fromSemitone, dest, destOffset, count);
+    }
+
+    /**
+     * Berechnet die Frequenzen eines zusammenhängenden Halbtonbereichs ab einem Referenzton.
+     *
+     * <p>Entspricht {@code dest[destOffset + i] = calculateFrequency(referenceFreq, fromSemitone + i)}.</p>
+     *
+     * @param referenceFreq Referenzfrequenz in Hz
+     * @param fromSemitone Halbtonabstand des ersten Tons zur Referenz
+     * @param dest Zielarray
+     * @param destOffset Startindex im Zielarray
+     * @param count Anzahl der Töne
+     * @throws IndexOutOfBoundsException wenn der Bereich nicht in das Zielarray passt
+     */
+    public static void calculateFrequencies(double referenceFreq, int fromSemitone,
+                                            double[] dest, int destOffset, int count) {
+        Objects.checkFromIndexSize(destOffset, count, dest.length);
+        int step = Math.floorMod(fromSemitone, 12);
+        double octave = Math.scalb(referenceFreq, Math.floorDiv(fromSemitone, 12));
+        int end = destOffset + count;
+        for (int i = destOffset; i < end; i++) {
+            dest[i] = octave * SEMITONE_RATIOS[step];
+            if (++step == 12) {
+                step = 0;
+                octave *= 2.0;
+            }
+        }
+    }
+
+    /**
+     * Schreibt die Frequenzen eines zusammenhängenden Halbtonbereichs in einen Puffer.
+     *
+     * <p>Geschrieben wird ab der aktuellen Position, die danach um {@code count} weiterrückt.</p>
+     *
+     * @param referenceFreq Referenzfrequenz in Hz
+     * @param fromSemitone Halbtonabstand des ersten Tons zur Referenz
+     * @param dest Zielpuffer
+     * @param count Anzahl der Töne
+     * @throws BufferOverflowException wenn im Puffer weniger als {@code count} Plätze frei sind
+     */
+    public static void calculateFrequencies(double referenceFreq, int fromSemitone, DoubleBuffer dest, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Anzahl darf nicht negativ sein: " + count);
+        }
+        if (dest.remaining() < count) {
+            throw new BufferOverflowException();
+        }
+        int step = Math.floorMod(fromSemitone, 12);
+        double octave = Math.scalb(referenceFreq, Math.floorDiv(fromSemitone, 12));
+        for (int i = 0; i < count; i++) {
+            dest.put(octave * SEMITONE_RATIOS[step]);
+            if (++step == 12) {
+                step = 0;
+                octave *= 2.0;
+            }
+        }
     }
 
     /**
@@ -270,6 +474,226 @@ public final class ScaleMaker {
         return baseFrequency * interval.getRatio();
     }
 
+    /**
+     * Wendet ein Intervall auf einen ganzen Frequenzbereich an.
+     *
+     * <p>Entspricht {@code dest[destOffset + i] = applyInterval(src[srcOffset + i], interval)}.
+     * Quelle und Ziel dürfen dasselbe Array sein (Berechnung an Ort und Stelle).</p>
+     *
+     * @param src Ausgangsfrequenzen in Hz
+     * @param srcOffset Startindex in der Quelle
+     * @param dest Zielarray
+     * @param destOffset Startindex im Ziel
+     * @param count Anzahl der Frequenzen
+     * @param interval Das anzuwendende Intervall
+     * @throws IndexOutOfBoundsException wenn ein Bereich nicht in sein Array passt
+     */
+    public static void applyInterval(double[] src, int srcOffset, double[] dest, int destOffset,
+                                     int count, IntervalType interval) {
+        Objects.checkFromIndexSize(srcOffset, count, src.length);
+        Objects.checkFromIndexSize(destOffset, count, dest.length);
+        double ratio = interval.getRatio();
+        if (src == dest && srcOffset < destOffset) {
+            // Überlappend nach hinten: von hinten abarbeiten wie System.arraycopy
+            for (int i = count - 1; i >= 0; i--) {
+                dest[destOffset + i] = src[srcOffset + i] * ratio;
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                dest[destOffset + i] = src[srcOffset + i] * ratio;
+            }
+        }
+    }
+
+    /**
+     * Bestimmt die nächstgelegene Note zu einer Frequenz (gleichstufig, A' = 440 Hz).
+     *
+     * @param frequency Frequenz in Hz
+     * @return Neue MusicalNote mit der Sollfrequenz der Note
+     * @throws IllegalArgumentException wenn die Frequenz nicht positiv ist
+     * @see NoteLookup
+     */
+    public static MusicalNote nearestNote(double frequency) {
+        return NoteLookup.equalTemperament().nearestNote(frequency);
+    }
+
+    /**
+     * Bestimmt die nächstgelegene Note zu einer Frequenz in einer Stimmung.
+     *
+     * <p>Für viele Abfragen in derselben Stimmung ist eine eigene {@link NoteLookup}-Instanz
+     * günstiger, da die Grenztabelle hier bei jedem Aufruf neu berechnet wird.</p>
+     *
+     * @param frequency Frequenz in Hz
+     * @param tuning Die Stimmung
+     * @return Neue MusicalNote mit der Frequenz der Note in dieser Stimmung
+     * @throws IllegalArgumentException wenn die Frequenz nicht positiv ist
+     */
+    public static MusicalNote nearestNote(double frequency, TuningSystem tuning) {
+        return NoteLookup.of(tuning).nearestNote(frequency);
+    }
+
+    // ==================== VALIDIERUNG ====================
+
+    /**
+     * Erstellt eine Note, ohne bei ungültigem Namen eine Exception zu werfen.
+     *
+     * <p>Für Benutzereingaben gedacht: ungültige Namen liefern ein geteiltes
+     * Fehlerergebnis, es wird weder eine Exception noch ein Stack-Trace erzeugt.</p>
+     *
+     * <p>Beispiel:</p>
+     * <pre>{@code
+     * ScaleMakerResult<MusicalNote> note = ScaleMaker.tryNote(input);
+     * if (!note.isSuccess()) {
+     *     return note.getError(); // UNKNOWN_NOTE
+     * }
+     * }</pre>
+     *
+     * @param letter Notenname
+     * @return Die Note oder {@link ScaleMakerError#NULL_ARGUMENT} / {@link ScaleMakerError#UNKNOWN_NOTE}
+     * @see #note(String)
+     */
+    public static ScaleMakerResult<MusicalNote> tryNote(String letter) {
+        ScaleMakerError error = validateLetter(letter);
+        if (error != null) {
+            return ScaleMakerResult.failure(error);
+        }
+        try {
+            return ScaleMakerResult.success(new MusicalNote(letter));
+        } catch (Exception e) {
+            return ScaleMakerResult.failure(ScaleMakerError.CREATION_FAILED);
+        }
+    }
+
+    /**
+     * Erstellt eine Note mit Frequenz, ohne bei ungültigen Parametern eine Exception zu werfen.
+     *
+     * @param letter Notenname
+     * @param frequency Frequenz in Hz
+     * @return Die Note oder {@link ScaleMakerError#NULL_ARGUMENT} / {@link ScaleMakerError#UNKNOWN_NOTE} /
+     *         {@link ScaleMakerError#INVALID_FREQUENCY}
+     * @see #note(String, double)
+     */
+    public static ScaleMakerResult<MusicalNote> tryNote(String letter, double frequency) {
+        if (letter == null) {
+            return ScaleMakerResult.failure(ScaleMakerError.NULL_ARGUMENT);
+        }
+        if (MusicalNote.findPitchClass(letter) < 0) {
+            return ScaleMakerResult.failure(ScaleMakerError.UNKNOWN_NOTE);
+        }
+        if (!(frequency > 0) || Double.isInfinite(frequency)) {
+            return ScaleMakerResult.failure(ScaleMakerError.INVALID_FREQUENCY);
+        }
+        try {
+            return ScaleMakerResult.success(new MusicalNote(letter, frequency));
+        } catch (Exception e) {
+            return ScaleMakerResult.failure(ScaleMakerError.CREATION_FAILED);
+        }
+    }
+
+    /**
+     * Erstellt eine Tonleiter, ohne bei ungültigem Grundton eine Exception zu werfen.
+     *
+     * <p>Gültige Eingaben liefern dieselbe gecachte Instanz wie {@link #scale(String, ScaleType)}.</p>
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type Typ der Tonleiter
+     * @return Die Tonleiter oder {@link ScaleMakerError#NULL_ARGUMENT} / {@link ScaleMakerError#UNKNOWN_NOTE}
+     */
+    public static ScaleMakerResult<Scale> tryScale(String rootNote, ScaleType type) {
+        ScaleMakerError error = type == null ? ScaleMakerError.NULL_ARGUMENT : validateLetter(rootNote);
+        if (error != null) {
+            return ScaleMakerResult.failure(error);
+        }
+        try {
+            return ScaleMakerResult.success(CACHE.scale(rootNote, type));
+        } catch (Exception e) {
+            return ScaleMakerResult.failure(ScaleMakerError.CREATION_FAILED);
+        }
+    }
+
+    /**
+     * Erstellt eine Tonleiter in einer Stimmung, ohne bei ungültigem Grundton eine Exception zu werfen.
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type Typ der Tonleiter
+     * @param tuning Die Stimmung
+     * @return Die Tonleiter oder {@link ScaleMakerError#NULL_ARGUMENT} / {@link ScaleMakerError#UNKNOWN_NOTE}
+     */
+    public static ScaleMakerResult<Scale> tryScale(String rootNote, ScaleType type, TuningSystem tuning) {
+        ScaleMakerError error = type == null || tuning == null ? ScaleMakerError.NULL_ARGUMENT : validateLetter(rootNote);
+        if (error != null) {
+            return ScaleMakerResult.failure(error);
+        }
+        try {
+            return ScaleMakerResult.success(scale(rootNote, type, tuning));
+        } catch (Exception e) {
+            return ScaleMakerResult.failure(ScaleMakerError.CREATION_FAILED);
+        }
+    }
+
+    /**
+     * Erstellt einen Akkord, ohne bei ungültigem Grundton eine Exception zu werfen.
+     *
+     * <p>Gültige Eingaben liefern dieselbe gecachte Instanz wie {@link #chord(String, ChordType)}.</p>
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type Typ des Akkords
+     * @return Der Akkord oder {@link ScaleMakerError#NULL_ARGUMENT} / {@link ScaleMakerError#UNKNOWN_NOTE}
+     */
+    public static ScaleMakerResult<Chord> tryChord(String rootNote, ChordType type) {
+        ScaleMakerError error = type == null ? ScaleMakerError.NULL_ARGUMENT : validateLetter(rootNote);
+        if (error != null) {
+            return ScaleMakerResult.failure(error);
+        }
+        try {
+            return ScaleMakerResult.success(CACHE.chord(rootNote, type));
+        } catch (Exception e) {
+            return ScaleMakerResult.failure(ScaleMakerError.CREATION_FAILED);
+        }
+    }
+
+    /**
+     * Erstellt einen Akkord in einer Stimmung, ohne bei ungültigem Grundton eine Exception zu werfen.
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type Typ des Akkords
+     * @param tuning Die Stimmung
+     * @return Der Akkord oder {@link ScaleMakerError#NULL_ARGUMENT} / {@link ScaleMakerError#UNKNOWN_NOTE}
+     */
+    public static ScaleMakerResult<Chord> tryChord(String rootNote, ChordType type, TuningSystem tuning) {
+        ScaleMakerError error = type == null || tuning == null ? ScaleMakerError.NULL_ARGUMENT : validateLetter(rootNote);
+        if (error != null) {
+            return ScaleMakerResult.failure(error);
+        }
+        try {
+            return ScaleMakerResult.success(chord(rootNote, type, tuning));
+        } catch (Exception e) {
+            return ScaleMakerResult.failure(ScaleMakerError.CREATION_FAILED);
+        }
+    }
+
+    // null, wenn der Notenname gültig ist
+    private static ScaleMakerError validateLetter(String letter) {
+        if (letter == null) {
+            return ScaleMakerError.NULL_ARGUMENT;
+        }
+        return MusicalNote.isKnownLetter(letter) ? null : ScaleMakerError.UNKNOWN_NOTE;
+    }
+
+    // ==================== CACHE ====================
+
+    /**
+     * Gibt den gemeinsamen Cache für Tonleitern und Akkorde zurück.
+     *
+     * <p>Über den Cache lassen sich Treffer/Fehlschläge abfragen und die
+     * gecachten Instanzen verwerfen.</p>
+     *
+     * @return Der gemeinsame {@link ScaleMakerCache}
+     */
+    public static ScaleMakerCache getCache() {
+        return CACHE;
+    }
+
     // ==================== INFORMATIONEN ====================
 
     /**
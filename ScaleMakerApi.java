@@ -1,4 +1,4 @@
-import java.util.List;
+import java.nio.DoubleBuffer;
 
 /**
  * API-Interface für alle Musik-Theorie-Funktionen des ScaleMaker-Plugins.
@@ -62,6 +62,17 @@ public interface ScaleMakerApi {
      */
     MusicalNote note(String letter, double frequency, int octave) throws Exception;
 
+    /**
+     * Erstellt eine eingestrichene Note mit der Frequenz aus einer Stimmung.
+     *
+     * @param letter Notenname
+     * @param tuning Die Stimmung
+     * @return Die erstellte Note
+     * @throws Exception wenn der Notenname ungültig ist
+     * @see TuningSystem
+     */
+    MusicalNote note(String letter, TuningSystem tuning) throws Exception;
+
     // ==================== TONLEITERN ====================
 
     /**
@@ -85,6 +96,18 @@ public interface ScaleMakerApi {
      */
     Scale scale(MusicalNote rootNote, ScaleType type) throws Exception;
 
+    /**
+     * Erstellt eine Tonleiter in einer bestimmten Stimmung.
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type     Skalentyp
+     * @param tuning   Die Stimmung (z.B. {@link TuningSystem#equalTemperament()})
+     * @return Die erstellte Tonleiter
+     * @throws Exception wenn der Grundton ungültig ist
+     * @see TuningSystem
+     */
+    Scale scale(String rootNote, ScaleType type, TuningSystem tuning) throws Exception;
+
     /**
      * Erstellt eine Dur-Tonleiter (Ionisch / Major).
      *
@@ -126,6 +149,18 @@ public interface ScaleMakerApi {
      */
     Chord chord(MusicalNote rootNote, ChordType type) throws Exception;
 
+    /**
+     * Erstellt einen Akkord in einer bestimmten Stimmung.
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type     Akkordtyp
+     * @param tuning   Die Stimmung
+     * @return Der erstellte Akkord
+     * @throws Exception wenn der Grundton ungültig ist
+     * @see TuningSystem
+     */
+    Chord chord(String rootNote, ChordType type, TuningSystem tuning) throws Exception;
+
     /**
      * Erstellt einen Dur-Dreiklang.
      *
@@ -158,6 +193,17 @@ public interface ScaleMakerApi {
      */
     Chord[] getDiatonicChords(Scale scale) throws Exception;
 
+    /**
+     * Gibt alle diatonischen Septakkorde einer Tonleiter zurück.
+     *
+     * <p>Für eine Dur-Tonleiter: Imaj7, ii7, iii7, IVmaj7, V7, vi7, viiø7</p>
+     *
+     * @param scale Die Tonleiter
+     * @return Array mit allen Septakkorden
+     * @throws Exception wenn die Erstellung fehlschlägt
+     */
+    Chord[] getDiatonicSevenths(Scale scale) throws Exception;
+
     /**
      * Gibt die Akkordsymbole aller Stufenakkorde einer Tonleiter zurück.
      *
@@ -186,6 +232,53 @@ public interface ScaleMakerApi {
      */
     double calculateFrequency(double referenceFreq, int semitones);
 
+    /**
+     * Berechnet die Frequenz einer Note in einer bestimmten Stimmung.
+     *
+     * @param tuning         Die Stimmung
+     * @param semitonesFromA Halbtonabstand zu A' (positiv = höher, negativ = tiefer)
+     * @return Die Frequenz in Hz
+     */
+    double calculateFrequency(TuningSystem tuning, int semitonesFromA);
+
+    /**
+     * Berechnet die Frequenzen eines zusammenhängenden Halbtonbereichs ab A = 440 Hz
+     * in ein vom Aufrufer bereitgestelltes Array.
+     *
+     * @param fromSemitone Halbtonabstand des ersten Tons zu A
+     * @param dest         Zielarray
+     * @param destOffset   Startindex im Zielarray
+     * @param count        Anzahl der Töne
+     * @throws IndexOutOfBoundsException wenn der Bereich nicht in das Zielarray passt
+     * @see ScaleMaker#calculateFrequencies(int, double[], int, int)
+     */
+    void calculateFrequencies(int fromSemitone, double[] dest, int destOffset, int count);
+
+    /**
+     * Berechnet die Frequenzen eines zusammenhängenden Halbtonbereichs relativ zu einer
+     * Referenzfrequenz in ein vom Aufrufer bereitgestelltes Array.
+     *
+     * @param referenceFreq Referenzfrequenz in Hz
+     * @param fromSemitone  Halbtonabstand des ersten Tons zur Referenz
+     * @param dest          Zielarray
+     * @param destOffset    Startindex im Zielarray
+     * @param count         Anzahl der Töne
+     * @throws IndexOutOfBoundsException wenn der Bereich nicht in das Zielarray passt
+     */
+    void calculateFrequencies(double referenceFreq, int fromSemitone, double[] dest, int destOffset, int count);
+
+    /**
+     * Schreibt die Frequenzen eines zusammenhängenden Halbtonbereichs ab der aktuellen
+     * Position in einen Puffer.
+     *
+     * @param referenceFreq Referenzfrequenz in Hz
+     * @param fromSemitone  Halbtonabstand des ersten Tons zur Referenz
+     * @param dest          Zielpuffer
+     * @param count         Anzahl der Töne
+     * @throws java.nio.BufferOverflowException wenn im Puffer zu wenig Platz ist
+     */
+    void calculateFrequencies(double referenceFreq, int fromSemitone, DoubleBuffer dest, int count);
+
     /**
      * Wendet ein Intervall auf eine Frequenz an.
      *
@@ -195,6 +288,106 @@ public interface ScaleMakerApi {
      */
     double applyInterval(double baseFrequency, IntervalType interval);
 
+    /**
+     * Wendet ein Intervall auf einen ganzen Frequenzbereich an.
+     * Quelle und Ziel dürfen dasselbe Array sein.
+     *
+     * @param src        Ausgangsfrequenzen in Hz
+     * @param srcOffset  Startindex in der Quelle
+     * @param dest       Zielarray
+     * @param destOffset Startindex im Ziel
+     * @param count      Anzahl der Frequenzen
+     * @param interval   Das anzuwendende Intervall
+     * @throws IndexOutOfBoundsException wenn ein Bereich nicht in sein Array passt
+     */
+    void applyInterval(double[] src, int srcOffset, double[] dest, int destOffset, int count, IntervalType interval);
+
+    /**
+     * Bestimmt die nächstgelegene Note zu einer Frequenz (gleichstufig, A' = 440 Hz).
+     *
+     * @param frequency Frequenz in Hz
+     * @return Neue MusicalNote mit der Sollfrequenz der Note
+     * @throws IllegalArgumentException wenn die Frequenz nicht positiv ist
+     */
+    MusicalNote nearestNote(double frequency);
+
+    /**
+     * Bestimmt die nächstgelegene Note zu einer Frequenz in einer Stimmung.
+     *
+     * @param frequency Frequenz in Hz
+     * @param tuning    Die Stimmung
+     * @return Neue MusicalNote mit der Frequenz der Note in dieser Stimmung
+     * @throws IllegalArgumentException wenn die Frequenz nicht positiv ist
+     */
+    MusicalNote nearestNote(double frequency, TuningSystem tuning);
+
+    // ==================== VALIDIERUNG ====================
+
+    /**
+     * Erstellt eine Note ohne Exception bei ungültigem Namen.
+     *
+     * @param letter Notenname
+     * @return Die Note oder ein geteiltes Fehlerergebnis
+     * @see ScaleMaker#tryNote(String)
+     */
+    ScaleMakerResult<MusicalNote> tryNote(String letter);
+
+    /**
+     * Erstellt eine Note mit Frequenz ohne Exception bei ungültigen Parametern.
+     *
+     * @param letter    Notenname
+     * @param frequency Frequenz in Hz
+     * @return Die Note oder ein geteiltes Fehlerergebnis
+     */
+    ScaleMakerResult<MusicalNote> tryNote(String letter, double frequency);
+
+    /**
+     * Erstellt eine Tonleiter ohne Exception bei ungültigem Grundton.
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type     Skalentyp
+     * @return Die Tonleiter oder ein geteiltes Fehlerergebnis
+     */
+    ScaleMakerResult<Scale> tryScale(String rootNote, ScaleType type);
+
+    /**
+     * Erstellt eine Tonleiter in einer Stimmung ohne Exception bei ungültigem Grundton.
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type     Skalentyp
+     * @param tuning   Die Stimmung
+     * @return Die Tonleiter oder ein geteiltes Fehlerergebnis
+     */
+    ScaleMakerResult<Scale> tryScale(String rootNote, ScaleType type, TuningSystem tuning);
+
+    /**
+     * Erstellt einen Akkord ohne Exception bei ungültigem Grundton.
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type     Akkordtyp
+     * @return Der Akkord oder ein geteiltes Fehlerergebnis
+     */
+    ScaleMakerResult<Chord> tryChord(String rootNote, ChordType type);
+
+    /**
+     * Erstellt einen Akkord in einer Stimmung ohne Exception bei ungültigem Grundton.
+     *
+     * @param rootNote Grundton als Buchstabe
+     * @param type     Akkordtyp
+     * @param tuning   Die Stimmung
+     * @return Der Akkord oder ein geteiltes Fehlerergebnis
+     */
+    ScaleMakerResult<Chord> tryChord(String rootNote, ChordType type, TuningSystem tuning);
+
+    // ==================== CACHE ====================
+
+    /**
+     * Gibt den Cache zurück, aus dem Tonleitern und Akkorde geteilt ausgeliefert werden.
+     *
+     * @return Der {@link ScaleMakerCache} mit Treffer- und Fehlschlag-Zählern
+     */
+    ScaleMakerCache getCache();
+
     // ==================== VERFÜGBARE TYPEN ====================
 
     /**
@@ -1,3 +1,5 @@
+import java.nio.DoubleBuffer;
+
 /**
  * Nicht-statische Implementierung der {@link ScaleMakerApi}.
  *
@@ -32,6 +34,11 @@ class ScaleMakerApiImpl implements ScaleMakerApi {
         return ScaleMaker.note(letter, frequency, octave);
     }
 
+    @Override
+    public MusicalNote note(String letter, TuningSystem tuning) throws Exception {
+        return ScaleMaker.note(letter, tuning);
+    }
+
     // ==================== TONLEITERN ====================
 
     @Override
@@ -44,6 +51,11 @@ class ScaleMakerApiImpl implements ScaleMakerApi {
         return ScaleMaker.scale(rootNote, type);
     }
 
+    @Override
+    public Scale scale(String rootNote, ScaleType type, TuningSystem tuning) throws Exception {
+        return ScaleMaker.scale(rootNote, type, tuning);
+    }
+
     @Override
     public Scale majorScale(String rootNote) throws Exception {
         return ScaleMaker.majorScale(rootNote);
@@ -66,6 +78,11 @@ class ScaleMakerApiImpl implements ScaleMakerApi {
         return ScaleMaker.chord(rootNote, type);
     }
 
+    @Override
+    public Chord chord(String rootNote, ChordType type, TuningSystem tuning) throws Exception {
+        return ScaleMaker.chord(rootNote, type, tuning);
+    }
+
     @Override
     public Chord majorChord(String rootNote) throws Exception {
         return ScaleMaker.majorChord(rootNote);
@@ -83,6 +100,11 @@ class ScaleMakerApiImpl implements ScaleMakerApi {
         return ScaleMaker.getDiatonicChords(scale);
     }
 
+    @Override
+    public Chord[] getDiatonicSevenths(Scale scale) throws Exception {
+        return ScaleMaker.getDiatonicSevenths(scale);
+    }
+
     @Override
     public String[] getDiatonicChordSymbols(Scale scale) throws Exception {
         return ScaleMaker.getDiatonicChordSymbols(scale);
@@ -100,11 +122,86 @@ class ScaleMakerApiImpl implements ScaleMakerApi {
         return ScaleMaker.calculateFrequency(referenceFreq, semitones);
     }
 
+    @Override
+    public double calculateFrequency(TuningSystem tuning, int semitonesFromA) {
+        return ScaleMaker.calculateFrequency(tuning, semitonesFromA);
+    }
+
+    @Override
+    public void calculateFrequencies(int fromSemitone, double[] dest, int destOffset, int count) {
+        ScaleMaker.calculateFrequencies(fromSemitone, dest, destOffset, count);
+    }
+
+    @Override
+    public void calculateFrequencies(double referenceFreq, int fromSemitone, double[] dest, int destOffset, int count) {
+        ScaleMaker.calculateFrequencies(referenceFreq, fromSemitone, dest, destOffset, count);
+    }
+
+    @Override
+    public void calculateFrequencies(double referenceFreq, int fromSemitone, DoubleBuffer dest, int count) {
+        ScaleMaker.calculateFrequencies(referenceFreq, fromSemitone, dest, count);
+    }
+
     @Override
     public double applyInterval(double baseFrequency, IntervalType interval) {
         return ScaleMaker.applyInterval(baseFrequency, interval);
     }
 
+    @Override
+    public void applyInterval(double[] src, int srcOffset, double[] dest, int destOffset, int count,
+                              IntervalType interval) {
+        ScaleMaker.applyInterval(src, srcOffset, dest, destOffset, count, interval);
+    }
+
+    @Override
+    public MusicalNote nearestNote(double frequency) {
+        return ScaleMaker.nearestNote(frequency);
+    }
+
+    @Override
+    public MusicalNote nearestNote(double frequency, TuningSystem tuning) {
+        return ScaleMaker.nearestNote(frequency, tuning);
+    }
+
+    // ==================== VALIDIERUNG ====================
+
+    @Override
+    public ScaleMakerResult<MusicalNote> tryNote(String letter) {
+        return ScaleMaker.tryNote(letter);
+    }
+
+    @Override
+    public ScaleMakerResult<MusicalNote> tryNote(String letter, double frequency) {
+        return ScaleMaker.tryNote(letter, frequency);
+    }
+
+    @Override
+    public ScaleMakerResult<Scale> tryScale(String rootNote, ScaleType type) {
+        return ScaleMaker.tryScale(rootNote, type);
+    }
+
+    @Override
+    public ScaleMakerResult<Scale> tryScale(String rootNote, ScaleType type, TuningSystem tuning) {
+        return ScaleMaker.tryScale(rootNote, type, tuning);
+    }
+
+    @Override
+    public ScaleMakerResult<Chord> tryChord(String rootNote, ChordType type) {
+        return ScaleMaker.tryChord(rootNote, type);
+    }
+
+    @Override
+    public ScaleMakerResult<Chord> tryChord(String rootNote, ChordType type, TuningSystem tuning) {
+        return ScaleMaker.tryChord(rootNote, type, tuning);
+    }
+
+    // ==================== CACHE ====================
+
+    @Override
+    public ScaleMakerCache getCache() {
+        return ScaleMaker.getCache();
+    }
+
     // ==================== VERFÜGBARE TYPEN ====================
 
     @Override
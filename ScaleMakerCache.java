@@ -0,0 +1,376 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Kanonisierender, thread-sicherer Cache für {@link Scale}- und {@link Chord}-Instanzen.
+ *
+ * <p>Tonleitern und Akkorde sind nach der Erstellung unveränderlich und können daher
+ * gefahrlos zwischen Aufrufern geteilt werden. Der Cache liefert für gleiche Parameter
+ * (Grundton, Oktave, Frequenz und Typ) immer dieselbe Instanz zurück.</p>
+ *
+ * <p>Intern gibt es zwei Bereiche:</p>
+ * <ul>
+ *   <li>Grundtöne der Standard-Stimmung ({@link MusicalNote#DEFAULT_SCALE}, Oktave 1) landen
+ *       in einer unbegrenzten {@link ConcurrentHashMap} – ihre Anzahl ist ohnehin durch
+ *       Notennamen × Typen beschränkt.</li>
+ *   <li>Grundtöne mit eigener Frequenz oder Oktave landen in einem LRU-Bereich mit fester
+ *       Kapazität, damit beliebige Frequenzen den Speicher nicht unbegrenzt füllen. Er ist in
+ *       bis zu {@value #MAX_SEGMENTS} Segmente mit eigener Sperre und eigener LRU-Reihenfolge
+ *       aufgeteilt; gleichzeitige Zugriffe auf verschiedene Segmente blockieren sich nicht.
+ *       Verdrängt wird je Segment der am längsten nicht benutzte Eintrag.</li>
+ * </ul>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * ScaleMakerCache cache = ScaleMaker.getCache();
+ *
+ * Scale a = ScaleMaker.scale("C", ScaleType.MAJOR);
+ * Scale b = ScaleMaker.scale("C", ScaleType.MAJOR); // a == b
+ *
+ * long hits = cache.getHitCount();     // 1
+ * long misses = cache.getMissCount();  // 1
+ * }</pre>
+ *
+ * @see ScaleMaker#getCache()
+ */
+public final class ScaleMakerCache {
+
+    /** Standard-Kapazität des LRU-Bereichs für Grundtöne mit eigener Frequenz */
+    public static final int DEFAULT_CUSTOM_CAPACITY = 1024;
+
+    /** Höchstzahl der Segmente des LRU-Bereichs (Zweierpotenz) */
+    static final int MAX_SEGMENTS = 16;
+
+    private final Map<CacheKey, Object> standard = new ConcurrentHashMap<>();
+    private final LruSegment[] custom;
+    private final int customCapacity;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Erstellt einen Cache mit der Standard-Kapazität für eigene Frequenzen.
+     */
+    public ScaleMakerCache() {
+        this(DEFAULT_CUSTOM_CAPACITY);
+    }
+
+    /**
+     * Erstellt einen Cache mit der angegebenen Kapazität für eigene Frequenzen.
+     *
+     * @param customCapacity Maximale Anzahl Einträge mit eigener Frequenz oder Oktave
+     * @throws IllegalArgumentException wenn die Kapazität kleiner als 1 ist
+     */
+    public ScaleMakerCache(int customCapacity) {
+        if (customCapacity < 1) {
+            throw new IllegalArgumentException("Kapazität muss mindestens 1 sein: " + customCapacity);
+        }
+        this.customCapacity = customCapacity;
+        // Segmentzahl: Zweierpotenz bis zur Kapazität, der Rest der Aufteilung geht an die ersten Segmente
+        int segments = Integer.highestOneBit(Math.min(MAX_SEGMENTS, customCapacity));
+        this.custom = new LruSegment[segments];
+        for (int i = 0; i < segments; i++) {
+            custom[i] = new LruSegment(customCapacity / segments + (i < customCapacity % segments ? 1 : 0));
+        }
+    }
+
+    // ==================== TONLEITERN ====================
+
+    /**
+     * Liefert die kanonische Tonleiter für einen Grundton aus der Standard-Stimmung.
+     *
+     * @param letter Notenname des Grundtons
+     * @param type Typ der Tonleiter
+     * @return Geteilte, unveränderliche Tonleiter
+     * @throws Exception wenn der Notenname unbekannt ist
+     */
+    public Scale scale(String letter, ScaleType type) throws Exception {
+        Double frequency = MusicalNote.DEFAULT_SCALE.get(letter);
+        if (frequency == null) {
+            // Wirft die gewohnte IllegalArgumentException für unbekannte Noten
+            return new Scale(new MusicalNote(letter), type);
+        }
+        CacheKey key = new CacheKey(letter, 1, frequency, type);
+        Object cached = standard.get(key);
+        if (cached != null) {
+            hits.increment();
+            return (Scale) cached;
+        }
+        misses.increment();
+        return (Scale) store(true, key, new Scale(new MusicalNote(letter), type));
+    }
+
+    /**
+     * Liefert die kanonische Tonleiter für einen beliebigen Grundton.
+     *
+     * @param root Grundton
+     * @param type Typ der Tonleiter
+     * @return Geteilte, unveränderliche Tonleiter
+     * @throws Exception wenn die Tonleiter nicht erstellt werden kann
+     */
+    public Scale scale(MusicalNote root, ScaleType type) throws Exception {
+        CacheKey key = new CacheKey(root.letter, root.getOctave(), root.frequency, type);
+        boolean inStandard = isStandard(root);
+        Object cached = inStandard ? standard.get(key) : segmentFor(key).get(key);
+        if (cached != null) {
+            hits.increment();
+            return (Scale) cached;
+        }
+        misses.increment();
+        return (Scale) store(inStandard, key, new Scale(root, type));
+    }
+
+    /**
+     * Liefert die kanonische Tonleiter für einen Grundton in einer bestimmten Stimmung.
+     *
+     * <p>Gestimmte Tonleitern liegen immer im LRU-Bereich; Stimmungen werden über
+     * {@code equals} verglichen, gleiche Tabellen teilen sich also einen Eintrag.</p>
+     *
+     * @param root Grundton
+     * @param type Typ der Tonleiter
+     * @param tuning Stimmung
+     * @return Geteilte, unveränderliche Tonleiter
+     * @throws Exception wenn die Tonleiter nicht erstellt werden kann
+     */
+    public Scale scale(MusicalNote root, ScaleType type, TuningSystem tuning) throws Exception {
+        CacheKey key = new CacheKey(root.letter, root.getOctave(), root.frequency, type, tuning);
+        Object cached = segmentFor(key).get(key);
+        if (cached != null) {
+            hits.increment();
+            return (Scale) cached;
+        }
+        misses.increment();
+        return (Scale) store(false, key, new Scale(root, type, tuning));
+    }
+
+    // ==================== AKKORDE ====================
+
+    /**
+     * Liefert den kanonischen Akkord für einen Grundton aus der Standard-Stimmung.
+     *
+     * @param letter Notenname des Grundtons
+     * @param type Typ des Akkords
+     * @return Geteilter, unveränderlicher Akkord
+     * @throws Exception wenn der Notenname unbekannt ist
+     */
+    public Chord chord(String letter, ChordType type) throws Exception {
+        Double frequency = MusicalNote.DEFAULT_SCALE.get(letter);
+        if (frequency == null) {
+            return new Chord(new MusicalNote(letter), type);
+        }
+        CacheKey key = new CacheKey(letter, 1, frequency, type);
+        Object cached = standard.get(key);
+        if (cached != null) {
+            hits.increment();
+            return (Chord) cached;
+        }
+        misses.increment();
+        return (Chord) store(true, key, new Chord(new MusicalNote(letter), type));
+    }
+
+    /**
+     * Liefert den kanonischen Akkord für einen beliebigen Grundton.
+     *
+     * @param root Grundton
+     * @param type Typ des Akkords
+     * @return Geteilter, unveränderlicher Akkord
+     * @throws Exception wenn der Akkord nicht erstellt werden kann
+     */
+    public Chord chord(MusicalNote root, ChordType type) throws Exception {
+        CacheKey key = new CacheKey(root.letter, root.getOctave(), root.frequency, type);
+        boolean inStandard = isStandard(root);
+        Object cached = inStandard ? standard.get(key) : segmentFor(key).get(key);
+        if (cached != null) {
+            hits.increment();
+            return (Chord) cached;
+        }
+        misses.increment();
+        return (Chord) store(inStandard, key, new Chord(root, type));
+    }
+
+    /**
+     * Liefert den kanonischen Akkord für einen Grundton in einer bestimmten Stimmung.
+     *
+     * @param root Grundton
+     * @param type Typ des Akkords
+     * @param tuning Stimmung
+     * @return Geteilter, unveränderlicher Akkord
+     * @throws Exception wenn der Akkord nicht erstellt werden kann
+     */
+    public Chord chord(MusicalNote root, ChordType type, TuningSystem tuning) throws Exception {
+        CacheKey key = new CacheKey(root.letter, root.getOctave(), root.frequency, type, tuning);
+        Object cached = segmentFor(key).get(key);
+        if (cached != null) {
+            hits.increment();
+            return (Chord) cached;
+        }
+        misses.increment();
+        return (Chord) store(false, key, new Chord(root, type, tuning));
+    }
+
+    // ==================== STATISTIK ====================
+
+    /**
+     * Gibt die Anzahl der Cache-Treffer seit Erstellung bzw. {@link #clear()} zurück.
+     *
+     * @return Anzahl Treffer
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gibt die Anzahl der Cache-Fehlschläge seit Erstellung bzw. {@link #clear()} zurück.
+     *
+     * @return Anzahl Fehlschläge (jeweils eine neu erstellte Instanz)
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gibt die Anzahl aktuell gecachter Instanzen zurück.
+     *
+     * @return Anzahl Einträge in beiden Bereichen
+     */
+    public int size() {
+        int size = standard.size();
+        for (LruSegment segment : custom) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Gibt die Kapazität des LRU-Bereichs für eigene Frequenzen zurück.
+     *
+     * @return Maximale Anzahl Einträge mit eigener Frequenz oder Oktave
+     */
+    public int getCustomCapacity() {
+        return customCapacity;
+    }
+
+    /**
+     * Leert den Cache und setzt die Zähler zurück.
+     */
+    public void clear() {
+        standard.clear();
+        for (LruSegment segment : custom) {
+            segment.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ScaleMakerCache[size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]";
+    }
+
+    // ==================== INTERN ====================
+
+    private static boolean isStandard(MusicalNote root) {
+        if (root.getOctave() == 1) {
+            Double frequency = MusicalNote.DEFAULT_SCALE.get(root.letter);
+            return frequency != null && frequency == root.frequency;
+        }
+        return false;
+    }
+
+    private LruSegment segmentFor(CacheKey key) {
+        int h = key.hash;
+        return custom[(h ^ h >>> 16) & (custom.length - 1)];
+    }
+
+    // Legt den Wert ab, falls noch keiner existiert, und gibt den gültigen Wert zurück
+    private Object store(boolean inStandard, CacheKey key, Object value) {
+        Object existing = inStandard ? standard.putIfAbsent(key, value) : segmentFor(key).putIfAbsent(key, value);
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * Ein Segment des LRU-Bereichs: Map in Zugriffsreihenfolge unter eigener Sperre.
+     */
+    private static final class LruSegment {
+        private final LinkedHashMap<CacheKey, Object> map;
+
+        LruSegment(int capacity) {
+            this.map = new LinkedHashMap<CacheKey, Object>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, Object> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized Object get(CacheKey key) {
+            return map.get(key);
+        }
+
+        synchronized Object putIfAbsent(CacheKey key, Object value) {
+            return map.putIfAbsent(key, value);
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+
+        synchronized void clear() {
+            map.clear();
+        }
+    }
+
+    /**
+     * Schlüssel aus Grundton (Name, Oktave, Frequenz), Skalen- bzw. Akkordtyp und Stimmung.
+     */
+    private static final class CacheKey {
+        private final String letter;
+        private final int octave;
+        private final long frequencyBits;
+        private final Enum<?> type;
+        private final TuningSystem tuning;
+        private final int hash;
+
+        CacheKey(String letter, int octave, double frequency, Enum<?> type) {
+            this(letter, octave, frequency, type, null);
+        }
+
+        CacheKey(String letter, int octave, double frequency, Enum<?> type, TuningSystem tuning) {
+            this.letter = letter;
+            this.octave = octave;
+            this.frequencyBits = Double.doubleToLongBits(frequency);
+            this.type = type;
+            this.tuning = tuning;
+            int h = letter.hashCode();
+            h = 31 * h + octave;
+            h = 31 * h + Long.hashCode(frequencyBits);
+            h = 31 * h + System.identityHashCode(type);
+            h = 31 * h + (tuning == null ? 0 : tuning.hashCode());
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return octave == other.octave
+                && frequencyBits == other.frequencyBits
+                && type == other.type
+                && Objects.equals(tuning, other.tuning)
+                && letter.equals(other.letter);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+public enum ScaleMakerError {
+    // Eingaben
+    NULL_ARGUMENT("Pflichtparameter fehlt"),
+    UNKNOWN_NOTE("Unbekannte Note"),
+    INVALID_FREQUENCY("Frequenz muss positiv und endlich sein"),
+
+    // Erstellung
+    CREATION_FAILED("Erstellung fehlgeschlagen");
+
+    private final String message;
+
+    ScaleMakerError(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    // Exception für Aufrufer, die den Fehler doch weiterreichen wollen
+    public IllegalArgumentException toException() {
+        return new IllegalArgumentException(message);
+    }
+}
@@ -0,0 +1,499 @@
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Aufrufzahlen, Fehler und Latenzen je Methode der {@link ScaleMakerApi}.
+ *
+ * <p>Wird vom Plugin mit {@code -Dscalemaker.metrics=on} um die API gelegt (siehe
+ * {@link ScaleMakerPluginImpl}). Ohne diese Einstellung gibt das Plugin die API unverändert
+ * heraus; abgeschaltete Metriken kosten damit nichts.</p>
+ *
+ * <p>Aufrufe und Fehler werden immer gezählt, in {@link LongAdder}n, die unter Last je
+ * Thread eigene Zellen verwenden. Die Dauer wird nur für jeden {@link #getSampleInterval()
+ * n-ten} Aufruf (zufällig, je Thread ohne gemeinsamen Zähler) gemessen, weil
+ * {@code System.nanoTime()} je nach Rechner 20 bis 50 ns kostet; im Mittel bleibt der
+ * Aufschlag so unter 20 ns pro Aufruf. Die gemessenen Dauern landen in einem
+ * log-linearen Histogramm mit festen Klassen: {@value #SUB_BUCKETS} Klassen je
+ * Zweierpotenz, also höchstens 12,5 % relative Abweichung, bis etwa 137 Sekunden.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * // java -Dscalemaker.metrics=on -cp scalemaker.jar;. MeinHauptprogramm
+ * ScaleMakerMetrics metrics = plugin.getMetrics();
+ *
+ * ScaleMakerMetrics.MethodStats scale = metrics.snapshot().get("scale(String, ScaleType)");
+ * scale.getCalls();                    // Anzahl Aufrufe
+ * scale.getPercentileNanos(99);        // 99. Perzentil in ns
+ * }</pre>
+ *
+ * <p>Über JMX sind dieselben Werte unter {@value #OBJECT_NAME} sichtbar (z.B. in JConsole).
+ * Eine Instanz ist threadsicher; {@link #reset()} ist nicht atomar gegenüber gleichzeitigen
+ * Aufrufen.</p>
+ *
+ * @see ScaleMakerMetricsMXBean
+ * @see ScaleMakerPlugin#getMetrics()
+ */
+public final class ScaleMakerMetrics implements ScaleMakerMetricsMXBean {
+
+    /** Systemproperty zum Einschalten: on oder off */
+    public static final String ENABLED_PROPERTY = "scalemaker.metrics";
+
+    /** Systemproperty für das Stichprobenintervall (Zweierpotenz, 1 = jeden Aufruf messen) */
+    public static final String SAMPLING_PROPERTY = "scalemaker.metrics.sampling";
+
+    /** Stichprobenintervall, wenn {@value #SAMPLING_PROPERTY} nicht gesetzt ist */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+    /** Größtes erlaubtes Stichprobenintervall */
+    public static final int MAX_SAMPLE_INTERVAL = 1024;
+
+    /** JMX-Name der ersten registrierten Instanz */
+    public static final String OBJECT_NAME = "scalemaker:type=Metrics";
+
+    /** Histogrammklassen je Zweierpotenz */
+    public static final int SUB_BUCKETS = 8;
+
+    private static final int SUB_BITS = 3;
+
+    /** Höchste Zweierpotenz im Histogramm (2^36 ns ≈ 69 s); längere Aufrufe landen in der letzten Klasse */
+    private static final int MAX_EXPONENT = 36;
+
+    /** Anzahl Histogrammklassen: 0-7 ns einzeln, danach {@value #SUB_BUCKETS} je Zweierpotenz */
+    public static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+
+    /** Rückgabe von {@link #start(int)} für Aufrufe ohne Zeitmessung */
+    static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final String[] methods;
+    private final int sampleMask;
+
+    private final LongAdder[] calls;
+    private final LongAdder[] errors;
+    private final LongAdder[] sampledNanos;
+
+    /** [Methode * BUCKETS + Klasse] → Anzahl gemessener Aufrufe */
+    private final AtomicLongArray histogram;
+
+    private volatile long sinceNanos = System.nanoTime();
+
+    private ObjectName registeredName;
+
+    /**
+     * Erstellt leere Metriken.
+     *
+     * @param methods Namen der Methoden, Index = Methodennummer
+     * @param sampleInterval Jeder wievielte Aufruf gemessen wird (Zweierpotenz von 1 bis
+     *                       {@value #MAX_SAMPLE_INTERVAL})
+     */
+    ScaleMakerMetrics(String[] methods, int sampleInterval) {
+        if (sampleInterval < 1 || sampleInterval > MAX_SAMPLE_INTERVAL || Integer.bitCount(sampleInterval) != 1) {
+            throw new IllegalArgumentException("Stichprobenintervall muss eine Zweierpotenz von 1 bis "
+                + MAX_SAMPLE_INTERVAL + " sein: " + sampleInterval);
+        }
+        this.methods = methods.clone();
+        this.sampleMask = sampleInterval - 1;
+        this.calls = adders(methods.length);
+        this.errors = adders(methods.length);
+        this.sampledNanos = adders(methods.length);
+        this.histogram = new AtomicLongArray(methods.length * BUCKETS);
+    }
+
+    /**
+     * Liest das Stichprobenintervall aus {@value #SAMPLING_PROPERTY}.
+     *
+     * @return Das Intervall, oder 0 wenn {@value #ENABLED_PROPERTY} nicht "on" ist
+     * @throws IllegalArgumentException wenn ein Wert ungültig ist
+     */
+    static int sampleIntervalFromSystemProperties() {
+        String enabled = System.getProperty(ENABLED_PROPERTY, "off").trim();
+        if (enabled.equalsIgnoreCase("off")) {
+            return 0;
+        }
+        if (!enabled.equalsIgnoreCase("on")) {
+            throw new IllegalArgumentException(
+                "Ungültiger Wert für " + ENABLED_PROPERTY + ": " + enabled + " (erlaubt: on, off)");
+        }
+        String interval = System.getProperty(SAMPLING_PROPERTY, String.valueOf(DEFAULT_SAMPLE_INTERVAL)).trim();
+        try {
+            return Integer.parseInt(interval);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Ungültiger Wert für " + SAMPLING_PROPERTY + ": " + interval, e);
+        }
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    // ==================== ERFASSUNG ====================
+
+    /**
+     * Zählt einen Aufruf und startet bei einer Stichprobe die Zeitmessung.
+     *
+     * @param method Methodennummer
+     * @return Startzeit für {@link #stop(int, long)} oder {@link #NOT_SAMPLED}
+     */
+    long start(int method) {
+        calls[method].increment();
+        if ((ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Beendet die Zeitmessung eines Aufrufs.
+     *
+     * @param method Methodennummer
+     * @param start Rückgabe von {@link #start(int)}
+     */
+    void stop(int method, long start) {
+        if (start == NOT_SAMPLED) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        sampledNanos[method].add(nanos);
+        histogram.incrementAndGet(method * BUCKETS + bucketOf(nanos));
+    }
+
+    /**
+     * Zählt einen fehlgeschlagenen Aufruf (Exception oder Fehlerergebnis).
+     *
+     * @param method Methodennummer
+     */
+    void error(int method) {
+        errors[method].increment();
+    }
+
+    /**
+     * Bestimmt die Histogrammklasse einer Dauer.
+     *
+     * @param nanos Dauer in ns
+     * @return Klasse von 0 bis {@link #BUCKETS} - 1
+     */
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gibt die kleinste Dauer einer Histogrammklasse zurück.
+     *
+     * @param bucket Klasse von 0 bis {@link #BUCKETS} - 1
+     * @return Untergrenze in ns
+     */
+    static long bucketLowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BITS);
+    }
+
+    // ==================== AUSWERTUNG ====================
+
+    /**
+     * Gibt das Stichprobenintervall zurück.
+     *
+     * @return Jeder wievielte Aufruf gemessen wird
+     */
+    @Override
+    public int getSampleInterval() {
+        return sampleMask + 1;
+    }
+
+    /**
+     * Erstellt eine Momentaufnahme aller Methoden.
+     *
+     * @return Methodenname → Werte, in der Reihenfolge der API
+     */
+    public Map<String, MethodStats> snapshot() {
+        long elapsed = System.nanoTime() - sinceNanos;
+        Map<String, MethodStats> result = new LinkedHashMap<>();
+        for (int i = 0; i < methods.length; i++) {
+            long[] buckets = new long[BUCKETS];
+            long sampled = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                buckets[b] = histogram.get(i * BUCKETS + b);
+                sampled += buckets[b];
+            }
+            result.put(methods[i], new MethodStats(methods[i], calls[i].sum(), errors[i].sum(),
+                sampled, sampledNanos[i].sum(), buckets, elapsed));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Setzt alle Zähler und Histogramme zurück.
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < methods.length; i++) {
+            calls[i].reset();
+            errors[i].reset();
+            sampledNanos[i].reset();
+        }
+        for (int b = 0; b < histogram.length(); b++) {
+            histogram.set(b, 0);
+        }
+        sinceNanos = System.nanoTime();
+    }
+
+    // ==================== JMX ====================
+
+    @Override
+    public long getTotalCalls() {
+        long total = 0;
+        for (LongAdder adder : calls) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getTotalErrors() {
+        long total = 0;
+        for (LongAdder adder : errors) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public Map<String, Long> getCalls() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (MethodStats stats : snapshot().values()) {
+            if (stats.getCalls() > 0) {
+                result.put(stats.getMethod(), stats.getCalls());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getErrors() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (MethodStats stats : snapshot().values()) {
+            if (stats.getErrors() > 0) {
+                result.put(stats.getMethod(), stats.getErrors());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Double> getCallsPerSecond() {
+        return calledMethods(MethodStats::getCallsPerSecond);
+    }
+
+    @Override
+    public Map<String, Double> getMeanMicros() {
+        return calledMethods(stats -> stats.getMeanNanos() / 1000);
+    }
+
+    @Override
+    public Map<String, Double> getP50Micros() {
+        return calledMethods(stats -> stats.getPercentileNanos(50) / 1000.0);
+    }
+
+    @Override
+    public Map<String, Double> getP99Micros() {
+        return calledMethods(stats -> stats.getPercentileNanos(99) / 1000.0);
+    }
+
+    private Map<String, Double> calledMethods(ToDoubleFunction<MethodStats> value) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (MethodStats stats : snapshot().values()) {
+            if (stats.getCalls() > 0) {
+                result.put(stats.getMethod(), value.applyAsDouble(stats));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Registriert die Metriken beim Plattform-MBeanServer unter {@value #OBJECT_NAME}, bzw.
+     * mit angehängtem {@code ,instance=n}, wenn der Name schon vergeben ist.
+     *
+     * @return Der vergebene Name
+     * @throws JMException wenn die Registrierung fehlschlägt
+     */
+    public synchronized ObjectName registerMBean() throws JMException {
+        if (registeredName != null) {
+            return registeredName;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (int instance = 1; ; instance++) {
+            ObjectName name = new ObjectName(instance == 1 ? OBJECT_NAME : OBJECT_NAME + ",instance=" + instance);
+            try {
+                registeredName = server.registerMBean(this, name).getObjectName();
+                return registeredName;
+            } catch (InstanceAlreadyExistsException e) {
+                // nächsten Namen versuchen
+            }
+        }
+    }
+
+    /**
+     * Meldet die Metriken beim MBeanServer wieder ab, falls sie registriert sind.
+     *
+     * @throws JMException wenn die Abmeldung fehlschlägt
+     */
+    public synchronized void unregisterMBean() throws JMException {
+        if (registeredName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            registeredName = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ScaleMakerMetrics[calls=" + getTotalCalls() + ", errors=" + getTotalErrors()
+            + ", sampling=1/" + getSampleInterval() + "]";
+    }
+
+    // ==================== MOMENTAUFNAHME ====================
+
+    /**
+     * Unveränderliche Werte einer Methode zum Zeitpunkt von {@link #snapshot()}.
+     */
+    public static final class MethodStats {
+
+        private final String method;
+        private final long calls;
+        private final long errors;
+        private final long sampled;
+        private final long sampledNanos;
+        private final long[] buckets;
+        private final long elapsedNanos;
+
+        MethodStats(String method, long calls, long errors, long sampled, long sampledNanos,
+                    long[] buckets, long elapsedNanos) {
+            this.method = method;
+            this.calls = calls;
+            this.errors = errors;
+            this.sampled = sampled;
+            this.sampledNanos = sampledNanos;
+            this.buckets = buckets;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Gibt den Methodennamen mit Parametertypen zurück.
+         *
+         * @return z.B. "scale(String, ScaleType)"
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * Gibt die Anzahl der Aufrufe zurück.
+         *
+         * @return Alle Aufrufe seit Erstellung bzw. {@link ScaleMakerMetrics#reset()}
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * Gibt die Anzahl fehlgeschlagener Aufrufe zurück.
+         *
+         * @return Aufrufe mit Exception oder Fehlerergebnis ({@code try}-Methoden)
+         */
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * Gibt die Anzahl der Aufrufe mit Zeitmessung zurück.
+         *
+         * @return Stichproben im Histogramm
+         */
+        public long getSampledCalls() {
+            return sampled;
+        }
+
+        /**
+         * Gibt den Durchsatz seit Erstellung bzw. Zurücksetzen zurück.
+         *
+         * @return Aufrufe pro Sekunde
+         */
+        public double getCallsPerSecond() {
+            return elapsedNanos > 0 ? calls * 1e9 / elapsedNanos : 0;
+        }
+
+        /**
+         * Gibt die mittlere Dauer der gemessenen Aufrufe zurück.
+         *
+         * @return Mittelwert in ns, 0 ohne Stichproben
+         */
+        public double getMeanNanos() {
+            return sampled > 0 ? (double) sampledNanos / sampled : 0;
+        }
+
+        /**
+         * Gibt ein Perzentil der Dauer zurück.
+         *
+         * @param percentile Perzentil von 0 bis 100
+         * @return Obergrenze der Histogrammklasse, in die das Perzentil fällt, in ns
+         *         (0 ohne Stichproben)
+         */
+        public long getPercentileNanos(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Perzentil muss zwischen 0 und 100 liegen: " + percentile);
+            }
+            if (sampled == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(sampled * percentile / 100));
+            long seen = 0;
+            for (int b = 0; b < buckets.length; b++) {
+                seen += buckets[b];
+                if (seen >= rank) {
+                    return b + 1 < BUCKETS ? bucketLowerBound(b + 1) - 1 : Long.MAX_VALUE;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+
+        /**
+         * Gibt die Histogrammklassen zurück.
+         *
+         * @return Anzahl gemessener Aufrufe je Klasse (Kopie), Untergrenzen siehe
+         *         {@link ScaleMakerMetrics#BUCKETS}
+         */
+        public long[] getBuckets() {
+            return buckets.clone();
+        }
+
+        @Override
+        public String toString() {
+            return method + ": " + calls + " Aufrufe, " + errors + " Fehler, Mittel "
+                + Math.round(getMeanNanos()) + " ns, p99 " + getPercentileNanos(99) + " ns";
+        }
+    }
+}
@@ -0,0 +1,80 @@
+import java.util.Map;
+
+/**
+ * JMX-Sicht auf {@link ScaleMakerMetrics}, registriert unter {@value ScaleMakerMetrics#OBJECT_NAME}.
+ *
+ * <p>Die Tabellen enthalten nur Methoden, die seit dem letzten {@link #reset()} aufgerufen
+ * wurden. Zeiten in Mikrosekunden; Perzentile sind Obergrenzen der Histogrammklassen.</p>
+ *
+ * @see ScaleMakerMetrics#registerMBean()
+ */
+public interface ScaleMakerMetricsMXBean {
+
+    /**
+     * Gibt das Stichprobenintervall der Zeitmessung zurück.
+     *
+     * @return Jeder wievielte Aufruf gemessen wird
+     */
+    int getSampleInterval();
+
+    /**
+     * Gibt die Anzahl aller Aufrufe zurück.
+     *
+     * @return Summe über alle Methoden
+     */
+    long getTotalCalls();
+
+    /**
+     * Gibt die Anzahl aller fehlgeschlagenen Aufrufe zurück.
+     *
+     * @return Summe über alle Methoden
+     */
+    long getTotalErrors();
+
+    /**
+     * Gibt die Aufrufe je Methode zurück.
+     *
+     * @return Methodenname → Anzahl
+     */
+    Map<String, Long> getCalls();
+
+    /**
+     * Gibt die fehlgeschlagenen Aufrufe je Methode zurück (nur Methoden mit Fehlern).
+     *
+     * @return Methodenname → Anzahl
+     */
+    Map<String, Long> getErrors();
+
+    /**
+     * Gibt den Durchsatz je Methode zurück.
+     *
+     * @return Methodenname → Aufrufe pro Sekunde
+     */
+    Map<String, Double> getCallsPerSecond();
+
+    /**
+     * Gibt die mittlere Dauer je Methode zurück.
+     *
+     * @return Methodenname → µs
+     */
+    Map<String, Double> getMeanMicros();
+
+    /**
+     * Gibt den Median der Dauer je Methode zurück.
+     *
+     * @return Methodenname → µs
+     */
+    Map<String, Double> getP50Micros();
+
+    /**
+     * Gibt das 99. Perzentil der Dauer je Methode zurück.
+     *
+     * @return Methodenname → µs
+     */
+    Map<String, Double> getP99Micros();
+
+    /**
+     * Setzt alle Zähler und Histogramme zurück.
+     */
+    void reset();
+}
@@ -1,3 +1,5 @@
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Plugin-Interface für ScaleMaker.
  *
@@ -58,6 +60,33 @@ public interface ScaleMakerPlugin {
      */
     void initialize();
 
+    /**
+     * Gibt an, wann das Plugin nach {@link #initialize()} aufgewärmt ist.
+     *
+     * <p>Die API ist sofort nach {@code initialize()} benutzbar; bis zum Abschluss können
+     * die ersten Anfragen aber langsamer sein. Ohne Aufwärmlauf ist das Ergebnis bereits
+     * abgeschlossen.</p>
+     *
+     * @return Wird abgeschlossen, wenn der Aufwärmlauf beendet ist
+     * @see ScaleMakerWarmup
+     */
+    default CompletableFuture<Void> ready() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Gibt die Aufruf- und Latenzmetriken der API zurück.
+     *
+     * <p>Metriken werden nur auf Wunsch erfasst (bei der Standard-Implementierung mit
+     * {@code -Dscalemaker.metrics=on}), damit die API ohne sie keinen Aufschlag hat.</p>
+     *
+     * @return Die Metriken, oder {@code null} wenn sie nicht erfasst werden
+     * @see ScaleMakerMetrics
+     */
+    default ScaleMakerMetrics getMetrics() {
+        return null;
+    }
+
     /**
      * Fährt das Plugin herunter und gibt Ressourcen frei.
      *
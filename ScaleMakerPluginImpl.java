@@ -1,3 +1,7 @@
+import java.util.concurrent.CompletableFuture;
+
+import javax.management.JMException;
+
 /**
  * ServiceLoader-Implementierung des {@link ScaleMakerPlugin}-Interfaces.
  *
@@ -20,6 +24,13 @@
  * plugin.shutdown();
  * }</pre>
  *
+ * <p>Mit {@code -Dscalemaker.warmup=sync} bzw. {@code async} wärmt {@link #initialize()}
+ * die Bibliothek auf (siehe {@link ScaleMakerWarmup}); {@link #ready()} meldet das Ende.</p>
+ *
+ * <p>Mit {@code -Dscalemaker.metrics=on} wird die API in einen Dekorator gehüllt, der
+ * Aufrufe, Fehler und Latenzen je Methode erfasst (siehe {@link ScaleMakerMetrics}), und die
+ * Metriken werden per JMX veröffentlicht. Ohne diese Einstellung bleibt die API unverändert.</p>
+ *
  * <p><strong>Hinweis:</strong> Diese Klasse ist nicht für die direkte Instanziierung
  * durch das Hauptprogramm gedacht. Immer den ServiceLoader verwenden.</p>
  *
@@ -30,13 +41,58 @@
  */
 public class ScaleMakerPluginImpl implements ScaleMakerPlugin {
 
+    /** Wert von {@link #metricsSampleInterval}: Einstellung aus den Systemproperties lesen */
+    private static final int METRICS_FROM_SYSTEM_PROPERTIES = -1;
+
+    private final ScaleMakerWarmup warmup;
+
+    /** Stichprobenintervall der Metriken, 0 = keine Metriken */
+    private final int metricsSampleInterval;
+
     private ScaleMakerApi api;
 
+    private ScaleMakerMetrics metrics;
+
+    private CompletableFuture<Void> ready = CompletableFuture.completedFuture(null);
+
     /**
      * Öffentlicher No-Arg-Konstruktor, erforderlich für den {@link java.util.ServiceLoader}.
+     * Aufwärmlauf und Metriken werden bei {@link #initialize()} aus den Systemproperties gelesen.
      */
     public ScaleMakerPluginImpl() {
         // ServiceLoader benötigt einen öffentlichen parameterlosen Konstruktor
+        this.warmup = null;
+        this.metricsSampleInterval = METRICS_FROM_SYSTEM_PROPERTIES;
+    }
+
+    /**
+     * Erstellt das Plugin mit festem Aufwärmlauf und ohne Metriken, unabhängig von den
+     * Systemproperties.
+     *
+     * @param warmup Die Einstellung für {@link #initialize()}
+     */
+    public ScaleMakerPluginImpl(ScaleMakerWarmup warmup) {
+        this(warmup, 0);
+    }
+
+    /**
+     * Erstellt das Plugin mit festem Aufwärmlauf und festen Metriken, unabhängig von den
+     * Systemproperties.
+     *
+     * @param warmup Die Einstellung für {@link #initialize()}
+     * @param metricsSampleInterval Jeder wievielte Aufruf gemessen wird (Zweierpotenz bis
+     *                              {@value ScaleMakerMetrics#MAX_SAMPLE_INTERVAL}),
+     *                              0 = keine Metriken
+     */
+    public ScaleMakerPluginImpl(ScaleMakerWarmup warmup, int metricsSampleInterval) {
+        if (warmup == null) {
+            throw new IllegalArgumentException("Aufwärm-Einstellung darf nicht null sein.");
+        }
+        if (metricsSampleInterval < 0) {
+            throw new IllegalArgumentException("Stichprobenintervall darf nicht negativ sein: " + metricsSampleInterval);
+        }
+        this.warmup = warmup;
+        this.metricsSampleInterval = metricsSampleInterval;
     }
 
     @Override
@@ -57,18 +113,82 @@ public class ScaleMakerPluginImpl implements ScaleMakerPlugin {
     /**
      * Initialisiert das Plugin und erstellt die API-Instanz.
      * Muss vor {@link #getApi()} aufgerufen werden.
+     *
+     * <p>Ein erneuter Aufruf fährt die vorherige Instanz zuerst mit {@link #shutdown()} herunter.
+     * Bei eingeschalteten Metriken wird die API instrumentiert und das
+     * {@link ScaleMakerMetricsMXBean} registriert. Anschließend startet der eingestellte
+     * {@link ScaleMakerWarmup Aufwärmlauf}; er läuft an den Metriken vorbei, damit sie nur
+     * Aufrufe des Hauptprogramms zählen.</p>
+     *
+     * @throws IllegalArgumentException wenn die Systemproperties des Aufwärmlaufs oder der
+     *                                  Metriken ungültig sind
+     * @throws IllegalStateException wenn das MBean nicht registriert werden kann
      */
     @Override
     public void initialize() {
-        api = new ScaleMakerApiImpl();
+        if (api != null) {
+            shutdown();
+        }
+        ScaleMakerWarmup settings = warmup != null ? warmup : ScaleMakerWarmup.fromSystemProperties();
+        int sampleInterval = metricsSampleInterval != METRICS_FROM_SYSTEM_PROPERTIES
+            ? metricsSampleInterval : ScaleMakerMetrics.sampleIntervalFromSystemProperties();
+
+        ScaleMakerApi plain = new ScaleMakerApiImpl();
+        if (sampleInterval > 0) {
+            InstrumentedScaleMakerApi instrumented = new InstrumentedScaleMakerApi(plain, sampleInterval);
+            metrics = instrumented.getMetrics();
+            try {
+                metrics.registerMBean();
+            } catch (JMException e) {
+                throw new IllegalStateException("ScaleMaker-Metriken konnten nicht registriert werden.", e);
+            }
+            api = instrumented;
+        } else {
+            api = plain;
+        }
+        ready = settings.start(plain);
+    }
+
+    /**
+     * Gibt an, wann der Aufwärmlauf des letzten {@link #initialize()} beendet ist.
+     *
+     * @return Wird abgeschlossen, wenn der Aufwärmlauf beendet ist
+     */
+    @Override
+    public CompletableFuture<Void> ready() {
+        return ready;
+    }
+
+    /**
+     * Gibt die Metriken der API zurück.
+     *
+     * @return Die Metriken, oder {@code null} wenn sie nicht eingeschaltet sind oder das
+     *         Plugin nicht initialisiert ist
+     */
+    @Override
+    public ScaleMakerMetrics getMetrics() {
+        return metrics;
     }
 
     /**
-     * Fährt das Plugin herunter und gibt die API-Instanz frei.
+     * Fährt das Plugin herunter, bricht einen laufenden Aufwärmlauf ab, meldet das
+     * Metriken-MBean ab und gibt die API-Instanz frei.
+     *
+     * @throws IllegalStateException wenn das MBean nicht abgemeldet werden kann
      */
     @Override
     public void shutdown() {
+        ready.cancel(false);
         api = null;
+        if (metrics != null) {
+            ScaleMakerMetrics registered = metrics;
+            metrics = null;
+            try {
+                registered.unregisterMBean();
+            } catch (JMException e) {
+                throw new IllegalStateException("ScaleMaker-Metriken konnten nicht abgemeldet werden.", e);
+            }
+        }
     }
 
     /**
@@ -0,0 +1,125 @@
+import java.util.Objects;
+
+/**
+ * Ergebnis einer {@code try}-Methode von {@link ScaleMaker} bzw. {@link ScaleMakerApi}:
+ * entweder ein Wert oder ein {@link ScaleMakerError}.
+ *
+ * <p>Fehlerergebnisse sind vorab erzeugte Singletons je Fehlercode. Ungültige Eingaben
+ * kosten damit weder eine Exception noch einen Stack-Trace noch eine Allokation.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * ScaleMakerResult<Scale> result = ScaleMaker.tryScale(userInput, ScaleType.MAJOR);
+ * if (result.isSuccess()) {
+ *     play(result.get());
+ * } else {
+ *     showError(result.getError().getMessage());
+ * }
+ * }</pre>
+ *
+ * @param <T> Typ des Werts
+ * @see ScaleMakerError
+ */
+public final class ScaleMakerResult<T> {
+
+    /** Vorab erzeugte Fehlerergebnisse, Index = Ordinalzahl des Fehlercodes */
+    private static final ScaleMakerResult<?>[] FAILURES;
+
+    static {
+        ScaleMakerError[] errors = ScaleMakerError.values();
+        FAILURES = new ScaleMakerResult<?>[errors.length];
+        for (ScaleMakerError error : errors) {
+            FAILURES[error.ordinal()] = new ScaleMakerResult<>(null, error);
+        }
+    }
+
+    private final T value;
+    private final ScaleMakerError error;
+
+    private ScaleMakerResult(T value, ScaleMakerError error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * Erstellt ein erfolgreiches Ergebnis.
+     *
+     * @param value Der Wert (nicht null)
+     * @param <T> Typ des Werts
+     * @return Das Ergebnis
+     */
+    public static <T> ScaleMakerResult<T> success(T value) {
+        return new ScaleMakerResult<>(Objects.requireNonNull(value, "value"), null);
+    }
+
+    /**
+     * Gibt das vorab erzeugte Fehlerergebnis für einen Fehlercode zurück.
+     *
+     * @param error Der Fehlercode
+     * @param <T> Typ des (fehlenden) Werts
+     * @return Geteiltes Fehlerergebnis
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ScaleMakerResult<T> failure(ScaleMakerError error) {
+        return (ScaleMakerResult<T>) FAILURES[error.ordinal()];
+    }
+
+    /**
+     * Prüft, ob das Ergebnis einen Wert enthält.
+     *
+     * @return true bei Erfolg
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Gibt den Wert zurück.
+     *
+     * @return Der Wert
+     * @throws IllegalStateException wenn das Ergebnis ein Fehler ist
+     */
+    public T get() {
+        if (error != null) {
+            throw new IllegalStateException(error.getMessage());
+        }
+        return value;
+    }
+
+    /**
+     * Gibt den Wert oder einen Ersatzwert zurück.
+     *
+     * @param other Ersatzwert bei Fehler
+     * @return Der Wert oder {@code other}
+     */
+    public T orElse(T other) {
+        return error == null ? value : other;
+    }
+
+    /**
+     * Gibt den Wert zurück oder wirft die zum Fehlercode passende Exception.
+     *
+     * @return Der Wert
+     * @throws IllegalArgumentException wenn das Ergebnis ein Fehler ist
+     */
+    public T orElseThrow() {
+        if (error != null) {
+            throw error.toException();
+        }
+        return value;
+    }
+
+    /**
+     * Gibt den Fehlercode zurück.
+     *
+     * @return Der Fehlercode, oder null bei Erfolg
+     */
+    public ScaleMakerError getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return error == null ? "Erfolg[" + value + "]" : "Fehler[" + error + "]";
+    }
+}
@@ -0,0 +1,279 @@
+import java.util.Locale;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aufwärmlauf für das Plugin, damit schon die ersten Anfragen nach
+ * {@link ScaleMakerPlugin#initialize()} schnell sind.
+ *
+ * <p>Ohne Aufwärmen bezahlt die erste Anfrage die Initialisierung der statischen Tabellen
+ * ({@link Interval}, Notennamen, {@link ChordIdentifier}, {@link ScaleIndex},
+ * {@link NoteLookup}, Stufenakkorde je Skalentyp), den leeren {@link ScaleMakerCache} und
+ * interpretierten Code. Ein Aufwärmlauf erledigt das vorab in zwei Phasen:</p>
+ * <ol>
+ *   <li><b>Tabellen:</b> Alle Klassen mit statischen Tabellen werden initialisiert; der
+ *       Cache wird mit allen Standard-Tonleitern, ihren Stufenakkorden und allen
+ *       Akkorden der Standard-Grundtöne gefüllt.</li>
+ *   <li><b>Heiße Pfade:</b> Typische Anfragen (Tonleiter, Akkordsymbole, Akkord,
+ *       Frequenzen, nächste Note) laufen in Runden, bis das Zeitbudget oder
+ *       {@value #MAX_ROUNDS} Runden erreicht sind, damit der JIT sie übersetzt.</li>
+ * </ol>
+ *
+ * <p>Das Plugin liest die Einstellungen aus Systemproperties:</p>
+ * <table>
+ *   <caption>Systemproperties</caption>
+ *   <tr><th>Property</th><th>Werte</th><th>Standard</th></tr>
+ *   <tr><td>{@value #MODE_PROPERTY}</td><td>off, sync, async</td><td>off</td></tr>
+ *   <tr><td>{@value #BUDGET_PROPERTY}</td><td>0 bis {@value #MAX_BUDGET_MILLIS}</td>
+ *       <td>{@value #DEFAULT_BUDGET_MILLIS}</td></tr>
+ * </table>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * // java -Dscalemaker.warmup=async -cp scalemaker.jar;. MeinHauptprogramm
+ * plugin.initialize();                 // kehrt sofort zurück
+ * plugin.ready().thenRun(() -> log("ScaleMaker bereit"));
+ * }</pre>
+ *
+ * <p>{@link #main(String[])} ist der Trainingslauf für ein AppCDS-Archiv
+ * (siehe {@code appcds.bat}). Eine Instanz ist unveränderlich und threadsicher.</p>
+ *
+ * @see ScaleMakerPluginImpl#initialize()
+ * @see ScaleMakerPlugin#ready()
+ */
+public final class ScaleMakerWarmup {
+
+    /** Systemproperty für den Modus: off, sync oder async */
+    public static final String MODE_PROPERTY = "scalemaker.warmup";
+
+    /** Systemproperty für das Zeitbudget in Millisekunden */
+    public static final String BUDGET_PROPERTY = "scalemaker.warmup.millis";
+
+    /** Zeitbudget, wenn {@value #BUDGET_PROPERTY} nicht gesetzt ist */
+    public static final long DEFAULT_BUDGET_MILLIS = 100;
+
+    /** Größtes erlaubtes Zeitbudget */
+    public static final long MAX_BUDGET_MILLIS = 10_000;
+
+    /** Höchstzahl an Runden über die heißen Pfade, auch wenn das Budget mehr zuließe */
+    public static final int MAX_ROUNDS = 5_000;
+
+    private static final String THREAD_NAME = "scalemaker-warmup";
+
+    private static final ScaleMakerWarmup OFF = new ScaleMakerWarmup(Mode.OFF, 0);
+
+    /**
+     * Wann und wo der Aufwärmlauf stattfindet.
+     */
+    public enum Mode {
+        /** Kein Aufwärmen, {@link ScaleMakerPlugin#ready()} ist sofort abgeschlossen */
+        OFF,
+        /** Im aufrufenden Thread, {@code initialize()} kehrt erst danach zurück */
+        SYNC,
+        /** In einem Daemon-Thread, {@code initialize()} kehrt sofort zurück */
+        ASYNC
+    }
+
+    private final Mode mode;
+    private final long budgetMillis;
+
+    private ScaleMakerWarmup(Mode mode, long budgetMillis) {
+        this.mode = mode;
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * Erstellt eine Einstellung.
+     *
+     * @param mode Der Modus
+     * @param budgetMillis Zeitbudget für die heißen Pfade, 0 bis {@value #MAX_BUDGET_MILLIS} ms
+     *                     (die Tabellen werden immer vollständig aufgebaut)
+     * @return Die Einstellung
+     */
+    public static ScaleMakerWarmup of(Mode mode, long budgetMillis) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Modus darf nicht null sein.");
+        }
+        if (budgetMillis < 0 || budgetMillis > MAX_BUDGET_MILLIS) {
+            throw new IllegalArgumentException(
+                "Zeitbudget muss zwischen 0 und " + MAX_BUDGET_MILLIS + " ms liegen: " + budgetMillis);
+        }
+        return mode == Mode.OFF ? OFF : new ScaleMakerWarmup(mode, budgetMillis);
+    }
+
+    /**
+     * Gibt die Einstellung ohne Aufwärmen zurück.
+     *
+     * @return Geteilte Instanz
+     */
+    public static ScaleMakerWarmup off() {
+        return OFF;
+    }
+
+    /**
+     * Liest die Einstellung aus {@value #MODE_PROPERTY} und {@value #BUDGET_PROPERTY}.
+     *
+     * @return Die Einstellung ({@link #off()}, wenn der Modus nicht gesetzt ist)
+     * @throws IllegalArgumentException wenn ein Wert ungültig ist
+     */
+    public static ScaleMakerWarmup fromSystemProperties() {
+        String mode = System.getProperty(MODE_PROPERTY, "off").trim();
+        String budget = System.getProperty(BUDGET_PROPERTY, String.valueOf(DEFAULT_BUDGET_MILLIS)).trim();
+        Mode parsed;
+        switch (mode.toLowerCase(Locale.ROOT)) {
+            case "off":   parsed = Mode.OFF; break;
+            case "sync":  parsed = Mode.SYNC; break;
+            case "async": parsed = Mode.ASYNC; break;
+            default:
+                throw new IllegalArgumentException(
+                    "Ungültiger Wert für " + MODE_PROPERTY + ": " + mode + " (erlaubt: off, sync, async)");
+        }
+        try {
+            return of(parsed, Long.parseLong(budget));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Ungültiger Wert für " + BUDGET_PROPERTY + ": " + budget, e);
+        }
+    }
+
+    /**
+     * Gibt den Modus zurück.
+     *
+     * @return Der Modus
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gibt das Zeitbudget für die heißen Pfade zurück.
+     *
+     * @return Budget in Millisekunden
+     */
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    // ==================== AUSFÜHRUNG ====================
+
+    /**
+     * Startet den Aufwärmlauf gegen eine API.
+     *
+     * <p>Bei {@link Mode#SYNC} ist das Ergebnis bei der Rückkehr bereits abgeschlossen. Ein
+     * Fehler im Aufwärmlauf schließt das Ergebnis mit diesem Fehler ab, wird aber nicht
+     * geworfen; die API bleibt benutzbar. {@code cancel()} auf dem Ergebnis beendet den
+     * Lauf nach dem Tabellenaufbau bzw. nach der aktuellen Runde.</p>
+     *
+     * @param api Die aufzuwärmende API
+     * @return Wird abgeschlossen, wenn der Lauf beendet ist
+     */
+    public CompletableFuture<Void> start(ScaleMakerApi api) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        if (mode == Mode.OFF) {
+            done.complete(null);
+            return done;
+        }
+        Runnable task = () -> {
+            try {
+                run(api, done);
+                done.complete(null);
+            } catch (Throwable t) {
+                done.completeExceptionally(t);
+            }
+        };
+        if (mode == Mode.SYNC) {
+            task.run();
+        } else {
+            Thread thread = new Thread(task, THREAD_NAME);
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            thread.start();
+        }
+        return done;
+    }
+
+    private void run(ScaleMakerApi api, CompletableFuture<Void> done) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        buildTables(api);
+        double sink = 0;
+        for (int round = 0; round < MAX_ROUNDS && System.nanoTime() - deadline < 0 && !done.isDone(); round++) {
+            sink += exercise(api, round);
+        }
+        if (Double.isNaN(sink)) {
+            throw new IllegalStateException("Aufwärmlauf lieferte NaN");
+        }
+    }
+
+    /** Phase 1: statische Tabellen initialisieren und den Cache füllen */
+    private static void buildTables(ScaleMakerApi api) throws Exception {
+        double[] frequencies = new double[88];
+        api.calculateFrequencies(-48, frequencies, 0, frequencies.length);
+        for (IntervalType interval : api.getAvailableIntervalTypes()) {
+            api.applyInterval(frequencies[48], interval);
+        }
+        for (String letter : MusicalNote.DEFAULT_SCALE.keySet()) {
+            for (ScaleType type : api.getAvailableScaleTypes()) {
+                Scale scale = api.scale(letter, type);
+                scale.getFrequencies();
+                api.getDiatonicChordSymbols(scale);
+                api.getDiatonicSevenths(scale);
+            }
+            for (ChordType type : api.getAvailableChordTypes()) {
+                api.chord(letter, type).getSymbol();
+            }
+        }
+        api.tryNote("?");
+        api.nearestNote(frequencies[48]);
+        ChordIdentifier.identify(ChordIdentifier.maskOf(0, 4, 7));
+        ScaleIndex.findSupersets(ChordIdentifier.maskOf(0, 4, 7), new int[ScaleIndex.size()]);
+    }
+
+    /** Phase 2: eine Runde über die heißen Pfade */
+    private static double exercise(ScaleMakerApi api, int round) throws Exception {
+        ScaleType[] scaleTypes = api.getAvailableScaleTypes();
+        ChordType[] chordTypes = api.getAvailableChordTypes();
+        double sink = 0;
+        for (int i = 0; i < MusicalNote.CHROMATIC_SHARP.length; i++) {
+            String letter = MusicalNote.CHROMATIC_SHARP[i];
+            Scale scale = api.scale(letter, scaleTypes[(round + i) % scaleTypes.length]);
+            sink += api.getDiatonicChordSymbols(scale).length;
+            sink += api.chord(letter, chordTypes[(round + i) % chordTypes.length]).getFrequency(0);
+            double frequency = api.calculateFrequency(i - 9 + round % 24);
+            sink += api.applyInterval(frequency, IntervalType.PERFECT_FIFTH);
+            sink += api.nearestNote(frequency * 1.01).getFrequency();
+        }
+        return sink;
+    }
+
+    @Override
+    public String toString() {
+        return mode == Mode.OFF ? "ScaleMakerWarmup[off]" : "ScaleMakerWarmup[" + mode + ", " + budgetMillis + " ms]";
+    }
+
+    // ==================== APPCDS-TRAINING ====================
+
+    /**
+     * Trainingslauf für ein AppCDS-Archiv: lädt das Plugin wie ein Hauptprogramm über den
+     * {@link ServiceLoader} und wärmt es synchron auf, damit alle beim Start benötigten
+     * Klassen geladen werden.
+     *
+     * <pre>
+     * java -XX:DumpLoadedClassList=bin/scalemaker.classlist -cp bin/scalemaker.jar ScaleMakerWarmup
+     * </pre>
+     *
+     * @param args Nicht verwendet
+     */
+    public static void main(String[] args) {
+        if (System.getProperty(MODE_PROPERTY) == null) {
+            System.setProperty(MODE_PROPERTY, "sync");
+        }
+        ScaleMakerPlugin plugin = ServiceLoader.load(ScaleMakerPlugin.class).findFirst()
+            .orElseThrow(() -> new IllegalStateException("ScaleMaker-Plugin nicht gefunden"));
+        long start = System.nanoTime();
+        plugin.initialize();
+        plugin.ready().join();
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.println(plugin + " aufgewärmt in " + millis + " ms, " + plugin.getApi().getCache());
+        plugin.shutdown();
+    }
+}
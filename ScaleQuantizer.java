@@ -0,0 +1,382 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Rastet kontinuierliche Tonhöhenverläufe (Gesang, Sensordaten) auf die Töne einer Tonleiter ein.
+ *
+ * <p>Die Frequenzen aus {@link Scale#getFrequencies()} werden mit dem Verhältnis zwischen
+ * Grundton und Oktave über den Bereich {@value #MIN_FREQUENCY} bis {@value #MAX_FREQUENCY} Hz
+ * fortgesetzt. Wie bei {@link NoteLookup} liegen die Grenzen zwischen benachbarten Zieltönen
+ * beim geometrischen Mittel, und eine Abfrage findet die Grenze über Exponent und Mantisse
+ * der Frequenz ohne {@code Math.log}.</p>
+ *
+ * <p>Der Quantisierer selbst ist unveränderlich und kann von beliebig vielen Threads
+ * gleichzeitig genutzt werden. Hysterese und Glide brauchen den Zustand eines Stroms; dieser
+ * liegt in einem {@link Channel}, von dem jeder Strom (bzw. Thread) ein eigenes erhält.</p>
+ *
+ * <ul>
+ *   <li><b>Hysterese</b> (Cent): Ein Zielton wird erst verlassen, wenn die Eingabe die Grenze
+ *       zum Nachbarton um diesen Betrag überschreitet. Verhindert Flattern an den Grenzen.</li>
+ *   <li><b>Glide</b> (Samples): Nach einem Wechsel läuft die Ausgabe in dieser Anzahl Samples
+ *       gleichmäßig (in Cent) zum neuen Zielton, statt zu springen.</li>
+ * </ul>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * Scale aMoll = ScaleMaker.scale("A", ScaleType.MINOR);
+ * ScaleQuantizer quantizer = new ScaleQuantizer(aMoll, 30.0, 8);
+ *
+ * quantizer.quantize(450.0);                    // 440.0
+ *
+ * ScaleQuantizer.Channel channel = quantizer.newChannel();
+ * channel.process(pitches, 0, pitches.length);  // in-place, mit Hysterese und Glide
+ * }</pre>
+ *
+ * <p>Nicht positive Frequenzen und NaN (z.B. "keine Tonhöhe" eines Detektors) werden
+ * unverändert durchgereicht; der folgende Ton setzt ohne Glide ein.</p>
+ *
+ * @see Scale
+ * @see NoteLookup
+ * @see PitchDetector
+ */
+public final class ScaleQuantizer {
+
+    /** Tiefster Zielton */
+    public static final double MIN_FREQUENCY = 8.0;
+
+    /** Höchster Zielton */
+    public static final double MAX_FREQUENCY = 20000.0;
+
+    /** Rasterfeld = Exponent + oberste 6 Mantissenbits, also 1/64 Oktave */
+    private static final int GRID_SHIFT = 52 - 6;
+
+    private final Scale scale;
+    private final double hysteresisCents;
+    private final int glideSamples;
+
+    /** Zieltöne aufsteigend */
+    private final double[] targets;
+
+    /** Grenze zwischen Zielton i und i + 1, mit +∞ als letztem Eintrag */
+    private final double[] boundaries;
+
+    /** Zielton i wird gehalten, solange die Eingabe in (holdLow[i], holdHigh[i]) liegt */
+    private final double[] holdLow;
+    private final double[] holdHigh;
+
+    /** Raster-Index → Startindex der Suche in boundaries */
+    private final int[] gridStart;
+    private final long gridBase;
+
+    /**
+     * Erstellt einen Quantisierer ohne Hysterese und Glide.
+     *
+     * @param scale Die Tonleiter
+     */
+    public ScaleQuantizer(Scale scale) {
+        this(scale, 0, 0);
+    }
+
+    /**
+     * Erstellt einen Quantisierer.
+     *
+     * @param scale Die Tonleiter
+     * @param hysteresisCents Überschreitung der Grenze in Cent, ab der der Zielton wechselt (>= 0)
+     * @param glideSamples Dauer des Übergangs zu einem neuen Zielton in Samples (0 = springen)
+     */
+    public ScaleQuantizer(Scale scale, double hysteresisCents, int glideSamples) {
+        Objects.requireNonNull(scale, "scale");
+        if (!(hysteresisCents >= 0) || hysteresisCents == Double.POSITIVE_INFINITY) {
+            throw new IllegalArgumentException("Hysterese muss endlich und nicht negativ sein: " + hysteresisCents);
+        }
+        if (glideSamples < 0) {
+            throw new IllegalArgumentException("Glide darf nicht negativ sein: " + glideSamples);
+        }
+        this.scale = scale;
+        this.hysteresisCents = hysteresisCents;
+        this.glideSamples = glideSamples;
+        this.targets = extend(scale);
+
+        int count = targets.length;
+        boundaries = new double[count];
+        for (int i = 0; i < count - 1; i++) {
+            boundaries[i] = Math.sqrt(targets[i] * targets[i + 1]);
+        }
+        boundaries[count - 1] = Double.POSITIVE_INFINITY;
+
+        double factor = Math.pow(2, hysteresisCents / 1200);
+        holdLow = new double[count];
+        holdHigh = new double[count];
+        for (int i = 0; i < count; i++) {
+            holdLow[i] = i == 0 ? 0 : boundaries[i - 1] / factor;
+            holdHigh[i] = boundaries[i] * factor;
+        }
+
+        gridBase = Double.doubleToRawLongBits(targets[0]) >>> GRID_SHIFT;
+        int gridSize = (int) ((Double.doubleToRawLongBits(targets[count - 1]) >>> GRID_SHIFT) - gridBase + 1);
+        gridStart = new int[gridSize];
+        for (int cell = 0, index = 0; cell < gridSize; cell++) {
+            double lowerEdge = Double.longBitsToDouble((gridBase + cell) << GRID_SHIFT);
+            while (boundaries[index] <= lowerEdge) {
+                index++;
+            }
+            gridStart[cell] = index;
+        }
+    }
+
+    /**
+     * Setzt die Töne einer Tonleiter über den ganzen Bereich fort. Endet die Tonleiter mit der
+     * Oktave des Grundtons, ist deren Verhältnis die Periode, sonst 2.
+     */
+    private static double[] extend(Scale scale) {
+        double[] frequencies = scale.getFrequencies();
+        List<MusicalNote> notes = scale.getNotes();
+        int degrees = frequencies.length;
+        double period = 2.0;
+        if (degrees > 1 && notes.get(degrees - 1).getPitchClass() == notes.get(0).getPitchClass()) {
+            degrees--;
+            period = frequencies[degrees] / frequencies[0];
+        }
+        double root = frequencies[0];
+        if (!(root > 0) || !(period > 1) || Double.isInfinite(period)) {
+            throw new IllegalArgumentException("Tonleiter " + scale + " hat keine gültigen Frequenzen");
+        }
+        int lowest = (int) Math.floor(Math.log(MIN_FREQUENCY / root) / Math.log(period)) - 1;
+        int highest = (int) Math.ceil(Math.log(MAX_FREQUENCY / root) / Math.log(period)) + 1;
+        double[] result = new double[(highest - lowest + 1) * degrees];
+        int count = 0;
+        for (int octave = lowest; octave <= highest; octave++) {
+            double shift = Math.pow(period, octave);
+            for (int i = 0; i < degrees; i++) {
+                double frequency = frequencies[i] * shift;
+                if (frequency >= MIN_FREQUENCY && frequency <= MAX_FREQUENCY) {
+                    result[count++] = frequency;
+                }
+            }
+        }
+        Arrays.sort(result, 0, count);
+        // Doppelte Töne (z.B. gleiche Frequenz auf zwei Stufen) entfernen
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || result[i] > result[unique - 1]) {
+                result[unique++] = result[i];
+            }
+        }
+        if (unique == 0) {
+            throw new IllegalArgumentException("Tonleiter " + scale + " hat keine Töne zwischen "
+                + MIN_FREQUENCY + " und " + MAX_FREQUENCY + " Hz");
+        }
+        return Arrays.copyOf(result, unique);
+    }
+
+    // ==================== OHNE ZUSTAND ====================
+
+    /**
+     * Gibt den nächstgelegenen Ton der Tonleiter zurück (ohne Hysterese und Glide).
+     *
+     * @param frequency Frequenz in Hz
+     * @return Frequenz des Zieltons, bzw. die Eingabe, wenn sie nicht positiv oder NaN ist
+     */
+    public double quantize(double frequency) {
+        return frequency > 0 ? targets[indexOf(frequency)] : frequency;
+    }
+
+    /**
+     * Ersetzt einen Block von Frequenzen durch die nächstgelegenen Töne (ohne Hysterese und Glide).
+     *
+     * @param data Frequenzen in Hz; enthält danach die Zieltöne
+     * @param offset Startindex
+     * @param length Anzahl Werte
+     */
+    public void quantize(double[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            data[i] = quantize(data[i]);
+        }
+    }
+
+    /**
+     * Ersetzt einen Block von Frequenzen durch die nächstgelegenen Töne (ohne Hysterese und Glide).
+     *
+     * @param data Frequenzen in Hz; enthält danach die Zieltöne
+     * @param offset Startindex
+     * @param length Anzahl Werte
+     */
+    public void quantize(float[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            data[i] = (float) quantize(data[i]);
+        }
+    }
+
+    /**
+     * Erstellt den Zustand für einen Strom mit Hysterese und Glide.
+     *
+     * @return Neuer Kanal ohne Vorgeschichte
+     */
+    public Channel newChannel() {
+        return new Channel();
+    }
+
+    // ==================== EIGENSCHAFTEN ====================
+
+    /**
+     * Gibt alle Zieltöne zurück.
+     *
+     * @return Kopie der Zieltöne in Hz, aufsteigend
+     */
+    public double[] getTargets() {
+        return targets.clone();
+    }
+
+    /**
+     * Gibt die Tonleiter zurück.
+     *
+     * @return Die Tonleiter
+     */
+    public Scale getScale() {
+        return scale;
+    }
+
+    /**
+     * Gibt die Hysterese zurück.
+     *
+     * @return Hysterese in Cent
+     */
+    public double getHysteresisCents() {
+        return hysteresisCents;
+    }
+
+    /**
+     * Gibt die Dauer des Übergangs zurück.
+     *
+     * @return Glide in Samples
+     */
+    public int getGlideSamples() {
+        return glideSamples;
+    }
+
+    @Override
+    public String toString() {
+        return "ScaleQuantizer[" + scale + ", " + targets.length + " Töne, Hysterese "
+            + hysteresisCents + " Cent, Glide " + glideSamples + " Samples]";
+    }
+
+    /** Index des nächstgelegenen Zieltons einer positiven Frequenz */
+    private int indexOf(double frequency) {
+        long cell = (Double.doubleToRawLongBits(frequency) >>> GRID_SHIFT) - gridBase;
+        int index = gridStart[(int) Math.max(0, Math.min(cell, gridStart.length - 1))];
+        while (boundaries[index] <= frequency && index < boundaries.length - 1) {
+            index++;
+        }
+        return index;
+    }
+
+    // ==================== KANAL ====================
+
+    /**
+     * Zustand eines Stroms: aktueller Zielton und laufender Glide.
+     *
+     * <p>Ein Kanal gehört zu genau einem Strom. Eine Instanz ist nicht threadsicher; für
+     * parallele Ströme erhält jeder Thread mit {@link ScaleQuantizer#newChannel()} einen eigenen.</p>
+     */
+    public final class Channel {
+
+        /** Index des aktuellen Zieltons, -1 ohne Vorgeschichte */
+        private int current = -1;
+
+        /** Letzte Ausgabe */
+        private double output;
+
+        /** Faktor pro Sample und verbleibende Samples des laufenden Glides */
+        private double step;
+        private int remaining;
+
+        private Channel() {
+        }
+
+        /**
+         * Verarbeitet ein Sample.
+         *
+         * @param frequency Frequenz in Hz
+         * @return Ausgabe in Hz
+         */
+        public double next(double frequency) {
+            if (!(frequency > 0)) {
+                current = -1;
+                remaining = 0;
+                return frequency;
+            }
+            int index = current;
+            if (index < 0 || frequency <= holdLow[index] || frequency >= holdHigh[index]) {
+                index = indexOf(frequency);
+                if (index != current) {
+                    double target = targets[index];
+                    if (current < 0 || glideSamples == 0) {
+                        output = target;
+                        remaining = 0;
+                    } else {
+                        step = Math.pow(target / output, 1.0 / glideSamples);
+                        remaining = glideSamples;
+                    }
+                    current = index;
+                }
+            }
+            if (remaining > 0) {
+                output = --remaining == 0 ? targets[current] : output * step;
+            }
+            return output;
+        }
+
+        /**
+         * Verarbeitet einen Block in-place.
+         *
+         * @param data Frequenzen in Hz; enthält danach die Ausgabe
+         * @param offset Startindex
+         * @param length Anzahl Werte
+         */
+        public void process(double[] data, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, data.length);
+            for (int i = offset, end = offset + length; i < end; i++) {
+                data[i] = next(data[i]);
+            }
+        }
+
+        /**
+         * Verarbeitet einen Block in-place.
+         *
+         * @param data Frequenzen in Hz; enthält danach die Ausgabe
+         * @param offset Startindex
+         * @param length Anzahl Werte
+         */
+        public void process(float[] data, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, data.length);
+            for (int i = offset, end = offset + length; i < end; i++) {
+                data[i] = (float) next(data[i]);
+            }
+        }
+
+        /**
+         * Gibt den aktuellen Zielton zurück (bei laufendem Glide das Ziel, nicht die Ausgabe).
+         *
+         * @return Frequenz in Hz, oder NaN ohne Vorgeschichte
+         */
+        public double getTarget() {
+            return current < 0 ? Double.NaN : targets[current];
+        }
+
+        /**
+         * Vergisst Zielton und Glide; das nächste Sample rastet ohne Übergang ein.
+         */
+        public void reset() {
+            current = -1;
+            remaining = 0;
+        }
+
+        @Override
+        public String toString() {
+            return "ScaleQuantizer.Channel[Ziel " + getTarget() + " Hz, Ausgabe " + output + " Hz]";
+        }
+    }
+}
@@ -0,0 +1,209 @@
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Ansicht einer Tonleiter über beliebig viele Oktaven, ohne die Noten anzulegen.
+ *
+ * <p>Ein Bereich speichert nur die Töne einer Oktave der {@link Scale} (Halbtöne und
+ * Frequenzen je Stufe) sowie den ersten und letzten Index. Für Index i werden Stufe und
+ * Oktavversatz per Division bestimmt und Tonnummer, Frequenz und Oktavlage daraus
+ * berechnet. {@link MusicalNote}-Objekte entstehen erst bei {@link #note(int)} bzw.
+ * {@link #notes()}; {@link #frequencies()} und {@link #keys()} liefern primitive Streams.</p>
+ *
+ * <p>Die Frequenzen folgen der Tonleiter: Das Verhältnis zwischen Grundton und Oktave (bei
+ * einer Stimmung also deren Oktave) wird pro Oktave wiederholt. Die Oktavlage wird im
+ * Gegensatz zu {@link Scale#getNotes()} immer ab C gezählt.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * Scale cDur = ScaleMaker.majorScale("C");
+ *
+ * // Alle Töne von C-Dur auf der Klaviatur (A,,, bis C''''')
+ * ScaleRange piano = cDur.getRange(ScaleRange.PIANO_LOWEST_KEY, ScaleRange.PIANO_HIGHEST_KEY);
+ * piano.size();            // 52 (die weißen Tasten)
+ * piano.frequency(0);      // 27.5
+ *
+ * double max = piano.frequencies().max().getAsDouble();
+ * }</pre>
+ *
+ * <p>Eine Instanz ist unveränderlich und threadsicher.</p>
+ *
+ * @see Scale#getRange(int, int)
+ * @see Scale#getOctaveRange(int)
+ */
+public final class ScaleRange {
+
+    /** Tonnummer der tiefsten Klaviertaste (A,,,) */
+    public static final int PIANO_LOWEST_KEY = 21;
+
+    /** Tonnummer der höchsten Klaviertaste (C''''') */
+    public static final int PIANO_HIGHEST_KEY = 108;
+
+    private final Scale scale;
+
+    /** Tonnummer des Grundtons der Tonleiter */
+    private final int rootKey;
+
+    /** Halbtöne über dem Grundton je Stufe (ohne abschließende Oktave) */
+    private final int[] semitones;
+
+    /** Frequenz je Stufe in der Oktave des Grundtons */
+    private final double[] frequencies;
+
+    /** Notenname je Stufe */
+    private final String[] letters;
+
+    /** Frequenzverhältnis einer Oktave der Tonleiter */
+    private final double period;
+
+    /** Position des ersten Tons: Oktavversatz * Stufenanzahl + Stufe */
+    private final long first;
+
+    private final int size;
+
+    ScaleRange(Scale scale, int rootKey, int[] semitones, double[] frequencies, String[] letters,
+               double period, long first, int size) {
+        this.scale = scale;
+        this.rootKey = rootKey;
+        this.semitones = semitones;
+        this.frequencies = frequencies;
+        this.letters = letters;
+        this.period = period;
+        this.first = first;
+        this.size = size;
+    }
+
+    // ==================== INDEX ====================
+
+    /**
+     * Gibt die Anzahl der Töne im Bereich zurück.
+     *
+     * @return Anzahl Töne
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gibt die Frequenz eines Tons zurück.
+     *
+     * @param index Index von 0 bis size() - 1, aufsteigend nach Tonhöhe
+     * @return Frequenz in Hz
+     */
+    public double frequency(int index) {
+        long position = position(index);
+        int degree = (int) Math.floorMod(position, (long) semitones.length);
+        long octave = Math.floorDiv(position, (long) semitones.length);
+        return period == 2.0
+            ? Math.scalb(frequencies[degree], (int) octave)
+            : frequencies[degree] * Math.pow(period, octave);
+    }
+
+    /**
+     * Gibt die Tonnummer eines Tons zurück.
+     *
+     * @param index Index von 0 bis size() - 1
+     * @return Tonnummer (60 = C')
+     */
+    public int key(int index) {
+        long position = position(index);
+        int degree = (int) Math.floorMod(position, (long) semitones.length);
+        long octave = Math.floorDiv(position, (long) semitones.length);
+        return (int) (rootKey + semitones[degree] + 12 * octave);
+    }
+
+    /**
+     * Gibt die Stufe eines Tons in der Tonleiter zurück.
+     *
+     * @param index Index von 0 bis size() - 1
+     * @return Stufe (1 = Grundton)
+     */
+    public int degree(int index) {
+        return (int) Math.floorMod(position(index), (long) semitones.length) + 1;
+    }
+
+    /**
+     * Gibt die Oktavlage eines Tons zurück.
+     *
+     * @param index Index von 0 bis size() - 1
+     * @return Oktavlage (1 = eingestrichen)
+     */
+    public int octave(int index) {
+        return MusicalNote.octaveOfMidiNumber(key(index));
+    }
+
+    /**
+     * Gibt den Notennamen eines Tons zurück.
+     *
+     * @param index Index von 0 bis size() - 1
+     * @return Notenname wie in der Tonleiter
+     */
+    public String letter(int index) {
+        return letters[degree(index) - 1];
+    }
+
+    /**
+     * Erstellt die Note eines Tons.
+     *
+     * @param index Index von 0 bis size() - 1
+     * @return Neue MusicalNote
+     */
+    public MusicalNote note(int index) {
+        int key = key(index);
+        return new MusicalNote(Math.floorMod(key, 12), scale.getFundamentalTone().usesSharps(),
+            frequency(index), MusicalNote.octaveOfMidiNumber(key));
+    }
+
+    // ==================== STREAMS ====================
+
+    /**
+     * Gibt alle Frequenzen als primitiven Stream zurück.
+     *
+     * @return Frequenzen in Hz, aufsteigend
+     */
+    public DoubleStream frequencies() {
+        return IntStream.range(0, size).mapToDouble(this::frequency);
+    }
+
+    /**
+     * Gibt alle Tonnummern als primitiven Stream zurück.
+     *
+     * @return Tonnummern, aufsteigend
+     */
+    public IntStream keys() {
+        return IntStream.range(0, size).map(this::key);
+    }
+
+    /**
+     * Gibt alle Noten als Stream zurück; jede Note wird erst beim Abruf erstellt.
+     *
+     * @return Noten, aufsteigend
+     */
+    public Stream<MusicalNote> notes() {
+        return IntStream.range(0, size).mapToObj(this::note);
+    }
+
+    /**
+     * Gibt die Tonleiter des Bereichs zurück.
+     *
+     * @return Die Tonleiter
+     */
+    public Scale getScale() {
+        return scale;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "ScaleRange[" + scale + ", leer]";
+        }
+        return "ScaleRange[" + scale + ", " + size + " Töne, " + letter(0) + MusicalNote.octaveToSymbols(octave(0))
+            + " bis " + letter(size - 1) + MusicalNote.octaveToSymbols(octave(size - 1)) + "]";
+    }
+
+    private long position(int index) {
+        return first + Objects.checkIndex(index, size);
+    }
+}
@@ -0,0 +1,724 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Offline-Klangerzeugung: rendert {@link Scale}, {@link Chord} und {@link Melody} in float-PCM.
+ *
+ * <p>Die Klangerzeugung ist eine Oszillatorbank aus Wavetable-Oszillatoren mit linearer
+ * ADSR-Hüllkurve. Der gesamte Zustand liegt in vorab allozierten primitiven Arrays:
+ * geplante Noten (Start, Release, Phaseninkrement, Lautstärke) und aktive Stimmen
+ * (Phase, Hüllkurvenstufe und -pegel). {@link #renderBlock(float[], int, int)} erzeugt
+ * keine Objekte, solange Noten in zeitlicher Reihenfolge geplant werden; sonst wird
+ * einmalig vor dem nächsten Block sortiert.</p>
+ *
+ * <p>Ausgabe ist Mono mit Samples im Bereich [-1, 1] (bei passender {@link #setGain(float) Verstärkung}).
+ * Für lange Offline-Renderings verteilt {@link #renderParallel(Melody, double, int)}
+ * die Noten auf mehrere Kerne und summiert die Teilergebnisse.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * Synthesizer synth = new Synthesizer(44100, 256);
+ * synth.setWaveform(Synthesizer.Waveform.TRIANGLE);
+ * synth.setEnvelope(0.01, 0.1, 0.7f, 0.3);
+ *
+ * float[] run = synth.render(ScaleMaker.majorScale("C"), 0.25);
+ * float[] block = synth.render(ScaleMaker.chord("A", ChordType.MINOR_7), 2.0);
+ *
+ * // Blockweise, z.B. für einen Audio-Ausgang
+ * synth.reset();
+ * synth.noteOn(440.0, 1.0f, 0, 44100);
+ * float[] buffer = new float[512];
+ * while (synth.isPlaying()) {
+ *     synth.renderBlock(buffer, 0, buffer.length);
+ * }
+ * }</pre>
+ *
+ * <p>Eine Instanz ist nicht threadsicher.</p>
+ *
+ * @see Melody
+ */
+public final class Synthesizer {
+
+    /** Wellenformen der Oszillatoren */
+    public enum Waveform {
+        SINE, TRIANGLE, SAWTOOTH, SQUARE
+    }
+
+    /** Einträge pro Wavetable (Zweierpotenz), plus ein Schutzeintrag für die Interpolation */
+    private static final int TABLE_SIZE = 2048;
+
+    /** Anzahl Obertöne der bandbegrenzten Sägezahn- und Rechtecktabellen */
+    private static final int HARMONICS = 64;
+
+    private static final float[][] TABLES = new float[Waveform.values().length][];
+
+    static {
+        for (Waveform waveform : Waveform.values()) {
+            TABLES[waveform.ordinal()] = buildTable(waveform);
+        }
+    }
+
+    private static final byte ATTACK = 0;
+    private static final byte DECAY = 1;
+    private static final byte SUSTAIN = 2;
+    private static final byte RELEASE = 3;
+
+    /** Standard-Verstärkung, damit einige gleichzeitige Stimmen nicht übersteuern */
+    private static final float DEFAULT_GAIN = 0.25f;
+
+    private final int sampleRate;
+    private final int maxVoices;
+
+    private float[] table = TABLES[Waveform.SINE.ordinal()];
+    private Waveform waveform = Waveform.SINE;
+    private int attackFrames;
+    private int decayFrames;
+    private float sustainLevel = 1.0f;
+    private int releaseFrames;
+    private float gain = DEFAULT_GAIN;
+
+    // Geplante Noten, nach Startzeit sortiert ab nextEvent
+    private long[] eventStart = new long[16];
+    private long[] eventRelease = new long[16];
+    private double[] eventIncrement = new double[16];
+    private float[] eventAmplitude = new float[16];
+    private int eventCount;
+    private int nextEvent;
+    private boolean eventsSorted = true;
+    private long[] sortKeys = new long[0];
+    private int[] sortOrder = new int[0];
+    private int[] sortScratch = new int[0];
+
+    // Aktive Stimmen, dicht gepackt in 0..activeVoices-1
+    private final double[] voicePhase;
+    private final double[] voiceIncrement;
+    private final float[] voiceAmplitude;
+    private final float[] voiceLevel;
+    private final byte[] voiceStage;
+    private final long[] voiceRelease;
+    private int activeVoices;
+
+    private long position;
+
+    /**
+     * Erstellt einen Synthesizer.
+     *
+     * @param sampleRate Abtastrate in Hz (z.B. 44100)
+     * @param maxVoices Maximale Anzahl gleichzeitig klingender Stimmen
+     */
+    public Synthesizer(int sampleRate, int maxVoices) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Abtastrate muss positiv sein: " + sampleRate);
+        }
+        if (maxVoices < 1) {
+            throw new IllegalArgumentException("Mindestens eine Stimme erforderlich: " + maxVoices);
+        }
+        this.sampleRate = sampleRate;
+        this.maxVoices = maxVoices;
+        this.voicePhase = new double[maxVoices];
+        this.voiceIncrement = new double[maxVoices];
+        this.voiceAmplitude = new float[maxVoices];
+        this.voiceLevel = new float[maxVoices];
+        this.voiceStage = new byte[maxVoices];
+        this.voiceRelease = new long[maxVoices];
+        setEnvelope(0.005, 0.05, 0.8f, 0.1);
+    }
+
+    // ==================== EINSTELLUNGEN ====================
+
+    /**
+     * Setzt die Wellenform für alle folgenden Noten.
+     *
+     * @param waveform Die Wellenform
+     */
+    public void setWaveform(Waveform waveform) {
+        this.waveform = Objects.requireNonNull(waveform, "waveform");
+        this.table = TABLES[waveform.ordinal()];
+    }
+
+    /**
+     * Setzt die ADSR-Hüllkurve.
+     *
+     * @param attack Anstiegszeit in Sekunden
+     * @param decay Abfallzeit auf den Haltepegel in Sekunden
+     * @param sustain Haltepegel 0-1
+     * @param release Ausklingzeit nach dem Loslassen in Sekunden
+     */
+    public void setEnvelope(double attack, double decay, float sustain, double release) {
+        if (attack < 0 || decay < 0 || release < 0 || sustain < 0 || sustain > 1) {
+            throw new IllegalArgumentException("Ungültige Hüllkurve: " + attack + "/" + decay + "/" + sustain + "/" + release);
+        }
+        this.attackFrames = Math.max(1, (int) Math.round(attack * sampleRate));
+        this.decayFrames = Math.max(1, (int) Math.round(decay * sampleRate));
+        this.sustainLevel = sustain;
+        this.releaseFrames = Math.max(1, (int) Math.round(release * sampleRate));
+    }
+
+    /**
+     * Setzt die Gesamtverstärkung.
+     *
+     * @param gain Faktor auf die Summe aller Stimmen (Standard 0.25)
+     */
+    public void setGain(float gain) {
+        this.gain = gain;
+    }
+
+    /**
+     * Gibt die Abtastrate zurück.
+     *
+     * @return Abtastrate in Hz
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Gibt die maximale Stimmenzahl zurück.
+     *
+     * @return Maximale Anzahl gleichzeitiger Stimmen
+     */
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+
+    /**
+     * Gibt die Anzahl der Ausklingsamples nach dem Loslassen zurück.
+     *
+     * @return Release-Dauer in Samples
+     */
+    public int getReleaseFrames() {
+        return releaseFrames;
+    }
+
+    // ==================== NOTEN PLANEN ====================
+
+    /**
+     * Plant eine Note.
+     *
+     * @param frequency Frequenz in Hz
+     * @param velocity Lautstärke 0-1
+     * @param startFrame Startzeitpunkt in Samples
+     * @param releaseFrame Zeitpunkt des Loslassens in Samples (danach klingt die Note aus)
+     */
+    public void noteOn(double frequency, float velocity, long startFrame, long releaseFrame) {
+        if (!(frequency > 0) || releaseFrame < startFrame) {
+            throw new IllegalArgumentException("Ungültige Note: " + frequency + " Hz, " + startFrame + "-" + releaseFrame);
+        }
+        if (eventCount == eventStart.length) {
+            int capacity = eventCount * 2;
+            eventStart = Arrays.copyOf(eventStart, capacity);
+            eventRelease = Arrays.copyOf(eventRelease, capacity);
+            eventIncrement = Arrays.copyOf(eventIncrement, capacity);
+            eventAmplitude = Arrays.copyOf(eventAmplitude, capacity);
+        }
+        if (eventCount > nextEvent && startFrame < eventStart[eventCount - 1]) {
+            eventsSorted = false;
+        }
+        eventStart[eventCount] = startFrame;
+        eventRelease[eventCount] = releaseFrame;
+        eventIncrement[eventCount] = frequency * TABLE_SIZE / sampleRate;
+        eventAmplitude[eventCount] = velocity;
+        eventCount++;
+    }
+
+    /**
+     * Plant alle Töne einer Tonleiter nacheinander (Lauf).
+     *
+     * @param scale Die Tonleiter
+     * @param startFrame Startzeitpunkt in Samples
+     * @param noteFrames Dauer je Ton in Samples
+     * @return Zeitpunkt nach dem letzten Ton in Samples
+     */
+    public long schedule(Scale scale, long startFrame, long noteFrames) {
+        long frame = startFrame;
+        for (int i = 0; i < scale.size(); i++) {
+            noteOn(scale.getFrequency(i), 1.0f, frame, frame + noteFrames);
+            frame += noteFrames;
+        }
+        return frame;
+    }
+
+    /**
+     * Plant alle Töne eines Akkords gleichzeitig (Block).
+     *
+     * @param chord Der Akkord
+     * @param startFrame Startzeitpunkt in Samples
+     * @param frames Dauer in Samples
+     * @return Zeitpunkt des Loslassens in Samples
+     */
+    public long schedule(Chord chord, long startFrame, long frames) {
+        for (int i = 0; i < chord.size(); i++) {
+            noteOn(chord.getFrequency(i), 1.0f, startFrame, startFrame + frames);
+        }
+        return startFrame + frames;
+    }
+
+    /**
+     * Plant alle Ereignisse einer Melodie.
+     *
+     * @param melody Die Melodie
+     * @param bpm Tempo in Viertelnoten pro Minute
+     * @param startFrame Startzeitpunkt in Samples
+     * @return Zeitpunkt des letzten Loslassens in Samples
+     */
+    public long schedule(Melody melody, double bpm, long startFrame) {
+        return schedule(melody, bpm, startFrame, 0, 1);
+    }
+
+    // Plant jedes stride-te Ereignis ab first (für die Aufteilung auf Threads)
+    private long schedule(Melody melody, double bpm, long startFrame, int first, int stride) {
+        double framesPerTick = framesPerTick(melody, bpm);
+        long end = startFrame;
+        for (int i = first; i < melody.size(); i += stride) {
+            long start = startFrame + Math.round(melody.getOnset(i) * framesPerTick);
+            long release = startFrame + Math.round((melody.getOnset(i) + (long) melody.getDuration(i)) * framesPerTick);
+            noteOn(melody.getFrequency(i), melody.getVelocity(i) / 127.0f, start, release);
+            end = Math.max(end, release);
+        }
+        return end;
+    }
+
+    private double framesPerTick(Melody melody, double bpm) {
+        if (!(bpm > 0)) {
+            throw new IllegalArgumentException("Tempo muss positiv sein: " + bpm);
+        }
+        return sampleRate * 60.0 / (bpm * melody.getTicksPerQuarter());
+    }
+
+    // ==================== RENDERN ====================
+
+    /**
+     * Rendert die nächsten Samples in einen Puffer (Mono, überschreibt den Bereich).
+     *
+     * @param out Zielpuffer
+     * @param offset Startindex im Puffer
+     * @param frames Anzahl Samples
+     */
+    public void renderBlock(float[] out, int offset, int frames) {
+        Objects.checkFromIndexSize(offset, frames, out.length);
+        sortPendingEvents();
+        Arrays.fill(out, offset, offset + frames, 0f);
+        long end = position + frames;
+        while (position < end) {
+            // Bis zum nächsten Notenstart rendern, dann Stimmen starten
+            long segmentEnd = end;
+            if (nextEvent < eventCount && eventStart[nextEvent] < segmentEnd) {
+                segmentEnd = Math.max(position, eventStart[nextEvent]);
+            }
+            int from = offset + (int) (frames - (end - position));
+            int length = (int) (segmentEnd - position);
+            if (length > 0) {
+                renderVoices(out, from, length);
+                position = segmentEnd;
+            }
+            while (nextEvent < eventCount && eventStart[nextEvent] <= position) {
+                startVoice(nextEvent++);
+            }
+        }
+        if (gain != 1.0f) {
+            for (int i = offset; i < offset + frames; i++) {
+                out[i] *= gain;
+            }
+        }
+    }
+
+    /**
+     * Rendert alle geplanten Noten vollständig inklusive Ausklingen.
+     *
+     * @return Mono-Samples ab der aktuellen Position
+     */
+    public float[] renderAll() {
+        sortPendingEvents();
+        long end = position;
+        for (int i = nextEvent; i < eventCount; i++) {
+            end = Math.max(end, eventRelease[i] + releaseFrames);
+        }
+        for (int v = 0; v < activeVoices; v++) {
+            end = Math.max(end, voiceStage[v] == RELEASE ? position + releaseFrames : voiceRelease[v] + releaseFrames);
+        }
+        long frames = end - position;
+        if (frames > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Zu lang für ein Array: " + frames + " Samples, blockweise rendern");
+        }
+        float[] out = new float[(int) frames];
+        renderBlock(out, 0, out.length);
+        return out;
+    }
+
+    /**
+     * Rendert eine Tonleiter als Lauf.
+     *
+     * @param scale Die Tonleiter
+     * @param noteSeconds Dauer je Ton in Sekunden
+     * @return Mono-Samples
+     */
+    public float[] render(Scale scale, double noteSeconds) {
+        reset();
+        schedule(scale, 0, Math.round(noteSeconds * sampleRate));
+        return renderAll();
+    }
+
+    /**
+     * Rendert einen Akkord als Block.
+     *
+     * @param chord Der Akkord
+     * @param seconds Dauer in Sekunden
+     * @return Mono-Samples
+     */
+    public float[] render(Chord chord, double seconds) {
+        reset();
+        schedule(chord, 0, Math.round(seconds * sampleRate));
+        return renderAll();
+    }
+
+    /**
+     * Rendert eine Melodie.
+     *
+     * @param melody Die Melodie
+     * @param bpm Tempo in Viertelnoten pro Minute
+     * @return Mono-Samples
+     */
+    public float[] render(Melody melody, double bpm) {
+        reset();
+        schedule(melody, bpm, 0);
+        return renderAll();
+    }
+
+    /**
+     * Rendert eine Melodie verteilt auf mehrere Kerne.
+     *
+     * <p>Die Ereignisse werden reihum auf {@code parts} Synthesizer mit den Einstellungen
+     * dieser Instanz verteilt, parallel gerendert und summiert. Das Ergebnis entspricht
+     * {@link #render(Melody, double)} bis auf Rundung und Stimmenbegrenzung je Teil.</p>
+     *
+     * @param melody Die Melodie
+     * @param bpm Tempo in Viertelnoten pro Minute
+     * @param parts Anzahl Teile (z.B. {@code Runtime.getRuntime().availableProcessors()})
+     * @return Mono-Samples
+     */
+    public float[] renderParallel(Melody melody, double bpm, int parts) {
+        if (parts < 1) {
+            throw new IllegalArgumentException("Mindestens ein Teil erforderlich: " + parts);
+        }
+        framesPerTick(melody, bpm);
+        int count = Math.min(parts, Math.max(1, melody.size()));
+        List<float[]> results = Arrays.asList(new float[count][]);
+        IntStream.range(0, count).parallel().forEach(part -> {
+            Synthesizer synth = copySettings();
+            synth.schedule(melody, bpm, 0, part, count);
+            results.set(part, synth.renderAll());
+        });
+        int length = 0;
+        for (float[] result : results) {
+            length = Math.max(length, result.length);
+        }
+        float[] out = new float[length];
+        for (float[] result : results) {
+            for (int i = 0; i < result.length; i++) {
+                out[i] += result[i];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Verwirft alle geplanten Noten und aktiven Stimmen und setzt die Position auf 0.
+     */
+    public void reset() {
+        eventCount = 0;
+        nextEvent = 0;
+        eventsSorted = true;
+        activeVoices = 0;
+        position = 0;
+    }
+
+    /**
+     * Prüft, ob noch Stimmen klingen oder Noten geplant sind.
+     *
+     * @return true, solange {@link #renderBlock(float[], int, int)} noch Klang erzeugt
+     */
+    public boolean isPlaying() {
+        return activeVoices > 0 || nextEvent < eventCount;
+    }
+
+    /**
+     * Gibt die Anzahl der aktuell klingenden Stimmen zurück.
+     *
+     * @return Aktive Stimmen
+     */
+    public int getActiveVoices() {
+        return activeVoices;
+    }
+
+    /**
+     * Gibt die aktuelle Position zurück.
+     *
+     * @return Anzahl bereits gerenderter Samples
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public String toString() {
+        return "Synthesizer[" + sampleRate + " Hz, " + waveform + ", " + activeVoices + "/" + maxVoices + " Stimmen]";
+    }
+
+    // ==================== INTERN ====================
+
+    private Synthesizer copySettings() {
+        Synthesizer copy = new Synthesizer(sampleRate, maxVoices);
+        copy.setWaveform(waveform);
+        copy.attackFrames = attackFrames;
+        copy.decayFrames = decayFrames;
+        copy.sustainLevel = sustainLevel;
+        copy.releaseFrames = releaseFrames;
+        copy.gain = gain;
+        return copy;
+    }
+
+    private void startVoice(int event) {
+        int v;
+        if (activeVoices < maxVoices) {
+            v = activeVoices++;
+        } else {
+            // Leiseste Stimme übernehmen
+            v = 0;
+            for (int i = 1; i < activeVoices; i++) {
+                if (voiceLevel[i] * voiceAmplitude[i] < voiceLevel[v] * voiceAmplitude[v]) {
+                    v = i;
+                }
+            }
+        }
+        voicePhase[v] = 0;
+        voiceIncrement[v] = eventIncrement[event];
+        voiceAmplitude[v] = eventAmplitude[event];
+        voiceLevel[v] = 0f;
+        voiceStage[v] = ATTACK;
+        voiceRelease[v] = eventRelease[event];
+    }
+
+    private void renderVoices(float[] out, int from, int length) {
+        final float[] wave = table;
+        final float attackStep = 1.0f / attackFrames;
+        final float decayStep = (1.0f - sustainLevel) / decayFrames;
+        final float releaseStep = 1.0f / releaseFrames;
+        final int mask = TABLE_SIZE - 1;
+        int v = 0;
+        while (v < activeVoices) {
+            double phase = voicePhase[v];
+            final double increment = voiceIncrement[v];
+            final float amplitude = voiceAmplitude[v];
+            float level = voiceLevel[v];
+            byte stage = voiceStage[v];
+            long releaseAt = voiceRelease[v];
+            long frame = position;
+            boolean finished = false;
+            for (int i = from; i < from + length; i++, frame++) {
+                if (stage != RELEASE && frame >= releaseAt) {
+                    stage = RELEASE;
+                }
+                switch (stage) {
+                    case ATTACK:
+                        level += attackStep;
+                        if (level >= 1.0f) {
+                            level = 1.0f;
+                            stage = DECAY;
+                        }
+                        break;
+                    case DECAY:
+                        level -= decayStep;
+                        if (level <= sustainLevel) {
+                            level = sustainLevel;
+                            stage = SUSTAIN;
+                        }
+                        break;
+                    case RELEASE:
+                        level -= releaseStep;
+                        if (level <= 0f) {
+                            level = 0f;
+                            finished = true;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                int index = (int) phase;
+                float fraction = (float) (phase - index);
+                float a = wave[index];
+                out[i] += (a + fraction * (wave[index + 1] - a)) * level * amplitude;
+                phase += increment;
+                if (phase >= TABLE_SIZE) {
+                    phase -= TABLE_SIZE;
+                    if (phase >= TABLE_SIZE) {
+                        phase = ((int) phase & mask) + (phase - (int) phase);
+                    }
+                }
+                if (finished) {
+                    break;
+                }
+            }
+            if (finished) {
+                // Stimme entfernen, letzte aktive Stimme nachrücken
+                removeVoice(v);
+            } else {
+                voicePhase[v] = phase;
+                voiceLevel[v] = level;
+                voiceStage[v] = stage;
+                v++;
+            }
+        }
+    }
+
+    private void removeVoice(int v) {
+        int last = --activeVoices;
+        voicePhase[v] = voicePhase[last];
+        voiceIncrement[v] = voiceIncrement[last];
+        voiceAmplitude[v] = voiceAmplitude[last];
+        voiceLevel[v] = voiceLevel[last];
+        voiceStage[v] = voiceStage[last];
+        voiceRelease[v] = voiceRelease[last];
+    }
+
+    // Sortiert die noch nicht gestarteten Noten stabil nach Startzeit (nur wenn nötig). Sortiert
+    // wird eine Permutation der Indizes, die danach zyklenweise auf die Spalten angewandt wird;
+    // die Puffer bleiben zwischen den Aufrufen erhalten. Normalfall sind gepackte long-Schlüssel,
+    // nur bei über 2^31 Samples (etwa 13 Stunden bei 44,1 kHz) Abstand ein Mergesort.
+    private void sortPendingEvents() {
+        if (eventsSorted) {
+            return;
+        }
+        int count = eventCount - nextEvent;
+        if (sortOrder.length < count) {
+            sortOrder = new int[eventStart.length];
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = nextEvent; i < eventCount; i++) {
+            min = Math.min(min, eventStart[i]);
+            max = Math.max(max, eventStart[i]);
+        }
+        if (max - min <= Integer.MAX_VALUE) {
+            sortByPackedKeys(count, min);
+        } else {
+            sortByMerging(count);
+        }
+        applySortOrder(count);
+        eventsSorted = true;
+    }
+
+    // Startzeit relativ zum Minimum in den oberen, Index in den unteren 32 Bit
+    private void sortByPackedKeys(int count, long minStart) {
+        if (sortKeys.length < count) {
+            sortKeys = new long[eventStart.length];
+        }
+        long[] keys = sortKeys;
+        for (int i = 0; i < count; i++) {
+            keys[i] = eventStart[nextEvent + i] - minStart << 32 | i;
+        }
+        Arrays.sort(keys, 0, count);
+        for (int i = 0; i < count; i++) {
+            sortOrder[i] = nextEvent + (int) keys[i];
+        }
+    }
+
+    // Bottom-up-Mergesort über die Indizes für Startzeiten, die mehr als 2^31 Samples auseinanderliegen
+    private void sortByMerging(int count) {
+        if (sortScratch.length < count) {
+            sortScratch = new int[eventStart.length];
+        }
+        int[] order = sortOrder;
+        int[] scratch = sortScratch;
+        for (int i = 0; i < count; i++) {
+            order[i] = nextEvent + i;
+        }
+        for (int width = 1; width < count; width *= 2) {
+            for (int from = 0; from < count - width; from += 2 * width) {
+                int mid = from + width;
+                int to = Math.min(from + 2 * width, count);
+                if (eventStart[order[mid - 1]] <= eventStart[order[mid]]) {
+                    continue;
+                }
+                System.arraycopy(order, from, scratch, from, to - from);
+                int left = from;
+                int right = mid;
+                for (int k = from; k < to; k++) {
+                    if (right >= to || left < mid && eventStart[scratch[left]] <= eventStart[scratch[right]]) {
+                        order[k] = scratch[left++];
+                    } else {
+                        order[k] = scratch[right++];
+                    }
+                }
+            }
+        }
+    }
+
+    // Position nextEvent + i erhält das Ereignis sortOrder[i]; jeder Zyklus wird einmal durchlaufen
+    private void applySortOrder(int count) {
+        int[] order = sortOrder;
+        for (int i = 0; i < count; i++) {
+            if (order[i] == nextEvent + i || order[i] < 0) {
+                continue;
+            }
+            int target = nextEvent + i;
+            long start = eventStart[target];
+            long release = eventRelease[target];
+            double increment = eventIncrement[target];
+            float amplitude = eventAmplitude[target];
+            int j = i;
+            while (true) {
+                int source = order[j];
+                order[j] = -1;
+                int to = nextEvent + j;
+                if (source == target) {
+                    eventStart[to] = start;
+                    eventRelease[to] = release;
+                    eventIncrement[to] = increment;
+                    eventAmplitude[to] = amplitude;
+                    break;
+                }
+                eventStart[to] = eventStart[source];
+                eventRelease[to] = eventRelease[source];
+                eventIncrement[to] = eventIncrement[source];
+                eventAmplitude[to] = eventAmplitude[source];
+                j = source - nextEvent;
+            }
+        }
+    }
+
+    private static float[] buildTable(Waveform waveform) {
+        float[] wave = new float[TABLE_SIZE + 1];
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            double x = 2 * Math.PI * i / TABLE_SIZE;
+            double value = 0;
+            switch (waveform) {
+                case SINE:
+                    value = Math.sin(x);
+                    break;
+                case TRIANGLE:
+                    value = 2 / Math.PI * Math.asin(Math.sin(x));
+                    break;
+                case SAWTOOTH:
+                    // Bandbegrenzt, damit hohe Töne nicht aliasen
+                    for (int k = 1; k <= HARMONICS; k++) {
+                        value += Math.sin(k * x) / k;
+                    }
+                    value *= 2 / Math.PI;
+                    break;
+                case SQUARE:
+                    for (int k = 1; k <= HARMONICS; k += 2) {
+                        value += Math.sin(k * x) / k;
+                    }
+                    value *= 4 / Math.PI;
+                    break;
+                default:
+                    break;
+            }
+            wave[i] = (float) value;
+        }
+        wave[TABLE_SIZE] = wave[0];
+        return wave;
+    }
+}
@@ -0,0 +1,192 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Tabellenbasierte {@link TuningSystem}-Implementierung.
+ *
+ * <p>Hält die Frequenzen der Tonnummern 0-127 in einem dichten Array, das einmalig beim
+ * Erstellen berechnet wird. Tonnummern außerhalb der Tabelle werden über die Periode
+ * (bei zwölfstufigen Stimmungen die Oktave) fortgesetzt.</p>
+ *
+ * <p>Zwei Tabellen-Stimmungen sind gleich, wenn Name, Frequenzen und Periode übereinstimmen.
+ * So treffen z.B. zwei Aufrufe von {@code TuningSystem.werckmeister(443)} im
+ * {@link ScaleMakerCache} denselben Eintrag.</p>
+ *
+ * @see TuningSystem
+ */
+final class TableTuningSystem implements TuningSystem {
+
+    /** Anzahl Tonnummern in der Tabelle */
+    static final int KEYS = 128;
+
+    /** Standard-Kammerton A' in Hz */
+    static final double DEFAULT_REFERENCE = 440.0;
+
+    /** Gleichstufig: 100 Cent pro Halbton */
+    static final double[] EQUAL_CENTS = {0, 100, 200, 300, 400, 500, 600, 700, 800, 900, 1000, 1100};
+
+    /** Werckmeister III in Cent relativ zu C */
+    static final double[] WERCKMEISTER_CENTS = {
+        0.0, 90.225, 192.180, 294.135, 390.225, 498.045,
+        588.270, 696.090, 792.180, 888.270, 996.090, 1092.180
+    };
+
+    /** Reine Stimmung (5-limit) relativ zu C, aus den Intervall-Definitionen */
+    static final double[] JUST_RATIOS = {
+        IntervalType.UNISON.getRatio(),
+        IntervalType.MINOR_SECOND.getRatio(),
+        IntervalType.MAJOR_SECOND.getRatio(),
+        IntervalType.MINOR_THIRD.getRatio(),
+        IntervalType.MAJOR_THIRD.getRatio(),
+        IntervalType.PERFECT_FOURTH.getRatio(),
+        IntervalType.AUGMENTED_FOURTH.getRatio(),
+        IntervalType.PERFECT_FIFTH.getRatio(),
+        IntervalType.MINOR_SIXTH.getRatio(),
+        IntervalType.MAJOR_SIXTH.getRatio(),
+        IntervalType.MINOR_SEVENTH_PYTHAGOREAN.getRatio(),
+        IntervalType.MAJOR_SEVENTH.getRatio()
+    };
+
+    static final TableTuningSystem EQUAL_TEMPERAMENT = ofCents("Gleichstufig", EQUAL_CENTS, DEFAULT_REFERENCE);
+
+    static final TableTuningSystem JUST_INTONATION = ofRatios("Rein", JUST_RATIOS, DEFAULT_REFERENCE);
+
+    private final String name;
+    private final double[] table;
+    private final int periodSteps;
+    private final double periodRatio;
+    private final int hash;
+
+    /**
+     * Erstellt eine Stimmung aus einer fertigen Frequenztabelle.
+     *
+     * @param name Name der Stimmung
+     * @param table Frequenzen der Tonnummern 0-127 (wird übernommen, nicht kopiert)
+     * @param periodSteps Anzahl Tonnummern pro Periode (12 für oktavbasierte Stimmungen)
+     * @param periodRatio Frequenzverhältnis einer Periode (2.0 für die Oktave)
+     */
+    TableTuningSystem(String name, double[] table, int periodSteps, double periodRatio) {
+        if (table.length != KEYS) {
+            throw new IllegalArgumentException("Tabelle muss " + KEYS + " Einträge haben: " + table.length);
+        }
+        if (periodSteps < 1 || periodSteps >= KEYS) {
+            throw new IllegalArgumentException("Ungültige Periode: " + periodSteps);
+        }
+        this.name = Objects.requireNonNull(name, "name");
+        this.table = table;
+        this.periodSteps = periodSteps;
+        this.periodRatio = periodRatio;
+        this.hash = 31 * (31 * (31 * name.hashCode() + Arrays.hashCode(table)) + periodSteps) + Double.hashCode(periodRatio);
+    }
+
+    /**
+     * Erstellt eine zwölfstufige Stimmung aus Frequenzverhältnissen relativ zu C.
+     *
+     * @param name Name der Stimmung
+     * @param ratiosFromC Zwölf Verhältnisse im Bereich [1, 2), Index = Tonklasse
+     * @param referenceFrequency Frequenz von A' in Hz
+     * @return Die Stimmung
+     */
+    static TableTuningSystem ofRatios(String name, double[] ratiosFromC, double referenceFrequency) {
+        if (ratiosFromC.length != 12) {
+            throw new IllegalArgumentException("Es werden genau 12 Werte benötigt: " + ratiosFromC.length);
+        }
+        if (!(referenceFrequency > 0)) {
+            throw new IllegalArgumentException("Kammerton muss positiv sein: " + referenceFrequency);
+        }
+        // Relativ zu A' rechnen, damit der Kammerton exakt in der Tabelle steht
+        double referenceRatio = ratiosFromC[REFERENCE_KEY % 12];
+        double[] table = new double[KEYS];
+        for (int key = 0; key < KEYS; key++) {
+            table[key] = Math.scalb(referenceFrequency * (ratiosFromC[key % 12] / referenceRatio), key / 12 - 5);
+        }
+        return new TableTuningSystem(name, table, 12, 2.0);
+    }
+
+    /**
+     * Erstellt eine zwölfstufige Stimmung aus Cent-Werten relativ zu C.
+     *
+     * @param name Name der Stimmung
+     * @param centsFromC Zwölf Cent-Werte, Index = Tonklasse
+     * @param referenceFrequency Frequenz von A' in Hz
+     * @return Die Stimmung
+     */
+    static TableTuningSystem ofCents(String name, double[] centsFromC, double referenceFrequency) {
+        if (centsFromC.length != 12) {
+            throw new IllegalArgumentException("Es werden genau 12 Werte benötigt: " + centsFromC.length);
+        }
+        double[] ratios = new double[12];
+        for (int i = 0; i < 12; i++) {
+            ratios[i] = Math.pow(2, centsFromC[i] / 1200.0);
+        }
+        return ofRatios(name, ratios, referenceFrequency);
+    }
+
+    /**
+     * Berechnet zwölf Verhältnisse aus einer Quintenkette, jeweils in die Oktave über C gelegt.
+     *
+     * @param fifth Verhältnis der Quinte (3/2 pythagoreisch, 5^(1/4) mitteltönig)
+     * @param firstFifth Position des ersten Tons in der Kette relativ zu C (z.B. -3 für Es)
+     * @return Zwölf Verhältnisse, Index = Tonklasse
+     */
+    static double[] fifthChain(double fifth, int firstFifth) {
+        double[] ratios = new double[12];
+        for (int k = firstFifth; k < firstFifth + 12; k++) {
+            double ratio = Math.pow(fifth, k);
+            ratio = Math.scalb(ratio, -Math.getExponent(ratio));
+            ratios[Math.floorMod(7 * k, 12)] = ratio;
+        }
+        return ratios;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public double frequency(int midiNumber) {
+        if (midiNumber >= 0 && midiNumber < KEYS) {
+            return table[midiNumber];
+        }
+        // Außerhalb der Tabelle periodisch fortsetzen
+        int periods = midiNumber < 0
+            ? -Math.floorDiv(midiNumber, periodSteps)
+            : -Math.floorDiv(KEYS - 1 - midiNumber, periodSteps);
+        int shift = midiNumber < 0 ? periods : -periods;
+        return table[midiNumber + shift * periodSteps] * Math.pow(periodRatio, -shift);
+    }
+
+    /**
+     * Vergleicht Name, Frequenztabelle und Periode.
+     *
+     * @param o Anderes Objekt
+     * @return true bei gleicher Stimmung
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TableTuningSystem)) {
+            return false;
+        }
+        TableTuningSystem other = (TableTuningSystem) o;
+        return hash == other.hash
+            && periodSteps == other.periodSteps
+            && Double.doubleToLongBits(periodRatio) == Double.doubleToLongBits(other.periodRatio)
+            && name.equals(other.name)
+            && Arrays.equals(table, other.table);
+    }
+
+    @Override
+    public int hashCode() {
+        // Einmalig im Konstruktor berechnet, da Stimmungen als Cache-Schlüssel dienen
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (A' = " + getReferenceFrequency() + " Hz)";
+    }
+}
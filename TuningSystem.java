@@ -0,0 +1,195 @@
+/**
+ * Stimmungssystem, das jeder Tonnummer eine Frequenz zuordnet.
+ *
+ * <p>Die mitgelieferten Stimmungen berechnen ihre Frequenzen einmalig beim Erstellen in eine
+ * dichte Tabelle (Tonnummern 0-127, MIDI-Zählung mit 60 = C'). Eine Abfrage ist danach ein
+ * Array-Zugriff; {@link Scale}, {@link Chord} und {@link ScaleMakerApi} können so ohne
+ * Mehraufwand pro Ton in jeder Stimmung rechnen.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * TuningSystem et = TuningSystem.equalTemperament();
+ * et.frequency(69);                 // 440.0 (A')
+ *
+ * TuningSystem meantone = TuningSystem.quarterCommaMeantone(443.0);
+ * Scale cDur = ScaleMaker.scale("C", ScaleType.MAJOR, meantone);
+ * }</pre>
+ *
+ * <p>Eigene Implementierungen müssen nur {@link #frequency(int)} für beliebige Tonnummern
+ * liefern; alle anderen Methoden bauen darauf auf. Die mitgelieferten Stimmungen sind
+ * Werte: gleiche Frequenztabellen sind {@code equals}. Eigene Implementierungen sollten
+ * {@code equals} und {@code hashCode} ebenfalls überschreiben, sonst unterscheidet der
+ * {@link ScaleMakerCache} sie nach Identität.</p>
+ *
+ * @see Scale#Scale(MusicalNote, ScaleType, TuningSystem)
+ * @see Chord#Chord(MusicalNote, ChordType, TuningSystem)
+ */
+public interface TuningSystem {
+
+    /** Tonnummer des Kammertons A' in MIDI-Zählung */
+    int REFERENCE_KEY = 69;
+
+    /**
+     * Gibt den Namen der Stimmung zurück.
+     *
+     * @return Name (z.B. "Gleichstufig")
+     */
+    String getName();
+
+    /**
+     * Gibt die Frequenz einer Tonnummer zurück.
+     *
+     * @param midiNumber Tonnummer (60 = C', 69 = A')
+     * @return Frequenz in Hz
+     */
+    double frequency(int midiNumber);
+
+    /**
+     * Gibt die Frequenz des Kammertons A' zurück.
+     *
+     * @return Frequenz von Tonnummer {@value #REFERENCE_KEY} in Hz
+     */
+    default double getReferenceFrequency() {
+        return frequency(REFERENCE_KEY);
+    }
+
+    /**
+     * Gibt das Frequenzverhältnis zwischen zwei Tonnummern zurück.
+     *
+     * @param fromKey Ausgangs-Tonnummer
+     * @param toKey Ziel-Tonnummer
+     * @return {@code frequency(toKey) / frequency(fromKey)}
+     */
+    default double ratio(int fromKey, int toKey) {
+        return frequency(toKey) / frequency(fromKey);
+    }
+
+    // ==================== STIMMUNGEN ====================
+
+    /**
+     * Gleichstufige Stimmung (12-TET) mit A' = 440 Hz.
+     *
+     * @return Die Stimmung
+     */
+    static TuningSystem equalTemperament() {
+        return TableTuningSystem.EQUAL_TEMPERAMENT;
+    }
+
+    /**
+     * Gleichstufige Stimmung (12-TET) mit eigenem Kammerton.
+     *
+     * @param referenceFrequency Frequenz von A' in Hz
+     * @return Die Stimmung (bei 440 Hz die gemeinsame Instanz von {@link #equalTemperament()})
+     */
+    static TuningSystem equalTemperament(double referenceFrequency) {
+        if (referenceFrequency == TableTuningSystem.DEFAULT_REFERENCE) {
+            return TableTuningSystem.EQUAL_TEMPERAMENT;
+        }
+        return TableTuningSystem.ofCents("Gleichstufig", TableTuningSystem.EQUAL_CENTS, referenceFrequency);
+    }
+
+    /**
+     * Gleichstufige Stimmung mit dem Kammerton einer Region aus {@link MusicalNote#CONCERT_PITCH}.
+     *
+     * @param region Regionskürzel (z.B. "de", "at", "ch"); unbekannt = 440 Hz
+     * @return Die Stimmung
+     */
+    static TuningSystem equalTemperamentForRegion(String region) {
+        return equalTemperament(MusicalNote.getConcertPitch(region));
+    }
+
+    /**
+     * Reine Stimmung (5-limit) auf C mit A' = 440 Hz, also C' = 264 Hz wie in
+     * {@link MusicalNote#DEFAULT_SCALE}.
+     *
+     * @return Die Stimmung
+     */
+    static TuningSystem justIntonation() {
+        return TableTuningSystem.JUST_INTONATION;
+    }
+
+    /**
+     * Reine Stimmung (5-limit) auf C mit eigenem Kammerton.
+     *
+     * @param referenceFrequency Frequenz von A' in Hz
+     * @return Die Stimmung (bei 440 Hz die gemeinsame Instanz von {@link #justIntonation()})
+     */
+    static TuningSystem justIntonation(double referenceFrequency) {
+        if (referenceFrequency == TableTuningSystem.DEFAULT_REFERENCE) {
+            return TableTuningSystem.JUST_INTONATION;
+        }
+        return TableTuningSystem.ofRatios("Rein", TableTuningSystem.JUST_RATIOS, referenceFrequency);
+    }
+
+    /**
+     * Pythagoreische Stimmung (Quintenkette Des bis Fis) mit eigenem Kammerton.
+     *
+     * @param referenceFrequency Frequenz von A' in Hz
+     * @return Die Stimmung
+     */
+    static TuningSystem pythagorean(double referenceFrequency) {
+        return TableTuningSystem.ofRatios("Pythagoreisch",
+            TableTuningSystem.fifthChain(3.0 / 2.0, -5), referenceFrequency);
+    }
+
+    /**
+     * Pythagoreische Stimmung mit A' = 440 Hz.
+     *
+     * @return Die Stimmung
+     */
+    static TuningSystem pythagorean() {
+        return pythagorean(TableTuningSystem.DEFAULT_REFERENCE);
+    }
+
+    /**
+     * Mitteltönige Stimmung (1/4-Komma, Quintenkette Es bis Gis) mit eigenem Kammerton.
+     *
+     * @param referenceFrequency Frequenz von A' in Hz
+     * @return Die Stimmung
+     */
+    static TuningSystem quarterCommaMeantone(double referenceFrequency) {
+        return TableTuningSystem.ofRatios("Mitteltönig (1/4-Komma)",
+            TableTuningSystem.fifthChain(Math.pow(5.0, 0.25), -3), referenceFrequency);
+    }
+
+    /**
+     * Mitteltönige Stimmung (1/4-Komma) mit A' = 440 Hz.
+     *
+     * @return Die Stimmung
+     */
+    static TuningSystem quarterCommaMeantone() {
+        return quarterCommaMeantone(TableTuningSystem.DEFAULT_REFERENCE);
+    }
+
+    /**
+     * Wohltemperierte Stimmung Werckmeister III mit eigenem Kammerton.
+     *
+     * @param referenceFrequency Frequenz von A' in Hz
+     * @return Die Stimmung
+     */
+    static TuningSystem werckmeister(double referenceFrequency) {
+        return TableTuningSystem.ofCents("Werckmeister III", TableTuningSystem.WERCKMEISTER_CENTS, referenceFrequency);
+    }
+
+    /**
+     * Wohltemperierte Stimmung Werckmeister III mit A' = 440 Hz.
+     *
+     * @return Die Stimmung
+     */
+    static TuningSystem werckmeister() {
+        return werckmeister(TableTuningSystem.DEFAULT_REFERENCE);
+    }
+
+    /**
+     * Eigene Stimmung aus zwölf Cent-Werten je Tonklasse relativ zu C.
+     *
+     * @param name Name der Stimmung
+     * @param centsFromC Zwölf Cent-Werte (Index = Tonklasse, C = 0)
+     * @param referenceFrequency Frequenz von A' in Hz
+     * @return Die Stimmung
+     * @throws IllegalArgumentException wenn nicht genau zwölf Werte übergeben werden
+     */
+    static TuningSystem custom(String name, double[] centsFromC, double referenceFrequency) {
+        return TableTuningSystem.ofCents(name, centsFromC, referenceFrequency);
+    }
+}
@@ -0,0 +1,38 @@
+public enum WavFormat {
+    // Ganzzahlig (WAVE_FORMAT_PCM)
+    PCM_16(1, 16),
+    PCM_24(1, 24),
+
+    // Gleitkomma (WAVE_FORMAT_IEEE_FLOAT)
+    FLOAT_32(3, 32);
+
+    private final int formatTag;
+    private final int bitsPerSample;
+
+    WavFormat(int formatTag, int bitsPerSample) {
+        this.formatTag = formatTag;
+        this.bitsPerSample = bitsPerSample;
+    }
+
+    public int getFormatTag() {
+        return formatTag;
+    }
+
+    public int getBitsPerSample() {
+        return bitsPerSample;
+    }
+
+    public int getBytesPerSample() {
+        return bitsPerSample / 8;
+    }
+
+    // Format zu Header-Werten, null wenn nicht unterstützt
+    static WavFormat of(int formatTag, int bitsPerSample) {
+        for (WavFormat format : values()) {
+            if (format.formatTag == formatTag && format.bitsPerSample == bitsPerSample) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
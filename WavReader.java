@@ -0,0 +1,266 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Liest WAV-Dateien (16/24 Bit PCM oder 32 Bit float) über Memory-Mapping.
+ *
+ * <p>Die Audiodaten werden nicht eingelesen, sondern per {@link FileChannel#map} in den
+ * Adressraum eingeblendet. Der Zugriff auf beliebige Frames ist damit ein Lesezugriff
+ * auf den gemappten Puffer; das Betriebssystem lädt nur die tatsächlich gelesenen Seiten.
+ * Dateien über 1 GiB werden in mehreren Segmenten gemappt.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * try (WavReader wav = new WavReader(Path.of("melodie.wav"))) {
+ *     float first = wav.getSample(0, 0);
+ *
+ *     // Eine Sekunde ab Minute 90 lesen
+ *     float[] block = new float[wav.getSampleRate() * wav.getChannels()];
+ *     wav.read(90L * 60 * wav.getSampleRate(), block, 0, wav.getSampleRate());
+ * }
+ * }</pre>
+ *
+ * <p>Unterstützt werden {@code WAVE_FORMAT_PCM}, {@code WAVE_FORMAT_IEEE_FLOAT} und
+ * {@code WAVE_FORMAT_EXTENSIBLE} mit diesen Unterformaten. Unbekannte Chunks werden übersprungen.</p>
+ *
+ * @see WavWriter
+ */
+public final class WavReader implements Closeable {
+
+    /** Maximale Größe eines gemappten Segments in Bytes */
+    private static final long SEGMENT_BYTES = 1L << 30;
+
+    private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+    private final FileChannel channel;
+    private final int sampleRate;
+    private final int channels;
+    private final WavFormat format;
+    private final int frameBytes;
+    private final long frameCount;
+    private final long framesPerSegment;
+    private final ByteBuffer[] segments;
+
+    /**
+     * Öffnet eine WAV-Datei und mappt deren Audiodaten.
+     *
+     * @param file Die WAV-Datei
+     * @throws IOException wenn die Datei nicht gelesen werden kann oder kein unterstütztes WAV ist
+     */
+    public WavReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(header, 0);
+            if (header.getInt(0) != fourCC("RIFF") || header.getInt(8) != fourCC("WAVE")) {
+                throw new IOException("Keine WAV-Datei: " + file);
+            }
+
+            // Chunks durchsuchen
+            ByteBuffer chunk = ByteBuffer.allocate(40).order(ByteOrder.LITTLE_ENDIAN);
+            WavFormat fmt = null;
+            int rate = 0;
+            int channelCount = 0;
+            long dataStart = -1;
+            long dataLength = 0;
+            long pos = 12;
+            while (pos + 8 <= size) {
+                chunk.clear().limit(8);
+                readFully(chunk, pos);
+                int id = chunk.getInt(0);
+                long length = chunk.getInt(4) & 0xFFFFFFFFL;
+                if (id == fourCC("fmt ")) {
+                    if (length < 16) {
+                        throw new IOException("fmt-Chunk zu kurz: " + length);
+                    }
+                    chunk.clear().limit((int) Math.min(length, chunk.capacity()));
+                    readFully(chunk, pos + 8);
+                    int tag = chunk.getShort(0) & 0xFFFF;
+                    channelCount = chunk.getShort(2) & 0xFFFF;
+                    rate = chunk.getInt(4);
+                    int bits = chunk.getShort(14) & 0xFFFF;
+                    if (tag == FORMAT_EXTENSIBLE && length >= 26) {
+                        // Unterformat-GUID beginnt mit dem eigentlichen Format-Tag
+                        tag = chunk.getShort(24) & 0xFFFF;
+                    }
+                    fmt = WavFormat.of(tag, bits);
+                    if (fmt == null) {
+                        throw new IOException("Nicht unterstütztes WAV-Format: Tag " + tag + ", " + bits + " Bit");
+                    }
+                } else if (id == fourCC("data")) {
+                    dataStart = pos + 8;
+                    dataLength = Math.min(length, size - dataStart);
+                    break;
+                }
+                pos += 8 + length + (length & 1);
+            }
+            if (fmt == null || dataStart < 0) {
+                throw new IOException("WAV-Datei ohne fmt- oder data-Chunk: " + file);
+            }
+            if (channelCount < 1) {
+                throw new IOException("Ungültige Kanalanzahl: " + channelCount);
+            }
+
+            this.format = fmt;
+            this.sampleRate = rate;
+            this.channels = channelCount;
+            this.frameBytes = channelCount * fmt.getBytesPerSample();
+            this.frameCount = dataLength / frameBytes;
+            this.framesPerSegment = Math.max(1, SEGMENT_BYTES / frameBytes);
+            int segmentCount = (int) ((frameCount + framesPerSegment - 1) / framesPerSegment);
+            this.segments = new ByteBuffer[segmentCount];
+            for (int s = 0; s < segmentCount; s++) {
+                long firstFrame = s * framesPerSegment;
+                long frames = Math.min(framesPerSegment, frameCount - firstFrame);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+                    dataStart + firstFrame * frameBytes, frames * frameBytes);
+                segments[s] = mapped.order(ByteOrder.LITTLE_ENDIAN);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Liest ein einzelnes Sample.
+     *
+     * @param frame Frame-Index
+     * @param channelIndex Kanal (0 = links bzw. Mono)
+     * @return Sample im Bereich [-1, 1) (float-Dateien ungeprüft)
+     */
+    public float getSample(long frame, int channelIndex) {
+        if (frame < 0 || frame >= frameCount) {
+            throw new IndexOutOfBoundsException("Frame " + frame + " außerhalb von 0-" + (frameCount - 1));
+        }
+        Objects.checkIndex(channelIndex, channels);
+        ByteBuffer segment = segments[(int) (frame / framesPerSegment)];
+        int index = (int) (frame % framesPerSegment) * frameBytes + channelIndex * format.getBytesPerSample();
+        return decode(segment, index);
+    }
+
+    /**
+     * Liest zusammenhängende Frames verschränkt in ein float-Array.
+     *
+     * @param frame Erster Frame
+     * @param dest Zielarray
+     * @param offset Startindex im Zielarray
+     * @param frames Anzahl Frames (gelesen werden {@code frames * getChannels()} Samples)
+     * @return Anzahl tatsächlich gelesener Frames (weniger am Dateiende)
+     */
+    public int read(long frame, float[] dest, int offset, int frames) {
+        if (frame < 0 || frame > frameCount) {
+            throw new IndexOutOfBoundsException("Frame " + frame + " außerhalb von 0-" + frameCount);
+        }
+        int count = (int) Math.min(frames, frameCount - frame);
+        Objects.checkFromIndexSize(offset, count * channels, dest.length);
+        int bytesPerSample = format.getBytesPerSample();
+        int out = offset;
+        int done = 0;
+        while (done < count) {
+            long current = frame + done;
+            ByteBuffer segment = segments[(int) (current / framesPerSegment)];
+            int start = (int) (current % framesPerSegment);
+            int inSegment = (int) Math.min(count - done, framesPerSegment - start);
+            int index = start * frameBytes;
+            int end = index + inSegment * frameBytes;
+            for (; index < end; index += bytesPerSample) {
+                dest[out++] = decode(segment, index);
+            }
+            done += inSegment;
+        }
+        return count;
+    }
+
+    /**
+     * Gibt die Anzahl der Frames zurück.
+     *
+     * @return Frames (Samples pro Kanal)
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Gibt die Dauer zurück.
+     *
+     * @return Dauer in Sekunden
+     */
+    public double getDuration() {
+        return (double) frameCount / sampleRate;
+    }
+
+    /**
+     * Gibt die Abtastrate zurück.
+     *
+     * @return Abtastrate in Hz
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Gibt die Anzahl der Kanäle zurück.
+     *
+     * @return Kanäle
+     */
+    public int getChannels() {
+        return channels;
+    }
+
+    /**
+     * Gibt das Sample-Format zurück.
+     *
+     * @return Das Format
+     */
+    public WavFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Schließt die Datei. Die Mappings werden vom Garbage Collector freigegeben.
+     *
+     * @throws IOException wenn das Schließen fehlschlägt
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return "WavReader[" + format + ", " + channels + " Kanäle, " + sampleRate + " Hz, " + frameCount + " Frames]";
+    }
+
+    private float decode(ByteBuffer segment, int index) {
+        switch (format) {
+            case PCM_16:
+                return segment.getShort(index) / 32768f;
+            case PCM_24:
+                int value = (segment.get(index) & 0xFF) | segment.getShort(index + 1) << 8;
+                return value / 8388608f;
+            default:
+                return segment.getFloat(index);
+        }
+    }
+
+    private void readFully(ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) < 0) {
+                throw new IOException("Unerwartetes Dateiende");
+            }
+        }
+    }
+
+    private static int fourCC(String id) {
+        return id.charAt(0) | id.charAt(1) << 8 | id.charAt(2) << 16 | id.charAt(3) << 24;
+    }
+}
@@ -0,0 +1,255 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Schreibt float-PCM blockweise als WAV-Datei (16/24 Bit PCM oder 32 Bit float).
+ *
+ * <p>Die Samples werden über einen direkten {@link ByteBuffer} in einen {@link FileChannel}
+ * gestreamt; im Speicher liegt immer nur ein Puffer von {@value #BUFFER_SIZE} Bytes.
+ * Der Header wird beim Öffnen mit Platzhaltern geschrieben und beim {@link #close()}
+ * mit den endgültigen Längen überschrieben. So lassen sich auch stundenlange Renderings
+ * schreiben, ohne sie vorher im Speicher zu halten.</p>
+ *
+ * <h2>Beispiel:</h2>
+ * <pre>{@code
+ * Synthesizer synth = new Synthesizer(44100, 256);
+ * synth.schedule(melody, 120, 0);
+ *
+ * float[] block = new float[4096];
+ * try (WavWriter wav = new WavWriter(Path.of("melodie.wav"), 44100, 1, WavFormat.PCM_24)) {
+ *     while (synth.isPlaying()) {
+ *         synth.renderBlock(block, 0, block.length);
+ *         wav.write(block, 0, block.length);
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>Mehrkanalige Samples werden verschränkt übergeben (L, R, L, R, ...). Die PCM-Formate
+ * skalieren wie {@link WavReader} mit 2^(Bits - 1), also 32768 bzw. 8388608, und begrenzen
+ * auf den ganzzahligen Wertebereich; 1.0 wird damit zum größten positiven Wert. So liefert
+ * Lesen und erneutes Schreiben dieselben Samples. Das RIFF-Format erlaubt höchstens
+ * 4 GiB Audiodaten pro Datei.</p>
+ *
+ * @see WavReader
+ * @see Synthesizer
+ */
+public final class WavWriter implements Closeable {
+
+    /** Größe des Schreibpuffers in Bytes */
+    public static final int BUFFER_SIZE = 1 << 16;
+
+    /** Länge des geschriebenen Headers (RIFF + fmt + data) in Bytes */
+    static final int HEADER_SIZE = 44;
+
+    /** Maximale Größe des data-Chunks (32-Bit-Längenfeld) */
+    private static final long MAX_DATA_BYTES = 0xFFFFFFFFL - (HEADER_SIZE - 8);
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final int sampleRate;
+    private final int channels;
+    private final WavFormat format;
+    private long dataBytes;
+    private boolean closed;
+
+    /**
+     * Öffnet eine WAV-Datei zum Schreiben (eine bestehende Datei wird überschrieben).
+     *
+     * @param file Zieldatei
+     * @param sampleRate Abtastrate in Hz
+     * @param channels Anzahl Kanäle
+     * @param format Sample-Format
+     * @throws IOException wenn die Datei nicht geöffnet werden kann
+     */
+    public WavWriter(Path file, int sampleRate, int channels, WavFormat format) throws IOException {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Abtastrate muss positiv sein: " + sampleRate);
+        }
+        if (channels < 1 || channels > 0xFFFF) {
+            throw new IllegalArgumentException("Ungültige Kanalanzahl: " + channels);
+        }
+        this.sampleRate = sampleRate;
+        this.channels = channels;
+        this.format = Objects.requireNonNull(format, "format");
+        this.channel = FileChannel.open(file, StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        writeHeader(0);
+        flush();
+    }
+
+    /**
+     * Schreibt eine Mono-Aufnahme vollständig in eine Datei.
+     *
+     * @param file Zieldatei
+     * @param samples Samples
+     * @param sampleRate Abtastrate in Hz
+     * @param format Sample-Format
+     * @throws IOException wenn die Datei nicht geschrieben werden kann
+     */
+    public static void write(Path file, float[] samples, int sampleRate, WavFormat format) throws IOException {
+        try (WavWriter writer = new WavWriter(file, sampleRate, 1, format)) {
+            writer.write(samples, 0, samples.length);
+        }
+    }
+
+    /**
+     * Schreibt verschränkte Samples.
+     *
+     * @param samples Samples im Bereich [-1, 1]
+     * @param offset Startindex
+     * @param length Anzahl Samples (Vielfaches der Kanalanzahl)
+     * @throws IOException wenn nicht geschrieben werden kann oder die 4-GiB-Grenze erreicht ist
+     */
+    public void write(float[] samples, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, samples.length);
+        ensureOpen();
+        if (length % channels != 0) {
+            throw new IllegalArgumentException("Anzahl Samples muss ein Vielfaches von " + channels + " sein: " + length);
+        }
+        long bytes = (long) length * format.getBytesPerSample();
+        if (dataBytes + bytes > MAX_DATA_BYTES) {
+            throw new IOException("WAV-Datei würde 4 GiB überschreiten");
+        }
+        int end = offset + length;
+        switch (format) {
+            case PCM_16:
+                for (int i = offset; i < end; i++) {
+                    if (buffer.remaining() < 2) {
+                        flush();
+                    }
+                    buffer.putShort((short) quantize(samples[i], 32768));
+                }
+                break;
+            case PCM_24:
+                for (int i = offset; i < end; i++) {
+                    if (buffer.remaining() < 3) {
+                        flush();
+                    }
+                    int value = quantize(samples[i], 8388608);
+                    buffer.put((byte) value);
+                    buffer.putShort((short) (value >> 8));
+                }
+                break;
+            default:
+                for (int i = offset; i < end; i++) {
+                    if (buffer.remaining() < 4) {
+                        flush();
+                    }
+                    buffer.putFloat(samples[i]);
+                }
+                break;
+        }
+        dataBytes += bytes;
+    }
+
+    /**
+     * Gibt die Anzahl der bisher geschriebenen Frames zurück.
+     *
+     * @return Frames (Samples pro Kanal)
+     */
+    public long getFramesWritten() {
+        return dataBytes / ((long) channels * format.getBytesPerSample());
+    }
+
+    /**
+     * Gibt die Abtastrate zurück.
+     *
+     * @return Abtastrate in Hz
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Gibt die Anzahl der Kanäle zurück.
+     *
+     * @return Kanäle
+     */
+    public int getChannels() {
+        return channels;
+    }
+
+    /**
+     * Gibt das Sample-Format zurück.
+     *
+     * @return Das Format
+     */
+    public WavFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Schreibt die restlichen Samples, trägt die Längen in den Header ein und schließt die Datei.
+     *
+     * @throws IOException wenn nicht geschrieben werden kann
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+            if ((dataBytes & 1) != 0) {
+                // RIFF-Chunks sind auf gerade Längen aufgefüllt
+                buffer.put((byte) 0);
+                flush();
+            }
+            writeHeader(dataBytes);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, buffer.position());
+            }
+            buffer.clear();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeHeader(long dataLength) {
+        int blockAlign = channels * format.getBytesPerSample();
+        long riffLength = HEADER_SIZE - 8 + dataLength + (dataLength & 1);
+        buffer.clear();
+        buffer.put((byte) 'R').put((byte) 'I').put((byte) 'F').put((byte) 'F');
+        buffer.putInt((int) riffLength);
+        buffer.put((byte) 'W').put((byte) 'A').put((byte) 'V').put((byte) 'E');
+        buffer.put((byte) 'f').put((byte) 'm').put((byte) 't').put((byte) ' ');
+        buffer.putInt(16);
+        buffer.putShort((short) format.getFormatTag());
+        buffer.putShort((short) channels);
+        buffer.putInt(sampleRate);
+        buffer.putInt(sampleRate * blockAlign);
+        buffer.putShort((short) blockAlign);
+        buffer.putShort((short) format.getBitsPerSample());
+        buffer.put((byte) 'd').put((byte) 'a').put((byte) 't').put((byte) 'a');
+        buffer.putInt((int) dataLength);
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("WavWriter ist geschlossen");
+        }
+    }
+
+    /** Skaliert auf [-fullScale, fullScale - 1]; Gegenstück zur Division in {@link WavReader} */
+    private static int quantize(float sample, int fullScale) {
+        long value = Math.round((double) sample * fullScale);
+        return (int) Math.max(-fullScale, Math.min(fullScale - 1, value));
+    }
+}
@@ -0,0 +1,25 @@
+@echo off
+echo === ScaleMaker AppCDS-Archiv ===
+rem Voraussetzung: build.bat wurde ausgefuehrt (bin\scalemaker.jar existiert).
+rem Das Archiv gilt nur fuer dieselbe JDK-Version und denselben Classpath-Anfang.
+
+echo.
+echo [1/2] Klassenliste aufzeichnen (Trainingslauf mit synchronem Aufwaermen)...
+java -Xshare:off -XX:DumpLoadedClassList=bin\scalemaker.classlist -cp bin\scalemaker.jar ScaleMakerWarmup
+if errorlevel 1 (
+    echo FEHLER: Trainingslauf fehlgeschlagen!
+    exit /b 1
+)
+
+echo [2/2] Archiv erstellen...
+java -Xshare:dump -XX:SharedClassListFile=bin\scalemaker.classlist -XX:SharedArchiveFile=bin\scalemaker.jsa -cp bin\scalemaker.jar
+if errorlevel 1 (
+    echo FEHLER: Archiv konnte nicht erstellt werden!
+    exit /b 1
+)
+
+echo.
+echo === Archiv erstellt: bin\scalemaker.jsa ===
+echo.
+echo Start des Hauptprogramms mit Archiv (scalemaker.jar muss zuerst im Classpath stehen):
+echo   java -XX:SharedArchiveFile=bin\scalemaker.jsa -cp bin\scalemaker.jar;. MeinHauptprogramm
@@ -0,0 +1,73 @@
+package scalemaker.bench;
+
+import static scalemaker.bench.ScaleMakerHandles.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Erstellung von Akkorden für jeden {@code ChordType}.
+ *
+ * <ul>
+ *   <li>{@code construct} – {@code new Chord(root, type).getNotes()} mit vorhandenem Grundton</li>
+ *   <li>{@code constructHandle} – nur {@code new Chord(root, type)}; die Töne berechnet
+ *       der Akkord erst beim ersten Zugriff</li>
+ *   <li>{@code constructFromName} – zusätzlich {@code new MusicalNote("C")}</li>
+ *   <li>{@code factory} – {@code ScaleMaker.chord("C", type)} (öffentlicher Einstiegspunkt)</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChordBenchmark {
+
+    @Param({"MAJOR", "MINOR", "DIMINISHED", "AUGMENTED", "SUS2", "SUS4",
+            "MAJOR_7", "MINOR_7", "DOMINANT_7", "DIMINISHED_7", "HALF_DIMINISHED_7", "MINOR_MAJOR_7"})
+    public String chordType;
+
+    @Param({"C"})
+    public String root;
+
+    private Object type;
+    private Object rootNote;
+
+    @Setup
+    public void setup() throws Throwable {
+        type = enumConstant(CHORD_TYPE, chordType);
+        rootNote = NEW_NOTE.invoke(root);
+    }
+
+    @Benchmark
+    public Object construct() throws Throwable {
+        return CHORD_NOTES.invoke(NEW_CHORD.invoke(rootNote, type));
+    }
+
+    @Benchmark
+    public Object constructHandle() throws Throwable {
+        return NEW_CHORD.invoke(rootNote, type);
+    }
+
+    @Benchmark
+    public Object constructFromName() throws Throwable {
+        return CHORD_NOTES.invoke(NEW_CHORD.invoke(NEW_NOTE.invoke(root), type));
+    }
+
+    @Benchmark
+    public Object factory() throws Throwable {
+        return CHORD_OF.invoke(root, type);
+    }
+}
@@ -0,0 +1,50 @@
+package scalemaker.bench;
+
+import static scalemaker.bench.ScaleMakerHandles.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Stufenakkorde einer bereits erstellten Tonleiter:
+ * {@code ScaleMaker.getDiatonicChords} und {@code ScaleMaker.getDiatonicChordSymbols}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiatonicBenchmark {
+
+    @Param({"MAJOR", "MINOR", "DORIAN", "HARMONIC_MINOR", "PENTATONIC_MAJOR"})
+    public String scaleType;
+
+    private Object scale;
+
+    @Setup
+    public void setup() throws Throwable {
+        scale = SCALE_OF.invoke("C", enumConstant(SCALE_TYPE, scaleType));
+    }
+
+    @Benchmark
+    public Object diatonicChords() throws Throwable {
+        return DIATONIC_CHORDS.invoke(scale);
+    }
+
+    @Benchmark
+    public Object diatonicChordSymbols() throws Throwable {
+        return DIATONIC_SYMBOLS.invoke(scale);
+    }
+}
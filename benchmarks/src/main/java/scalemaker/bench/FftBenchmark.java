@@ -0,0 +1,92 @@
+package scalemaker.bench;
+
+import static scalemaker.bench.ScaleMakerHandles.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code RealFft} gegen eine direkte DFT mit vorberechneter Sinustabelle.
+ *
+ * <p>Beide Varianten berechnen die n/2 + 1 Bins eines reellen Rauschsignals. Die FFT arbeitet
+ * in-place und kopiert dazu vorher das Signal in einen Arbeitspuffer (im Ergebnis enthalten).
+ * Die direkte DFT braucht O(n²) Operationen; bei 65536 dauert ein Aufruf mehrere Sekunden,
+ * JMH misst dann pro Iteration nur wenige Aufrufe.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FftBenchmark {
+
+    @Param({"256", "1024", "4096", "16384", "65536"})
+    public int size;
+
+    private MethodHandle forward;
+    private double[] signal;
+    private double[] work;
+
+    /** cos/sin(2π i / size) für die direkte DFT */
+    private double[] cos;
+    private double[] sin;
+    private double[] re;
+    private double[] im;
+
+    @Setup
+    public void setup() throws Throwable {
+        Object plan = REAL_FFT_FOR_SIZE.invoke(size);
+        forward = virtualMethod(REAL_FFT, "forward", void.class, double[].class).bindTo(plan);
+        Random random = new Random(42);
+        signal = new double[size];
+        for (int i = 0; i < size; i++) {
+            signal[i] = random.nextGaussian();
+        }
+        work = new double[size];
+        cos = new double[size];
+        sin = new double[size];
+        for (int i = 0; i < size; i++) {
+            cos[i] = Math.cos(2 * Math.PI * i / size);
+            sin[i] = Math.sin(2 * Math.PI * i / size);
+        }
+        re = new double[size / 2 + 1];
+        im = new double[size / 2 + 1];
+    }
+
+    @Benchmark
+    public double[] fft() throws Throwable {
+        System.arraycopy(signal, 0, work, 0, size);
+        forward.invokeExact(work);
+        return work;
+    }
+
+    @Benchmark
+    public double[] naiveDft() {
+        int mask = size - 1;
+        for (int k = 0; k <= size / 2; k++) {
+            double sumRe = 0;
+            double sumIm = 0;
+            for (int j = 0, t = 0; j < size; j++, t = (t + k) & mask) {
+                sumRe += signal[j] * cos[t];
+                sumIm -= signal[j] * sin[t];
+            }
+            re[k] = sumRe;
+            im[k] = sumIm;
+        }
+        return re;
+    }
+}
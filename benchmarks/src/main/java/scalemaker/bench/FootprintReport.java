@@ -0,0 +1,52 @@
+package scalemaker.bench;
+
+import static scalemaker.bench.ScaleMakerHandles.*;
+
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+/**
+ * Speicherbedarf von {@code MusicalNote}, {@code Scale} und {@code Chord} mit JOL.
+ *
+ * <p>Gibt das Feld-Layout je Klasse und den Objektgraphen einer Tonleiter bzw. eines
+ * Akkords vor und nach dem ersten Zugriff auf die Töne aus. Gemeinsame Tabellen
+ * (Enum-Konstanten samt Intervallen) werden abgezogen, weil sie nicht pro Instanz anfallen.</p>
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar scalemaker.bench.FootprintReport
+ * </pre>
+ */
+public final class FootprintReport {
+
+    private FootprintReport() {
+        // Utility-Klasse, nicht instanziierbar
+    }
+
+    public static void main(String[] args) throws Throwable {
+        System.out.println(VM.current().details());
+
+        Object note = NEW_NOTE.invoke("C");
+        Object scale = NEW_SCALE.invoke(note, enumConstant(SCALE_TYPE, "MAJOR"));
+        Object chord = NEW_CHORD.invoke(note, enumConstant(CHORD_TYPE, "DOMINANT_7"));
+
+        System.out.println(ClassLayout.parseInstance(note).toPrintable());
+        System.out.println(ClassLayout.parseInstance(scale).toPrintable());
+        System.out.println(ClassLayout.parseInstance(chord).toPrintable());
+
+        GraphLayout shared = GraphLayout.parseInstance(
+            SCALE_TYPE.getEnumConstants(), CHORD_TYPE.getEnumConstants(), INTERVAL_TYPE.getEnumConstants());
+
+        System.out.println("Scale C-Dur, nur Handle:");
+        System.out.println(GraphLayout.parseInstance(scale).subtract(shared).toFootprint());
+        System.out.println("Chord C7, nur Handle:");
+        System.out.println(GraphLayout.parseInstance(chord).subtract(shared).toFootprint());
+
+        SCALE_NOTES.invoke(scale);
+        CHORD_NOTES.invoke(chord);
+        System.out.println("Scale C-Dur nach getNotes():");
+        System.out.println(GraphLayout.parseInstance(scale).subtract(shared).toFootprint());
+        System.out.println("Chord C7 nach getNotes():");
+        System.out.println(GraphLayout.parseInstance(chord).subtract(shared).toFootprint());
+    }
+}
@@ -0,0 +1,72 @@
+package scalemaker.bench;
+
+import static scalemaker.bench.ScaleMakerHandles.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Frequenzberechnung: {@code calculateFrequency} und {@code applyInterval}.
+ *
+ * <p>Jede Operation läuft über einen ganzen Klaviatur-Bereich (88 Tasten, A0-C8), damit
+ * die Eingaben nicht konstant gefaltet werden. Die Ergebnisse sind pro Aufruf, also pro
+ * Taste, geteilt durch {@link #KEYS} zu lesen.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FrequencyBenchmark {
+
+    /** Anzahl Tasten pro Benchmark-Aufruf */
+    static final int KEYS = 88;
+
+    /** Halbtonabstand der tiefsten Taste (A0) zu A = 440 Hz */
+    static final int LOWEST_KEY = -48;
+
+    private double[] frequencies;
+    private Object fifth;
+
+    @Setup
+    public void setup() throws Throwable {
+        frequencies = new double[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            frequencies[i] = (double) CALCULATE_FREQUENCY.invoke(LOWEST_KEY + i);
+        }
+        fifth = enumConstant(INTERVAL_TYPE, "PERFECT_FIFTH");
+    }
+
+    @Benchmark
+    public void calculateFrequency(Blackhole bh) throws Throwable {
+        for (int i = 0; i < KEYS; i++) {
+            bh.consume((double) CALCULATE_FREQUENCY.invokeExact(LOWEST_KEY + i));
+        }
+    }
+
+    @Benchmark
+    public void calculateFrequencyFromReference(Blackhole bh) throws Throwable {
+        for (int i = 0; i < KEYS; i++) {
+            bh.consume((double) CALCULATE_FREQUENCY_REF.invokeExact(264.0, LOWEST_KEY + i));
+        }
+    }
+
+    @Benchmark
+    public void applyInterval(Blackhole bh) throws Throwable {
+        for (int i = 0; i < KEYS; i++) {
+            bh.consume((double) APPLY_INTERVAL.invoke(frequencies[i], fifth));
+        }
+    }
+}
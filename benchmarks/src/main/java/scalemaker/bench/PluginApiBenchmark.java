@@ -0,0 +1,98 @@
+package scalemaker.bench;
+
+import static scalemaker.bench.ScaleMakerHandles.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Aufrufe über den Plugin-Weg, wie ihn ein Hauptprogramm nutzt:
+ * {@code ServiceLoader} → {@code ScaleMakerPluginImpl.initialize()} → {@code getApi()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PluginApiBenchmark {
+
+    private static final Object API = loadApi();
+
+    private static final Object MAJOR = enumConstant(SCALE_TYPE, "MAJOR");
+    private static final Object DOMINANT_7 = enumConstant(CHORD_TYPE, "DOMINANT_7");
+    private static final Object PERFECT_FIFTH = enumConstant(INTERVAL_TYPE, "PERFECT_FIFTH");
+
+    private static final MethodHandle API_SCALE =
+        virtualMethod(SCALE_MAKER_API, "scale", SCALE, String.class, SCALE_TYPE).bindTo(API);
+    private static final MethodHandle API_CHORD =
+        virtualMethod(SCALE_MAKER_API, "chord", CHORD, String.class, CHORD_TYPE).bindTo(API);
+    private static final MethodHandle API_DIATONIC_SYMBOLS =
+        virtualMethod(SCALE_MAKER_API, "getDiatonicChordSymbols", String[].class, SCALE).bindTo(API);
+    private static final MethodHandle API_CALCULATE_FREQUENCY =
+        virtualMethod(SCALE_MAKER_API, "calculateFrequency", double.class, int.class).bindTo(API);
+    private static final MethodHandle API_APPLY_INTERVAL =
+        virtualMethod(SCALE_MAKER_API, "applyInterval", double.class, double.class, INTERVAL_TYPE).bindTo(API);
+
+    private static final Object C_MAJOR = invokeUnchecked(API_SCALE, "C", MAJOR);
+
+    private int semitones = -9;
+    private double frequency = 264.0;
+
+    @Benchmark
+    public Object scale() throws Throwable {
+        return API_SCALE.invoke("C", MAJOR);
+    }
+
+    @Benchmark
+    public Object chord() throws Throwable {
+        return API_CHORD.invoke("G", DOMINANT_7);
+    }
+
+    @Benchmark
+    public Object diatonicChordSymbols() throws Throwable {
+        return API_DIATONIC_SYMBOLS.invoke(C_MAJOR);
+    }
+
+    @Benchmark
+    public double calculateFrequency() throws Throwable {
+        return (double) API_CALCULATE_FREQUENCY.invokeExact(semitones);
+    }
+
+    @Benchmark
+    public double applyInterval() throws Throwable {
+        return (double) API_APPLY_INTERVAL.invoke(frequency, PERFECT_FIFTH);
+    }
+
+    private static Object loadApi() {
+        @SuppressWarnings("unchecked")
+        Class<Object> pluginType = (Class<Object>) SCALE_MAKER_PLUGIN;
+        Object plugin = ServiceLoader.load(pluginType).findFirst()
+            .orElseThrow(() -> new IllegalStateException("ScaleMaker-Plugin nicht gefunden"));
+        try {
+            virtualMethod(SCALE_MAKER_PLUGIN, "initialize", void.class).invoke(plugin);
+            return virtualMethod(SCALE_MAKER_PLUGIN, "getApi", SCALE_MAKER_API).invoke(plugin);
+        } catch (Throwable t) {
+            throw new IllegalStateException("ScaleMaker-Plugin konnte nicht initialisiert werden", t);
+        }
+    }
+
+    private static Object invokeUnchecked(MethodHandle handle, Object... args) {
+        try {
+            return handle.invokeWithArguments(args);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
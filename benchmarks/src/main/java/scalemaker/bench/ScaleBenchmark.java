@@ -0,0 +1,74 @@
+package scalemaker.bench;
+
+import static scalemaker.bench.ScaleMakerHandles.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Erstellung von Tonleitern für jeden {@code ScaleType}.
+ *
+ * <ul>
+ *   <li>{@code construct} – {@code new Scale(root, type).getNotes()} mit vorhandenem Grundton</li>
+ *   <li>{@code constructHandle} – nur {@code new Scale(root, type)}; die Töne berechnet
+ *       die Tonleiter erst beim ersten Zugriff</li>
+ *   <li>{@code constructFromName} – zusätzlich {@code new MusicalNote("C")}</li>
+ *   <li>{@code factory} – {@code ScaleMaker.scale("C", type)} (öffentlicher Einstiegspunkt)</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScaleBenchmark {
+
+    @Param({"IONIAN", "DORIAN", "PHRYGIAN", "LYDIAN", "MIXOLYDIAN", "AEOLIAN", "LOCRIAN",
+            "MAJOR", "MINOR", "HARMONIC_MINOR", "MELODIC_MINOR",
+            "PENTATONIC_MAJOR", "PENTATONIC_MINOR", "BLUES"})
+    public String scaleType;
+
+    @Param({"C"})
+    public String root;
+
+    private Object type;
+    private Object rootNote;
+
+    @Setup
+    public void setup() throws Throwable {
+        type = enumConstant(SCALE_TYPE, scaleType);
+        rootNote = NEW_NOTE.invoke(root);
+    }
+
+    @Benchmark
+    public Object construct() throws Throwable {
+        return SCALE_NOTES.invoke(NEW_SCALE.invoke(rootNote, type));
+    }
+
+    @Benchmark
+    public Object constructHandle() throws Throwable {
+        return NEW_SCALE.invoke(rootNote, type);
+    }
+
+    @Benchmark
+    public Object constructFromName() throws Throwable {
+        return SCALE_NOTES.invoke(NEW_SCALE.invoke(NEW_NOTE.invoke(root), type));
+    }
+
+    @Benchmark
+    public Object factory() throws Throwable {
+        return SCALE_OF.invoke(root, type);
+    }
+}
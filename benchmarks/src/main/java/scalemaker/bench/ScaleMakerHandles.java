@@ -0,0 +1,145 @@
+package scalemaker.bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.util.List;
+
+/**
+ * Zugriff auf die ScaleMaker-Bibliothek aus einem benannten Paket.
+ *
+ * <p>Die Bibliothek liegt im unbenannten Paket, JMH verlangt für Benchmarks aber ein
+ * benanntes Paket. Aus benannten Paketen lassen sich Klassen des unbenannten Pakets
+ * nicht importieren, daher werden alle Aufrufe einmalig als {@link MethodHandle}
+ * aufgelöst. Als {@code static final}-Konstanten werden sie vom JIT wie direkte
+ * Aufrufe behandelt (inlining), der Messaufwand entspricht damit einem normalen Aufruf.</p>
+ */
+final class ScaleMakerHandles {
+
+    static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    static final Class<?> MUSICAL_NOTE = load("MusicalNote");
+    static final Class<?> SCALE = load("Scale");
+    static final Class<?> CHORD = load("Chord");
+    static final Class<?> SCALE_TYPE = load("ScaleType");
+    static final Class<?> CHORD_TYPE = load("ChordType");
+    static final Class<?> INTERVAL_TYPE = load("IntervalType");
+    static final Class<?> SCALE_MAKER = load("ScaleMaker");
+    static final Class<?> SCALE_MAKER_API = load("ScaleMakerApi");
+    static final Class<?> SCALE_MAKER_PLUGIN = load("ScaleMakerPlugin");
+    static final Class<?> REAL_FFT = load("RealFft");
+
+    // ==================== KONSTRUKTOREN ====================
+
+    /** {@code new MusicalNote(String)} */
+    static final MethodHandle NEW_NOTE = constructor(MUSICAL_NOTE, String.class);
+
+    /** {@code new Scale(MusicalNote, ScaleType)} */
+    static final MethodHandle NEW_SCALE = constructor(SCALE, MUSICAL_NOTE, SCALE_TYPE);
+
+    /** {@code new Chord(MusicalNote, ChordType)} */
+    static final MethodHandle NEW_CHORD = constructor(CHORD, MUSICAL_NOTE, CHORD_TYPE);
+
+    // ==================== TÖNE ====================
+
+    /** {@code Scale.getNotes()}; berechnet die Töne beim ersten Aufruf */
+    static final MethodHandle SCALE_NOTES = virtualMethod(SCALE, "getNotes", List.class);
+
+    /** {@code Chord.getNotes()}; berechnet die Töne beim ersten Aufruf */
+    static final MethodHandle CHORD_NOTES = virtualMethod(CHORD, "getNotes", List.class);
+
+    // ==================== SCALEMAKER ====================
+
+    /** {@code ScaleMaker.scale(String, ScaleType)} */
+    static final MethodHandle SCALE_OF = staticMethod("scale", SCALE, String.class, SCALE_TYPE);
+
+    /** {@code ScaleMaker.chord(String, ChordType)} */
+    static final MethodHandle CHORD_OF = staticMethod("chord", CHORD, String.class, CHORD_TYPE);
+
+    /** {@code ScaleMaker.getDiatonicChords(Scale)} */
+    static final MethodHandle DIATONIC_CHORDS =
+        staticMethod("getDiatonicChords", Array.newInstance(CHORD, 0).getClass(), SCALE);
+
+    /** {@code ScaleMaker.getDiatonicChordSymbols(Scale)} */
+    static final MethodHandle DIATONIC_SYMBOLS =
+        staticMethod("getDiatonicChordSymbols", String[].class, SCALE);
+
+    /** {@code ScaleMaker.calculateFrequency(int)} */
+    static final MethodHandle CALCULATE_FREQUENCY =
+        staticMethod("calculateFrequency", double.class, int.class);
+
+    /** {@code ScaleMaker.calculateFrequency(double, int)} */
+    static final MethodHandle CALCULATE_FREQUENCY_REF =
+        staticMethod("calculateFrequency", double.class, double.class, int.class);
+
+    /** {@code ScaleMaker.applyInterval(double, IntervalType)} */
+    static final MethodHandle APPLY_INTERVAL =
+        staticMethod("applyInterval", double.class, double.class, INTERVAL_TYPE);
+
+    // ==================== AUDIO ====================
+
+    /** {@code RealFft.forSize(int)} */
+    static final MethodHandle REAL_FFT_FOR_SIZE = staticMethod(REAL_FFT, "forSize", REAL_FFT, int.class);
+
+    private ScaleMakerHandles() {
+        // Utility-Klasse, nicht instanziierbar
+    }
+
+    /**
+     * Liefert eine Enum-Konstante der Bibliothek anhand ihres Namens.
+     *
+     * @param type Enum-Klasse (z.B. {@link #SCALE_TYPE})
+     * @param name Name der Konstante (z.B. "MAJOR")
+     * @return Die Enum-Konstante
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object enumConstant(Class<?> type, String name) {
+        return Enum.valueOf((Class) type, name);
+    }
+
+    /**
+     * Löst eine Instanzmethode der Bibliothek auf.
+     *
+     * @param owner Deklarierende Klasse oder Interface
+     * @param name Methodenname
+     * @param returnType Rückgabetyp
+     * @param parameterTypes Parametertypen
+     * @return Der MethodHandle (erster Parameter = Empfänger)
+     */
+    static MethodHandle virtualMethod(Class<?> owner, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            return LOOKUP.findVirtual(owner, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Methode nicht gefunden: " + owner.getName() + "." + name, e);
+        }
+    }
+
+    private static MethodHandle staticMethod(String name, Class<?> returnType, Class<?>... parameterTypes) {
+        return staticMethod(SCALE_MAKER, name, returnType, parameterTypes);
+    }
+
+    private static MethodHandle staticMethod(Class<?> owner, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            return LOOKUP.findStatic(owner, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Methode nicht gefunden: " + owner.getName() + "." + name, e);
+        }
+    }
+
+    private static MethodHandle constructor(Class<?> owner, Class<?>... parameterTypes) {
+        try {
+            return LOOKUP.findConstructor(owner, MethodType.methodType(void.class, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Konstruktor nicht gefunden: " + owner.getName(), e);
+        }
+    }
+
+    private static Class<?> load(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("ScaleMaker-Klasse nicht im Classpath: " + name, e);
+        }
+    }
+}
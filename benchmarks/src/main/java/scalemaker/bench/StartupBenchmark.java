@@ -0,0 +1,177 @@
+package scalemaker.bench;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Kaltstart über den Plugin-Weg, je Aufwärm-Modus ({@code -Dscalemaker.warmup}).
+ *
+ * <p>Jede Messung ist genau ein Aufruf in einer frischen JVM ({@code SingleShotTime}, ein
+ * Fork je Messung). Gemessen werden Laden, {@code initialize()} und danach Anfragen
+ * (Tonleiter, Akkordsymbole, Akkord) über wechselnde Grundtöne und Typen:</p>
+ * <ul>
+ *   <li>{@code firstRequest}: bis die erste Anfrage beantwortet ist</li>
+ *   <li>{@code firstFastRequest}: bis {@value #FAST_STREAK} Anfragen in Folge jeweils
+ *       höchstens {@value #FAST_NANOS} ns dauern</li>
+ *   <li>{@code firstRequestAfterReady}: nur die erste Anfrage, nachdem {@code initialize()}
+ *       und {@code ready()} außerhalb der Messung abgeschlossen sind (µs)</li>
+ * </ul>
+ *
+ * <p>Bei {@code async} wird wie in einem Hauptprogramm nicht auf {@code ready()} gewartet.
+ * Die Schwelle liegt bewusst weit über dem eingeschwungenen Wert (unter 1 µs): Die
+ * Messschleife selbst läuft anfangs interpretiert, und ihr JIT kann kein Aufwärmlauf der
+ * Bibliothek vorwegnehmen.</p>
+ *
+ * <p>Die Bibliothek darf vor der Messung nicht initialisiert werden. Die Klasse nutzt daher
+ * nicht {@link ScaleMakerHandles}, sondern lädt die Typen ohne Initialisierung und ruft per
+ * Reflection auf; {@code MethodHandle}s würden beim ersten Aufruf selbst Millisekunden für
+ * das Verknüpfen kosten.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    /** Schwelle für eine schnelle Anfrage */
+    static final long FAST_NANOS = 20_000;
+
+    /** Anzahl schneller Anfragen in Folge */
+    static final int FAST_STREAK = 100;
+
+    /** Abbruch, falls die Schwelle auf einer Maschine nie erreicht wird */
+    private static final int MAX_REQUESTS = 10_000_000;
+
+    private static final String[] LETTERS = {"C", "Cis", "D", "Dis", "E", "F", "Fis", "G", "Gis", "A", "B", "H"};
+
+    @Param({"off", "sync", "async"})
+    public String warmup;
+
+    private Class<?> pluginType;
+    private Method initialize;
+    private Method getApi;
+    private Method ready;
+    private Method scaleTypes;
+    private Method chordTypes;
+    private Method scale;
+    private Method symbols;
+    private Method chord;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        System.setProperty("scalemaker.warmup", warmup);
+        pluginType = type("ScaleMakerPlugin");
+        Class<?> api = type("ScaleMakerApi");
+        initialize = pluginType.getMethod("initialize");
+        getApi = pluginType.getMethod("getApi");
+        ready = pluginType.getMethod("ready");
+        scaleTypes = api.getMethod("getAvailableScaleTypes");
+        chordTypes = api.getMethod("getAvailableChordTypes");
+        scale = api.getMethod("scale", String.class, type("ScaleType"));
+        symbols = api.getMethod("getDiatonicChordSymbols", type("Scale"));
+        chord = api.getMethod("chord", String.class, type("ChordType"));
+    }
+
+    /**
+     * Lädt das Plugin und stellt die erste Anfrage.
+     *
+     * @return Ergebnis der Anfrage
+     */
+    @Benchmark
+    public Object firstRequest() throws ReflectiveOperationException {
+        Object api = getApi.invoke(initializedPlugin());
+        return request(api, scaleTypes.invoke(api), chordTypes.invoke(api), 0);
+    }
+
+    /**
+     * Lädt das Plugin und stellt Anfragen, bis sie schnell sind.
+     *
+     * @return Anzahl Anfragen bis einschließlich der schnellen Serie
+     */
+    @Benchmark
+    public int firstFastRequest() throws ReflectiveOperationException {
+        Object api = getApi.invoke(initializedPlugin());
+        Object scales = scaleTypes.invoke(api);
+        Object chords = chordTypes.invoke(api);
+
+        int streak = 0;
+        for (int i = 0; i < MAX_REQUESTS; i++) {
+            long start = System.nanoTime();
+            Object result = request(api, scales, chords, i);
+            long elapsed = System.nanoTime() - start;
+            streak = result != null && elapsed <= FAST_NANOS ? streak + 1 : 0;
+            if (streak == FAST_STREAK) {
+                return i + 1;
+            }
+        }
+        throw new IllegalStateException("Keine " + FAST_STREAK + " schnellen Anfragen in Folge");
+    }
+
+    /**
+     * Stellt die erste Anfrage an ein bereits geladenes und aufgewärmtes Plugin.
+     *
+     * @param loaded Plugin nach {@code initialize()} und {@code ready()}
+     * @return Ergebnis der Anfrage
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object firstRequestAfterReady(Loaded loaded) throws ReflectiveOperationException {
+        return request(loaded.api, loaded.scales, loaded.chords, 0);
+    }
+
+    /**
+     * Das Plugin, vor der Messung geladen; wartet auf {@code ready()}.
+     */
+    @State(Scope.Benchmark)
+    public static class Loaded {
+        Object api;
+        Object scales;
+        Object chords;
+
+        @Setup(Level.Invocation)
+        public void load(StartupBenchmark benchmark) throws ReflectiveOperationException {
+            Object plugin = benchmark.initializedPlugin();
+            ((CompletableFuture<?>) benchmark.ready.invoke(plugin)).join();
+            api = benchmark.getApi.invoke(plugin);
+            scales = benchmark.scaleTypes.invoke(api);
+            chords = benchmark.chordTypes.invoke(api);
+        }
+    }
+
+    private Object initializedPlugin() throws ReflectiveOperationException {
+        Object plugin = ServiceLoader.load(pluginType).findFirst()
+            .orElseThrow(() -> new IllegalStateException("ScaleMaker-Plugin nicht gefunden"));
+        initialize.invoke(plugin);
+        return plugin;
+    }
+
+    /** Eine Anfrage: Tonleiter, ihre Akkordsymbole und ein Akkord auf demselben Grundton */
+    private Object request(Object api, Object scales, Object chords, int i) throws ReflectiveOperationException {
+        String letter = LETTERS[i % LETTERS.length];
+        Object s = scale.invoke(api, letter, Array.get(scales, i % Array.getLength(scales)));
+        Object[] names = (Object[]) symbols.invoke(api, s);
+        return chord.invoke(api, letter, Array.get(chords, (i + names.length) % Array.getLength(chords)));
+    }
+
+    private static Class<?> type(String name) throws ClassNotFoundException {
+        return Class.forName(name, false, StartupBenchmark.class.getClassLoader());
+    }
+}
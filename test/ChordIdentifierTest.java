@@ -0,0 +1,130 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ChordIdentifierTest {
+
+    /** Maske eines Akkords direkt aus den Intervallen von {@link ChordType} */
+    private static int maskOf(int root, ChordType type) {
+        int mask = 0;
+        for (Interval interval : type.getIntervals()) {
+            mask |= 1 << (root + interval.semitones) % 12;
+        }
+        return mask;
+    }
+
+    /** Tonklasse des Akkordtons mit Index {@code tone} */
+    private static int toneOf(int root, ChordType type, int tone) {
+        return (root + type.getIntervals()[tone].semitones) % 12;
+    }
+
+    /** Alle Deutungen einer Maske als {root, ordinal}, per Durchprobieren */
+    private static List<int[]> readings(int mask) {
+        List<int[]> readings = new ArrayList<>();
+        for (ChordType type : ChordType.values()) {
+            for (int root = 0; root < 12; root++) {
+                if (maskOf(root, type) == mask) {
+                    readings.add(new int[] {root, type.ordinal()});
+                }
+            }
+        }
+        return readings;
+    }
+
+    @Test
+    void maskTableMatchesChordTypes() {
+        for (int mask = 0; mask < 4096; mask++) {
+            List<int[]> readings = readings(mask);
+            int code = ChordIdentifier.identify(mask);
+            if (readings.isEmpty()) {
+                assertEquals(ChordIdentifier.NO_MATCH, code, "Maske " + Integer.toBinaryString(mask));
+                continue;
+            }
+            assertNotEquals(ChordIdentifier.NO_MATCH, code, "Maske " + Integer.toBinaryString(mask));
+            int root = ChordIdentifier.rootOf(code);
+            ChordType type = ChordIdentifier.typeOf(code);
+            assertEquals(mask, maskOf(root, type));
+            assertEquals(0, ChordIdentifier.inversionOf(code));
+            // Erste Deutung in Enum-Reihenfolge, darin der kleinste Grundton
+            assertEquals(readings.get(0)[1], type.ordinal());
+            assertEquals(readings.get(0)[0], root);
+        }
+    }
+
+    @Test
+    void everyChordInEveryInversion() {
+        for (ChordType type : ChordType.values()) {
+            for (int root = 0; root < 12; root++) {
+                int mask = maskOf(root, type);
+                for (int tone = 0; tone < type.getIntervals().length; tone++) {
+                    int bass = toneOf(root, type, tone);
+                    int code = ChordIdentifier.identify(mask, bass);
+                    String chord = MusicalNote.CHROMATIC_SHARP[root] + type.getSymbol() + "/" + bass;
+                    assertNotEquals(ChordIdentifier.NO_MATCH, code, chord);
+
+                    int foundRoot = ChordIdentifier.rootOf(code);
+                    ChordType foundType = ChordIdentifier.typeOf(code);
+                    int inversion = ChordIdentifier.inversionOf(code);
+                    // Jede Deutung muss dieselbe Tonmenge und denselben Basston ergeben
+                    assertEquals(mask, maskOf(foundRoot, foundType), chord);
+                    assertEquals(bass, toneOf(foundRoot, foundType, inversion), chord);
+                    // Gibt es eine Grundstellung auf dem Basston, wird sie bevorzugt
+                    List<int[]> readings = readings(mask);
+                    boolean rootPositionExists = false;
+                    for (int[] reading : readings) {
+                        rootPositionExists |= reading[0] == bass;
+                    }
+                    assertEquals(rootPositionExists, inversion == 0, chord);
+                    if (!rootPositionExists) {
+                        // Sonst gilt die kanonische Deutung der Maske (z.B. Csus4/G = Fsus2/G)
+                        assertEquals(readings.get(0)[0], foundRoot, chord);
+                        assertEquals(readings.get(0)[1], foundType.ordinal(), chord);
+                        if (foundRoot == root && foundType == type) {
+                            assertEquals(tone, inversion, chord);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void symbolsMatchChordTypes() {
+        for (ChordType type : ChordType.values()) {
+            for (int root = 0; root < 12; root++) {
+                int code = ChordIdentifier.identify(maskOf(root, type), root);
+                assertEquals(MusicalNote.CHROMATIC_SHARP[ChordIdentifier.rootOf(code)]
+                    + ChordIdentifier.typeOf(code).getSymbol(), ChordIdentifier.symbolOf(code));
+            }
+        }
+    }
+
+    @Test
+    void frequenciesAreMappedToNearestPitchClass() {
+        assertEquals(9, ChordIdentifier.pitchClassOf(440.0));
+        assertEquals(9, ChordIdentifier.pitchClassOf(27.5));
+        assertEquals(0, ChordIdentifier.pitchClassOf(261.63));
+        assertEquals(11, ChordIdentifier.pitchClassOf(261.63 * Math.pow(2, -0.6 / 12)));
+        double[] cMajorFirstInversion = {329.63, 392.0, 523.25};
+        int code = ChordIdentifier.identify(cMajorFirstInversion, 0, 3);
+        assertEquals(0, ChordIdentifier.rootOf(code));
+        assertEquals(1, ChordIdentifier.inversionOf(code));
+    }
+
+    @Test
+    void invalidFrequenciesAreRejected() {
+        for (double frequency : new double[] {0, -440, Double.NaN, Double.POSITIVE_INFINITY}) {
+            assertThrows(IllegalArgumentException.class, () -> ChordIdentifier.pitchClassOf(frequency),
+                String.valueOf(frequency));
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> ChordIdentifier.identify(new double[] {440, 0}, 0, 2));
+        assertTrue(ChordIdentifier.maskOf(new double[] {440}, 0, 1) == 1 << 9);
+    }
+}
@@ -0,0 +1,83 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChordRecognizerTest {
+
+    private static final int RATE = 44100;
+
+    /** Töne mit vier abklingenden Obertönen, wie bei einem Instrument */
+    private static float[] notes(int length, double... frequencies) {
+        float[] samples = new float[length];
+        for (int i = 0; i < length; i++) {
+            double sum = 0;
+            for (double frequency : frequencies) {
+                for (int harmonic = 1; harmonic <= 4; harmonic++) {
+                    sum += Math.sin(2 * Math.PI * harmonic * frequency * i / RATE) / harmonic;
+                }
+            }
+            samples[i] = (float) (0.3 * sum / frequencies.length);
+        }
+        return samples;
+    }
+
+    /** Zwei Sekunden C-Dur, dann zwei Sekunden a-Moll */
+    private static float[] progression() {
+        float[] first = notes(2 * RATE, 261.63, 329.63, 392.00);
+        float[] second = notes(2 * RATE, 220.00, 261.63, 329.63);
+        float[] samples = new float[first.length + second.length];
+        System.arraycopy(first, 0, samples, 0, first.length);
+        System.arraycopy(second, 0, samples, first.length, second.length);
+        return samples;
+    }
+
+    private static void assertProgression(List<ChordRecognizer.TimedChord> chords) {
+        assertEquals(2, chords.size(), chords.toString());
+        assertEquals("C", chords.get(0).getChord().getSymbol());
+        assertEquals("Am", chords.get(1).getChord().getSymbol());
+        assertEquals(chords.get(0).getEnd(), chords.get(1).getStart(), 1e-12);
+        assertEquals(2.0, chords.get(1).getStart(), 0.15);
+        assertTrue(chords.get(0).getStart() < 0.1);
+        assertTrue(chords.get(1).getEnd() > 3.9);
+    }
+
+    @Test
+    void recognizesProgressionFromChromagram() {
+        float[] samples = progression();
+        Chromagram chroma = new Chromagram(RATE);
+        chroma.write(samples, 0, samples.length);
+        assertProgression(new ChordRecognizer(ChordType.MAJOR, ChordType.MINOR).recognize(chroma));
+        assertProgression(new ChordRecognizer().recognize(chroma));
+    }
+
+    @Test
+    void recognizesProgressionFromWavFile(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("progression.wav");
+        WavWriter.write(file, progression(), RATE, WavFormat.PCM_16);
+        ChordRecognizer recognizer = new ChordRecognizer(ChordType.MAJOR, ChordType.MINOR);
+        assertProgression(recognizer.recognize(file));
+        assertProgression(recognizer.recognizeAll(List.of(file)).get(file));
+    }
+
+    @Test
+    void silenceHasNoChords() {
+        Chromagram chroma = new Chromagram(RATE);
+        chroma.write(new float[2 * RATE], 0, 2 * RATE);
+        assertTrue(new ChordRecognizer().recognize(chroma).isEmpty());
+        assertTrue(new ChordRecognizer().recognize(new Chromagram(RATE)).isEmpty());
+    }
+
+    @Test
+    void stateCountAndValidation() {
+        assertEquals(25, new ChordRecognizer(ChordType.MAJOR, ChordType.MINOR).getStateCount());
+        assertEquals(12 * ChordType.values().length + 1, new ChordRecognizer().getStateCount());
+        assertThrows(IllegalArgumentException.class, () -> new ChordRecognizer(new ChordType[0]));
+        assertThrows(IllegalArgumentException.class, () -> new ChordRecognizer(-1, ChordType.MAJOR));
+    }
+}
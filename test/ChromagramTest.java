@@ -0,0 +1,113 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ChromagramTest {
+
+    private static final int RATE = 44100;
+
+    private static float[] tones(int length, double... frequencies) {
+        float[] samples = new float[length];
+        for (int i = 0; i < length; i++) {
+            double sum = 0;
+            for (double frequency : frequencies) {
+                sum += Math.sin(2 * Math.PI * frequency * i / RATE);
+            }
+            samples[i] = (float) (0.5 * sum / frequencies.length);
+        }
+        return samples;
+    }
+
+    @Test
+    void sineLandsOnItsPitchClass() {
+        Chromagram chroma = new Chromagram(RATE);
+        chroma.write(tones(RATE, 440.0), 0, RATE);
+        assertTrue(chroma.getFrameCount() > 0);
+        for (int frame = 0; frame < chroma.getFrameCount(); frame++) {
+            assertEquals(1f, chroma.get(frame, 9), "Frame " + frame);
+            for (int pc = 0; pc < 12; pc++) {
+                if (pc != 9) {
+                    // Nachbarn erhalten über die Seitenkeulen des Fensters nur einen Teil
+                    assertTrue(chroma.get(frame, pc) < 0.75f, "Frame " + frame + ", Tonklasse " + pc);
+                }
+            }
+        }
+    }
+
+    @Test
+    void binsWiderThanASemitoneAreIgnored() {
+        // Lautes A (110 Hz) und leises E'' (659 Hz). Bei 4096 Samples sind Bins 10,8 Hz breit,
+        // unter etwa 183 Hz also breiter als ein Halbton: das A zählt nicht mit
+        float[] samples = new float[RATE];
+        for (int i = 0; i < RATE; i++) {
+            samples[i] = (float) (0.5 * Math.sin(2 * Math.PI * 110.0 * i / RATE)
+                + 0.05 * Math.sin(2 * Math.PI * 659.26 * i / RATE));
+        }
+        Chromagram chroma = new Chromagram(RATE);
+        chroma.write(samples, 0, samples.length);
+        int frame = chroma.getFrameCount() - 1;
+        assertEquals(1f, chroma.get(frame, 4));
+        assertTrue(chroma.get(frame, 9) < 0.5f);
+
+        // Mit 16384 Samples (2,7 Hz breite Bins) trennen die Bins ab MIN_FREQUENCY Halbtöne
+        Chromagram fine = new Chromagram(RATE, 16384, 4096, 440.0);
+        fine.write(samples, 0, samples.length);
+        assertEquals(1f, fine.get(fine.getFrameCount() - 1, 9));
+    }
+
+    @Test
+    void frameCountFollowsHopSize() {
+        Chromagram chroma = new Chromagram(RATE, 1024, 256, 440.0);
+        chroma.write(new float[1023], 0, 1023);
+        assertEquals(0, chroma.getFrameCount());
+        chroma.write(new float[1 + 10 * 256], 0, 1 + 10 * 256);
+        assertEquals(11, chroma.getFrameCount());
+        assertEquals((10 * 256 + 512) / (double) RATE, chroma.getFrameTime(10), 1e-12);
+        chroma.reset();
+        assertEquals(0, chroma.getFrameCount());
+    }
+
+    @Test
+    void blockSizeDoesNotChangeFrames() {
+        float[] samples = tones(20000, 261.63, 329.63, 392.0);
+        Chromagram whole = new Chromagram(RATE, 2048, 512, 440.0);
+        whole.write(samples, 0, samples.length);
+        Chromagram blocks = new Chromagram(RATE, 2048, 512, 440.0);
+        for (int offset = 0; offset < samples.length; offset += 333) {
+            blocks.write(samples, offset, Math.min(333, samples.length - offset));
+        }
+        assertEquals(whole.getFrameCount(), blocks.getFrameCount());
+        float[] expected = new float[12];
+        float[] actual = new float[12];
+        for (int frame = 0; frame < whole.getFrameCount(); frame++) {
+            whole.getFrame(frame, expected, 0);
+            blocks.getFrame(frame, actual, 0);
+            assertArrayEquals(expected, actual, "Frame " + frame);
+        }
+    }
+
+    @Test
+    void silenceStaysZero() {
+        Chromagram chroma = new Chromagram(RATE);
+        chroma.write(new float[RATE], 0, RATE);
+        for (int frame = 0; frame < chroma.getFrameCount(); frame++) {
+            for (int pc = 0; pc < 12; pc++) {
+                assertEquals(0f, chroma.get(frame, pc));
+            }
+        }
+    }
+
+    @Test
+    void invalidParametersAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new Chromagram(0));
+        assertThrows(IllegalArgumentException.class, () -> new Chromagram(RATE, 1000, 500, 440.0));
+        assertThrows(IllegalArgumentException.class, () -> new Chromagram(RATE, 1024, 2048, 440.0));
+        assertThrows(IllegalArgumentException.class, () -> new Chromagram(RATE, 1024, 512, Double.NaN));
+        // 689 Hz breite Bins: unter 5 kHz ist keiner schmaler als ein Halbton
+        assertThrows(IllegalArgumentException.class, () -> new Chromagram(RATE, 64, 32, 440.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> new Chromagram(RATE).get(0, 0));
+    }
+}
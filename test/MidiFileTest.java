@@ -0,0 +1,59 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MidiFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripKeepsNotes() throws Exception {
+        Melody melody = new Melody();
+        melody.add(60, 261.63, 0, 480, 100);
+        melody.add(64, 329.63, 480, 240, 80);
+        melody.add(60, 261.63, 480, 480, 90);   // gleiche Taste direkt nach dem Ende der ersten
+        melody.add(67, 392.00, 2000, 1, 1);
+
+        assertEquals(events(melody), events(roundTrip(melody)));
+    }
+
+    @Test
+    void zeroDurationNotesDoNotHang() throws Exception {
+        Melody melody = new Melody();
+        melody.add(60, 261.63, 0, 0, 100);
+        melody.add(62, 293.66, 480, 0, 100);
+        melody.add(62, 293.66, 480, 480, 100);   // gleiche Taste, gleicher Einsatz
+        melody.add(64, 329.63, 960, 480, 100);
+
+        Melody read = roundTrip(melody);
+        assertEquals(events(melody), events(read));
+        // Ohne hängende Noten endet keine Note erst am Spurende
+        assertEquals(melody.getEndTick(), read.getEndTick());
+        // Ein zweiter Durchlauf ändert nichts mehr
+        assertEquals(events(read), events(roundTrip(read)));
+    }
+
+    private Melody roundTrip(Melody melody) throws Exception {
+        Path file = dir.resolve("melody.mid");
+        MidiFile.write(melody, file);
+        return MidiFile.read(file);
+    }
+
+    /** Noten als sortierte Liste, unabhängig von der Reihenfolge in der Melodie */
+    private static List<String> events(Melody melody) {
+        List<String> events = new ArrayList<>();
+        for (int i = 0; i < melody.size(); i++) {
+            events.add(melody.getOnset(i) + "/" + melody.getKey(i) + "/" + melody.getDuration(i)
+                + "/" + melody.getVelocity(i));
+        }
+        Collections.sort(events);
+        return events;
+    }
+}
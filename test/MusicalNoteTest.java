@@ -0,0 +1,70 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class MusicalNoteTest {
+
+    @Test
+    void everyKnownLetterHasItsPitchClass() throws Exception {
+        for (int pc = 0; pc < 12; pc++) {
+            assertEquals(pc, new MusicalNote(MusicalNote.CHROMATIC_SHARP[pc], 440.0).getPitchClass());
+            assertEquals(pc, new MusicalNote(MusicalNote.CHROMATIC_FLAT[pc], 440.0).getPitchClass());
+        }
+        for (String letter : MusicalNote.DEFAULT_SCALE.keySet()) {
+            // Jeder Name mit Standardfrequenz hat eine Tonklasse
+            assertEquals(MusicalNote.parsePitchClass(letter), new MusicalNote(letter).getPitchClass(), letter);
+        }
+    }
+
+    @Test
+    void eisIsF() throws Exception {
+        MusicalNote eis = new MusicalNote("Eis");
+        assertEquals(5, eis.getPitchClass());
+        assertEquals(new MusicalNote("F").getMidiNumber(), eis.getMidiNumber());
+    }
+
+    @Test
+    void unknownLetterIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MusicalNote("X", 500.0));
+        assertThrows(IllegalArgumentException.class, () -> MusicalNote.parsePitchClass("Cb"));
+    }
+
+    @Test
+    void enharmonicSpellingsHaveTheirPitchClass() throws Exception {
+        String[][] spellings = {
+            {"His", "0"}, {"Deses", "0"}, {"Hisis", "1"}, {"Cisis", "2"}, {"Eses", "2"},
+            {"Feses", "3"}, {"Fes", "4"}, {"Disis", "4"}, {"Geses", "5"}, {"Eisis", "6"},
+            {"Fisis", "7"}, {"Ases", "7"}, {"Gisis", "9"}, {"Heses", "9"}, {"Ceses", "10"},
+            {"Ces", "11"}, {"Aisis", "11"}
+        };
+        for (String[] spelling : spellings) {
+            MusicalNote note = new MusicalNote(spelling[0], 440.0);
+            assertEquals(Integer.parseInt(spelling[1]), note.getPitchClass(), spelling[0]);
+            assertEquals(spelling[0], note.getLetter());
+        }
+        assertEquals(11, new MusicalNote("Ces", 246.9).getPitchClass());
+        assertEquals(-1, MusicalNote.findPitchClass("Kammerton"));
+        assertEquals(-1, MusicalNote.findPitchClass(null));
+    }
+
+    @Test
+    void descriptiveLabelsBelongInName() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> new MusicalNote("Kammerton", 440.0));
+        MusicalNote note = new MusicalNote("A", 440.0, "Kammerton");
+        assertEquals("Kammerton", note.getName());
+        assertEquals(9, note.getPitchClass());
+    }
+
+    @Test
+    void lowOctavesUseCommas() throws Exception {
+        assertEquals("'''", MusicalNote.octaveToSymbols(3));
+        assertEquals("", MusicalNote.octaveToSymbols(0));
+        assertEquals(",,,", MusicalNote.octaveToSymbols(-3));
+        // A0 bis A4 der Klaviatur
+        String[] expected = {"A,,,", "A,,", "A,", "A", "A'"};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], new MusicalNote("A", 27.5 * (1 << i), i - 3).toString());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class NoteLookupTest {
+
+    private static final TuningSystem[] TUNINGS = {
+        TuningSystem.equalTemperament(), TuningSystem.equalTemperament(443.0),
+        TuningSystem.justIntonation(), TuningSystem.werckmeister(), TuningSystem.quarterCommaMeantone()
+    };
+
+    /** Nächstgelegene Tonnummer per Math.log über die ganze Tabelle */
+    private static int referenceKey(NoteLookup lookup, double frequency) {
+        int best = NoteLookup.FIRST_KEY;
+        for (int key = NoteLookup.FIRST_KEY; key <= NoteLookup.LAST_KEY; key++) {
+            if (Math.abs(Math.log(frequency / lookup.frequencyOf(key)))
+                    < Math.abs(Math.log(frequency / lookup.frequencyOf(best)))) {
+                best = key;
+            }
+        }
+        return best;
+    }
+
+    private static double referenceCents(NoteLookup lookup, double frequency, int key) {
+        return 1200 * Math.log(frequency / lookup.frequencyOf(key)) / Math.log(2);
+    }
+
+    @Test
+    void keysMatchLogarithmOverWholeTable() {
+        Random random = new Random(3);
+        for (TuningSystem tuning : TUNINGS) {
+            NoteLookup lookup = NoteLookup.of(tuning);
+            for (int i = 0; i < 20_000; i++) {
+                // 2 Hz bis 64 kHz, also auch unter- und oberhalb der Tabelle
+                double frequency = Math.pow(2, 1 + 15 * random.nextDouble());
+                int key = lookup.keyOf(frequency);
+                assertEquals(referenceKey(lookup, frequency), key, tuning.getName() + ", " + frequency + " Hz");
+                assertEquals(referenceCents(lookup, frequency, key), lookup.centsOf(frequency), 1e-6,
+                    tuning.getName() + ", " + frequency + " Hz");
+            }
+        }
+    }
+
+    @Test
+    void everyKeyAndBoundaryOfTable() {
+        for (TuningSystem tuning : TUNINGS) {
+            NoteLookup lookup = NoteLookup.of(tuning);
+            for (int key = NoteLookup.FIRST_KEY; key <= NoteLookup.LAST_KEY; key++) {
+                double frequency = lookup.frequencyOf(key);
+                assertEquals(key, lookup.keyOf(frequency), tuning.getName());
+                assertEquals(0.0, lookup.centsOf(frequency), 1e-9);
+                if (key < NoteLookup.LAST_KEY) {
+                    // Die Grenze selbst gehört zum oberen Ton
+                    double boundary = Math.sqrt(frequency * lookup.frequencyOf(key + 1));
+                    assertEquals(key, lookup.keyOf(Math.nextDown(boundary)), tuning.getName() + ", Taste " + key);
+                    assertEquals(key + 1, lookup.keyOf(boundary), tuning.getName() + ", Taste " + key);
+                    assertEquals(referenceCents(lookup, Math.nextDown(boundary), key),
+                        lookup.centsOf(Math.nextDown(boundary)), 1e-6);
+                    assertEquals(referenceCents(lookup, boundary, key + 1), lookup.centsOf(boundary), 1e-6);
+                }
+            }
+        }
+    }
+
+    @Test
+    void extremeInputsAreClampedOrRejected() {
+        NoteLookup lookup = NoteLookup.equalTemperament();
+        assertEquals(NoteLookup.FIRST_KEY, lookup.keyOf(Double.MIN_VALUE));
+        assertEquals(NoteLookup.FIRST_KEY, lookup.keyOf(Double.MIN_NORMAL));
+        assertEquals(NoteLookup.FIRST_KEY, lookup.keyOf(1e-300));
+        assertEquals(NoteLookup.LAST_KEY, lookup.keyOf(Double.MAX_VALUE));
+        assertEquals(NoteLookup.LAST_KEY, lookup.keyOf(Double.POSITIVE_INFINITY));
+        assertEquals(NoteLookup.NO_KEY, lookup.keyOf(Double.NaN));
+        assertEquals(NoteLookup.NO_KEY, lookup.keyOf(0.0));
+        assertEquals(NoteLookup.NO_KEY, lookup.keyOf(-0.0));
+        assertEquals(NoteLookup.NO_KEY, lookup.keyOf(-440.0));
+        assertEquals(NoteLookup.NO_KEY, lookup.keyOf(Double.NEGATIVE_INFINITY));
+        assertTrue(Double.isNaN(lookup.centsOf(Double.NaN)));
+        assertTrue(Double.isNaN(lookup.centsOf(-1.0)));
+
+        // Außerhalb der Reihe: Math.log
+        assertEquals(referenceCents(lookup, 1.0, 0), lookup.centsOf(1.0), 1e-9);
+        assertEquals(900.0, lookup.centsOf(440.0, 60), 1e-9);
+        assertEquals(-1200.0, lookup.centsOf(220.0, 69), 1e-9);
+    }
+
+    @Test
+    void blockLookupMatchesSingleCalls() {
+        NoteLookup lookup = NoteLookup.of(443.0);
+        double[] frequencies = {450.0, Double.NaN, 27.5, 0.0, 19_000.0, 100_000.0};
+        int[] keys = new int[frequencies.length + 1];
+        double[] cents = new double[frequencies.length + 1];
+        lookup.lookup(frequencies, 0, keys, cents, 1, frequencies.length);
+        for (int i = 0; i < frequencies.length; i++) {
+            assertEquals(lookup.keyOf(frequencies[i]), keys[i + 1]);
+            assertEquals(lookup.centsOf(frequencies[i]), cents[i + 1]);
+        }
+        assertEquals(69, keys[1]);
+        assertEquals(27.14, cents[1], 0.005);
+    }
+}
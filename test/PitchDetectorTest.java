@@ -0,0 +1,126 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PitchDetectorTest {
+
+    private static final int RATE = 44100;
+
+    private static float[] sine(double frequency, double amplitude, double offset, int length) {
+        float[] samples = new float[length];
+        for (int i = 0; i < length; i++) {
+            samples[i] = (float) (offset + amplitude * Math.sin(2 * Math.PI * frequency * i / RATE));
+        }
+        return samples;
+    }
+
+    private static double centsBetween(double actual, double expected) {
+        return 1200 * Math.log(actual / expected) / Math.log(2);
+    }
+
+    @Test
+    void pureSineIsDetected() {
+        PitchDetector detector = new PitchDetector(RATE, 2048);
+        for (double frequency : new double[] {55.0, 82.41, 261.63, 440.0, 1234.5, 1900.0}) {
+            detector.write(sine(frequency, 0.5, 0, 4096), 0, 4096);
+            assertTrue(detector.detect(), frequency + " Hz");
+            assertEquals(0, centsBetween(detector.getFrequency(), frequency), 0.1, frequency + " Hz");
+            assertTrue(detector.getClarity() > 0.95, frequency + " Hz");
+        }
+        detector.write(sine(440.0, 0.5, 0, 2048), 0, 2048);
+        assertTrue(detector.detect());
+        assertEquals(69, detector.getMidiNumber());
+        assertEquals("A", detector.getNoteName());
+        assertEquals(1, detector.getOctave());
+        assertEquals(0, detector.getCents(), 0.1);
+        assertEquals("A'", detector.toNote().toString());
+        assertEquals(440.0, detector.toNote().getFrequency(), 1e-9);
+    }
+
+    @Test
+    void harmonicRichLowEIsNotAnOctaveTooHigh() {
+        // E, (82,41 Hz) mit stärkerem zweiten als erstem Teilton, wie bei einer Gitarrensaite
+        double fundamental = 82.41;
+        double[] partials = {0.4, 1.0, 0.6, 0.5, 0.3, 0.2, 0.1};
+        float[] samples = new float[4096];
+        for (int i = 0; i < samples.length; i++) {
+            double value = 0;
+            for (int h = 0; h < partials.length; h++) {
+                value += partials[h] * Math.sin(2 * Math.PI * fundamental * (h + 1) * i / RATE + h);
+            }
+            samples[i] = (float) (0.2 * value);
+        }
+        PitchDetector detector = new PitchDetector(RATE, 2048);
+        detector.write(samples, 0, samples.length);
+        assertTrue(detector.detect());
+        assertEquals(40, detector.getMidiNumber());
+        assertEquals("E", detector.getNoteName());
+        assertEquals(-1, detector.getOctave());
+        assertEquals(0, centsBetween(detector.getFrequency(), fundamental), 0.5);
+        assertTrue(detector.toString().startsWith("PitchDetector[82.41 Hz, E, "), detector.toString());
+    }
+
+    @Test
+    void loudOffsetDoesNotShiftPitch() {
+        // Großer Gleichanteil: die Differenzfunktion entsteht durch Auslöschung großer Summen
+        PitchDetector detector = new PitchDetector(RATE, 2048);
+        for (double frequency : new double[] {82.41, 440.0, 1234.5}) {
+            detector.write(sine(frequency, 0.02, 0.9, 4096), 0, 4096);
+            assertTrue(detector.detect(), frequency + " Hz");
+            assertEquals(0, centsBetween(detector.getFrequency(), frequency), 0.1, frequency + " Hz");
+        }
+    }
+
+    @Test
+    void silenceAndShortInputAreRejected() {
+        PitchDetector detector = new PitchDetector(RATE, 2048);
+        detector.write(new float[1000], 0, 1000);
+        assertFalse(detector.detect());
+        detector.write(new float[2048], 0, 2048);
+        assertFalse(detector.detect());
+        assertTrue(Double.isNaN(detector.getFrequency()));
+        assertEquals(-1, detector.getMidiNumber());
+        assertNull(detector.getNoteName());
+        assertNull(detector.toNote());
+        assertEquals("PitchDetector[kein Ton]", detector.toString());
+
+        // Ein erkannter Ton wird durch Stille wieder verworfen
+        detector.write(sine(440.0, 0.5, 0, 2048), 0, 2048);
+        assertTrue(detector.detect());
+        detector.write(new float[2048], 0, 2048);
+        assertFalse(detector.detect());
+        assertEquals(0, detector.getClarity());
+
+        detector.write(sine(440.0, 0.5, 0, 2048), 0, 2048);
+        detector.reset();
+        assertFalse(detector.detect());
+    }
+
+    @Test
+    void referencePitchReResolvesNoteAndCents() {
+        PitchDetector detector = new PitchDetector(RATE, 2048);
+        detector.write(sine(440.0, 0.5, 0, 2048), 0, 2048);
+        assertTrue(detector.detect());
+        double frequency = detector.getFrequency();
+
+        detector.setReferencePitch(443.0);
+        assertEquals(frequency, detector.getFrequency());
+        assertEquals(69, detector.getMidiNumber());
+        assertEquals(centsBetween(frequency, 443.0), detector.getCents(), 1e-9);
+        assertEquals(443.0, detector.toNote().getFrequency(), 1e-9);
+
+        // Barocke Stimmung: 440 Hz liegt einen Halbton über A'
+        detector.setReferencePitch(415.3);
+        assertEquals(70, detector.getMidiNumber());
+        assertEquals("B", detector.getNoteName());
+        assertEquals(centsBetween(frequency, 415.3) - 100, detector.getCents(), 1e-9);
+
+        assertThrows(IllegalArgumentException.class, () -> detector.setReferencePitch(0));
+        assertThrows(IllegalArgumentException.class, () -> detector.setThreshold(1));
+        assertThrows(IllegalArgumentException.class, () -> new PitchDetector(RATE, 512));
+    }
+}
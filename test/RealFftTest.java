@@ -0,0 +1,104 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RealFftTest {
+
+    private static final int[] SIZES = {4, 8, 16, 32, 64, 256, 1024, 4096};
+
+    private static double[] randomSignal(int size, long seed) {
+        Random random = new Random(seed);
+        double[] signal = new double[size];
+        for (int i = 0; i < size; i++) {
+            signal[i] = random.nextDouble() * 2 - 1;
+        }
+        return signal;
+    }
+
+    /** Naive DFT als Referenz: {re, im} je Bin 0 bis n/2 */
+    private static double[][] naiveDft(double[] signal) {
+        int n = signal.length;
+        double[][] bins = new double[n / 2 + 1][2];
+        for (int k = 0; k <= n / 2; k++) {
+            for (int t = 0; t < n; t++) {
+                double angle = -2 * Math.PI * ((long) k * t % n) / n;
+                bins[k][0] += signal[t] * Math.cos(angle);
+                bins[k][1] += signal[t] * Math.sin(angle);
+            }
+        }
+        return bins;
+    }
+
+    @Test
+    void forwardMatchesNaiveDft() {
+        for (int size : SIZES) {
+            double[] signal = randomSignal(size, size);
+            double[][] expected = naiveDft(signal);
+            double[] spectrum = signal.clone();
+            RealFft fft = RealFft.forSize(size);
+            fft.forward(spectrum);
+
+            double tolerance = 1e-9 * size;
+            String message = "Größe " + size;
+            assertEquals(expected[0][0], spectrum[0], tolerance, message);
+            assertEquals(expected[size / 2][0], spectrum[1], tolerance, message);
+            for (int k = 1; k < size / 2; k++) {
+                assertEquals(expected[k][0], spectrum[2 * k], tolerance, message + ", Bin " + k);
+                assertEquals(expected[k][1], spectrum[2 * k + 1], tolerance, message + ", Bin " + k);
+            }
+            for (int k = 0; k <= size / 2; k++) {
+                double power = expected[k][0] * expected[k][0] + expected[k][1] * expected[k][1];
+                assertEquals(power, fft.power(spectrum, k), tolerance * size, message + ", Bin " + k);
+            }
+        }
+    }
+
+    @Test
+    void inverseRestoresSignal() {
+        for (int size : SIZES) {
+            double[] signal = randomSignal(size, -size);
+            double[] data = signal.clone();
+            RealFft fft = RealFft.forSize(size);
+            fft.forward(data);
+            fft.inverse(data);
+            for (int i = 0; i < size; i++) {
+                assertEquals(signal[i], data[i], 1e-12, "Größe " + size + ", Index " + i);
+            }
+        }
+    }
+
+    @Test
+    void floatVariantsMatchDouble() {
+        int size = 512;
+        double[] signal = randomSignal(size, 7);
+        double[] expected = signal.clone();
+        float[] data = new float[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (float) signal[i];
+            expected[i] = data[i];
+        }
+        RealFft fft = RealFft.forSize(size);
+        fft.forward(expected);
+        fft.forward(data);
+        for (int i = 0; i < size; i++) {
+            assertEquals(expected[i], data[i], 1e-4);
+        }
+        fft.inverse(data);
+        for (int i = 0; i < size; i++) {
+            assertEquals(signal[i], data[i], 1e-5);
+        }
+    }
+
+    @Test
+    void plansAreCachedAndSizesValidated() {
+        assertSame(RealFft.forSize(1024), RealFft.forSize(1024));
+        assertEquals(1024, RealFft.forSize(1024).getSize());
+        assertThrows(IllegalArgumentException.class, () -> RealFft.forSize(2));
+        assertThrows(IllegalArgumentException.class, () -> RealFft.forSize(1000));
+        assertThrows(IndexOutOfBoundsException.class, () -> RealFft.forSize(16).forward(new double[8]));
+    }
+}
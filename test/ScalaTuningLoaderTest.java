@@ -0,0 +1,64 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class ScalaTuningLoaderTest {
+
+    private static final String PENTATONIC = "! pentatonik.scl\n"
+        + "!\n"
+        + "Pentatonik in reiner Stimmung\n"
+        + " 5\n"
+        + "!\n"
+        + " 9/8\n"
+        + "\n"
+        + " 5/4\n"
+        + "   \t\n"
+        + " 3/2\r\n"
+        + "\r\n"
+        + " 5/3\n"
+        + " 2/1\n";
+
+    @Test
+    void blankLinesBetweenValuesAreSkipped() {
+        TuningSystem tuning = ScalaTuningLoader.parse(bytes(PENTATONIC), null);
+        // Standard-Zuordnung: Stufe 0 auf Taste 60, Taste 69 = 440 Hz
+        assertEquals(440.0, tuning.frequency(69), 1e-9);
+        assertEquals(tuning.frequency(60) * 9 / 8, tuning.frequency(61), 1e-9);
+        assertEquals(tuning.frequency(60) * 2, tuning.frequency(65), 1e-9);
+    }
+
+    @Test
+    void emptyDescriptionIsAllowed() {
+        TuningSystem tuning = ScalaTuningLoader.parse(bytes("! leer.scl\n\n1\n2/1\n"), null);
+        assertEquals(440.0, tuning.frequency(69), 1e-9);
+    }
+
+    @Test
+    void blankLinesInKeyboardMapping() {
+        String kbm = "! pentatonik.kbm\n"
+            + "5\n\n0\n127\n60\n\n60\n261.625\n5\n"
+            + "! Zuordnung\n"
+            + "0\n\n1\n2\nx\n4\n";
+        TuningSystem tuning = ScalaTuningLoader.parse(bytes(PENTATONIC), bytes(kbm));
+        assertEquals(261.625, tuning.frequency(60), 1e-9);
+        assertEquals(261.625 * 9 / 8, tuning.frequency(61), 1e-9);
+        assertTrue(Double.isNaN(tuning.frequency(63)));
+    }
+
+    @Test
+    void unmappedReferenceKeyIsRejected() {
+        // Referenztaste 63 fällt auf das x der Zuordnung
+        String kbm = "5\n0\n127\n60\n63\n440.0\n5\n0\n1\n2\nx\n4\n";
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> ScalaTuningLoader.parse(bytes(PENTATONIC), bytes(kbm)));
+        assertTrue(e.getMessage().contains("Referenztaste 63"), e.getMessage());
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
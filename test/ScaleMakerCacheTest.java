@@ -0,0 +1,90 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class ScaleMakerCacheTest {
+
+    @Test
+    void sameParametersGiveSameInstance() throws Exception {
+        ScaleMakerCache cache = new ScaleMakerCache();
+        assertSame(cache.scale("C", ScaleType.MAJOR), cache.scale("C", ScaleType.MAJOR));
+        MusicalNote custom = new MusicalNote("A", 432.0);
+        assertSame(cache.chord(custom, ChordType.MINOR), cache.chord(new MusicalNote("A", 432.0), ChordType.MINOR));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void equalTuningsShareEntries() throws Exception {
+        ScaleMakerCache cache = new ScaleMakerCache();
+        MusicalNote c = new MusicalNote("C");
+        assertSame(cache.scale(c, ScaleType.MAJOR, TuningSystem.werckmeister(443)),
+            cache.scale(c, ScaleType.MAJOR, TuningSystem.werckmeister(443)));
+        assertSame(cache.chord(c, ChordType.MAJOR, TuningSystem.equalTemperament(440)),
+            cache.chord(c, ChordType.MAJOR, TuningSystem.equalTemperament()));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.size());
+
+        assertNotSame(cache.scale(c, ScaleType.MAJOR, TuningSystem.werckmeister(443)),
+            cache.scale(c, ScaleType.MAJOR, TuningSystem.werckmeister(442)));
+    }
+
+    @Test
+    void customRegionRespectsCapacity() throws Exception {
+        for (int capacity : new int[] {1, 3, 17, 100}) {
+            ScaleMakerCache cache = new ScaleMakerCache(capacity);
+            for (int i = 0; i < 10 * capacity + 50; i++) {
+                cache.scale(new MusicalNote("A", 1000.0 + i), ScaleType.MAJOR);
+            }
+            assertEquals(capacity, cache.size(), "Kapazität " + capacity);
+        }
+    }
+
+    @Test
+    void recentlyUsedEntrySurvives() throws Exception {
+        ScaleMakerCache cache = new ScaleMakerCache(1);
+        Scale kept = cache.scale(new MusicalNote("A", 432.0), ScaleType.MAJOR);
+        assertSame(kept, cache.scale(new MusicalNote("A", 432.0), ScaleType.MAJOR));
+        cache.scale(new MusicalNote("A", 433.0), ScaleType.MAJOR);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void concurrentLookupsAreCanonical() throws Exception {
+        ScaleMakerCache cache = new ScaleMakerCache(64);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Scale[]>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(pool.submit(() -> {
+                    Scale[] scales = new Scale[32];
+                    for (int round = 0; round < 200; round++) {
+                        for (int i = 0; i < scales.length; i++) {
+                            scales[i] = cache.scale(new MusicalNote("A", 1000.0 + i), ScaleType.MAJOR);
+                        }
+                    }
+                    return scales;
+                }));
+            }
+            Scale[] first = results.get(0).get();
+            for (Future<Scale[]> result : results) {
+                Scale[] scales = result.get();
+                for (int i = 0; i < scales.length; i++) {
+                    assertSame(first[i], scales[i]);
+                }
+            }
+            assertTrue(cache.size() <= 64);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ScaleMakerTest {
+
+    @Test
+    void tryNoteWithFrequencyRejectsUnknownNames() {
+        ScaleMakerResult<MusicalNote> result = ScaleMaker.tryNote("X", 440.0);
+        assertEquals(ScaleMakerError.UNKNOWN_NOTE, result.getError());
+        // Geteiltes Fehlerergebnis, wie bei tryNote(String)
+        assertSame(ScaleMaker.tryNote("X"), result);
+        assertSame(result, new ScaleMakerApiImpl().tryNote("X", 440.0));
+        assertSame(result, new InstrumentedScaleMakerApi(new ScaleMakerApiImpl(), 1).tryNote("X", 440.0));
+    }
+
+    @Test
+    void tryNoteWithFrequencyChecksEachParameter() {
+        assertEquals(ScaleMakerError.NULL_ARGUMENT, ScaleMaker.tryNote(null, 440.0).getError());
+        assertEquals(ScaleMakerError.INVALID_FREQUENCY, ScaleMaker.tryNote("A", 0).getError());
+        assertEquals(ScaleMakerError.INVALID_FREQUENCY, ScaleMaker.tryNote("A", Double.NaN).getError());
+
+        ScaleMakerResult<MusicalNote> ces = ScaleMaker.tryNote("Ces", 246.9);
+        assertTrue(ces.isSuccess());
+        assertEquals(11, ces.get().getPitchClass());
+        assertEquals(246.9, ces.get().getFrequency());
+    }
+}
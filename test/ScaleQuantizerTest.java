@@ -0,0 +1,188 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class ScaleQuantizerTest {
+
+    private static Scale aMinor() throws Exception {
+        return ScaleMaker.scale("A", ScaleType.MINOR);
+    }
+
+    private static double cents(double cents) {
+        return Math.pow(2, cents / 1200);
+    }
+
+    /** Index von 440 Hz in den Zieltönen */
+    private static int indexOfA(double[] targets) {
+        int index = Arrays.binarySearch(targets, 440.0);
+        assertTrue(index > 0);
+        return index;
+    }
+
+    @Test
+    void quantizeSnapsToNearestTargetInCents() throws Exception {
+        ScaleQuantizer quantizer = new ScaleQuantizer(aMinor());
+        double[] targets = quantizer.getTargets();
+        assertTrue(targets[0] >= ScaleQuantizer.MIN_FREQUENCY);
+        assertTrue(targets[targets.length - 1] <= ScaleQuantizer.MAX_FREQUENCY);
+
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            double frequency = Math.pow(2, 2 + 13 * random.nextDouble());
+            double best = targets[0];
+            for (double target : targets) {
+                if (Math.abs(Math.log(frequency / target)) < Math.abs(Math.log(frequency / best))) {
+                    best = target;
+                }
+            }
+            assertEquals(best, quantizer.quantize(frequency), "Frequenz " + frequency);
+        }
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(targets[i], quantizer.quantize(targets[i]));
+        }
+        assertEquals(440.0, quantizer.quantize(450.0));
+        assertEquals(targets[0], quantizer.quantize(Double.MIN_VALUE));
+        assertEquals(targets[targets.length - 1], quantizer.quantize(Double.MAX_VALUE));
+        assertEquals(targets[targets.length - 1], quantizer.quantize(Double.POSITIVE_INFINITY));
+        assertEquals(0.0, quantizer.quantize(0.0));
+        assertEquals(-5.0, quantizer.quantize(-5.0));
+        assertTrue(Double.isNaN(quantizer.quantize(Double.NaN)));
+    }
+
+    @Test
+    void hysteresisPreventsFlutter() throws Exception {
+        ScaleQuantizer quantizer = new ScaleQuantizer(aMinor(), 30.0, 0);
+        double[] targets = quantizer.getTargets();
+        int a = indexOfA(targets);
+        double boundary = Math.sqrt(targets[a] * targets[a + 1]);
+        ScaleQuantizer.Channel channel = quantizer.newChannel();
+
+        assertEquals(440.0, channel.next(440.0));
+        // Um ±20 Cent um die Grenze: innerhalb der Hysterese, kein Wechsel
+        for (int i = 0; i < 100; i++) {
+            assertEquals(440.0, channel.next(boundary * cents(i % 2 == 0 ? 20 : -20)));
+        }
+        // 40 Cent über der Grenze: Wechsel
+        assertEquals(targets[a + 1], channel.next(boundary * cents(40)));
+        // Zurück unter die Grenze, aber innerhalb der Hysterese: der neue Ton bleibt
+        for (int i = 0; i < 100; i++) {
+            assertEquals(targets[a + 1], channel.next(boundary * cents(i % 2 == 0 ? -20 : 20)));
+        }
+        assertEquals(440.0, channel.next(boundary * cents(-40)));
+        // Sprung über mehrere Töne wechselt sofort zum nächstgelegenen
+        assertEquals(targets[a + 3], channel.next(targets[a + 3]));
+    }
+
+    @Test
+    void glideReachesTargetExactlyAfterGlideSamples() throws Exception {
+        int glide = 8;
+        ScaleQuantizer quantizer = new ScaleQuantizer(aMinor(), 0, glide);
+        double[] targets = quantizer.getTargets();
+        int a = indexOfA(targets);
+        ScaleQuantizer.Channel channel = quantizer.newChannel();
+
+        // Erster Ton ohne Vorgeschichte: kein Glide
+        assertEquals(440.0, channel.next(440.0));
+        double target = targets[a + 1];
+        double previous = 440.0;
+        double ratio = Math.pow(target / 440.0, 1.0 / glide);
+        for (int i = 1; i <= glide; i++) {
+            double output = channel.next(target);
+            assertEquals(target, channel.getTarget());
+            if (i < glide) {
+                assertTrue(output > previous && output < target, "Sample " + i);
+                assertEquals(ratio, output / previous, 1e-12, "Sample " + i);
+            } else {
+                assertEquals(target, output, "Sample " + i);
+            }
+            previous = output;
+        }
+        assertEquals(target, channel.next(target));
+    }
+
+    @Test
+    void retargetingMidGlideStartsFromCurrentOutput() throws Exception {
+        int glide = 8;
+        ScaleQuantizer quantizer = new ScaleQuantizer(aMinor(), 0, glide);
+        double[] targets = quantizer.getTargets();
+        int a = indexOfA(targets);
+        ScaleQuantizer.Channel channel = quantizer.newChannel();
+
+        channel.next(440.0);
+        double halfway = 0;
+        for (int i = 0; i < 3; i++) {
+            halfway = channel.next(targets[a + 2]);
+        }
+        double newTarget = targets[a - 1];
+        double first = channel.next(newTarget);
+        assertTrue(first < halfway && first > newTarget);
+        assertEquals(Math.pow(newTarget / halfway, 1.0 / glide), first / halfway, 1e-12);
+        double output = first;
+        for (int i = 2; i <= glide; i++) {
+            output = channel.next(newTarget);
+        }
+        assertEquals(newTarget, output);
+    }
+
+    @Test
+    void missingPitchResetsGlide() throws Exception {
+        ScaleQuantizer quantizer = new ScaleQuantizer(aMinor(), 0, 8);
+        double[] targets = quantizer.getTargets();
+        int a = indexOfA(targets);
+        ScaleQuantizer.Channel channel = quantizer.newChannel();
+
+        channel.next(440.0);
+        channel.next(targets[a + 2]);
+        assertTrue(Double.isNaN(channel.next(Double.NaN)));
+        assertTrue(Double.isNaN(channel.getTarget()));
+        assertEquals(0.0, channel.next(0.0));
+        // Nach der Lücke rastet der nächste Ton ohne Übergang ein
+        assertEquals(targets[a + 2], channel.next(targets[a + 2]));
+
+        channel.next(440.0);
+        channel.reset();
+        assertEquals(targets[a + 1], channel.next(targets[a + 1]));
+    }
+
+    @Test
+    void blockProcessingMatchesSamples() throws Exception {
+        ScaleQuantizer quantizer = new ScaleQuantizer(aMinor(), 25.0, 4);
+        double[] input = new double[500];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = 330 * Math.pow(2, Math.sin(i * 0.03) / 2) + (i % 97 == 0 ? Double.NaN : 0);
+        }
+        ScaleQuantizer.Channel single = quantizer.newChannel();
+        double[] expected = new double[input.length];
+        for (int i = 0; i < input.length; i++) {
+            expected[i] = single.next(input[i]);
+        }
+        double[] doubles = input.clone();
+        quantizer.newChannel().process(doubles, 0, doubles.length);
+        assertEquals(Arrays.toString(expected), Arrays.toString(doubles));
+
+        float[] floats = new float[input.length];
+        ScaleQuantizer.Channel rounded = quantizer.newChannel();
+        for (int i = 0; i < input.length; i++) {
+            floats[i] = (float) input[i];
+            expected[i] = rounded.next(floats[i]);
+        }
+        quantizer.newChannel().process(floats, 0, floats.length);
+        for (int i = 0; i < input.length; i++) {
+            assertEquals((float) expected[i], floats[i], "Sample " + i);
+        }
+    }
+
+    @Test
+    void invalidParametersAreRejected() throws Exception {
+        Scale scale = aMinor();
+        assertThrows(IllegalArgumentException.class, () -> new ScaleQuantizer(scale, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ScaleQuantizer(scale, Double.NaN, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ScaleQuantizer(scale, 0, -1));
+        assertThrows(NullPointerException.class, () -> new ScaleQuantizer(null));
+    }
+}
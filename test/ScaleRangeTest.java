@@ -0,0 +1,99 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ScaleRangeTest {
+
+    @Test
+    void pianoHasFiftyTwoWhiteKeys() throws Exception {
+        ScaleRange piano = ScaleMaker.majorScale("C")
+            .getRange(ScaleRange.PIANO_LOWEST_KEY, ScaleRange.PIANO_HIGHEST_KEY);
+        assertEquals(52, piano.size());
+        assertEquals(27.5, piano.frequency(0));
+        assertEquals(ScaleRange.PIANO_LOWEST_KEY, piano.key(0));
+        assertEquals(ScaleRange.PIANO_HIGHEST_KEY, piano.key(51));
+        assertEquals(-3, piano.octave(0));
+        assertEquals(6, piano.degree(0));
+        assertEquals("A", piano.letter(0));
+        assertEquals("A,,,", piano.note(0).toString());
+        assertEquals("C'''''", piano.note(51).toString());
+        assertTrue(piano.toString().endsWith("52 Töne, A,,, bis C''''']"), piano.toString());
+        piano.keys().forEach(key -> assertTrue(
+            IntStream.of(0, 2, 4, 5, 7, 9, 11).anyMatch(pc -> pc == Math.floorMod(key, 12)), "Taste " + key));
+    }
+
+    @Test
+    void rangeWithoutScaleTonesIsEmpty() throws Exception {
+        ScaleRange empty = ScaleMaker.majorScale("C").getRange(61, 61);
+        assertEquals(0, empty.size());
+        assertEquals(0, empty.frequencies().count());
+        assertTrue(empty.toString().endsWith(", leer]"), empty.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.key(0));
+        assertThrows(IllegalArgumentException.class, () -> ScaleMaker.majorScale("C").getRange(62, 61));
+    }
+
+    @Test
+    void keysMatchBruteForceForEveryScaleAndBoundary() throws Exception {
+        for (ScaleType type : ScaleType.values()) {
+            for (String root : new String[] {"C", "Fis", "B"}) {
+                Scale scale = ScaleMaker.scale(root, type);
+                int rootKey = scale.getFundamentalTone().getMidiNumber();
+                boolean[] inScale = new boolean[12];
+                for (Interval interval : type.getIntervals()) {
+                    inScale[interval.semitones % 12] = true;
+                }
+                // Ränder unter, auf und über Stufen, auch negative Tonnummern (floorDiv)
+                for (int[] bounds : new int[][] {{21, 108}, {61, 70}, {-30, 5}, {rootKey, rootKey}, {-13, -1}}) {
+                    int[] expected = IntStream.rangeClosed(bounds[0], bounds[1])
+                        .filter(key -> inScale[Math.floorMod(key - rootKey, 12)]).toArray();
+                    ScaleRange range = scale.getRange(bounds[0], bounds[1]);
+                    String message = root + " " + type + " " + bounds[0] + ".." + bounds[1];
+                    assertArrayEquals(expected, range.keys().toArray(), message);
+                    for (int i = 0; i < range.size(); i++) {
+                        int offset = range.key(i) - rootKey;
+                        double expectedFrequency = scale.getFrequency(range.degree(i) - 1)
+                            * Math.pow(2, Math.floorDiv(offset, 12));
+                        assertEquals(expectedFrequency, range.frequency(i), expectedFrequency * 1e-12, message);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void octaveRangeEndsOnRoot() throws Exception {
+        Scale scale = ScaleMaker.scale("D", ScaleType.PENTATONIC_MINOR);
+        ScaleRange range = scale.getOctaveRange(2);
+        assertEquals(11, range.size());
+        assertEquals(range.key(0) + 24, range.key(10));
+        assertEquals(4 * range.frequency(0), range.frequency(10), 1e-9);
+        assertEquals(1, scale.getOctaveRange(0).size());
+    }
+
+    @Test
+    void stretchedPeriodIsRepeatedPerOctave() throws Exception {
+        StringBuilder scl = new StringBuilder("! gestreckt.scl\nGestreckte Oktave\n12\n");
+        for (int step = 1; step < 12; step++) {
+            scl.append(step * 100).append(".0\n");
+        }
+        scl.append("1212.0\n");
+        TuningSystem tuning = ScalaTuningLoader.parse(scl.toString().getBytes(StandardCharsets.US_ASCII), null);
+        double period = Math.pow(2, 1212.0 / 1200);
+
+        Scale scale = ScaleMaker.scale("C", ScaleType.MAJOR, tuning);
+        ScaleRange range = scale.getRange(36, 84);
+        assertEquals(29, range.size());
+        int middle = 14;
+        assertEquals(60, range.key(middle));
+        assertEquals(tuning.frequency(60), range.frequency(middle), 1e-9);
+        assertEquals(tuning.frequency(60) * period * period, range.frequency(28), 1e-9);
+        assertEquals(tuning.frequency(60) / period / period, range.frequency(0), 1e-9);
+        assertEquals(tuning.frequency(64) / period, range.frequency(middle - 5), 1e-9);
+    }
+}
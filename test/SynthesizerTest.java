@@ -0,0 +1,76 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class SynthesizerTest {
+
+    @Test
+    void unsortedSchedulingRendersLikeSorted() {
+        Random random = new Random(42);
+        int count = 2000;
+        long[] starts = new long[count];
+        for (int i = 0; i < count; i++) {
+            // Viele gleiche Startzeiten, damit auch die Stabilität der Sortierung zählt
+            starts[i] = random.nextInt(200) * 50L;
+        }
+        long[] sorted = starts.clone();
+        Arrays.sort(sorted);
+
+        Synthesizer inOrder = new Synthesizer(8000, 4096);
+        Synthesizer shuffled = new Synthesizer(8000, 4096);
+        for (int i = 0; i < count; i++) {
+            inOrder.noteOn(frequency(sorted[i]), 0.5f, sorted[i], sorted[i] + 300);
+        }
+        for (int i = 0; i < count; i++) {
+            shuffled.noteOn(frequency(starts[i]), 0.5f, starts[i], starts[i] + 300);
+        }
+        assertArrayEquals(inOrder.renderAll(), shuffled.renderAll());
+    }
+
+    @Test
+    void eventsAddedWhileRenderingAreSorted() {
+        Synthesizer blockwise = new Synthesizer(8000, 16);
+        Synthesizer reference = new Synthesizer(8000, 16);
+        float[] block = new float[1000];
+        blockwise.noteOn(440, 1f, 0, 500);
+        blockwise.renderBlock(block, 0, 1000);
+        blockwise.noteOn(660, 1f, 3000, 3500);
+        blockwise.noteOn(550, 1f, 2000, 2500);
+
+        reference.noteOn(440, 1f, 0, 500);
+        reference.noteOn(550, 1f, 2000, 2500);
+        reference.noteOn(660, 1f, 3000, 3500);
+        float[] expected = reference.renderAll();
+        float[] actual = new float[expected.length];
+        System.arraycopy(block, 0, actual, 0, block.length);
+        float[] rest = blockwise.renderAll();
+        System.arraycopy(rest, 0, actual, block.length, Math.min(rest.length, actual.length - block.length));
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void startTimesFarApartAreSorted() {
+        Synthesizer far = new Synthesizer(8000, 16);
+        Synthesizer near = new Synthesizer(8000, 16);
+        // Mehr als 2^31 Samples zwischen den Einsätzen
+        far.noteOn(440, 1f, 3_000_000_000L, 3_000_000_100L);
+        far.noteOn(550, 1f, 100, 400);
+        far.noteOn(330, 1f, 0, 300);
+        near.noteOn(330, 1f, 0, 300);
+        near.noteOn(550, 1f, 100, 400);
+
+        float[] expected = new float[2000];
+        float[] actual = new float[2000];
+        near.renderBlock(expected, 0, expected.length);
+        far.renderBlock(actual, 0, actual.length);
+        assertArrayEquals(expected, actual);
+    }
+
+    /** Frequenz abhängig von der Startzeit, damit vertauschte Ereignisse hörbar wären */
+    private static double frequency(long start) {
+        return 200 + start % 700;
+    }
+}
@@ -0,0 +1,77 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WavWriterTest {
+
+    private static final int RATE = 44100;
+
+    @TempDir
+    Path dir;
+
+    private float[] roundTrip(float[] samples, WavFormat format) throws Exception {
+        Path file = dir.resolve(format + ".wav");
+        WavWriter.write(file, samples, RATE, format);
+        try (WavReader wav = new WavReader(file)) {
+            assertEquals(format, wav.getFormat());
+            assertEquals(samples.length, wav.getFrameCount());
+            float[] read = new float[samples.length];
+            assertEquals(samples.length, wav.read(0, read, 0, samples.length));
+            return read;
+        }
+    }
+
+    @Test
+    void everyPcm16ValueSurvivesRoundTrip() throws Exception {
+        float[] samples = new float[65536];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (i - 32768) / 32768f;
+        }
+        assertArrayEquals(samples, roundTrip(samples, WavFormat.PCM_16));
+    }
+
+    @Test
+    void pcm24ValuesSurviveRoundTrip() throws Exception {
+        float[] samples = new float[65536];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (i * 255 - 8388608) / 8388608f;
+        }
+        samples[samples.length - 1] = 8388607 / 8388608f;
+        assertArrayEquals(samples, roundTrip(samples, WavFormat.PCM_24));
+    }
+
+    @Test
+    void rereadFileIsWrittenIdentically() throws Exception {
+        for (WavFormat format : WavFormat.values()) {
+            float[] samples = new float[1000];
+            for (int i = 0; i < samples.length; i++) {
+                samples[i] = (float) Math.sin(i * 0.05);
+            }
+            float[] first = roundTrip(samples, format);
+            Path copy = dir.resolve("kopie-" + format + ".wav");
+            WavWriter.write(copy, first, RATE, format);
+            assertArrayEquals(Files.readAllBytes(dir.resolve(format + ".wav")), Files.readAllBytes(copy),
+                format.toString());
+        }
+    }
+
+    @Test
+    void pcmClampsToIntegerRange() throws Exception {
+        float[] samples = {1f, -1f, 2f, -2f, Float.NaN};
+        assertArrayEquals(new float[] {32767 / 32768f, -1f, 32767 / 32768f, -1f, 0f},
+            roundTrip(samples, WavFormat.PCM_16));
+        assertArrayEquals(new float[] {8388607 / 8388608f, -1f, 8388607 / 8388608f, -1f, 0f},
+            roundTrip(samples, WavFormat.PCM_24));
+    }
+
+    @Test
+    void floatSamplesAreStoredUnchanged() throws Exception {
+        float[] samples = {0f, 0.123f, -1f, 1.5f, -3.25f};
+        assertArrayEquals(samples, roundTrip(samples, WavFormat.FLOAT_32));
+    }
+}